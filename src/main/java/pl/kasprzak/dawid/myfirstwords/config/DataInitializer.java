@@ -4,12 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import pl.kasprzak.dawid.myfirstwords.repository.AuthoritiesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.RoleCatalog;
 
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -18,7 +16,7 @@ import java.util.List;
 public class DataInitializer implements CommandLineRunner {
 
     private final ParentsRepository parentsRepository;
-    private final AuthoritiesRepository authoritiesRepository;
+    private final RoleCatalog roleCatalog;
     private final PasswordEncoder passwordEncoder;
 
 
@@ -29,12 +27,7 @@ public class DataInitializer implements CommandLineRunner {
             admin.setUsername("admin");
             admin.setPassword(passwordEncoder.encode("adminPass"));
 
-            AuthorityEntity adminAuthority = new AuthorityEntity();
-            adminAuthority.setAuthority("ROLE_ADMIN");
-
-            authoritiesRepository.save(adminAuthority);
-
-            admin.setAuthorities(List.of(adminAuthority));
+            admin.setAuthorities(List.of(roleCatalog.adminRole()));
 
             parentsRepository.save(admin);
         }
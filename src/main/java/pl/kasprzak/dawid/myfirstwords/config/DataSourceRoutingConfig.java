@@ -0,0 +1,64 @@
+package pl.kasprzak.dawid.myfirstwords.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits reads from writes when read replicas are configured for the active profile.
+ * The primary pool is configured through the usual spring.datasource properties; each URL listed in
+ * myfirstwords.datasource.replica-urls gets its own pool, sharing the replica credentials. Without replica URLs
+ * this configuration is skipped and Spring Boot sets up the single primary data source as usual.
+ */
+@Configuration
+@ConditionalOnProperty(name = "myfirstwords.datasource.replica-urls")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${myfirstwords.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${myfirstwords.datasource.replica-username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${myfirstwords.datasource.replica-password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${myfirstwords.datasource.read-your-writes-window:PT5S}") Duration readYourWritesWindow) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setPoolName(ReadWriteRoutingDataSource.REPLICA + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
@@ -0,0 +1,181 @@
+package pl.kasprzak.dawid.myfirstwords.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to the replica pools and everything else to the primary.
+ * Replicas are picked round-robin. After a user commits a transaction that actually wrote, their read-only
+ * transactions keep going to the primary for the read-your-writes window, so they never read a replica that
+ * has not caught up yet. Reads that must see changes committed by other requests or threads, such as cache
+ * and index loads run after a commit or without an authenticated user, use a primary read transaction
+ * instead, which stays read-only but is always routed to the primary.
+ * The routing decision is taken when a connection is requested, so this data source must be wrapped in a
+ * LazyConnectionDataSourceProxy for the read-only flag of the transaction to be known at that point.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica-";
+    static final String PRIMARY_READ = "primary-read";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            keys.add(REPLICA + i);
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        this.replicaKeys = List.copyOf(keys);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Creates a template for read-only transactions that are always routed to the primary.
+     * Without replicas it is a plain read-only transaction template.
+     *
+     * @param transactionManager the transaction manager.
+     * @return the template.
+     */
+    public static TransactionTemplate primaryReadTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(PRIMARY_READ);
+        return transactionTemplate;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PRIMARY_READ.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (replicaKeys.isEmpty() || (user != null && recentWriters.getIfPresent(user) != null)) {
+            return PRIMARY;
+        }
+        String key = replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+        log.trace("Routing read-only transaction to {}", key);
+        return key;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    /**
+     * Wraps the connection of a read-write transaction of an authenticated user, so the user is remembered
+     * as a writer once the transaction commits, but only if a statement other than a query was prepared on it.
+     */
+    private Connection trackWrites(Connection connection) {
+        String user = currentUser();
+        if (user == null || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new WriteTrackingHandler(connection, user));
+    }
+
+    private void rememberWriteOnCommit(String user) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private final class WriteTrackingHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final String user;
+        private boolean wrote;
+
+        private WriteTrackingHandler(Connection connection, String user) {
+            this.connection = connection;
+            this.user = user;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!wrote && isWrite(method, args)) {
+                wrote = true;
+                rememberWriteOnCommit(user);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getTargetException();
+            }
+        }
+
+        private boolean isWrite(Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> !((String) args[0]).stripLeading()
+                        .toLowerCase(Locale.ROOT)
+                        .startsWith("select");
+                case "createStatement" -> true;
+                default -> false;
+            };
+        }
+    }
+}
@@ -6,13 +6,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildRequest;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildResponse;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetAllChildResponse;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.ChildOwnerOrAdmin;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.IsLoggedUser;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildStreamService;
 import pl.kasprzak.dawid.myfirstwords.service.children.CreateChildService;
 import pl.kasprzak.dawid.myfirstwords.service.children.DeleteChildService;
 import pl.kasprzak.dawid.myfirstwords.service.children.GetChildService;
@@ -25,6 +28,7 @@ public class ChildController {
     private final CreateChildService createChildService;
     private final DeleteChildService deleteChildService;
     private final GetChildService getChildService;
+    private final ChildStreamService childStreamService;
 
     @Operation(summary = "Add a new child", description = "Creates a new child for the authenticated parent.")
     @ApiResponses(value = {
@@ -93,4 +97,25 @@ public class ChildController {
     public GetChildResponse getChildById(@PathVariable Long childId, @RequestParam(value = "parentID", required = false) Long parentID) {
         return getChildService.getChildById(childId, parentID);
     }
+
+
+    @Operation(summary = "Stream changes of a child's words and milestones",
+            description = "Opens a server-sent event stream that receives a \"change\" event for every word or milestone of the child " +
+                    "that is created, updated or deleted. Each event's ID is the version of the child's data and its data has " +
+                    "the format of a child in the sync response. Clients that fall behind are disconnected and should reconnect " +
+                    "and catch up through the sync endpoint. " +
+                    "If the authenticated user is a parent, they can watch their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to watch a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not authorized to access the child"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@PathVariable Long childId, @RequestParam(value = "parentID", required = false) Long parentID) {
+        return childStreamService.subscribe(childId, parentID);
+    }
 }
@@ -1,12 +1,19 @@
 package pl.kasprzak.dawid.myfirstwords.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.*;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.ChildOwnerOrAdmin;
@@ -16,6 +23,10 @@ import pl.kasprzak.dawid.myfirstwords.service.milestones.CreateMilestoneService;
 import pl.kasprzak.dawid.myfirstwords.service.milestones.DeleteMilestoneService;
 import pl.kasprzak.dawid.myfirstwords.service.milestones.GetMilestoneService;
 import pl.kasprzak.dawid.myfirstwords.service.milestones.UpdateMilestoneService;
+import pl.kasprzak.dawid.myfirstwords.service.milestones.ExportMilestonesService;
+import pl.kasprzak.dawid.myfirstwords.util.ChildConditionalGet;
+import pl.kasprzak.dawid.myfirstwords.util.ChildResponseCache;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,6 +41,8 @@ public class MilestonesController {
     private final DeleteMilestoneService deleteMilestoneService;
     private final UpdateMilestoneService updateMilestoneService;
     private final UpdateMilestonesConverter updateMilestonesConverter;
+    private final ExportMilestonesService exportMilestonesService;
+    private final ChildConditionalGet childConditionalGet;
 
 
     @Operation(summary = "Add a new milestone", description = "Creates a new milestone for the specified child. This endpoint is accessible to authenticated parents and administrators and verifies the parent-child relationship.")
@@ -65,100 +78,140 @@ public class MilestonesController {
         deleteMilestoneService.deleteMilestone(childId, milestoneId, parentID);
     }
 
-    @Operation(summary = "Get milestones before a specified date",
+    @Operation(summary = "Get milestones before a specified date", deprecated = true,
             description = "Fetches all milestones added before the specified date for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with an endDate instead. " +
                     "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Milestone successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/before/{date}")
-    public List<GetMilestoneResponse> getByDateAchieveBefore(@PathVariable Long childId,
-                                                             @PathVariable LocalDate date,
-                                                             @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getMilestoneService.getByDateAchieveBefore(childId, date, parentID);
+    public ResponseEntity<List<GetMilestoneResponse>> getByDateAchieveBefore(@PathVariable Long childId,
+                                                                             @PathVariable LocalDate date,
+                                                                             @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                             WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getMilestoneService.getByDateAchieveBefore(child, date));
     }
 
-    @Operation(summary = "Get milestones after a specified date",
+    @Operation(summary = "Get milestones after a specified date", deprecated = true,
             description = "Fetches all milestones added after the specified date for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with a startDate instead. " +
                     "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Milestone successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/after/{date}")
-    public List<GetMilestoneResponse> getByDateAchieveAfter(@PathVariable Long childId,
-                                                            @PathVariable LocalDate date,
-                                                            @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getMilestoneService.getByDateAchieveAfter(childId, date, parentID);
+    public ResponseEntity<List<GetMilestoneResponse>> getByDateAchieveAfter(@PathVariable Long childId,
+                                                                            @PathVariable LocalDate date,
+                                                                            @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                            WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getMilestoneService.getByDateAchieveAfter(child, date));
     }
 
-    @Operation(summary = "Get milestones between a specified dates",
+    @Operation(summary = "Get milestones between a specified dates", deprecated = true,
             description = "Fetches all milestones added between the specified dates for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with a startDate and an endDate instead. " +
                     "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Milestones successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid date range"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/between")
-    public List<GetMilestoneResponse> getMilestoneBetweenDays(@PathVariable Long childId,
-                                                              @RequestParam LocalDate startDate,
-                                                              @RequestParam LocalDate endDate,
-                                                              @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getMilestoneService.getMilestonesBetweenDays(childId, startDate, endDate, parentID);
+    public ResponseEntity<List<GetMilestoneResponse>> getMilestoneBetweenDays(@PathVariable Long childId,
+                                                                              @RequestParam LocalDate startDate,
+                                                                              @RequestParam LocalDate endDate,
+                                                                              @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                              WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getMilestoneService.getMilestonesBetweenDays(child, startDate, endDate));
     }
 
-    @Operation(summary = "Get all milestones for a child",
+    @Operation(summary = "Get all milestones for a child", deprecated = true,
             description = "Fetches all milestones for a specific child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint, or the export endpoint to download every milestone, instead. " +
                     "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Milestones successfully retrieved"),
+            @ApiResponse(responseCode = "200", description = "Milestones successfully retrieved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = GetAllMilestoneResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}")
-    public GetAllMilestoneResponse getAllMilestones(@PathVariable Long childId,
-                                                    @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getMilestoneService.getAllMilestone(childId, parentID);
+    public ResponseEntity<byte[]> getAllMilestones(@PathVariable Long childId,
+                                                   @RequestParam(value = "parentID", required = false) Long parentID,
+                                                   WebRequest webRequest) {
+        return childConditionalGet.respondSerialized(childId, parentID, ChildResponseCache.Endpoint.MILESTONES, webRequest,
+                child -> getMilestoneService.getAllMilestone(child));
     }
 
-    @Operation(summary = "Get milestones by title",
-            description = "Fetches all milestones for the specified child that match a given title. " +
+    @Operation(summary = "Get milestones by title", deprecated = true,
+            description = "Fetches all milestones for the specified child whose title contains the given text. " +
+                    "Deprecated: the substring match scans every milestone of the child; use the search endpoint instead. " +
                     "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Milestones successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent, child or milestone not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/title")
-    public GetAllMilestoneResponse getByTitle(@PathVariable Long childId,
-                                              @RequestParam String title,
-                                              @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getMilestoneService.getByTitle(childId, title, parentID);
+    public ResponseEntity<GetAllMilestoneResponse> getByTitle(@PathVariable Long childId,
+                                                              @RequestParam String title,
+                                                              @RequestParam(value = "parentID", required = false) Long parentID,
+                                                              WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getMilestoneService.getByTitle(child, title));
+    }
+
+    @Operation(summary = "Search milestones by words",
+            description = "Searches the title and description of the milestones of the specified child for the words of the query, ignoring case and diacritics, " +
+                    "optionally restricted to an inclusive date range. Milestones matching any word are returned with a relevance score, most relevant first; " +
+                    "words found in the title count more than words found in the description. " +
+                    "If the authenticated user is a parent, they can search milestones of their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to search milestones associated with a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Milestones successfully searched"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, or parentID missing for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/{childId}/search")
+    public SearchMilestonesResponse searchMilestones(@PathVariable Long childId,
+                                                     @RequestParam String query,
+                                                     @RequestParam(required = false) LocalDate startDate,
+                                                     @RequestParam(required = false) LocalDate endDate,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(value = "parentID", required = false) Long parentID) {
+        return getMilestoneService.searchMilestones(childId, query, startDate, endDate, limit, parentID);
     }
 
     @Operation(summary = "Update a milestone", description = "Updates the details of an existing milestone for a specific child. This endpoint is accessible to authenticated parents and administrators, and verifies the parent-child relationship.")
@@ -175,4 +228,55 @@ public class MilestonesController {
         MilestoneEntity milestone = updateMilestoneService.updateMilestone(childId, milestoneId, request);
         return updateMilestonesConverter.toDto(milestone);
     }
+
+    @Operation(summary = "Get a page of milestones for a child",
+            description = "Fetches one page of the milestones of a specific child, ordered by date of achievement, optionally restricted to an inclusive date range. " +
+                    "The response carries a nextCursor token while more milestones are available; pass it as the cursor parameter to fetch the next page. " +
+                    "If the authenticated user is a parent, they can retrieve milestones for their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to retrieve milestones associated with a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Milestones successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or cursor, or parentID missing for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/page")
+    public ResponseEntity<GetMilestonesPageResponse> getMilestonesPage(@PathVariable Long childId,
+                                                                       @RequestParam(required = false) LocalDate startDate,
+                                                                       @RequestParam(required = false) LocalDate endDate,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size,
+                                                                       @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                       WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getMilestoneService.getMilestonesPage(child, startDate, endDate, cursor, size));
+    }
+
+    @Operation(summary = "Export all milestones of a child",
+            description = "Streams all the milestones of a specific child, ordered by date of achievement, as NDJSON (one milestone object per line) or CSV (with a header line). " +
+                    "The milestones are written to the response as they are read from the database, so the export is never held in memory. " +
+                    "If the authenticated user is a parent, they can export milestones of their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to export milestones associated with a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Milestones successfully exported"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/export")
+    public ResponseEntity<StreamingResponseBody> exportMilestones(@PathVariable Long childId,
+                                                            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                            @RequestParam(value = "parentID", required = false) Long parentID) {
+        StreamingResponseBody body = exportMilestonesService.exportMilestones(childId, format, parentID);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("milestones-" + childId + "." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
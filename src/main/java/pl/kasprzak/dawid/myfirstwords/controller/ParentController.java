@@ -6,8 +6,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pl.kasprzak.dawid.myfirstwords.model.parents.*;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.AccountOwnerOrAdmin;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.AllowedForAdmin;
@@ -15,7 +19,11 @@ import pl.kasprzak.dawid.myfirstwords.security.annotations.PasswordOwnerOrAdmin;
 import pl.kasprzak.dawid.myfirstwords.service.parents.ChangePasswordService;
 import pl.kasprzak.dawid.myfirstwords.service.parents.CreateParentService;
 import pl.kasprzak.dawid.myfirstwords.service.parents.DeleteParentService;
+import pl.kasprzak.dawid.myfirstwords.service.parents.ExportParentsService;
 import pl.kasprzak.dawid.myfirstwords.service.parents.GetParentService;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
+
+import java.time.LocalDate;
 
 @Slf4j
 @RestController
@@ -27,6 +35,7 @@ public class ParentController {
     private final GetParentService getParentService;
     private final DeleteParentService deleteParentService;
     private final ChangePasswordService changePasswordService;
+    private final ExportParentsService exportParentsService;
 
     @Operation(summary = "Register a new parent account", description = "Creates a new parent account based on the provided request data.")
     @ApiResponses(value = {
@@ -51,6 +60,48 @@ public class ParentController {
     }
 
 
+    @Operation(summary = "Retrieve a page of registered parents",
+            description = "Fetches one page of the registered parents, ordered by ID, optionally filtered by username prefix and by an inclusive registration window. " +
+                    "The response carries a nextCursor token while more parents are available; pass it as the cursor parameter to fetch the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of parents"),
+            @ApiResponse(responseCode = "400", description = "Invalid registration window or cursor")
+    })
+    @AllowedForAdmin
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/page")
+    public GetParentsPageResponse getRegisterParentsPage(@RequestParam(required = false) String usernamePrefix,
+                                                         @RequestParam(required = false) LocalDate registeredFrom,
+                                                         @RequestParam(required = false) LocalDate registeredTo,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
+        return getParentService.getPage(usernamePrefix, registeredFrom, registeredTo, cursor, size);
+    }
+
+    @Operation(summary = "Export registered parents",
+            description = "Streams all registered parents, ordered by ID, optionally filtered by username prefix and by an inclusive registration window, " +
+                    "as NDJSON (one parent object per line) or CSV (with a header line). The parents are written to the response as they are read from the database.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Parents successfully exported"),
+            @ApiResponse(responseCode = "400", description = "Invalid registration window")
+    })
+    @AllowedForAdmin
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> exportRegisterParents(@RequestParam(required = false) String usernamePrefix,
+                                                                       @RequestParam(required = false) LocalDate registeredFrom,
+                                                                       @RequestParam(required = false) LocalDate registeredTo,
+                                                                       @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = exportParentsService.exportParents(usernamePrefix, registeredFrom, registeredTo, format);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("parents." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+
     @Operation(summary = "Retrieve a parent by ID", description = "Fetches a parent by their ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the parent"),
@@ -63,16 +114,31 @@ public class ParentController {
         return getParentService.getById(parentId);
     }
 
-    @Operation(summary = "Delete a parent account", description = "Deletes a parent account based on the provided parent ID.")
+    @Operation(summary = "Delete a parent account",
+            description = "Requests the deletion of a parent account based on the provided parent ID. The account is rejected at once " +
+                    "and its data is purged in the background; the returned job reports the status and progress of the deletion.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Parent successfully deleted"),
+            @ApiResponse(responseCode = "202", description = "Account deletion accepted"),
             @ApiResponse(responseCode = "404", description = "Parent not found")
     })
     @AccountOwnerOrAdmin
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @DeleteMapping(path = "/{parentId}")
-    public void deleteAccount(@PathVariable Long parentId) {
-        deleteParentService.deleteAccount(parentId);
+    public AccountDeletionJobResponse deleteAccount(@PathVariable Long parentId) {
+        return deleteParentService.deleteAccount(parentId);
+    }
+
+    @Operation(summary = "Retrieve the deletion job of a parent account",
+            description = "Fetches the status and progress of the latest deletion job of the parent account with the provided parent ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the account deletion job"),
+            @ApiResponse(responseCode = "404", description = "Account deletion job not found")
+    })
+    @AllowedForAdmin
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/{parentId}/deletion")
+    public AccountDeletionJobResponse getAccountDeletionJob(@PathVariable Long parentId) {
+        return deleteParentService.getDeletionJob(parentId);
     }
 
     @Operation(summary = "Change parent password", description = "Changes the password for a parent account based on the provided parent ID and request data.")
@@ -0,0 +1,38 @@
+package pl.kasprzak.dawid.myfirstwords.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import pl.kasprzak.dawid.myfirstwords.model.sync.SyncResponse;
+import pl.kasprzak.dawid.myfirstwords.security.annotations.IsLoggedUser;
+import pl.kasprzak.dawid.myfirstwords.service.sync.SyncService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(summary = "Synchronize words and milestones",
+            description = "Returns the words and milestones of all children of the authenticated parent or an administrator " +
+                    "that changed since the sync the token was returned by, together with the IDs of deleted words, milestones " +
+                    "and children, and a new token for the next sync. Without a token, all data is returned. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to synchronize the data of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, the token is invalid or parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not authorized"),
+            @ApiResponse(responseCode = "404", description = "Parent not found")
+    })
+    @IsLoggedUser
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping
+    public SyncResponse sync(@RequestParam(value = "token", required = false) String token,
+                             @RequestParam(value = "parentID", required = false) Long parentID) {
+        return syncService.sync(token, parentID);
+    }
+}
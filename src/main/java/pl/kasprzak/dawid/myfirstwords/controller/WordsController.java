@@ -1,22 +1,43 @@
 package pl.kasprzak.dawid.myfirstwords.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordResponse;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetAllWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetSimilarWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordCompletionsResponse;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordsPageResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GrowthInterval;
+import pl.kasprzak.dawid.myfirstwords.model.words.ImportWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.VocabularyGrowthResponse;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.ChildOwnerOrAdmin;
 import pl.kasprzak.dawid.myfirstwords.security.annotations.IsLoggedUser;
 import pl.kasprzak.dawid.myfirstwords.service.words.CreateWordService;
 import pl.kasprzak.dawid.myfirstwords.service.words.DeleteWordService;
 import pl.kasprzak.dawid.myfirstwords.service.words.GetWordService;
+import pl.kasprzak.dawid.myfirstwords.service.words.ImportWordsService;
+import pl.kasprzak.dawid.myfirstwords.service.words.ExportWordsService;
+import pl.kasprzak.dawid.myfirstwords.service.words.VocabularyGrowthService;
+import pl.kasprzak.dawid.myfirstwords.util.ChildConditionalGet;
+import pl.kasprzak.dawid.myfirstwords.util.ChildResponseCache;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -28,6 +49,10 @@ public class WordsController {
     private final CreateWordService createWordService;
     private final DeleteWordService deleteWordService;
     private final GetWordService getWordService;
+    private final ImportWordsService importWordsService;
+    private final ExportWordsService exportWordsService;
+    private final VocabularyGrowthService vocabularyGrowthService;
+    private final ChildConditionalGet childConditionalGet;
 
     @Operation(summary = "Add a new word", description = "Creates a new word for the specified child. This endpoint is accessible to authenticated parents and verifies the parent-child relationship.")
     @ApiResponses(value = {
@@ -44,6 +69,28 @@ public class WordsController {
         return createWordService.addWord(childId, request);
     }
 
+    @Operation(summary = "Import many words at once",
+            description = "Imports words for the specified child from a CSV (text/csv, \"word,dateAchieve\" per line, optional header; the id column of a CSV export is ignored) " +
+                    "or NDJSON (application/x-ndjson, one word object per line) body. The body is read line by line and accepted words are inserted in batches. " +
+                    "Words the child already has are skipped as duplicates. The response summarizes the outcome of every line. " +
+                    "Bodies over the configured number of lines or bytes are rejected as a whole. " +
+                    "This endpoint is accessible to authenticated parents and verifies the parent-child relationship.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-line results"),
+            @ApiResponse(responseCode = "403", description = "Access denied, authentication required"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found"),
+            @ApiResponse(responseCode = "413", description = "Body holds too many lines or bytes"),
+            @ApiResponse(responseCode = "415", description = "Unsupported body format")
+    })
+    @IsLoggedUser
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(path = "/{childId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ImportWordsResponse importWords(@PathVariable Long childId,
+                                           @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                           InputStream body) {
+        return importWordsService.importWords(childId, contentType, body);
+    }
+
     @Operation(summary = "Delete a word by ID",
             description = "Deletes a word by its ID for the specified child for the authenticated parent or an administrator. " +
                     "If the authenticated user is a parent, they can delete a word for their own child without providing a parentID. " +
@@ -63,81 +110,94 @@ public class WordsController {
         deleteWordService.deleteWord(childId, wordId, parentID);
     }
 
-    @Operation(summary = "Get words before a specified date",
+    @Operation(summary = "Get words before a specified date", deprecated = true,
             description = "Fetches all words added before the specified date for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with an endDate instead. " +
                     "If the authenticated user is a parent, they can retrieve words for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve words associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/before/{date}")
-    public List<GetWordResponse> getByDateAchieveBefore(@PathVariable Long childId,
-                                                        @PathVariable LocalDate date,
-                                                        @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getWordService.getByDateAchieveBefore(childId, date, parentID);
+    public ResponseEntity<List<GetWordResponse>> getByDateAchieveBefore(@PathVariable Long childId,
+                                                                        @PathVariable LocalDate date,
+                                                                        @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                        WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getWordService.getByDateAchieveBefore(child, date));
     }
 
-    @Operation(summary = "Get words after a specified date",
+    @Operation(summary = "Get words after a specified date", deprecated = true,
             description = "Fetches all words added after the specified date for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with a startDate instead. " +
                     "If the authenticated user is a parent, they can retrieve words for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve words associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/after/{date}")
-    public List<GetWordResponse> getByDateAchieveAfter(@PathVariable Long childId,
-                                                       @PathVariable LocalDate date,
-                                                       @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getWordService.getByDateAchieveAfter(childId, date, parentID);
+    public ResponseEntity<List<GetWordResponse>> getByDateAchieveAfter(@PathVariable Long childId,
+                                                                       @PathVariable LocalDate date,
+                                                                       @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                       WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getWordService.getByDateAchieveAfter(child, date));
     }
 
-    @Operation(summary = "Get words between a specified dates",
+    @Operation(summary = "Get words between a specified dates", deprecated = true,
             description = "Fetches all words added between the specified dates for the specified child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint with a startDate and an endDate instead. " +
                     "If the authenticated user is a parent, they can retrieve words for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve words associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid date range"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}/between")
-    public List<GetWordResponse> getWordsBetweenDays(@PathVariable Long childId,
-                                                     @RequestParam LocalDate startDate,
-                                                     @RequestParam LocalDate endDate,
-                                                     @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getWordService.getWordsBetweenDays(childId, startDate, endDate, parentID);
+    public ResponseEntity<List<GetWordResponse>> getWordsBetweenDays(@PathVariable Long childId,
+                                                                     @RequestParam LocalDate startDate,
+                                                                     @RequestParam LocalDate endDate,
+                                                                     @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                     WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getWordService.getWordsBetweenDays(child, startDate, endDate));
     }
 
-    @Operation(summary = "Get all words for a child",
+    @Operation(summary = "Get all words for a child", deprecated = true,
             description = "Fetches all words for a specific child. " +
+                    "Deprecated: the list is unbounded; use the page endpoint, or the export endpoint to download every word, instead. " +
                     "If the authenticated user is a parent, they can retrieve words for their own child without providing a parentID. " +
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve words associated with a child of that parent.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "200", description = "Words successfully retrieved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = GetAllWordsResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent or child not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{childId}")
-    public GetAllWordsResponse getAllWords(@PathVariable Long childId,
-                                           @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getWordService.getAllWords(childId, parentID);
+    public ResponseEntity<byte[]> getAllWords(@PathVariable Long childId,
+                                              @RequestParam(value = "parentID", required = false) Long parentID,
+                                              WebRequest webRequest) {
+        return childConditionalGet.respondSerialized(childId, parentID, ChildResponseCache.Endpoint.WORDS, webRequest,
+                child -> getWordService.getAllWords(child));
     }
 
     @Operation(summary = "Get word by exact match",
@@ -146,16 +206,136 @@ public class WordsController {
                     "If the authenticated user is an administrator, they must provide a parentID to retrieve a word associated with a child of that parent.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Word successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
             @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
             @ApiResponse(responseCode = "404", description = "Parent, child or word not found")
     })
     @ChildOwnerOrAdmin
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "{childId}/word")
-    public GetWordResponse getWordByChildIdAndWord(@PathVariable Long childId,
+    public ResponseEntity<GetWordResponse> getWordByChildIdAndWord(@PathVariable Long childId,
+                                                                   @RequestParam String word,
+                                                                   @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                   WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getWordService.getByWord(child, word));
+    }
+
+    @Operation(summary = "Get words spelled like a word",
+            description = "Fetches the words of the specified child within a small edit distance of the given word, so typos such as \"mamma\" still find \"mama\". " +
+                    "Words are ranked by edit distance, closest first. " +
+                    "If the authenticated user is a parent, they can search the words of their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to search the words of a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/{childId}/word/similar")
+    public GetSimilarWordsResponse getSimilarWords(@PathVariable Long childId,
                                                    @RequestParam String word,
+                                                   @RequestParam(required = false) Integer limit,
                                                    @RequestParam(value = "parentID", required = false) Long parentID) {
-        return getWordService.getByWord(childId, word, parentID);
+        return getWordService.getSimilarWords(childId, word, limit, parentID);
+    }
+
+    @Operation(summary = "Autocomplete a word for a child",
+            description = "Suggests completions of the typed prefix: the child's own words first, then words other children have learned, " +
+                    "known to the most children first. Completions are returned lower-cased. " +
+                    "If the authenticated user is a parent, they can get completions for their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to get completions for a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Completions successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/{childId}/autocomplete")
+    public GetWordCompletionsResponse autocompleteWord(@PathVariable Long childId,
+                                                       @RequestParam String prefix,
+                                                       @RequestParam(required = false) Integer limit,
+                                                       @RequestParam(value = "parentID", required = false) Long parentID) {
+        return getWordService.getCompletions(childId, prefix, limit, parentID);
+    }
+
+    @Operation(summary = "Get the vocabulary growth of a child",
+            description = "Returns the number of words the specified child achieved in every day, week (starting on Monday) or month, " +
+                    "together with the size of the vocabulary at the end of each period, for charting. " +
+                    "The optional date range is widened to whole periods; empty periods within it are included. " +
+                    "If the authenticated user is a parent, they can retrieve the growth of their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to retrieve the growth of a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vocabulary growth successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, or parentID missing for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/growth")
+    public ResponseEntity<VocabularyGrowthResponse> getVocabularyGrowth(@PathVariable Long childId,
+                                                                        @RequestParam(defaultValue = "WEEK") GrowthInterval interval,
+                                                                        @RequestParam(required = false) LocalDate startDate,
+                                                                        @RequestParam(required = false) LocalDate endDate,
+                                                                        @RequestParam(value = "parentID", required = false) Long parentID,
+                                                                        WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> vocabularyGrowthService.getVocabularyGrowth(child, interval, startDate, endDate));
+    }
+
+    @Operation(summary = "Get a page of words for a child",
+            description = "Fetches one page of the words of a specific child, ordered by date of achievement, optionally restricted to an inclusive date range. " +
+                    "The response carries a nextCursor token while more words are available; pass it as the cursor parameter to fetch the next page. " +
+                    "If the authenticated user is a parent, they can retrieve words for their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to retrieve words associated with a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Words successfully retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or cursor, or parentID missing for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/page")
+    public ResponseEntity<GetWordsPageResponse> getWordsPage(@PathVariable Long childId,
+                                                             @RequestParam(required = false) LocalDate startDate,
+                                                             @RequestParam(required = false) LocalDate endDate,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size,
+                                                             @RequestParam(value = "parentID", required = false) Long parentID,
+                                                             WebRequest webRequest) {
+        return childConditionalGet.respond(childId, parentID, webRequest,
+                child -> getWordService.getWordsPage(child, startDate, endDate, cursor, size));
+    }
+
+    @Operation(summary = "Export all words of a child",
+            description = "Streams all the words of a specific child, ordered by date of achievement, as NDJSON (one word object per line) or CSV (with a header line). " +
+                    "The words are written to the response as they are read from the database, so the export is never held in memory. " +
+                    "If the authenticated user is a parent, they can export words of their own child without providing a parentID. " +
+                    "If the authenticated user is an administrator, they must provide a parentID to export words associated with a child of that parent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Words successfully exported"),
+            @ApiResponse(responseCode = "400", description = "Bad Request, parentID is required for administrators"),
+            @ApiResponse(responseCode = "403", description = "Access denied, parent is not the owner of the child or user is not an administrator"),
+            @ApiResponse(responseCode = "404", description = "Parent or child not found")
+    })
+    @ChildOwnerOrAdmin
+    @GetMapping(path = "/{childId}/export")
+    public ResponseEntity<StreamingResponseBody> exportWords(@PathVariable Long childId,
+                                                            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                            @RequestParam(value = "parentID", required = false) Long parentID) {
+        StreamingResponseBody body = exportWordsService.exportWords(childId, format, parentID);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("words-" + childId + "." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 }
@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.event;
+
+/**
+ * Published by DeleteParentService when the deletion of a parent account has been requested
+ * and the account deletion job that purges its data has been created.
+ *
+ * @param jobId the ID of the account deletion job.
+ */
+public record AccountDeletionRequestedEvent(Long jobId) {
+}
@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.event;
+
+/**
+ * Published by CreateChildService when a new child has been saved for a parent.
+ *
+ * @param parentId the ID of the parent owning the child.
+ * @param childId  the ID of the created child.
+ */
+public record ChildCreatedEvent(Long parentId, Long childId) {
+}
@@ -0,0 +1,19 @@
+package pl.kasprzak.dawid.myfirstwords.event;
+
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.util.List;
+
+/**
+ * Published by ChildVersionService whenever words or milestones of a child have been created, updated or deleted.
+ *
+ * @param childId    the ID of the child whose words or milestones changed.
+ * @param version    the version of the child's data the change was recorded with.
+ * @param entityType whether words or milestones changed.
+ * @param operation  whether the entities were created or updated, or deleted.
+ * @param entityIds  the IDs of the changed entities.
+ */
+public record ChildDataChangedEvent(Long childId, long version, ChangedEntityType entityType, ChangeOperation operation,
+                                    List<Long> entityIds) {
+}
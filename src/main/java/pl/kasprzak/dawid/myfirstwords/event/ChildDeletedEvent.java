@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.event;
+
+/**
+ * Published when a child, together with its words and milestones, has been deleted.
+ *
+ * @param parentId the ID of the parent that owned the child.
+ * @param childId  the ID of the deleted child.
+ */
+public record ChildDeletedEvent(Long parentId, Long childId) {
+}
@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.event;
+
+/**
+ * Published by DeleteParentService when the deletion of a parent account has been requested.
+ * From then on the parent and its children are treated as deleted, although their data is purged later.
+ *
+ * @param parentId the ID of the deleted parent.
+ */
+public record ParentDeletedEvent(Long parentId) {
+}
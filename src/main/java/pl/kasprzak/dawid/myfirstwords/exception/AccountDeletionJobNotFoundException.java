@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.exception;
+
+public class AccountDeletionJobNotFoundException extends RuntimeException {
+    public AccountDeletionJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -17,6 +17,13 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(AccountDeletionJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public String handleAccountDeletionJobNotFoundException(AccountDeletionJobNotFoundException exception) {
+        return exception.getMessage();
+    }
+
+
     @ExceptionHandler(ChildNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public String handleChildNotFoundException(ChildNotFoundException exception) {
@@ -55,6 +62,30 @@ public class GlobalExceptionHandler {
         return exception.getMessage();
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidCursorException(InvalidCursorException exception) {
+        return exception.getMessage();
+    }
+
+    @ExceptionHandler(InvalidSyncTokenException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidSyncTokenException(InvalidSyncTokenException exception) {
+        return exception.getMessage();
+    }
+
+    @ExceptionHandler(StreamLimitExceededException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleStreamLimitExceededException(StreamLimitExceededException exception) {
+        return exception.getMessage();
+    }
+
+    @ExceptionHandler(ImportLimitExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public String handleImportLimitExceededException(ImportLimitExceededException exception) {
+        return exception.getMessage();
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public String handleAccessDeniedException(AccessDeniedException exception) {
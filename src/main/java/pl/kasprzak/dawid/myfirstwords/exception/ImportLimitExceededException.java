@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.exception;
+
+public class ImportLimitExceededException extends RuntimeException {
+    public ImportLimitExceededException(String message) {
+        super(message);
+    }
+}
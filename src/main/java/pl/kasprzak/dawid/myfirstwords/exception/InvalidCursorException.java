@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
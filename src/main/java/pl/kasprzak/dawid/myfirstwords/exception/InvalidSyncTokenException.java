@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.exception;
+
+public class InvalidSyncTokenException extends RuntimeException {
+    public InvalidSyncTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.exception;
+
+public class StreamLimitExceededException extends RuntimeException {
+    public StreamLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -12,9 +12,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.security.AuthoritiesProvider;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -27,7 +27,7 @@ import java.util.Optional;
 public class AdditionalParentAuthoritiesFilter extends OncePerRequestFilter {
 
     private final AuthoritiesProvider authoritiesProvider;
-    private final ParentsRepository parentsRepository;
+    private final ParentPrincipalCache parentPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -35,12 +35,12 @@ public class AdditionalParentAuthoritiesFilter extends OncePerRequestFilter {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         if (auth != null && auth.isAuthenticated()) {
-            Optional<ParentEntity> parentEntityOptional = parentsRepository.findByUsername(auth.getName());
+            Optional<ParentPrincipal> parentOptional = parentPrincipalCache.get(auth.getName());
 
-            if (parentEntityOptional.isPresent()) {
-                ParentEntity parentEntity = parentEntityOptional.get();
+            if (parentOptional.isPresent()) {
+                ParentPrincipal parent = parentOptional.get();
 
-                Collection<String> additionalAuthorities = authoritiesProvider.checkAdditionalAuthorities(parentEntity);
+                Collection<String> additionalAuthorities = authoritiesProvider.checkAdditionalAuthorities(parent);
 
                 List<GrantedAuthority> updateAuthorities = new ArrayList<>(auth.getAuthorities());
                 additionalAuthorities.forEach(role -> updateAuthorities.add(new SimpleGrantedAuthority(role)));
@@ -1,5 +1,6 @@
 package pl.kasprzak.dawid.myfirstwords.model.children;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class GetChildResponse {
 
     private long id;
@@ -0,0 +1,14 @@
+package pl.kasprzak.dawid.myfirstwords.model.milestones;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GetMilestonesPageResponse {
+
+    private List<GetMilestoneResponse> milestones;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package pl.kasprzak.dawid.myfirstwords.model.milestones;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ScoredMilestoneResponse {
+
+    private long id;
+    private String title;
+    private String description;
+    private LocalDate dateAchieve;
+    private double score;
+}
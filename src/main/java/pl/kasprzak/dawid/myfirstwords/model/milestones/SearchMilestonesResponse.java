@@ -0,0 +1,13 @@
+package pl.kasprzak.dawid.myfirstwords.model.milestones;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SearchMilestonesResponse {
+
+    private List<ScoredMilestoneResponse> milestones;
+}
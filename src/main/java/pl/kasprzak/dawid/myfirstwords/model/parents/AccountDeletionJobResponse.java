@@ -0,0 +1,20 @@
+package pl.kasprzak.dawid.myfirstwords.model.parents;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class AccountDeletionJobResponse {
+
+    private Long id;
+    private Long parentId;
+    private AccountDeletionStatus status;
+    private long totalItems;
+    private long deletedItems;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
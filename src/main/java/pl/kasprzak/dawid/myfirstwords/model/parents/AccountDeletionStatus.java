@@ -0,0 +1,8 @@
+package pl.kasprzak.dawid.myfirstwords.model.parents;
+
+public enum AccountDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,14 @@
+package pl.kasprzak.dawid.myfirstwords.model.parents;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GetParentsPageResponse {
+
+    private List<ParentInfoResponse> parents;
+    private String nextCursor;
+}
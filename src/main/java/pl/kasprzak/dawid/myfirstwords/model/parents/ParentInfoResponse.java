@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Data;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -13,6 +14,7 @@ public class ParentInfoResponse {
     private Long id;
     private String username;
     private String mail;
+    private LocalDateTime registeredAt;
     private List<GetChildResponse> children;
     private List<String> roles;
 
@@ -0,0 +1,6 @@
+package pl.kasprzak.dawid.myfirstwords.model.sync;
+
+public enum ChangedEntityType {
+    WORD,
+    MILESTONE
+}
@@ -0,0 +1,20 @@
+package pl.kasprzak.dawid.myfirstwords.model.sync;
+
+import lombok.Builder;
+import lombok.Getter;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChildChangesResponse {
+
+    private Long childId;
+    private boolean full;
+    private List<GetWordResponse> words;
+    private List<GetMilestoneResponse> milestones;
+    private List<Long> deletedWordIds;
+    private List<Long> deletedMilestoneIds;
+}
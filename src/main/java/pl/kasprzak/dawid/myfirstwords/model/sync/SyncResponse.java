@@ -0,0 +1,15 @@
+package pl.kasprzak.dawid.myfirstwords.model.sync;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SyncResponse {
+
+    private List<ChildChangesResponse> children;
+    private List<Long> deletedChildIds;
+    private String token;
+}
@@ -0,0 +1,6 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+public enum CompletionSource {
+    CHILD,
+    DICTIONARY
+}
@@ -0,0 +1,12 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GetSimilarWordsResponse {
+
+    private List<SimilarWordResponse> words;
+}
@@ -1,5 +1,6 @@
 package pl.kasprzak.dawid.myfirstwords.model.words;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +8,7 @@ import java.time.LocalDate;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class GetWordResponse {
 
     private long id;
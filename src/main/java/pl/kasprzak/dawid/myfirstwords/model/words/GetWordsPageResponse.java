@@ -0,0 +1,14 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GetWordsPageResponse {
+
+    private List<GetWordResponse> words;
+    private String nextCursor;
+}
@@ -0,0 +1,39 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Length of the periods the vocabulary growth of a child is reported in. Weeks start on Monday.
+ */
+public enum GrowthInterval {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    GrowthInterval(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the first day of the period the given day falls into.
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Returns the first day of the period following the one starting on the given day.
+     */
+    public LocalDate nextPeriodStart(LocalDate periodStart) {
+        return periodStart.plus(1, unit);
+    }
+}
@@ -0,0 +1,14 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImportWordLineResult {
+
+    private long line;
+    private ImportWordStatus status;
+    private String word;
+    private String message;
+}
@@ -0,0 +1,7 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+public enum ImportWordStatus {
+    IMPORTED,
+    DUPLICATE,
+    INVALID
+}
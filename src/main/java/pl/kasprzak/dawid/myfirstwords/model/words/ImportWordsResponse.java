@@ -0,0 +1,16 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ImportWordsResponse {
+
+    private int imported;
+    private int duplicates;
+    private int rejected;
+    private List<ImportWordLineResult> lines;
+}
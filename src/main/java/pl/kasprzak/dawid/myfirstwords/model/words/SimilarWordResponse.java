@@ -0,0 +1,19 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SimilarWordResponse {
+
+    private long id;
+    private String word;
+    private LocalDate dateAchieve;
+    private int distance;
+
+}
@@ -0,0 +1,14 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class VocabularyGrowthResponse {
+
+    private GrowthInterval interval;
+    private List<VocabularyPeriodResponse> periods;
+}
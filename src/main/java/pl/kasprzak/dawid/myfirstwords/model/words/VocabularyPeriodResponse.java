@@ -0,0 +1,17 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class VocabularyPeriodResponse {
+
+    private LocalDate periodStart;
+    private long words;
+    private long cumulativeWords;
+}
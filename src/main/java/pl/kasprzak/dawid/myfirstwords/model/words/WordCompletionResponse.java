@@ -0,0 +1,15 @@
+package pl.kasprzak.dawid.myfirstwords.model.words;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class WordCompletionResponse {
+
+    private String word;
+    private CompletionSource source;
+
+}
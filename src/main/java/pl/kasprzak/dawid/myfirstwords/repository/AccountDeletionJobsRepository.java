@@ -0,0 +1,58 @@
+package pl.kasprzak.dawid.myfirstwords.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountDeletionJobsRepository extends JpaRepository<AccountDeletionJobEntity, Long> {
+
+    Optional<AccountDeletionJobEntity> findFirstByParentIdOrderByIdDesc(Long parentId);
+
+    @Query("select j.id from AccountDeletionJobEntity j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(AccountDeletionStatus status);
+
+    /**
+     * Moves a pending job to the running state, so that exactly one worker processes it.
+     *
+     * @param id        the ID of the job.
+     * @param startedAt the time the worker started on the job, also its first heartbeat.
+     * @return 1 if the job was claimed, 0 if it does not exist or is no longer pending.
+     */
+    @Modifying
+    @Query("update AccountDeletionJobEntity j set j.status = pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus.RUNNING," +
+            " j.startedAt = :startedAt, j.heartbeatAt = :startedAt where j.id = :id" +
+            " and j.status = pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus.PENDING")
+    int claim(Long id, LocalDateTime startedAt);
+
+    /**
+     * Returns the running jobs whose worker has not recorded progress since the given time to the pending state.
+     * Jobs still running on another instance keep renewing their heartbeat, so they are left to it.
+     *
+     * @param heartbeatBefore the time before which the last heartbeat of an abandoned job was recorded.
+     * @return the number of jobs returned to the pending state.
+     */
+    @Modifying
+    @Query("update AccountDeletionJobEntity j set j.status = pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus.PENDING" +
+            " where j.status = pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus.RUNNING" +
+            " and (j.heartbeatAt is null or j.heartbeatAt < :heartbeatBefore)")
+    int resetAbandoned(LocalDateTime heartbeatBefore);
+
+    /**
+     * Records the progress of a running job and renews its heartbeat.
+     *
+     * @param id          the ID of the job.
+     * @param count       the number of items deleted since the last progress.
+     * @param heartbeatAt the time of the progress.
+     * @return 1 if the job was updated, 0 if it does not exist.
+     */
+    @Modifying
+    @Query("update AccountDeletionJobEntity j set j.deletedItems = j.deletedItems + :count, j.heartbeatAt = :heartbeatAt" +
+            " where j.id = :id")
+    int addDeletedItems(Long id, long count, LocalDateTime heartbeatAt);
+}
@@ -0,0 +1,29 @@
+package pl.kasprzak.dawid.myfirstwords.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildChangeEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChildChangesRepository extends JpaRepository<ChildChangeEntity, Long> {
+
+    /**
+     * Returns the changes of a child recorded after one version up to and including another, in the order
+     * they were made.
+     *
+     * @param childId      the ID of the child.
+     * @param afterVersion the version of the child the client has already seen.
+     * @param toVersion    the version of the child the client is brought to.
+     * @return the changes, oldest first.
+     */
+    @Query("select c from ChildChangeEntity c where c.childId = :childId" +
+            " and c.version > :afterVersion and c.version <= :toVersion order by c.version, c.id")
+    List<ChildChangeEntity> findChanges(Long childId, long afterVersion, long toVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ChildChangeEntity c where c.childId in :childIds")
+    void deleteAllByChildIdInBulk(Collection<Long> childIds);
+}
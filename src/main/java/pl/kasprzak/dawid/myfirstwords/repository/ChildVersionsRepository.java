@@ -0,0 +1,28 @@
+package pl.kasprzak.dawid.myfirstwords.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildVersionEntity;
+
+import java.util.Optional;
+
+public interface ChildVersionsRepository extends JpaRepository<ChildVersionEntity, Long> {
+
+    @Query("select v.version from ChildVersionEntity v where v.childId = :childId")
+    Optional<Long> findVersionByChildId(Long childId);
+
+    /**
+     * Increments the version of a child in place, so that concurrent writers never lose a bump.
+     *
+     * @param childId the ID of the child.
+     * @return 1 if the version was incremented, 0 if the child has no version yet.
+     */
+    @Modifying
+    @Query("update ChildVersionEntity v set v.version = v.version + 1 where v.childId = :childId")
+    int increment(Long childId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ChildVersionEntity v where v.childId = :childId")
+    void deleteByChildIdInBulk(Long childId);
+}
@@ -1,11 +1,86 @@
 package pl.kasprzak.dawid.myfirstwords.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.ChildParentIds;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ChildrenRepository extends JpaRepository<ChildEntity, Long> {
-    List<ChildEntity> findByParentId(Long parentId);
 
+    String CHILD_RESPONSE = "select new pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse(c.id, c.name, c.birthDate)" +
+            " from ChildEntity c";
+
+    @Query(CHILD_RESPONSE + " where c.parent.id = :parentId")
+    List<GetChildResponse> findResponsesByParentId(Long parentId);
+
+    @Query(CHILD_RESPONSE + " where c.id = :childId")
+    Optional<GetChildResponse> findResponseById(Long childId);
+
+    /**
+     * Resolves in one primary key lookup whether the child exists and belongs to the given parent.
+     * Only the parent_id column of the child is compared, so neither the parent nor the child is loaded.
+     * The result is kept in the query cache until the children table is next written to.
+     *
+     * @param childId  the ID of the child.
+     * @param parentId the ID of the parent.
+     * @return an empty Optional if the child does not exist, otherwise whether the parent owns it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select case when c.parent.id = :parentId then true else false end from ChildEntity c where c.id = :childId")
+    Optional<Boolean> findOwnership(Long childId, Long parentId);
+
+    @Query("select c.id from ChildEntity c where c.parent.id = :parentId")
+    List<Long> findIdsByParentId(Long parentId);
+
+    @Query("select c.id from ChildEntity c where c.parent.id = :parentId order by c.id")
+    List<Long> findIdsByParentId(Long parentId, Limit limit);
+
+    long countByParentId(Long parentId);
+
+    /**
+     * Checks whether the child exists and belongs to the given parent. Unlike {@link #findOwnership(Long, Long)},
+     * the answer is not kept in the query cache, so a child created through another instance of the application
+     * is seen as soon as it is committed.
+     *
+     * @param id       the ID of the child.
+     * @param parentId the ID of the parent.
+     * @return true if the parent owns the child, otherwise false.
+     */
+    boolean existsByIdAndParentId(Long id, Long parentId);
+
+    @Query("select new pl.kasprzak.dawid.myfirstwords.repository.projections.ChildParentIds(c.parent.id, c.id) from ChildEntity c order by c.parent.id, c.id")
+    List<ChildParentIds> findAllParentAndChildIds();
+
+    /**
+     * Returns the child with the given ID and locks its row until the transaction completes.
+     *
+     * @param childId the ID of the child.
+     * @return the child, or empty if it does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ChildEntity c where c.id = :childId")
+    Optional<ChildEntity> findForUpdateById(Long childId);
+
+    /**
+     * Deletes the child with the given ID in a single statement, without loading it.
+     * The words and milestones of the child must have been deleted before. Pending changes are flushed first
+     * and the persistence context is cleared afterwards, so a child loaded before is not returned again.
+     *
+     * @param childId the ID of the child.
+     * @return the number of deleted children.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ChildEntity c where c.id = :childId")
+    int deleteByIdInBulk(Long childId);
 }
@@ -1,23 +1,118 @@
 package pl.kasprzak.dawid.myfirstwords.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MilestonesRepository extends JpaRepository<MilestoneEntity, Long> {
-    List<MilestoneEntity> findByTitleContainingIgnoreCaseAndChildId(String title, Long childId);
+
+    String MILESTONE_RESPONSE = "select new pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse(" +
+            "m.id, m.title, m.description, m.dateAchieve) from MilestoneEntity m";
 
     Optional<MilestoneEntity> findByChildIdAndId(Long childId, Long milestoneId);
 
     List<MilestoneEntity> findAllByChildId(Long id);
 
-    List<MilestoneEntity> findByChildIdAndDateAchieveAfter(Long childId, LocalDate date);
+    @Query(MILESTONE_RESPONSE + " where lower(m.title) like concat('%', :#{escape(#title)}, '%') escape :#{escapeCharacter()}" +
+            " and m.child.id = :childId")
+    List<GetMilestoneResponse> findResponsesByTitleContainingIgnoreCaseAndChildId(String title, Long childId);
+
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId")
+    List<GetMilestoneResponse> findResponsesByChildId(Long childId);
+
+    @Query(MILESTONE_RESPONSE + " where m.id in :ids order by m.id")
+    List<GetMilestoneResponse> findResponsesByIdIn(Collection<Long> ids);
+
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId and m.dateAchieve > :date")
+    List<GetMilestoneResponse> findResponsesByChildIdAndDateAchieveAfter(Long childId, LocalDate date);
+
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId and m.dateAchieve < :date")
+    List<GetMilestoneResponse> findResponsesByChildIdAndDateAchieveBefore(Long childId, LocalDate date);
+
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId and m.dateAchieve between :startDate and :endDate")
+    List<GetMilestoneResponse> findResponsesByChildIdAndDateAchieveBetween(Long childId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the first page of the milestones of a child achieved within the optional date range,
+     * ordered by date of achievement and ID.
+     *
+     * @param childId   the ID of the child.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param limit     the maximum number of rows to return.
+     * @return the milestones on the first page.
+     */
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId" +
+            " and (:startDate is null or m.dateAchieve >= :startDate)" +
+            " and (:endDate is null or m.dateAchieve <= :endDate)" +
+            " order by m.dateAchieve, m.id")
+    List<GetMilestoneResponse> findPage(Long childId, LocalDate startDate, LocalDate endDate, Limit limit);
+
+    /**
+     * Returns the page of the milestones of a child that follows the row identified by the given keyset,
+     * ordered by date of achievement and ID. The keyset predicate lets the database seek straight to the
+     * page, so its cost does not depend on how many rows precede it.
+     *
+     * @param childId   the ID of the child.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param afterDate the date of achievement of the last row of the previous page.
+     * @param afterId   the ID of the last row of the previous page.
+     * @param limit     the maximum number of rows to return.
+     * @return the milestones on the next page.
+     */
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId" +
+            " and (m.dateAchieve > :afterDate or (m.dateAchieve = :afterDate and m.id > :afterId))" +
+            " and (:startDate is null or m.dateAchieve >= :startDate)" +
+            " and (:endDate is null or m.dateAchieve <= :endDate)" +
+            " order by m.dateAchieve, m.id")
+    List<GetMilestoneResponse> findPageAfter(Long childId, LocalDate startDate, LocalDate endDate,
+                                          LocalDate afterDate, Long afterId, Limit limit);
+
+    /**
+     * Streams all the milestones of a child, ordered by date of achievement and ID, through a forward-only cursor.
+     * Rows are fetched from the database in bounded chunks as the stream is consumed, so the stream must be
+     * consumed and closed within a transaction.
+     *
+     * @param childId the ID of the child.
+     * @return the stream of the milestones of the child.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(MILESTONE_RESPONSE + " where m.child.id = :childId order by m.dateAchieve, m.id")
+    Stream<GetMilestoneResponse> streamAllByChildId(Long childId);
 
-    List<MilestoneEntity> findByChildIdAndDateAchieveBefore(Long childId, LocalDate date);
+    /**
+     * Deletes all the milestones of a child in a single statement, without loading them.
+     *
+     * @param childId the ID of the child.
+     * @return the number of deleted milestones.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MilestoneEntity m where m.child.id = :childId")
+    int deleteAllByChildIdInBulk(Long childId);
 
-    List<MilestoneEntity> findByChildIdAndDateAchieveBetween(Long childId, LocalDate startDate, LocalDate endDate);
+    @Query("select count(m) from MilestoneEntity m where m.child.id in (select c.id from ChildEntity c where c.parent.id = :parentId)")
+    long countByParentId(Long parentId);
 
+    /**
+     * Returns the IDs of a bounded chunk of the milestones of all the children of a parent, ordered by ID.
+     *
+     * @param parentId the ID of the parent.
+     * @param limit    the maximum number of IDs to return.
+     * @return the IDs of the milestones in the chunk.
+     */
+    @Query("select m.id from MilestoneEntity m where m.child.id in (select c.id from ChildEntity c where c.parent.id = :parentId) order by m.id")
+    List<Long> findIdsByParentId(Long parentId, Limit limit);
 }
@@ -1,13 +1,137 @@
 package pl.kasprzak.dawid.myfirstwords.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ParentsRepository extends JpaRepository<ParentEntity, Long> {
 
+    /**
+     * Returns the parent with the given username. The ID found for the username is kept in the query cache
+     * until the parents table is next written to, and the parent itself is served from the second-level cache.
+     *
+     * @param username the username of the parent.
+     * @return the parent, or empty if no parent has the username.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ParentEntity> findByUsername(String username);
     Optional<ParentEntity> findByMail(String mail);
 
+    /**
+     * Returns the parent with the given username and locks its row for reading until the transaction completes,
+     * so a concurrent request to delete the account waits for the transaction, and a transaction started
+     * after the request sees the parent marked as deleted.
+     *
+     * @param username the username of the parent.
+     * @return the parent, or empty if no parent has the username.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from ParentEntity p where p.username = :username")
+    Optional<ParentEntity> findByUsernameForShare(String username);
+
+    /**
+     * Returns the parent of the child with the given ID and locks its row for reading until the transaction
+     * completes, like {@link #findByUsernameForShare(String)}.
+     *
+     * @param childId the ID of the child.
+     * @return the parent, or empty if the child does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from ParentEntity p where p.id = (select c.parent.id from ChildEntity c where c.id = :childId)")
+    Optional<ParentEntity> findByChildIdForShare(Long childId);
+
+    /**
+     * Returns the parent with the given username together with its authorities, in a single query.
+     * The result is cached like the one of {@link #findByUsername(String)}.
+     *
+     * @param username the username of the parent.
+     * @return the parent with its authorities initialized, or empty if no parent has the username.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "authorities")
+    Optional<ParentEntity> findWithAuthoritiesByUsername(String username);
+
+    /**
+     * Returns the parent with the given ID together with its authorities, in a single query.
+     * The result is cached like the one of {@link #findByUsername(String)}.
+     *
+     * @param id the ID of the parent.
+     * @return the parent with its authorities initialized, or empty if no parent has the ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = "authorities")
+    Optional<ParentEntity> findWithAuthoritiesById(Long id);
+
+    /**
+     * Returns all parents ordered by ID together with their authorities, in a single query.
+     *
+     * @return all parents with their authorities initialized.
+     */
+    @EntityGraph(attributePaths = "authorities")
+    @Query("select p from ParentEntity p order by p.id")
+    List<ParentEntity> findAllWithAuthorities();
+
+    /**
+     * Returns all parents together with their children, in a single query. Called within the same transaction
+     * after {@link #findAllWithAuthorities()}, it initializes the children of the parents that are already loaded,
+     * so both collections are fetched without joining them in one cartesian product.
+     *
+     * @return all parents with their children initialized.
+     */
+    @EntityGraph(attributePaths = "children")
+    @Query("select p from ParentEntity p")
+    List<ParentEntity> findAllWithChildren();
+
+    /**
+     * Returns the page of parents that follows the given ID, ordered by ID, optionally filtered by username
+     * and registration window. The associations of the parents are not fetched.
+     *
+     * @param usernamePattern the LIKE pattern the username must match, using '!' as escape character, or null for no filter.
+     * @param registeredFrom  the inclusive lower bound of the registration time, or null for no bound.
+     * @param registeredTo    the exclusive upper bound of the registration time, or null for no bound.
+     * @param afterId         the ID of the last parent of the previous page, or 0 for the first page.
+     * @param limit           the maximum number of rows to return.
+     * @return the parents on the page.
+     */
+    @Query("select p from ParentEntity p where p.id > :afterId" +
+            " and (:usernamePattern is null or p.username like :usernamePattern escape '!')" +
+            " and (:registeredFrom is null or p.registeredAt >= :registeredFrom)" +
+            " and (:registeredTo is null or p.registeredAt < :registeredTo)" +
+            " order by p.id")
+    List<ParentEntity> findPage(String usernamePattern, LocalDateTime registeredFrom, LocalDateTime registeredTo,
+                                long afterId, Limit limit);
+
+    /**
+     * Returns the parents with the given IDs together with their authorities, in a single query.
+     * Called within the transaction that loaded the parents, it initializes their authorities.
+     *
+     * @param ids the IDs of the parents.
+     * @return the parents with their authorities initialized.
+     */
+    @EntityGraph(attributePaths = "authorities")
+    @Query("select p from ParentEntity p where p.id in :ids")
+    List<ParentEntity> findWithAuthoritiesByIdIn(Collection<Long> ids);
+
+    /**
+     * Returns the parents with the given IDs together with their children, in a single query.
+     * Called within the transaction that loaded the parents, it initializes their children.
+     *
+     * @param ids the IDs of the parents.
+     * @return the parents with their children initialized.
+     */
+    @EntityGraph(attributePaths = "children")
+    @Query("select p from ParentEntity p where p.id in :ids")
+    List<ParentEntity> findWithChildrenByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,49 @@
+package pl.kasprzak.dawid.myfirstwords.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordDailyCountEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.WordDailyCount;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface WordDailyCountsRepository extends JpaRepository<WordDailyCountEntity, Long> {
+
+    /**
+     * Adds to the number of words a child achieved on a day, in place.
+     *
+     * @param childId     the ID of the child.
+     * @param dateAchieve the day.
+     * @param delta       the number of words to add, negative for deleted words.
+     * @return 1 if the count was updated, 0 if the child has no count for that day yet.
+     */
+    @Modifying
+    @Query("update WordDailyCountEntity c set c.words = c.words + :delta" +
+            " where c.childId = :childId and c.dateAchieve = :dateAchieve")
+    int addWords(Long childId, LocalDate dateAchieve, long delta);
+
+    /**
+     * Returns the number of words a child achieved on every day within the optional date range that has any.
+     *
+     * @param childId   the ID of the child.
+     * @param startDate the inclusive lower bound of the day, or null for no bound.
+     * @param endDate   the inclusive upper bound of the day, or null for no bound.
+     * @return the daily counts, oldest first.
+     */
+    @Query("select new pl.kasprzak.dawid.myfirstwords.repository.projections.WordDailyCount(c.dateAchieve, c.words)" +
+            " from WordDailyCountEntity c where c.childId = :childId and c.words > 0" +
+            " and (:startDate is null or c.dateAchieve >= :startDate)" +
+            " and (:endDate is null or c.dateAchieve <= :endDate)" +
+            " order by c.dateAchieve")
+    List<WordDailyCount> findDailyCounts(Long childId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select coalesce(sum(c.words), 0) from WordDailyCountEntity c where c.childId = :childId and c.dateAchieve < :date")
+    long sumWordsBefore(Long childId, LocalDate date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from WordDailyCountEntity c where c.childId in :childIds")
+    void deleteAllByChildIdInBulk(Collection<Long> childIds);
+}
@@ -1,25 +1,169 @@
 package pl.kasprzak.dawid.myfirstwords.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.WordFrequency;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface WordsRepository extends JpaRepository<WordEntity, Long> {
 
-    Optional<WordEntity> findByWordIgnoreCaseAndChildId(String word, Long childId);
+    String WORD_RESPONSE = "select new pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse(w.id, w.word, w.dateAchieve)" +
+            " from WordEntity w";
 
     Optional<WordEntity> findByChildIdAndId(Long childId, Long id);
 
+    @Query("select w.wordNormalized from WordEntity w where w.child.id = :childId")
+    Set<String> findWordsNormalizedByChildId(Long childId);
+
     List<WordEntity> findAllByChildId(Long childId);
 
-    List<WordEntity> findByChildIdAndDateAchieveAfter(Long childId, LocalDate date);
+    /**
+     * Returns the first word of a child with the given normalized spelling, selected straight into its response
+     * without loading the entity.
+     *
+     * @param wordNormalized the normalized word.
+     * @param childId        the ID of the child.
+     * @param limit          the maximum number of rows to return, one in practice.
+     * @return the word, or an empty Optional if the child has no such word.
+     */
+    @Query(WORD_RESPONSE + " where w.wordNormalized = :wordNormalized and w.child.id = :childId order by w.id")
+    Optional<GetWordResponse> findResponseByWordNormalizedAndChildId(String wordNormalized, Long childId, Limit limit);
+
+    @Query(WORD_RESPONSE + " where w.child.id = :childId")
+    List<GetWordResponse> findResponsesByChildId(Long childId);
+
+    @Query(WORD_RESPONSE + " where w.id in :ids order by w.id")
+    List<GetWordResponse> findResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * Returns every normalized word with the number of distinct children who have learned it.
+     * The children of parents whose account deletion has been requested are not counted.
+     *
+     * @return the normalized words with their number of children.
+     */
+    @Query("select new pl.kasprzak.dawid.myfirstwords.repository.projections.WordFrequency(w.wordNormalized, count(distinct w.child.id)) " +
+            "from WordEntity w where w.wordNormalized is not null and w.child.parent.deletedAt is null group by w.wordNormalized")
+    List<WordFrequency> findWordFrequencies();
+
+    /**
+     * Returns the given normalized words with the number of distinct children who have learned them, like
+     * {@link #findWordFrequencies()}. A word no child knows anymore is missing from the result.
+     *
+     * @param words the normalized words.
+     * @return the normalized words known to at least one child, with their number of children.
+     */
+    @Query("select new pl.kasprzak.dawid.myfirstwords.repository.projections.WordFrequency(w.wordNormalized, count(distinct w.child.id)) " +
+            "from WordEntity w where w.wordNormalized in :words and w.child.parent.deletedAt is null group by w.wordNormalized")
+    List<WordFrequency> findWordFrequenciesByWordNormalizedIn(Collection<String> words);
+
+    @Query("select distinct w.wordNormalized from WordEntity w where w.child.id = :childId and w.wordNormalized is not null")
+    List<String> findDistinctWordNormalizedByChildId(Long childId);
+
+    @Query("select distinct w.wordNormalized from WordEntity w where w.child.parent.id = :parentId and w.wordNormalized is not null")
+    List<String> findDistinctWordNormalizedByParentId(Long parentId);
+
+    /**
+     * Returns the distinct normalized forms of the given words that their child had not learned before,
+     * i.e. for which the child has no other word with the same normalized form.
+     *
+     * @param ids the IDs of newly created words of one child.
+     * @return the normalized words new to the child.
+     */
+    @Query("select distinct w.wordNormalized from WordEntity w where w.id in :ids and w.wordNormalized is not null and not exists " +
+            "(select o.id from WordEntity o where o.child.id = w.child.id and o.wordNormalized = w.wordNormalized and o.id not in :ids)")
+    List<String> findWordsNewToChildByIdIn(Collection<Long> ids);
+
+    @Query(WORD_RESPONSE + " where w.child.id = :childId and w.dateAchieve > :date")
+    List<GetWordResponse> findResponsesByChildIdAndDateAchieveAfter(Long childId, LocalDate date);
+
+    @Query(WORD_RESPONSE + " where w.child.id = :childId and w.dateAchieve < :date")
+    List<GetWordResponse> findResponsesByChildIdAndDateAchieveBefore(Long childId, LocalDate date);
+
+    @Query(WORD_RESPONSE + " where w.child.id = :childId and w.dateAchieve between :startDate and :endDate")
+    List<GetWordResponse> findResponsesByChildIdAndDateAchieveBetween(Long childId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the first page of the words of a child achieved within the optional date range,
+     * ordered by date of achievement and ID.
+     *
+     * @param childId   the ID of the child.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param limit     the maximum number of rows to return.
+     * @return the words on the first page.
+     */
+    @Query(WORD_RESPONSE + " where w.child.id = :childId" +
+            " and (:startDate is null or w.dateAchieve >= :startDate)" +
+            " and (:endDate is null or w.dateAchieve <= :endDate)" +
+            " order by w.dateAchieve, w.id")
+    List<GetWordResponse> findPage(Long childId, LocalDate startDate, LocalDate endDate, Limit limit);
+
+    /**
+     * Returns the page of the words of a child that follows the row identified by the given keyset,
+     * ordered by date of achievement and ID. The keyset predicate lets the database seek straight to the
+     * page, so its cost does not depend on how many rows precede it.
+     *
+     * @param childId   the ID of the child.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param afterDate the date of achievement of the last row of the previous page.
+     * @param afterId   the ID of the last row of the previous page.
+     * @param limit     the maximum number of rows to return.
+     * @return the words on the next page.
+     */
+    @Query(WORD_RESPONSE + " where w.child.id = :childId" +
+            " and (w.dateAchieve > :afterDate or (w.dateAchieve = :afterDate and w.id > :afterId))" +
+            " and (:startDate is null or w.dateAchieve >= :startDate)" +
+            " and (:endDate is null or w.dateAchieve <= :endDate)" +
+            " order by w.dateAchieve, w.id")
+    List<GetWordResponse> findPageAfter(Long childId, LocalDate startDate, LocalDate endDate,
+                                     LocalDate afterDate, Long afterId, Limit limit);
 
-    List<WordEntity> findByChildIdAndDateAchieveBefore(Long childId, LocalDate date);
+    /**
+     * Streams all the words of a child, ordered by date of achievement and ID, through a forward-only cursor.
+     * Rows are fetched from the database in bounded chunks as the stream is consumed, so the stream must be
+     * consumed and closed within a transaction.
+     *
+     * @param childId the ID of the child.
+     * @return the stream of the words of the child.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(WORD_RESPONSE + " where w.child.id = :childId order by w.dateAchieve, w.id")
+    Stream<GetWordResponse> streamAllByChildId(Long childId);
 
-    List<WordEntity> findByChildIdAndDateAchieveBetween(Long childId, LocalDate startDate, LocalDate endDate);
+    /**
+     * Deletes all the words of a child in a single statement, without loading them.
+     *
+     * @param childId the ID of the child.
+     * @return the number of deleted words.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from WordEntity w where w.child.id = :childId")
+    int deleteAllByChildIdInBulk(Long childId);
 
+    @Query("select count(w) from WordEntity w where w.child.id in (select c.id from ChildEntity c where c.parent.id = :parentId)")
+    long countByParentId(Long parentId);
 
+    /**
+     * Returns the IDs of a bounded chunk of the words of all the children of a parent, ordered by ID.
+     *
+     * @param parentId the ID of the parent.
+     * @param limit    the maximum number of IDs to return.
+     * @return the IDs of the words in the chunk.
+     */
+    @Query("select w.id from WordEntity w where w.child.id in (select c.id from ChildEntity c where c.parent.id = :parentId) order by w.id")
+    List<Long> findIdsByParentId(Long parentId, Limit limit);
 }
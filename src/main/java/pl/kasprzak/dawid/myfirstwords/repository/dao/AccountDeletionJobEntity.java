@@ -0,0 +1,30 @@
+package pl.kasprzak.dawid.myfirstwords.repository.dao;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "account_deletion_jobs")
+public class AccountDeletionJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long parentId;
+
+    @Enumerated(EnumType.STRING)
+    private AccountDeletionStatus status;
+
+    private long totalItems;
+    private long deletedItems;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -2,10 +2,13 @@ package pl.kasprzak.dawid.myfirstwords.repository.dao;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
 @Table(name = "authorities")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authorities")
 public class AuthorityEntity {
 
     @Id
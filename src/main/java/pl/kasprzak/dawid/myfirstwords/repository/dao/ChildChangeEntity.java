@@ -0,0 +1,32 @@
+package pl.kasprzak.dawid.myfirstwords.repository.dao;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "child_changes")
+public class ChildChangeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "child_changes_seq")
+    @SequenceGenerator(name = "child_changes_seq", sequenceName = "child_changes_seq", allocationSize = 50)
+    private Long id;
+
+    private Long childId;
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    private ChangedEntityType entityType;
+
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    private ChangeOperation operation;
+
+    private LocalDateTime changedAt;
+}
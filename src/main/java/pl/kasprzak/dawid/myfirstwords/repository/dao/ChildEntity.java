@@ -2,6 +2,8 @@ package pl.kasprzak.dawid.myfirstwords.repository.dao;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import pl.kasprzak.dawid.myfirstwords.model.children.Gender;
 
 import java.time.LocalDate;
@@ -11,6 +13,7 @@ import java.util.List;
 @Entity
 @Data
 @Table(name = "children")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "children")
 public class ChildEntity {
 
     @Id
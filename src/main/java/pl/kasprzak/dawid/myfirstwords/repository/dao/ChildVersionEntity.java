@@ -0,0 +1,17 @@
+package pl.kasprzak.dawid.myfirstwords.repository.dao;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "child_versions")
+public class ChildVersionEntity {
+
+    @Id
+    private Long childId;
+
+    private long version;
+}
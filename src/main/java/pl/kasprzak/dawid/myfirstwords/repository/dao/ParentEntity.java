@@ -2,13 +2,19 @@ package pl.kasprzak.dawid.myfirstwords.repository.dao;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Data
 @Table(name = "parents")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "parents")
 public class ParentEntity {
 
     @Id
@@ -18,11 +24,22 @@ public class ParentEntity {
     private String username;
     private String password;
     private String mail;
+    private LocalDateTime registeredAt;
+    private LocalDateTime deletedAt;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "parent", cascade = CascadeType.REMOVE)
+    @BatchSize(size = 50)
+    @OneToMany(mappedBy = "parent", cascade = CascadeType.REMOVE)
     private List<ChildEntity> children = new ArrayList<>();
 
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "parent-authorities")
     @ManyToMany
     private List<AuthorityEntity> authorities = new ArrayList<>();
 
+    @PrePersist
+    void updateRegisteredAt() {
+        if (registeredAt == null) {
+            registeredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package pl.kasprzak.dawid.myfirstwords.repository.dao;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Entity
+@Data
+@Table(name = "word_daily_counts")
+public class WordDailyCountEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long childId;
+    private LocalDate dateAchieve;
+    private long words;
+}
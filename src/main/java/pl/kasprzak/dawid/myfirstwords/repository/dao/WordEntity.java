@@ -1,10 +1,13 @@
 package pl.kasprzak.dawid.myfirstwords.repository.dao;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Entity
 @Data
@@ -12,13 +15,33 @@ import java.time.LocalDate;
 public class WordEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "words_seq")
+    @SequenceGenerator(name = "words_seq", sequenceName = "words_seq", allocationSize = 50)
     private Long id;
     private String word;
     private LocalDate dateAchieve;
 
+    @Setter(AccessLevel.NONE)
+    private String wordNormalized;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "child_id")
     private ChildEntity child;
 
+    /**
+     * Normalizes a word for exact, case-insensitive lookups: surrounding whitespace is removed
+     * and the word is lower-cased independently of the default locale.
+     *
+     * @param word the word to normalize, may be null.
+     * @return the normalized word, or null if the word is null.
+     */
+    public static String normalize(String word) {
+        return word == null ? null : word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateWordNormalized() {
+        wordNormalized = normalize(word);
+    }
 }
@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.repository.projections;
+
+/**
+ * ID pair of a child and the parent owning it.
+ *
+ * @param parentId the ID of the parent.
+ * @param childId  the ID of the child.
+ */
+public record ChildParentIds(Long parentId, Long childId) {
+}
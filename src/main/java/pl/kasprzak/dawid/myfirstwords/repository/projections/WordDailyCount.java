@@ -0,0 +1,12 @@
+package pl.kasprzak.dawid.myfirstwords.repository.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Number of words a child achieved on one day.
+ *
+ * @param dateAchieve the day.
+ * @param words       the number of words achieved on that day.
+ */
+public record WordDailyCount(LocalDate dateAchieve, long words) {
+}
@@ -0,0 +1,10 @@
+package pl.kasprzak.dawid.myfirstwords.repository.projections;
+
+/**
+ * A normalized word together with the number of children who have learned it.
+ *
+ * @param word     the normalized word.
+ * @param children the number of children having the word in their vocabulary.
+ */
+public record WordFrequency(String word, long children) {
+}
@@ -1,29 +1,27 @@
 package pl.kasprzak.dawid.myfirstwords.security;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.security.authorities.AuthorityProvider;
+import pl.kasprzak.dawid.myfirstwords.security.authorities.AuthorityRouteTable;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class AuthoritiesProvider {
 
-    private final List<AuthorityProvider> authorityProviderList;
+    private final AuthorityRouteTable routeTable;
     private final HttpServletRequest request;
 
-    public Collection<String> checkAdditionalAuthorities(ParentEntity parentEntity){
-        List<String> authorities = new ArrayList<>();
-        for (AuthorityProvider provider : authorityProviderList){
-            if (provider.canHandle(request)){
-                authorities.addAll(provider.getAdditionalAuthorities(request, parentEntity));
-            }
-        }
-        return authorities;
+    public AuthoritiesProvider(List<AuthorityProvider> authorityProviderList, HttpServletRequest request) {
+        this.routeTable = AuthorityRouteTable.compile(authorityProviderList.stream()
+                .flatMap(provider -> provider.routes().stream())
+                .toList());
+        this.request = request;
+    }
+
+    public Collection<String> checkAdditionalAuthorities(ParentPrincipal parent){
+        return routeTable.resolve(request.getMethod(), request.getRequestURI(), parent);
     }
 }
@@ -0,0 +1,203 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.config.ReadWriteRoutingDataSource;
+import pl.kasprzak.dawid.myfirstwords.event.ChildCreatedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.ChildParentIds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-process index of the children owned by every parent.
+ * Each parent maps to a sorted array of child IDs that is replaced, never modified, on change,
+ * so positive ownership checks are lock-free binary searches that neither query nor allocate.
+ * The index is warmed when the application is ready and kept up to date by the child and parent
+ * events once their transactions commit. A parent missing from the index is loaded once, atomically with
+ * respect to those events. The events only come from this instance, so a negative answer is checked again
+ * against the primary, and a child or the first child created through another instance is added to the
+ * index once it is found there.
+ */
+@Slf4j
+@Component
+public class ChildOwnershipIndex {
+
+    private static final long[] NO_CHILDREN = new long[0];
+
+    private final ChildrenRepository childrenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Object rebuildLock = new Object();
+    private volatile Map<Long, long[]> childrenByParent = new ConcurrentHashMap<>();
+    private List<Consumer<Map<Long, long[]>>> changesDuringRebuild;
+
+    public ChildOwnershipIndex(ChildrenRepository childrenRepository, PlatformTransactionManager transactionManager) {
+        this.childrenRepository = childrenRepository;
+        this.transactionTemplate = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+    }
+
+    /**
+     * Checks whether the child with the given ID belongs to the parent with the given ID.
+     * A child missing from the index is looked up on the primary and added to the index if the parent owns it.
+     *
+     * @param parentId the ID of the parent.
+     * @param childId  the ID of the child.
+     * @return true if the parent owns the child, otherwise false.
+     */
+    public boolean isOwner(long parentId, long childId) {
+        if (Arrays.binarySearch(childrenOf(parentId), childId) >= 0) {
+            return true;
+        }
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(
+                status -> childrenRepository.existsByIdAndParentId(childId, parentId)))) {
+            return false;
+        }
+        change(children -> addChild(children, parentId, childId));
+        return true;
+    }
+
+    /**
+     * Checks whether the parent with the given ID owns at least one child.
+     * A parent indexed without children is loaded again from the primary before the check is denied.
+     *
+     * @param parentId the ID of the parent.
+     * @return true if the parent has children, otherwise false.
+     */
+    public boolean hasChildren(long parentId) {
+        long[] childIds = childrenByParent.get(parentId);
+        if (childIds == null) {
+            childIds = childrenOf(parentId);
+        } else if (childIds.length == 0) {
+            childIds = childrenByParent.compute(parentId, (id, indexed) -> loadParent(id));
+        }
+        return childIds.length > 0;
+    }
+
+    /**
+     * Rebuilds the whole index from the children table.
+     * The new index is built aside from the pairs ordered by parent and child ID and swapped in at once,
+     * so concurrent checks never see a partial index. The child and parent events handled while the table
+     * is read are applied to the new index as well before the swap, so none of them is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        List<ChildParentIds> ids;
+        try {
+            ids = transactionTemplate.execute(status -> childrenRepository.findAllParentAndChildIds());
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        Map<Long, long[]> rebuilt = new ConcurrentHashMap<>();
+        int start = 0;
+        for (int i = 1; i <= ids.size(); i++) {
+            if (i == ids.size() || !ids.get(i).parentId().equals(ids.get(start).parentId())) {
+                long[] childIds = new long[i - start];
+                for (int j = start; j < i; j++) {
+                    childIds[j - start] = ids.get(j).childId();
+                }
+                rebuilt.put(ids.get(start).parentId(), childIds);
+                start = i;
+            }
+        }
+        synchronized (rebuildLock) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            childrenByParent = rebuilt;
+        }
+        log.info("Child ownership index built for {} parents and {} children", rebuilt.size(), ids.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildCreated(ChildCreatedEvent event) {
+        change(children -> addChild(children, event.parentId(), event.childId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDeleted(ChildDeletedEvent event) {
+        change(children -> children.computeIfPresent(event.parentId(), (parentId, childIds) -> {
+            int index = Arrays.binarySearch(childIds, event.childId());
+            if (index < 0) {
+                return childIds;
+            }
+            long[] remaining = new long[childIds.length - 1];
+            System.arraycopy(childIds, 0, remaining, 0, index);
+            System.arraycopy(childIds, index + 1, remaining, index, remaining.length - index);
+            return remaining;
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParentDeleted(ParentDeletedEvent event) {
+        change(children -> children.remove(event.parentId()));
+    }
+
+    /**
+     * Applies a change to the index and, while the index is being rebuilt, records it to be applied to
+     * the rebuilt index too. Every change is idempotent, so one applied to both indexes is harmless.
+     */
+    private void change(Consumer<Map<Long, long[]>> change) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+        change.accept(childrenByParent);
+    }
+
+    /**
+     * Adds a created child to a parent already in the index.
+     * A parent missing from the index is left to be loaded, with the committed child, on its next check,
+     * since a set holding only the new child would deny access to the others.
+     */
+    private static void addChild(Map<Long, long[]> children, long parentId, long childId) {
+        children.computeIfPresent(parentId, (id, childIds) -> {
+            int index = Arrays.binarySearch(childIds, childId);
+            if (index >= 0) {
+                return childIds;
+            }
+            int insertion = -index - 1;
+            long[] extended = new long[childIds.length + 1];
+            System.arraycopy(childIds, 0, extended, 0, insertion);
+            extended[insertion] = childId;
+            System.arraycopy(childIds, insertion, extended, insertion + 1, childIds.length - insertion);
+            return extended;
+        });
+    }
+
+    /**
+     * Returns the sorted child IDs of a parent, loading them if the parent is missing from the index.
+     * The load runs inside computeIfAbsent, so child events for the same parent wait for it instead of
+     * being overwritten by a set read before they committed.
+     */
+    private long[] childrenOf(long parentId) {
+        Map<Long, long[]> children = childrenByParent;
+        long[] childIds = children.get(parentId);
+        return childIds != null ? childIds : children.computeIfAbsent(parentId, this::loadParent);
+    }
+
+    private long[] loadParent(long parentId) {
+        long[] childIds = transactionTemplate.execute(status -> childrenRepository.findIdsByParentId(parentId)).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        return childIds.length == 0 ? NO_CHILDREN : childIds;
+    }
+}
@@ -1,6 +1,5 @@
 package pl.kasprzak.dawid.myfirstwords.security;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -8,8 +7,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 
 import java.util.List;
 
@@ -17,21 +14,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetailsService {
 
-    private final ParentsRepository parentsRepository;
-
+    private final ParentPrincipalCache parentPrincipalCache;
+
+    /**
+     * Loads the user details from the cached parent principal.
+     * A new UserDetails instance is built on every call, because Spring Security erases the
+     * credentials of the returned object after a successful authentication.
+     *
+     * @param username the username of the parent.
+     * @return the UserDetails of the parent.
+     * @throws UsernameNotFoundException if no parent with the given username exists, or if the deletion
+     *                                   of the parent's account has been requested.
+     */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        ParentEntity parentEntity = parentsRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("user not found"));
+        ParentPrincipal principal = parentPrincipalCache.get(username).orElseThrow(() -> new UsernameNotFoundException("user not found"));
 
-        List<SimpleGrantedAuthority> authorities = parentEntity.getAuthorities()
+        List<SimpleGrantedAuthority> authorities = principal.authorities()
                 .stream()
-                .map(authorityEntity -> new SimpleGrantedAuthority(authorityEntity.getAuthority()))
+                .map(SimpleGrantedAuthority::new)
                 .toList();
 
         return User.builder()
                 .username(username)
-                .password(parentEntity.getPassword())
+                .password(principal.password())
                 .authorities(authorities)
                 .build();
 
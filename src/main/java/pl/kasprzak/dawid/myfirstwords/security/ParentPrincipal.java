@@ -0,0 +1,17 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of an authenticated parent, held by the {@link ParentPrincipalCache}.
+ * It carries everything the authentication and authorization layers need, so they do not
+ * have to load the {@code ParentEntity} on every request. Ownership of children is answered by the
+ * {@link ChildOwnershipIndex}.
+ *
+ * @param id          the ID of the parent.
+ * @param username    the username of the parent.
+ * @param password    the encoded password of the parent.
+ * @param authorities the names of the roles granted to the parent.
+ */
+public record ParentPrincipal(Long id, String username, String password, List<String> authorities) {
+}
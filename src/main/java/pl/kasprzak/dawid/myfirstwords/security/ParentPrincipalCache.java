@@ -0,0 +1,93 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.config.ReadWriteRoutingDataSource;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class ParentPrincipalCache {
+
+    public static final String CACHE_NAME = "parentPrincipals";
+
+    private final ParentsRepository parentsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, ParentPrincipal> cache;
+
+    public ParentPrincipalCache(ParentsRepository parentsRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${myfirstwords.security.principal-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${myfirstwords.security.principal-cache.expire-after-write:PT5M}") Duration expireAfterWrite) {
+        this.parentsRepository = parentsRepository;
+        this.transactionTemplate = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the principal of the parent with the given username.
+     * The principal is served from the cache when present; otherwise the parent and its authorities
+     * are loaded in a single read-only transaction on the primary, so a parent registered or changed moments ago
+     * is seen, and cached atomically, so an eviction issued while
+     * the principal is being loaded waits for the load and then removes its result.
+     * Missing parents are not cached, so a freshly registered parent is visible immediately.
+     * Parents whose account deletion has been requested are treated as missing.
+     *
+     * @param username the username of the parent.
+     * @return an Optional containing the principal, or an empty Optional if no such parent exists.
+     */
+    public Optional<ParentPrincipal> get(String username) {
+        return Optional.ofNullable(cache.get(username, key -> load(key).orElse(null)));
+    }
+
+    /**
+     * Evicts the principal of the parent with the given username.
+     * If a transaction is active, the entry is evicted again once it completes, so a concurrent
+     * request cannot re-populate the cache with the state from before the commit.
+     *
+     * @param username the username of the parent whose principal is to be evicted.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    private Optional<ParentPrincipal> load(String username) {
+        log.debug("Loading principal for parent {}", username);
+        return transactionTemplate.execute(status -> parentsRepository.findWithAuthoritiesByUsername(username)
+                .filter(parent -> parent.getDeletedAt() == null)
+                .map(parent -> new ParentPrincipal(
+                        parent.getId(),
+                        parent.getUsername(),
+                        parent.getPassword(),
+                        parent.getAuthorities().stream()
+                                .map(AuthorityEntity::getAuthority)
+                                .toList())));
+    }
+}
@@ -0,0 +1,78 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import pl.kasprzak.dawid.myfirstwords.repository.AuthoritiesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fixed catalog of the roles granted to parents.
+ * Every role is a single shared row of the authorities table that all parents holding it link to.
+ * The rows are seeded by the schema migrations and resolved once at startup, before any parent is
+ * registered, so registering a parent never inserts an authority.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleCatalog {
+
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private static final List<String> ROLES = List.of(ROLE_USER, ROLE_ADMIN);
+
+    private final AuthoritiesRepository authoritiesRepository;
+    private volatile Map<String, AuthorityEntity> roles = Map.of();
+
+    /**
+     * Resolves the shared row of every role in the catalog.
+     * A role whose row is missing, e.g. in a database created outside the migrations, is inserted once.
+     */
+    @PostConstruct
+    public void load() {
+        roles = ROLES.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), this::resolve));
+        log.info("Role catalog loaded with {} roles", roles.size());
+    }
+
+    /**
+     * Returns the shared authority of the default role granted to every registered parent.
+     *
+     * @return the "ROLE_USER" authority.
+     */
+    public AuthorityEntity userRole() {
+        return role(ROLE_USER);
+    }
+
+    /**
+     * Returns the shared authority of the administrator role.
+     *
+     * @return the "ROLE_ADMIN" authority.
+     */
+    public AuthorityEntity adminRole() {
+        return role(ROLE_ADMIN);
+    }
+
+    private AuthorityEntity role(String authority) {
+        AuthorityEntity role = roles.get(authority);
+        if (role == null) {
+            throw new IllegalStateException("Role not loaded: " + authority);
+        }
+        return role;
+    }
+
+    private AuthorityEntity resolve(String authority) {
+        return authoritiesRepository.findByAuthority(authority).orElseGet(() -> {
+            AuthorityEntity role = new AuthorityEntity();
+            role.setAuthority(authority);
+            return authoritiesRepository.save(role);
+        });
+    }
+}
@@ -40,6 +40,7 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         httpSecurity.authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/h2-console/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/parents").permitAll()
                   //      .requestMatchers(HttpMethod.GET, "/api/parents/**").hasRole("ADMIN")
                 //        .requestMatchers(HttpMethod.DELETE, "/api/parents/**").authenticated()
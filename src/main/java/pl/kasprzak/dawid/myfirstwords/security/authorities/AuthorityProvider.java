@@ -1,13 +1,14 @@
 package pl.kasprzak.dawid.myfirstwords.security.authorities;
 
-import jakarta.servlet.http.HttpServletRequest;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
-
 import java.util.List;
 
 public interface AuthorityProvider {
 
-    boolean canHandle(HttpServletRequest request);
-
-    List<String> getAdditionalAuthorities(HttpServletRequest request, ParentEntity parentEntity);
+    /**
+     * Returns the routes handled by this provider.
+     * The routes are compiled once into an {@link AuthorityRouteTable}, so they must not change at runtime.
+     *
+     * @return the routes handled by this provider.
+     */
+    List<AuthorityRoute> routes();
 }
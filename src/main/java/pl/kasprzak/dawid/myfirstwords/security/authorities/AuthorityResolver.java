@@ -0,0 +1,19 @@
+package pl.kasprzak.dawid.myfirstwords.security.authorities;
+
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface AuthorityResolver {
+
+    /**
+     * Resolves the additional authorities of the parent for a request matching the route.
+     *
+     * @param parent the principal of the authenticated parent.
+     * @param pathId the value of the {@code {id}} segment of the route, or
+     *               {@link AuthorityRouteTable#NO_ID} if the route has none.
+     * @return the additional authorities, never null.
+     */
+    List<String> resolve(ParentPrincipal parent, long pathId);
+}
@@ -0,0 +1,24 @@
+package pl.kasprzak.dawid.myfirstwords.security.authorities;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * A request route handled by an {@link AuthorityProvider}.
+ * Patterns are made of literal segments and the placeholders {@code {id}} (a numeric segment
+ * passed to the resolver), {@code *} (any single segment) and a trailing {@code **}
+ * (any number of remaining segments, including none).
+ *
+ * @param method   the HTTP method of the route, or null if the route matches every method.
+ * @param pattern  the path pattern of the route.
+ * @param resolver the resolver returning the additional authorities for a matching request.
+ */
+public record AuthorityRoute(HttpMethod method, String pattern, AuthorityResolver resolver) {
+
+    public static AuthorityRoute any(String pattern, AuthorityResolver resolver) {
+        return new AuthorityRoute(null, pattern, resolver);
+    }
+
+    public static AuthorityRoute of(HttpMethod method, String pattern, AuthorityResolver resolver) {
+        return new AuthorityRoute(method, pattern, resolver);
+    }
+}
@@ -0,0 +1,201 @@
+package pl.kasprzak.dawid.myfirstwords.security.authorities;
+
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path trie of {@link AuthorityRoute}s, compiled once at startup and keyed by HTTP method.
+ * A request URI is walked segment by segment against the trie of its method and against the
+ * trie of method-independent routes, so every provider is reached in a single pass. Literal
+ * segments are compared in place and {@code {id}} segments are parsed straight from the URI,
+ * without substrings, regular expressions or boxing.
+ */
+public final class AuthorityRouteTable {
+
+    public static final long NO_ID = -1L;
+
+    private static final String ID_SEGMENT = "{id}";
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_PATH = "**";
+    private static final String ANY_METHOD = "";
+
+    private final Map<String, Node> roots;
+
+    private AuthorityRouteTable(Map<String, Node> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * Compiles the given routes into a route table.
+     *
+     * @param routes the routes to be compiled.
+     * @return the compiled route table.
+     * @throws IllegalArgumentException if a pattern does not start with a slash or uses {@code **}
+     *                                  anywhere but as its last segment.
+     */
+    public static AuthorityRouteTable compile(Collection<AuthorityRoute> routes) {
+        Map<String, Node> roots = new HashMap<>();
+        for (AuthorityRoute route : routes) {
+            String method = route.method() == null ? ANY_METHOD : route.method().name();
+            Node node = roots.computeIfAbsent(method, key -> new Node());
+            add(node, route);
+        }
+        roots.values().forEach(Node::freeze);
+        return new AuthorityRouteTable(Map.copyOf(roots));
+    }
+
+    private static void add(Node root, AuthorityRoute route) {
+        String pattern = route.pattern();
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+        }
+        String[] segments = pattern.substring(1).split("/");
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (ANY_PATH.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                node.tailResolverList.add(route.resolver());
+                return;
+            }
+            node = node.child(segment);
+        }
+        node.resolverList.add(route.resolver());
+    }
+
+    /**
+     * Resolves the additional authorities of the parent for the given request.
+     *
+     * @param method the HTTP method of the request.
+     * @param uri    the request URI.
+     * @param parent the principal of the authenticated parent.
+     * @return the additional authorities granted by every route matching the request.
+     */
+    public List<String> resolve(String method, String uri, ParentPrincipal parent) {
+        List<String> authorities = new ArrayList<>(2);
+        if (uri == null || uri.isEmpty() || uri.charAt(0) != '/') {
+            return authorities;
+        }
+        Node methodRoot = roots.get(method);
+        if (methodRoot != null) {
+            match(methodRoot, uri, 0, NO_ID, parent, authorities);
+        }
+        Node anyRoot = roots.get(ANY_METHOD);
+        if (anyRoot != null) {
+            match(anyRoot, uri, 0, NO_ID, parent, authorities);
+        }
+        return authorities;
+    }
+
+    private static void match(Node node, String uri, int position, long pathId, ParentPrincipal parent, List<String> authorities) {
+        int length = uri.length();
+        int start = position;
+        while (start < length && uri.charAt(start) == '/') {
+            start++;
+        }
+        for (AuthorityResolver resolver : node.tailResolvers) {
+            authorities.addAll(resolver.resolve(parent, pathId));
+        }
+        if (start == length) {
+            for (AuthorityResolver resolver : node.resolvers) {
+                authorities.addAll(resolver.resolve(parent, pathId));
+            }
+            return;
+        }
+        int end = uri.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - start;
+        String[] literals = node.literals;
+        for (int i = 0; i < literals.length; i++) {
+            String literal = literals[i];
+            if (literal.length() == segmentLength && uri.regionMatches(start, literal, 0, segmentLength)) {
+                match(node.literalChildren[i], uri, end, pathId, parent, authorities);
+            }
+        }
+        if (node.idChild != null) {
+            long id = parseId(uri, start, end);
+            if (id != NO_ID) {
+                match(node.idChild, uri, end, id, parent, authorities);
+            }
+        }
+        if (node.anySegmentChild != null) {
+            match(node.anySegmentChild, uri, end, pathId, parent, authorities);
+        }
+    }
+
+    /**
+     * Parses the decimal ID between the given positions of the URI.
+     *
+     * @return the parsed ID, or {@link #NO_ID} if the segment is not a positive number that fits in a long.
+     */
+    static long parseId(String uri, int start, int end) {
+        if (end - start > 18) {
+            return NO_ID;
+        }
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return NO_ID;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id > 0 ? id : NO_ID;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literalChildMap = new LinkedHashMap<>();
+        private final List<AuthorityResolver> resolverList = new ArrayList<>();
+        private final List<AuthorityResolver> tailResolverList = new ArrayList<>();
+        private AuthorityResolver[] resolvers;
+        private AuthorityResolver[] tailResolvers;
+        private String[] literals;
+        private Node[] literalChildren;
+        private Node idChild;
+        private Node anySegmentChild;
+
+        private Node child(String segment) {
+            if (ID_SEGMENT.equals(segment)) {
+                if (idChild == null) {
+                    idChild = new Node();
+                }
+                return idChild;
+            }
+            if (ANY_SEGMENT.equals(segment)) {
+                if (anySegmentChild == null) {
+                    anySegmentChild = new Node();
+                }
+                return anySegmentChild;
+            }
+            return literalChildMap.computeIfAbsent(segment, key -> new Node());
+        }
+
+        private void freeze() {
+            resolvers = resolverList.toArray(new AuthorityResolver[0]);
+            tailResolvers = tailResolverList.toArray(new AuthorityResolver[0]);
+            literals = literalChildMap.keySet().toArray(new String[0]);
+            literalChildren = literalChildMap.values().toArray(new Node[0]);
+            literalChildMap.values().forEach(Node::freeze);
+            if (idChild != null) {
+                idChild.freeze();
+            }
+            if (anySegmentChild != null) {
+                anySegmentChild.freeze();
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package pl.kasprzak.dawid.myfirstwords.service.children;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pl.kasprzak.dawid.myfirstwords.config.ReadWriteRoutingDataSource;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.StreamLimitExceededException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChildChangesResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes the changes of the words and milestones of a child to the clients watching the child, as server-sent events.
+ * Ownership is checked once, when a client subscribes; afterwards an idle stream costs no query at all.
+ * A change is only loaded when the child has subscribers, after its transaction has committed, once for all of them:
+ * the current state of the created or updated entities is read and serialized a single time and the same JSON is
+ * queued for every subscriber. Each subscriber has a bounded queue drained by a small pool of sender threads, so
+ * a slow client never holds up the others; a client whose queue is full is dropped and expected to reconnect and
+ * catch up through the sync endpoint. The number of subscribers is bounded per child and in total.
+ */
+@Slf4j
+@Service
+public class ChildStreamService {
+
+    static final String CHANGE_EVENT = "change";
+    private static final StreamEvent HEARTBEAT = new StreamEvent(null, null, "heartbeat");
+
+    private final AuthorizationHelper authorizationHelper;
+    private final WordsRepository wordsRepository;
+    private final MilestonesRepository milestonesRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor publisher;
+    private final ThreadPoolTaskExecutor sender;
+    private final ThreadPoolTaskScheduler heartbeat;
+    private final long timeout;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerChild;
+    private final int queueCapacity;
+    private final Map<Long, Set<Subscriber>> subscribersByChild = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * A server-sent event, serialized once and queued for every subscriber of a child.
+     * An event without a name is sent as a comment.
+     */
+    private record StreamEvent(String id, String name, String data) {
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    public ChildStreamService(AuthorizationHelper authorizationHelper,
+                              WordsRepository wordsRepository,
+                              MilestonesRepository milestonesRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${myfirstwords.child-stream.timeout:PT30M}") Duration timeout,
+                              @Value("${myfirstwords.child-stream.heartbeat-interval:PT30S}") Duration heartbeatInterval,
+                              @Value("${myfirstwords.child-stream.max-subscribers:10000}") int maxSubscribers,
+                              @Value("${myfirstwords.child-stream.max-subscribers-per-child:100}") int maxSubscribersPerChild,
+                              @Value("${myfirstwords.child-stream.queue-capacity:64}") int queueCapacity,
+                              @Value("${myfirstwords.child-stream.sender-threads:4}") int senderThreads) {
+        this.authorizationHelper = authorizationHelper;
+        this.wordsRepository = wordsRepository;
+        this.milestonesRepository = milestonesRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+        this.timeout = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerChild = maxSubscribersPerChild;
+        this.queueCapacity = queueCapacity;
+        this.publisher = new ThreadPoolTaskExecutor();
+        this.publisher.setCorePoolSize(1);
+        this.publisher.setMaxPoolSize(1);
+        this.publisher.setQueueCapacity(10_000);
+        this.publisher.setThreadNamePrefix("child-stream-publisher-");
+        this.publisher.initialize();
+        this.sender = new ThreadPoolTaskExecutor();
+        this.sender.setCorePoolSize(senderThreads);
+        this.sender.setMaxPoolSize(senderThreads);
+        this.sender.setThreadNamePrefix("child-stream-sender-");
+        this.sender.initialize();
+        this.heartbeat = new ThreadPoolTaskScheduler();
+        this.heartbeat.setThreadNamePrefix("child-stream-heartbeat-");
+        this.heartbeat.initialize();
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatInterval);
+    }
+
+    /**
+     * Service method for subscribing to the changes of the words and milestones of a child.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper; this is the only
+     * ownership check of the stream. Every change committed afterwards is sent as a "change" event whose ID is the
+     * version of the child's data and whose data has the format of a child in the sync response.
+     * The stream ends when it times out, when the child or the account of its parent is deleted, or when the client
+     * cannot keep up.
+     *
+     * @param childId  the ID of the child to watch.
+     * @param parentID the ID of the parent, required if the authenticated user is an administrator.
+     * @return the emitter the events are sent through.
+     * @throws AdminMissingParentIDException if the authenticated user is an administrator and the parentID is null.
+     * @throws ParentNotFoundException       if the parent is not found.
+     * @throws ChildNotFoundException        if the child is not found.
+     * @throws StreamLimitExceededException  if the child or the server already has the maximum number of subscribers.
+     */
+    public SseEmitter subscribe(Long childId, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        Long parentId = authorizationHelper.actingParentId(parentID);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new StreamLimitExceededException("Too many open streams, try again later");
+        }
+        Subscriber subscriber = new Subscriber(parentId, childId, new SseEmitter(timeout));
+        try {
+            subscribersByChild.compute(childId, (id, subscribers) -> {
+                Set<Subscriber> current = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+                if (current.size() >= maxSubscribersPerChild) {
+                    throw new StreamLimitExceededException("Too many open streams for this child, try again later");
+                }
+                current.add(subscriber);
+                return current;
+            });
+        } catch (StreamLimitExceededException exception) {
+            subscriberCount.decrementAndGet();
+            throw exception;
+        }
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> close(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        subscriber.offer(HEARTBEAT);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Hands a committed change over to the publisher thread, unless nobody watches the child.
+     * If the publisher cannot keep up, the subscribers of the child are dropped, so they resynchronize.
+     *
+     * @param event the change of the child's words or milestones.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDataChanged(ChildDataChangedEvent event) {
+        if (!subscribersByChild.containsKey(event.childId())) {
+            return;
+        }
+        try {
+            publisher.execute(() -> publish(event));
+        } catch (TaskRejectedException exception) {
+            log.warn("Change of child {} could not be published, closing its streams", event.childId());
+            closeAll(event.childId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDeleted(ChildDeletedEvent event) {
+        closeAll(event.childId());
+    }
+
+    /**
+     * Closes the streams of every child of a parent whose account deletion has been requested.
+     * The children are only purged later, so their streams are found by the parent recorded when subscribing,
+     * which takes a pass over the watched children on this rare event instead of an index kept on every subscribe.
+     *
+     * @param event the deletion of the parent.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParentDeleted(ParentDeletedEvent event) {
+        subscribersByChild.values().forEach(subscribers -> subscribers.stream()
+                .filter(subscriber -> event.parentId().equals(subscriber.parentId))
+                .forEach(this::close));
+    }
+
+    /**
+     * Returns the number of open streams.
+     *
+     * @return the number of subscribers of all children.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdown();
+        publisher.shutdown();
+        subscribersByChild.keySet().forEach(this::closeAll);
+        sender.shutdown();
+    }
+
+    private void publish(ChildDataChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByChild.get(event.childId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        StreamEvent streamEvent;
+        try {
+            ChildChangesResponse changes = transactionTemplate.execute(status -> loadChanges(event));
+            streamEvent = new StreamEvent(String.valueOf(event.version()), CHANGE_EVENT, objectMapper.writeValueAsString(changes));
+        } catch (JsonProcessingException | RuntimeException exception) {
+            log.warn("Change of child {} could not be loaded, closing its streams", event.childId(), exception);
+            closeAll(event.childId());
+            return;
+        }
+        subscribers.forEach(subscriber -> subscriber.offer(streamEvent));
+    }
+
+    private ChildChangesResponse loadChanges(ChildDataChangedEvent event) {
+        boolean words = event.entityType() == ChangedEntityType.WORD;
+        boolean upsert = event.operation() == ChangeOperation.UPSERT;
+        return ChildChangesResponse.builder()
+                .childId(event.childId())
+                .full(false)
+                .words(words && upsert ? wordsRepository.findResponsesByIdIn(event.entityIds()) : List.of())
+                .milestones(!words && upsert ? milestonesRepository.findResponsesByIdIn(event.entityIds()) : List.of())
+                .deletedWordIds(words && !upsert ? event.entityIds() : List.of())
+                .deletedMilestoneIds(!words && !upsert ? event.entityIds() : List.of())
+                .build();
+    }
+
+    private void sendHeartbeats() {
+        subscribersByChild.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    private void closeAll(Long childId) {
+        Set<Subscriber> subscribers = subscribersByChild.get(childId);
+        if (subscribers != null) {
+            subscribers.forEach(this::close);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribersByChild.computeIfPresent(subscriber.childId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * A client watching a child, with the events queued for it.
+     * At most one sender thread drains the queue of a subscriber at a time, so its events are sent in order.
+     */
+    private final class Subscriber {
+
+        private final Long parentId;
+        private final Long childId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long parentId, Long childId, SseEmitter emitter) {
+            this.parentId = parentId;
+            this.childId = childId;
+            this.emitter = emitter;
+        }
+
+        private void offer(StreamEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("Dropping slow stream of child {}", childId);
+                close(this);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (TaskRejectedException exception) {
+                    draining.set(false);
+                    close(this);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event.toBuilder());
+                }
+            } catch (IOException | IllegalStateException exception) {
+                remove(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package pl.kasprzak.dawid.myfirstwords.service.children;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildChangesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildChangeEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildVersionEntity;
+import pl.kasprzak.dawid.myfirstwords.util.ChildResponseCache;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ChildVersionService {
+
+    private final ChildVersionsRepository childVersionsRepository;
+    private final ChildChangesRepository childChangesRepository;
+    private final ParentsRepository parentsRepository;
+    private final ChildrenRepository childrenRepository;
+    private final ChildResponseCache childResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Starts the version of a newly created child at 0.
+     *
+     * @param childId the ID of the child.
+     */
+    @Transactional
+    public void register(Long childId) {
+        ChildVersionEntity version = new ChildVersionEntity();
+        version.setChildId(childId);
+        childVersionsRepository.save(version);
+    }
+
+    /**
+     * Records a change of the words or milestones of a child.
+     * Called by every service that creates, updates or deletes a word or a milestone, inside its transaction.
+     * The change is rejected if the deletion of the parent's account has been requested; the parent's row is
+     * locked for reading until the transaction completes, so a deletion requested meanwhile waits for it and
+     * the account deletion never misses a word or milestone. The version of the child is bumped, which locks
+     * its row until the transaction completes, so the versions of a child become visible in the order they
+     * were assigned. A child without a version, e.g. one created outside the services, gets its first version
+     * here; its row is locked first, so concurrent first changes of the child insert the version once.
+     * One change stamped with the new version is recorded per entity, deletes included, for the delta sync,
+     * and a ChildDataChangedEvent is published, whose listeners update the caches, indexes and live streams
+     * of the child once the transaction commits.
+     *
+     * @param childId    the ID of the child whose words or milestones changed.
+     * @param entityType whether words or milestones changed.
+     * @param operation  whether the entities were created or updated, or deleted.
+     * @param entityIds  the IDs of the changed entities.
+     * @throws ParentNotFoundException if the parent of the child is missing or its account is being deleted.
+     */
+    @Transactional
+    public void recordChanges(Long childId, ChangedEntityType entityType, ChangeOperation operation, Collection<Long> entityIds) {
+        parentsRepository.findByChildIdForShare(childId)
+                .filter(parent -> parent.getDeletedAt() == null)
+                .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
+        long version = bump(childId);
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<ChildChangeEntity> changes = entityIds.stream()
+                .map(entityId -> {
+                    ChildChangeEntity change = new ChildChangeEntity();
+                    change.setChildId(childId);
+                    change.setVersion(version);
+                    change.setEntityType(entityType);
+                    change.setEntityId(entityId);
+                    change.setOperation(operation);
+                    change.setChangedAt(changedAt);
+                    return change;
+                })
+                .toList();
+        childChangesRepository.saveAll(changes);
+        eventPublisher.publishEvent(new ChildDataChangedEvent(childId, version, entityType, operation, List.copyOf(entityIds)));
+    }
+
+    /**
+     * Drops the version, the recorded changes and the cached response bodies of a deleted child.
+     *
+     * @param childId the ID of the deleted child.
+     */
+    @Transactional
+    public void remove(Long childId) {
+        childVersionsRepository.deleteByChildIdInBulk(childId);
+        childChangesRepository.deleteAllByChildIdInBulk(List.of(childId));
+        childResponseCache.invalidate(childId);
+    }
+
+    /**
+     * Builds the strong ETag of the words and milestones of a child from its current version.
+     * Every representation of the child's data served by a read endpoint is derived only from those rows,
+     * so two responses of the same endpoint carrying the same ETag are byte-for-byte equal.
+     *
+     * @param childId the ID of the child.
+     * @return the quoted ETag, e.g. "12.7".
+     */
+    @Transactional(readOnly = true)
+    public String getETag(Long childId) {
+        long version = childVersionsRepository.findVersionByChildId(childId).orElse(0L);
+        return "\"" + childId + "." + version + "\"";
+    }
+
+    private long bump(Long childId) {
+        if (childVersionsRepository.increment(childId) == 0) {
+            childrenRepository.findForUpdateById(childId);
+            if (childVersionsRepository.increment(childId) == 0) {
+                ChildVersionEntity version = new ChildVersionEntity();
+                version.setChildId(childId);
+                version.setVersion(1);
+                childVersionsRepository.save(version);
+                return 1;
+            }
+        }
+        return childVersionsRepository.findVersionByChildId(childId).orElseThrow();
+    }
+}
@@ -1,8 +1,11 @@
 package pl.kasprzak.dawid.myfirstwords.service.children;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.event.ChildCreatedEvent;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildRequest;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildResponse;
@@ -19,24 +22,34 @@ public class CreateChildService {
     private final ChildrenRepository childrenRepository;
     private final ParentsRepository parentsRepository;
     private final CreateChildConverter createChildConverter;
+    private final ChildVersionService childVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Service method for adding a new child for the authenticated parent.
      * This method retrieves the currently authenticated parent's username from the SecurityContextHolder,
      * converts the CreateChildRequest DTO to a ChildEntity, sets the parent of the child,
-     * saves the child entity to the repository, and converts the saved entity to a CreateChildResponse DTO.
+     * saves the child entity to the repository, registers the version of its data, and converts the saved entity
+     * to a CreateChildResponse DTO.
+     * A ChildCreatedEvent is published, so the new child is visible to ownership checks.
+     * The parent is locked for reading until the child is saved, and a parent whose account deletion has been
+     * requested is rejected, so the account deletion never misses a child.
      *
      * @param request        the CreateChildRequest containing the child's details.
      * @return a CreateChildResponse DTO containing the details of the newly created child.
-     * @throws ParentNotFoundException if the authenticated parent is not found in the repository.
+     * @throws ParentNotFoundException if the authenticated parent is not found in the repository or its account is being deleted.
      */
+    @Transactional
     public CreateChildResponse addChild(CreateChildRequest request) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        ParentEntity parent = parentsRepository.findByUsername(username)
+        ParentEntity parent = parentsRepository.findByUsernameForShare(username)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
         ChildEntity childEntity = createChildConverter.fromDto(request);
         childEntity.setParent(parent);
         ChildEntity savedEntity = childrenRepository.save(childEntity);
+        childVersionService.register(savedEntity.getId());
+        eventPublisher.publishEvent(new ChildCreatedEvent(parent.getId(), savedEntity.getId()));
         return createChildConverter.toDto(savedEntity);
     }
 }
@@ -1,16 +1,25 @@
 package pl.kasprzak.dawid.myfirstwords.service.children;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.service.words.WordDictionary;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class DeleteChildService {
@@ -18,6 +27,12 @@ public class DeleteChildService {
 
     private final AuthorizationHelper authorizationHelper;
     private final ChildrenRepository childrenRepository;
+    private final WordsRepository wordsRepository;
+    private final MilestonesRepository milestonesRepository;
+    private final WordDailyCountsRepository wordDailyCountsRepository;
+    private final ChildVersionService childVersionService;
+    private final WordDictionary wordDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Service method for deleting a child identified by the given ID after validating and authorizing
@@ -26,7 +41,10 @@ public class DeleteChildService {
      * authorize the operation for the specified parent. If the user is not an administrator, the method
      * validates and authorizes the operation based on the authenticated parent's access to the child.
      * The method uses the AuthorizationHelper to perform the necessary validation and authorization.
-     * Once validated, the child entity is deleted from the repository.
+     * Once validated, the words, the milestones, the daily word counts and the child itself are deleted with one statement each,
+     * in a single transaction, whatever the size of the child's history, together with the version of the child's
+     * data, and a ChildDeletedEvent is published. The distinct words of the child are read first, so the WordDictionary
+     * counts the children knowing them again once the deletion commits.
      *
      * @param childId  the ID of the child to be deleted.
      * @param parentID the ID of the parent, required if the authenticated user is an administrator.
@@ -36,8 +54,15 @@ public class DeleteChildService {
      * @throws AccessDeniedException         if the authenticated parent does not have access to the child,
      *                                       or if the administrator is not authorized for the specified parent.
      */
+    @Transactional
     public void deleteChild(Long childId, Long parentID) {
         ChildEntity child = authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        childrenRepository.deleteById(child.getId());
+        wordDictionary.recountAfterCommit(wordsRepository.findDistinctWordNormalizedByChildId(child.getId()));
+        wordsRepository.deleteAllByChildIdInBulk(child.getId());
+        milestonesRepository.deleteAllByChildIdInBulk(child.getId());
+        wordDailyCountsRepository.deleteAllByChildIdInBulk(List.of(child.getId()));
+        childrenRepository.deleteByIdInBulk(child.getId());
+        childVersionService.remove(child.getId());
+        eventPublisher.publishEvent(new ChildDeletedEvent(child.getParent().getId(), child.getId()));
     }
 }
@@ -1,29 +1,25 @@
 package pl.kasprzak.dawid.myfirstwords.service.children;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetAllChildResponse;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.children.GetChildConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
 import org.springframework.security.access.AccessDeniedException;
 
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GetChildService {
 
     private final ChildrenRepository childrenRepository;
-    private final GetChildConverter getChildConverter;
     private final AuthorizationHelper authorizationHelper;
 
     /**
@@ -36,8 +32,8 @@ public class GetChildService {
      * associated with the authenticated parent, using their username from the SecurityContextHolder.
      * This method:
      * 1. Validates and authorizes the parent or administrator using the `validateParentOrAdmin` method.
-     * 2. Fetches all children associated with the retrieved parent entity.
-     * 3. Converts the list of child entities to DTOs and wraps them in a `GetAllChildResponse`.
+     * 2. Selects all children associated with the retrieved parent entity straight into DTOs.
+     * 3. Wraps them in a `GetAllChildResponse`.
      *
      * @param parentID The ID of the parent whose children are to be retrieved. Optional for parents,
      *                 but required for admins.
@@ -46,24 +42,22 @@ public class GetChildService {
      *                                       cannot be found.
      * @throws AdminMissingParentIDException if the authenticated user is an admin and does not provide a `parentID`.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public GetAllChildResponse getAllChildrenOfParent(Long parentID) {
         ParentEntity parent = authorizationHelper.validateParentOrAdmin(parentID);
         return GetAllChildResponse.builder()
-                .children(childrenRepository.findByParentId(parent.getId()).stream()
-                        .map(getChildConverter::toDto)
-                        .collect(Collectors.toList()))
+                .children(childrenRepository.findResponsesByParentId(parent.getId()))
                 .build();
     }
 
     /**
-     * Service method for retrieving a child by the given ID and converting it to a DTO.
+     * Service method for retrieving a child by the given ID as a DTO.
      * This method validates and authorizes the request based on the role of the authenticated user.
      * - If the authenticated user is a parent, their identity is retrieved from the SecurityContextHolder,
      * and the method validates and authorizes access to the child based on the parent's access rights.
      * - If the authenticated user is an administrator, the method requires a parentID to validate and
      * authorize access to the child associated with that parent.
-     * The child entity is then converted to a DTO and returned.
+     * The child is then selected straight into a DTO, without loading the entity, and returned.
      *
      * @param childId  the ID of the child to be retrieved.
      * @param parentID the ID of the parent, required if the authenticated user is an administrator.
@@ -74,8 +68,10 @@ public class GetChildService {
      * @throws AccessDeniedException         if the authenticated parent does not have access to the child,
      *                                       or if the administrator is not authorized for the specified parent.
      */
+    @Transactional(readOnly = true)
     public GetChildResponse getChildById(Long childId, Long parentID) {
-        ChildEntity child = authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        return getChildConverter.toDto(child);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return childrenRepository.findResponseById(childId)
+                .orElseThrow(() -> new ChildNotFoundException("Child not found"));
     }
 }
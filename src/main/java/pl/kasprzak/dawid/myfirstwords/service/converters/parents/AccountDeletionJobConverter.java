@@ -0,0 +1,22 @@
+package pl.kasprzak.dawid.myfirstwords.service.converters.parents;
+
+import org.springframework.stereotype.Service;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionJobResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+
+@Service
+public class AccountDeletionJobConverter {
+
+    public AccountDeletionJobResponse toDto(AccountDeletionJobEntity jobEntity) {
+        return AccountDeletionJobResponse.builder()
+                .id(jobEntity.getId())
+                .parentId(jobEntity.getParentId())
+                .status(jobEntity.getStatus())
+                .totalItems(jobEntity.getTotalItems())
+                .deletedItems(jobEntity.getDeletedItems())
+                .requestedAt(jobEntity.getRequestedAt())
+                .startedAt(jobEntity.getStartedAt())
+                .finishedAt(jobEntity.getFinishedAt())
+                .build();
+    }
+}
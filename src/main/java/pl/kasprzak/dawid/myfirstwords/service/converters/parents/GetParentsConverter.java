@@ -36,6 +36,7 @@ public class GetParentsConverter implements Convertable<Void, ParentEntity, Pare
                 .id(parentEntity.getId())
                 .username(parentEntity.getUsername())
                 .mail(parentEntity.getMail())
+                .registeredAt(parentEntity.getRegisteredAt())
                 .children(children)
                 .roles(parentEntity.getAuthorities().stream().map(AuthorityEntity::getAuthority).collect(Collectors.toList()))
                 .build();
@@ -0,0 +1,230 @@
+package pl.kasprzak.dawid.myfirstwords.service.milestones;
+
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.ScoredMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.util.VersionedChildIndex;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable in-memory inverted index of the milestones of one child, as of a version of the child's data.
+ * Titles and descriptions are split into lower-cased tokens stripped of diacritics, and each token maps to the
+ * sorted IDs of the milestones containing it, so a search only visits the milestones sharing a token with the
+ * query. Matches are ranked with BM25, counting a token in the title as much as {@value #TITLE_WEIGHT} tokens
+ * in the description. A change produces a new index that shares the postings of every token it does not touch,
+ * so lookups never lock and unchanged milestones are never tokenized again.
+ */
+final class ChildMilestoneIndex implements VersionedChildIndex<ChildMilestoneIndex, GetMilestoneResponse> {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final long[] NO_IDS = new long[0];
+
+    private final long version;
+    private final Map<Long, Document> documents;
+    private final Map<String, long[]> postings;
+    private final long totalLength;
+
+    /**
+     * A tokenized milestone.
+     *
+     * @param milestone   the milestone.
+     * @param frequencies the weighted number of occurrences of each token of the milestone.
+     * @param length      the weighted number of tokens of the milestone.
+     */
+    private record Document(GetMilestoneResponse milestone, Map<String, Integer> frequencies, int length) {
+    }
+
+    private ChildMilestoneIndex(long version, Map<Long, Document> documents, Map<String, long[]> postings, long totalLength) {
+        this.version = version;
+        this.documents = documents;
+        this.postings = postings;
+        this.totalLength = totalLength;
+    }
+
+    /**
+     * Builds the index of the given milestones.
+     *
+     * @param version    the version of the child's data the milestones were read at.
+     * @param milestones the milestones of the child.
+     * @return the index.
+     */
+    static ChildMilestoneIndex build(long version, Collection<GetMilestoneResponse> milestones) {
+        return new ChildMilestoneIndex(version, Map.of(), Map.of(), 0).apply(version, List.of(), milestones);
+    }
+
+    /**
+     * Returns the index after a change of the child's data.
+     *
+     * @param version    the version of the child's data the change was recorded with.
+     * @param deletedIds the IDs of the deleted milestones.
+     * @param upserted   the current state of the created or updated milestones.
+     * @return a new index holding the change.
+     */
+    @Override
+    public ChildMilestoneIndex apply(long version, Collection<Long> deletedIds, Collection<GetMilestoneResponse> upserted) {
+        if (deletedIds.isEmpty() && upserted.isEmpty()) {
+            return new ChildMilestoneIndex(version, documents, postings, totalLength);
+        }
+        Map<Long, Document> changedDocuments = new HashMap<>(documents);
+        Map<String, Set<Long>> removed = new HashMap<>();
+        Map<String, Set<Long>> added = new HashMap<>();
+        long changedLength = totalLength;
+        Set<Long> removedIds = new LinkedHashSet<>(deletedIds);
+        upserted.forEach(milestone -> removedIds.add(milestone.getId()));
+        for (Long id : removedIds) {
+            Document document = changedDocuments.remove(id);
+            if (document != null) {
+                document.frequencies().keySet().forEach(token -> removed.computeIfAbsent(token, key -> new HashSet<>()).add(id));
+                changedLength -= document.length();
+            }
+        }
+        for (GetMilestoneResponse milestone : upserted) {
+            Document document = tokenize(milestone);
+            changedDocuments.put(milestone.getId(), document);
+            document.frequencies().keySet().forEach(token -> added.computeIfAbsent(token, key -> new HashSet<>()).add(milestone.getId()));
+            changedLength += document.length();
+        }
+        Map<String, long[]> changedPostings = new HashMap<>(postings);
+        Set<String> tokens = new HashSet<>(removed.keySet());
+        tokens.addAll(added.keySet());
+        for (String token : tokens) {
+            Set<Long> tokenRemoved = removed.getOrDefault(token, Set.of());
+            long[] ids = Arrays.stream(postings.getOrDefault(token, NO_IDS))
+                    .filter(id -> !tokenRemoved.contains(id))
+                    .toArray();
+            Set<Long> tokenAdded = added.get(token);
+            if (tokenAdded != null) {
+                ids = mergeSorted(ids, tokenAdded.stream().mapToLong(Long::longValue).sorted().toArray());
+            }
+            if (ids.length == 0) {
+                changedPostings.remove(token);
+            } else {
+                changedPostings.put(token, ids);
+            }
+        }
+        return new ChildMilestoneIndex(version, changedDocuments, changedPostings, changedLength);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * Finds the milestones matching any token of the query, achieved within the optional date range.
+     *
+     * @param query     the free-text query.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param limit     the maximum number of milestones to return.
+     * @return the matching milestones, most relevant first, then the most recently achieved first.
+     */
+    List<ScoredMilestoneResponse> search(String query, LocalDate startDate, LocalDate endDate, int limit) {
+        List<String> queryTokens = tokens(query).stream().distinct().toList();
+        if (queryTokens.isEmpty() || documents.isEmpty()) {
+            return List.of();
+        }
+        double averageLength = (double) totalLength / documents.size();
+        Map<Long, Double> scores = new HashMap<>();
+        for (String token : queryTokens) {
+            long[] ids = postings.getOrDefault(token, NO_IDS);
+            if (ids.length == 0) {
+                continue;
+            }
+            double idf = Math.log(1 + (documents.size() - ids.length + 0.5) / (ids.length + 0.5));
+            for (long id : ids) {
+                Document document = documents.get(id);
+                LocalDate dateAchieve = document.milestone().getDateAchieve();
+                if (startDate != null && (dateAchieve == null || dateAchieve.isBefore(startDate))
+                        || endDate != null && (dateAchieve == null || dateAchieve.isAfter(endDate))) {
+                    continue;
+                }
+                int frequency = document.frequencies().get(token);
+                double score = idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * document.length() / averageLength));
+                scores.merge(id, score, Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(entry -> documents.get(entry.getKey()).milestone().getDateAchieve(),
+                                Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> {
+                    GetMilestoneResponse milestone = documents.get(entry.getKey()).milestone();
+                    return ScoredMilestoneResponse.builder()
+                            .id(milestone.getId())
+                            .title(milestone.getTitle())
+                            .description(milestone.getDescription())
+                            .dateAchieve(milestone.getDateAchieve())
+                            .score(entry.getValue())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Splits a text into lower-cased tokens of letters and digits, stripped of diacritics.
+     * The Polish "ł" has no decomposition and is mapped to "l" explicitly.
+     *
+     * @param text the text, may be null.
+     * @return the tokens in the order they appear.
+     */
+    static List<String> tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+                .replaceAll("")
+                .replace('\u0142', 'l');
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Document tokenize(GetMilestoneResponse milestone) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTokens = tokens(milestone.getTitle());
+        List<String> descriptionTokens = tokens(milestone.getDescription());
+        titleTokens.forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        descriptionTokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        return new Document(milestone, Map.copyOf(frequencies), TITLE_WEIGHT * titleTokens.size() + descriptionTokens.size());
+    }
+
+    private static long[] mergeSorted(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            merged[k++] = j == b.length || i < a.length && a[i] < b[j] ? a[i++] : b[j++];
+        }
+        return merged;
+    }
+}
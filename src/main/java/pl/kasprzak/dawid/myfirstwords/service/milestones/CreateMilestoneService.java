@@ -3,6 +3,7 @@ package pl.kasprzak.dawid.myfirstwords.service.milestones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
@@ -12,6 +13,11 @@ import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.service.converters.milestones.CreateMilestoneConverter;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -20,12 +26,14 @@ public class CreateMilestoneService {
     private final MilestonesRepository milestonesRepository;
     private final CreateMilestoneConverter createMilestoneConverter;
     private final AuthorizationHelper authorizationHelper;
+    private final ChildVersionService childVersionService;
 
     /**
      * Service method for adding a new milestone for a specific child.
      * This method validates and authorizes the parent using AuthorizationHelper, and if authorized,
      * converts the CreateMilestoneRequest DTO to a MilestoneEntity, sets the child for the milestone, saves the
-     * milestone entity to the repository, and converts the saved entity to a CreateMilestoneResponse DTO.
+     * milestone entity to the repository, records the change for the child and converts the saved entity
+     * to a CreateMilestoneResponse DTO.
      *
      * @param childId        the ID of the child to whom the milestone will be added.
      * @param request        the CreateMilestoneRequest containing the milestone details.
@@ -34,11 +42,13 @@ public class CreateMilestoneService {
      * @throws ChildNotFoundException  if the child with the given ID is not found.
      * @throws AccessDeniedException   if the authenticated parent does not have access to the child.
      */
+    @Transactional
     public CreateMilestoneResponse addMilestone(Long childId, CreateMilestoneRequest request) {
         ChildEntity child = authorizationHelper.validateAndAuthorizeChild(childId);
         MilestoneEntity milestoneToSave = createMilestoneConverter.fromDto(request);
         milestoneToSave.setChild(child);
         MilestoneEntity savedEntity = milestonesRepository.save(milestoneToSave);
+        childVersionService.recordChanges(childId, ChangedEntityType.MILESTONE, ChangeOperation.UPSERT, List.of(savedEntity.getId()));
         return createMilestoneConverter.toDto(savedEntity);
     }
 }
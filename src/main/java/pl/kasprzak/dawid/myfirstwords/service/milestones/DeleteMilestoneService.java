@@ -3,6 +3,7 @@ package pl.kasprzak.dawid.myfirstwords.service.milestones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.MilestoneNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
@@ -10,6 +11,11 @@ import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +23,7 @@ public class DeleteMilestoneService {
 
     private final MilestonesRepository milestonesRepository;
     private final AuthorizationHelper authorizationHelper;
+    private final ChildVersionService childVersionService;
 
     /**
      * Service method for deleting a milestone identified by the given milestone ID for a specific child.
@@ -26,7 +33,7 @@ public class DeleteMilestoneService {
      * If the authenticated user is an admin, the `parentID` parameter must be provided
      * to specify the parent associated with the child.
      * Once authorized, the method finds the milestone associated with the given child ID and milestone ID,
-     * and deletes it from the repository.
+     * deletes it from the repository and records the change for the child.
      *
      * @param childId     the ID of the child to whom the milestone belongs.
      * @param milestoneId the ID of the milestone to be deleted.
@@ -37,10 +44,12 @@ public class DeleteMilestoneService {
      * @throws AccessDeniedException         if the authenticated parent does not have access to the child.
      * @throws MilestoneNotFoundException    if the milestone with the given ID is not found for the specified child.
      */
+    @Transactional
     public void deleteMilestone(Long childId, Long milestoneId, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
         MilestoneEntity milestoneEntity = milestonesRepository.findByChildIdAndId(childId, milestoneId)
                 .orElseThrow(() -> new MilestoneNotFoundException("Milestone not found"));
         milestonesRepository.delete(milestoneEntity);
+        childVersionService.recordChanges(childId, ChangedEntityType.MILESTONE, ChangeOperation.DELETE, List.of(milestoneEntity.getId()));
     }
 }
@@ -0,0 +1,53 @@
+package pl.kasprzak.dawid.myfirstwords.service.milestones;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
+import pl.kasprzak.dawid.myfirstwords.util.StreamingExporter;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ExportMilestonesService {
+
+    private static final List<StreamingExporter.Column<GetMilestoneResponse>> COLUMNS = List.of(
+            new StreamingExporter.Column<>("id", GetMilestoneResponse::getId),
+            new StreamingExporter.Column<>("title", GetMilestoneResponse::getTitle),
+            new StreamingExporter.Column<>("description", GetMilestoneResponse::getDescription),
+            new StreamingExporter.Column<>("dateAchieve", GetMilestoneResponse::getDateAchieve)
+    );
+
+    private final MilestonesRepository milestonesRepository;
+    private final AuthorizationHelper authorizationHelper;
+    private final StreamingExporter streamingExporter;
+
+    /**
+     * Service method for exporting all the milestones of a child, ordered by date of achievement.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper up front,
+     * and returns a body that streams the milestones from the database straight to the response,
+     * so the milestones are never collected in memory.
+     *
+     * @param childId  the ID of the child whose milestones are to be exported.
+     * @param format   the format of the export.
+     * @param parentID the ID of the parent, required if the authenticated user is an admin.
+     * @return the body that writes the export to the response.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    public StreamingResponseBody exportMilestones(Long childId, ExportFormat format, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return streamingExporter.export(format, COLUMNS,
+                () -> milestonesRepository.streamAllByChildId(childId));
+    }
+}
@@ -1,27 +1,35 @@
 package pl.kasprzak.dawid.myfirstwords.service.milestones;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.*;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizedChild;
+import pl.kasprzak.dawid.myfirstwords.util.KeysetCursor;
+import pl.kasprzak.dawid.myfirstwords.util.PageSizeResolver;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.GetAllMilestoneResponse;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestonesPageResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.SearchMilestonesResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.milestones.GetMilestoneConverter;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GetMilestoneService {
 
     private final MilestonesRepository milestonesRepository;
-    private final GetMilestoneConverter getMilestoneConverter;
     private final AuthorizationHelper authorizationHelper;
+    private final PageSizeResolver pageSizeResolver;
+    private final MilestoneIndex milestoneIndex;
+
+    private static final int DEFAULT_SEARCH_RESULTS = 20;
+    private static final int MAX_SEARCH_RESULTS = 100;
 
     /**
      * Service method for retrieving milestones for a child that were achieved before the given date.
@@ -37,12 +45,26 @@ public class GetMilestoneService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetMilestoneResponse> getByDateAchieveBefore(Long childId, LocalDate date, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        List<MilestoneEntity> milestones = milestonesRepository.findByChildIdAndDateAchieveBefore(childId, date);
-        return milestones.stream()
-                .map(getMilestoneConverter::toDto)
-                .collect(Collectors.toList());
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByDateAchieveBefore(childId, date);
+    }
+
+    /**
+     * Same as {@link #getByDateAchieveBefore(Long, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByDateAchieveBefore(Long, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetMilestoneResponse> getByDateAchieveBefore(AuthorizedChild child, LocalDate date) {
+        return loadByDateAchieveBefore(child.getChildId(), date);
+    }
+
+    private List<GetMilestoneResponse> loadByDateAchieveBefore(Long childId, LocalDate date) {
+        return milestonesRepository.findResponsesByChildIdAndDateAchieveBefore(childId, date);
     }
 
     /**
@@ -59,12 +81,26 @@ public class GetMilestoneService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetMilestoneResponse> getByDateAchieveAfter(Long childId, LocalDate date, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        List<MilestoneEntity> milestones = milestonesRepository.findByChildIdAndDateAchieveAfter(childId, date);
-        return milestones.stream()
-                .map(getMilestoneConverter::toDto)
-                .collect(Collectors.toList());
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByDateAchieveAfter(childId, date);
+    }
+
+    /**
+     * Same as {@link #getByDateAchieveAfter(Long, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByDateAchieveAfter(Long, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetMilestoneResponse> getByDateAchieveAfter(AuthorizedChild child, LocalDate date) {
+        return loadByDateAchieveAfter(child.getChildId(), date);
+    }
+
+    private List<GetMilestoneResponse> loadByDateAchieveAfter(Long childId, LocalDate date) {
+        return milestonesRepository.findResponsesByChildIdAndDateAchieveAfter(childId, date);
     }
 
     /**
@@ -84,18 +120,33 @@ public class GetMilestoneService {
      * @throws InvalidDateOrderException     if the start date is after the end date.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetMilestoneResponse> getMilestonesBetweenDays(Long childId, LocalDate startDate, LocalDate endDate, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadMilestonesBetweenDays(childId, startDate, endDate);
+    }
+
+    /**
+     * Same as {@link #getMilestonesBetweenDays(Long, LocalDate, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getMilestonesBetweenDays(Long, LocalDate, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetMilestoneResponse> getMilestonesBetweenDays(AuthorizedChild child, LocalDate startDate,
+                                                               LocalDate endDate) {
+        return loadMilestonesBetweenDays(child.getChildId(), startDate, endDate);
+    }
+
+    private List<GetMilestoneResponse> loadMilestonesBetweenDays(Long childId, LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             throw new DateValidationException("Start date and end date must not be null");
         }
         if (startDate.isAfter(endDate)) {
             throw new InvalidDateOrderException("Start date must be before or equal to end date");
         }
-        List<MilestoneEntity> milestones = milestonesRepository.findByChildIdAndDateAchieveBetween(childId, startDate, endDate);
-        return milestones.stream()
-                .map(getMilestoneConverter::toDto)
-                .collect(Collectors.toList());
+        return milestonesRepository.findResponsesByChildIdAndDateAchieveBetween(childId, startDate, endDate);
     }
 
     /**
@@ -111,12 +162,27 @@ public class GetMilestoneService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public GetAllMilestoneResponse getAllMilestone(Long childId, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadAllMilestone(childId);
+    }
+
+    /**
+     * Same as {@link #getAllMilestone(Long, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getAllMilestone(Long, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetAllMilestoneResponse getAllMilestone(AuthorizedChild child) {
+        return loadAllMilestone(child.getChildId());
+    }
+
+    private GetAllMilestoneResponse loadAllMilestone(Long childId) {
         return GetAllMilestoneResponse.builder()
-                .milestones(milestonesRepository.findAllByChildId(childId).stream()
-                        .map(getMilestoneConverter::toDto)
-                        .collect(Collectors.toList()))
+                .milestones(milestonesRepository.findResponsesByChildId(childId))
                 .build();
     }
 
@@ -135,16 +201,124 @@ public class GetMilestoneService {
      * @throws MilestoneNotFoundException    if no milestones are found with the given title for the specified child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public GetAllMilestoneResponse getByTitle(Long childId, String title, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        List<MilestoneEntity> milestones = milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childId);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByTitle(childId, title);
+    }
+
+    /**
+     * Same as {@link #getByTitle(Long, String, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByTitle(Long, String, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetAllMilestoneResponse getByTitle(AuthorizedChild child, String title) {
+        return loadByTitle(child.getChildId(), title);
+    }
+
+    private GetAllMilestoneResponse loadByTitle(Long childId, String title) {
+        List<GetMilestoneResponse> milestones = milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childId);
         if (milestones.isEmpty()) {
             throw new MilestoneNotFoundException("Milestone not found");
         }
         return GetAllMilestoneResponse.builder()
-                .milestones(milestones.stream()
-                        .map(getMilestoneConverter::toDto)
-                        .collect(Collectors.toList()))
+                .milestones(milestones)
+                .build();
+    }
+
+    /**
+     * Service method for retrieving one page of the milestones of a child, ordered by date of achievement and ID.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and fetches
+     * the milestones achieved within the optional date range that follow the given cursor.
+     * One row more than the page size is fetched to find out whether another page exists; if it does,
+     * the response carries the cursor of the last milestone on the page.
+     *
+     * @param childId   the ID of the child whose milestones are to be retrieved.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param cursor    the continuation token returned with the previous page, or null for the first page.
+     * @param size      the requested page size, or null for the default page size.
+     * @param parentID  the ID of the parent, required if the authenticated user is an admin.
+     * @return a GetMilestonesPageResponse DTO containing the milestones on the page and the cursor of the next page, if any.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws InvalidDateOrderException     if the start date is after the end date.
+     * @throws InvalidCursorException        if the cursor is malformed.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    @Transactional(readOnly = true)
+    public GetMilestonesPageResponse getMilestonesPage(Long childId, LocalDate startDate, LocalDate endDate, String cursor,
+                                                       Integer size, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadMilestonesPage(childId, startDate, endDate, cursor, size);
+    }
+
+    /**
+     * Same as {@link #getMilestonesPage(Long, LocalDate, LocalDate, String, Integer, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getMilestonesPage(Long, LocalDate, LocalDate, String, Integer, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetMilestonesPageResponse getMilestonesPage(AuthorizedChild child, LocalDate startDate, LocalDate endDate,
+                                                       String cursor, Integer size) {
+        return loadMilestonesPage(child.getChildId(), startDate, endDate, cursor, size);
+    }
+
+    private GetMilestonesPageResponse loadMilestonesPage(Long childId, LocalDate startDate, LocalDate endDate,
+                                                         String cursor, Integer size) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidDateOrderException("Start date must be before or equal to end date");
+        }
+        int pageSize = pageSizeResolver.resolve(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<GetMilestoneResponse> milestones = after == null
+                ? milestonesRepository.findPage(childId, startDate, endDate, Limit.of(pageSize + 1))
+                : milestonesRepository.findPageAfter(childId, startDate, endDate, after.dateAchieve(), after.id(),
+                        Limit.of(pageSize + 1));
+        boolean hasNext = milestones.size() > pageSize;
+        List<GetMilestoneResponse> page = hasNext ? milestones.subList(0, pageSize) : milestones;
+        GetMilestoneResponse last = hasNext ? page.get(pageSize - 1) : null;
+        return GetMilestonesPageResponse.builder()
+                .milestones(page)
+                .nextCursor(last == null ? null : new KeysetCursor(last.getDateAchieve(), last.getId()).encode())
+                .build();
+    }
+
+    /**
+     * Service method for searching the milestones of a child by the words of their title and description.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and answers the query
+     * from the in-memory full-text index of the child, which is built on the first search and kept up to date by
+     * the changes of the child's milestones afterwards. Milestones matching any word of the query are returned,
+     * ranked by relevance; words in the title count more than words in the description.
+     *
+     * @param childId   the ID of the child whose milestones are to be searched.
+     * @param query     the words to search for (case- and diacritics-insensitive).
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param limit     the maximum number of milestones to return, or null for the default.
+     * @param parentID  the ID of the parent, required if the authenticated user is an admin.
+     * @return a SearchMilestonesResponse DTO containing the matching milestones with their score, most relevant first.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws InvalidDateOrderException     if the start date is after the end date.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    public SearchMilestonesResponse searchMilestones(Long childId, String query, LocalDate startDate, LocalDate endDate,
+                                                     Integer limit, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidDateOrderException("Start date must be before or equal to end date");
+        }
+        int resolvedLimit = limit == null ? DEFAULT_SEARCH_RESULTS : Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return SearchMilestonesResponse.builder()
+                .milestones(milestoneIndex.search(childId, query, startDate, endDate, resolvedLimit))
                 .build();
     }
 }
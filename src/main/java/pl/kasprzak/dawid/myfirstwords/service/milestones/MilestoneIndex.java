@@ -0,0 +1,68 @@
+package pl.kasprzak.dawid.myfirstwords.service.milestones;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.ScoredMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.util.ChildIndexCache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cache of the in-memory full-text indexes of the children whose milestones were recently searched.
+ * The indexes are kept in a {@link ChildIndexCache}, built on the first search of a child and afterwards kept up to
+ * date by its committed changes. Searches are answered from the index alone and never query the milestones table.
+ */
+@Component
+public class MilestoneIndex {
+
+    public static final String CACHE_NAME = "milestoneIndexes";
+
+    private final ChildIndexCache<ChildMilestoneIndex, GetMilestoneResponse> indexes;
+
+    public MilestoneIndex(MilestonesRepository milestonesRepository,
+                          ChildVersionsRepository childVersionsRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${myfirstwords.milestone-index.maximum-size:1000}") long maximumSize,
+                          @Value("${myfirstwords.milestone-index.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.indexes = new ChildIndexCache<>(CACHE_NAME, ChangedEntityType.MILESTONE, childVersionsRepository,
+                transactionManager, meterRegistry, maximumSize, expireAfterAccess,
+                milestonesRepository::findResponsesByChildId, milestonesRepository::findResponsesByIdIn,
+                ChildMilestoneIndex::build);
+    }
+
+    /**
+     * Finds the milestones of a child whose title or description matches the given query.
+     *
+     * @param childId   the ID of the child.
+     * @param query     the free-text query.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param limit     the maximum number of milestones to return.
+     * @return the matching milestones with their relevance score, most relevant first.
+     */
+    public List<ScoredMilestoneResponse> search(Long childId, String query, LocalDate startDate, LocalDate endDate, int limit) {
+        return indexes.get(childId).search(query, startDate, endDate, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDataChanged(ChildDataChangedEvent event) {
+        indexes.apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDeleted(ChildDeletedEvent event) {
+        indexes.invalidate(event.childId());
+    }
+}
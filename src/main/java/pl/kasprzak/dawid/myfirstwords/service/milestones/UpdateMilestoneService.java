@@ -3,6 +3,7 @@ package pl.kasprzak.dawid.myfirstwords.service.milestones;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.MilestoneNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
@@ -10,6 +11,11 @@ import pl.kasprzak.dawid.myfirstwords.model.milestones.UpdateMilestoneRequest;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,12 +23,14 @@ public class UpdateMilestoneService {
 
     private final AuthorizationHelper authorizationHelper;
     private final MilestonesRepository milestonesRepository;
+    private final ChildVersionService childVersionService;
 
     /**
      * Service method for updating a milestone for a given child.
      * This method validates and authorizes the parent using the AuthorizationHelper,
      * retrieves the milestone by its ID and child's ID, updates the milestone details
-     * with the provided request data, and saves the updated milestone back to the repository.
+     * with the provided request data, saves the updated milestone back to the repository and records
+     * the change for the child.
      *
      * @param childId     the ID of the child whose milestone is to be updated.
      * @param milestoneId the ID of the milestone to be updated.
@@ -33,14 +41,17 @@ public class UpdateMilestoneService {
      * @throws AccessDeniedException      if the authenticated parent does not have access to the child.
      * @throws MilestoneNotFoundException if the milestone with the given ID is not found fot the specified child.
      */
+    @Transactional
     public MilestoneEntity updateMilestone(Long childId, Long milestoneId, UpdateMilestoneRequest request) {
-        authorizationHelper.validateAndAuthorizeChild(childId);
+        authorizationHelper.authorizeChild(childId);
         MilestoneEntity milestone = milestonesRepository.findByChildIdAndId(childId, milestoneId)
                 .orElseThrow(() -> new MilestoneNotFoundException("Milestone not found"));
 
         milestone.setTitle(request.getTitle());
         milestone.setDescription(request.getDescription());
         milestone.setDateAchieve(request.getDateAchieve());
-        return milestonesRepository.save(milestone);
+        MilestoneEntity savedMilestone = milestonesRepository.save(milestone);
+        childVersionService.recordChanges(childId, ChangedEntityType.MILESTONE, ChangeOperation.UPSERT, List.of(savedMilestone.getId()));
+        return savedMilestone;
     }
 }
@@ -0,0 +1,202 @@
+package pl.kasprzak.dawid.myfirstwords.service.parents;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.event.AccountDeletionRequestedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.AccountDeletionJobsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildChangesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Background worker that purges the data of the parent accounts whose deletion has been requested.
+ * The words, milestones and children of the account are deleted in chunks of bounded size, each chunk
+ * in its own short transaction that also records the progress of the job, and the parent is deleted last.
+ * Jobs run one at a time on a dedicated thread once the transaction that requested them commits.
+ * Every chunk renews the heartbeat of the job. Pending jobs, and running jobs whose heartbeat is older than
+ * the lease, left unfinished by a stopped instance of the application, are resumed when the application is
+ * ready and again every lease, so a job still running on another instance is never taken over.
+ */
+@Slf4j
+@Component
+public class AccountDeletionWorker {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final AccountDeletionJobsRepository jobsRepository;
+    private final ParentsRepository parentsRepository;
+    private final ChildrenRepository childrenRepository;
+    private final ChildVersionsRepository childVersionsRepository;
+    private final ChildChangesRepository childChangesRepository;
+    private final WordsRepository wordsRepository;
+    private final MilestonesRepository milestonesRepository;
+    private final WordDailyCountsRepository wordDailyCountsRepository;
+    private final ParentPrincipalCache parentPrincipalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskScheduler resumer;
+    private final int chunkSize;
+    private final Duration lease;
+
+    public AccountDeletionWorker(AccountDeletionJobsRepository jobsRepository,
+                                 ParentsRepository parentsRepository,
+                                 ChildrenRepository childrenRepository,
+                                 ChildVersionsRepository childVersionsRepository,
+                                 ChildChangesRepository childChangesRepository,
+                                 WordsRepository wordsRepository,
+                                 MilestonesRepository milestonesRepository,
+                                 WordDailyCountsRepository wordDailyCountsRepository,
+                                 ParentPrincipalCache parentPrincipalCache,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${myfirstwords.account-deletion.chunk-size:500}") int chunkSize,
+                                 @Value("${myfirstwords.account-deletion.lease:PT10M}") Duration lease) {
+        this.jobsRepository = jobsRepository;
+        this.parentsRepository = parentsRepository;
+        this.childrenRepository = childrenRepository;
+        this.childVersionsRepository = childVersionsRepository;
+        this.childChangesRepository = childChangesRepository;
+        this.wordsRepository = wordsRepository;
+        this.milestonesRepository = milestonesRepository;
+        this.wordDailyCountsRepository = wordDailyCountsRepository;
+        this.parentPrincipalCache = parentPrincipalCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setThreadNamePrefix("account-deletion-");
+        this.executor.initialize();
+        this.resumer = new ThreadPoolTaskScheduler();
+        this.resumer.setThreadNamePrefix("account-deletion-resumer-");
+        this.resumer.initialize();
+        this.resumer.scheduleWithFixedDelay(this::resumeUnfinishedJobs, Instant.now().plus(lease), lease);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountDeletionRequested(AccountDeletionRequestedEvent event) {
+        executor.execute(() -> purge(event.jobId()));
+    }
+
+    /**
+     * Resumes the jobs that are pending, or were running on an instance that stopped, as told by a heartbeat
+     * older than the lease. Abandoned jobs are started over; the chunks they already deleted are simply not
+     * found again. A pending job already queued on this instance is queued again, but claimed only once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<Long> jobIds = transactionTemplate.execute(status -> {
+            jobsRepository.resetAbandoned(now().minus(lease));
+            return jobsRepository.findIdsByStatus(AccountDeletionStatus.PENDING);
+        });
+        if (jobIds != null && !jobIds.isEmpty()) {
+            log.info("Resuming {} account deletion jobs", jobIds.size());
+            jobIds.forEach(jobId -> executor.execute(() -> purge(jobId)));
+        }
+    }
+
+    /**
+     * Purges the account of the given job, unless another worker has already claimed the job.
+     * A failure marks the job as failed with the error message; the data deleted so far stays deleted.
+     *
+     * @param jobId the ID of the account deletion job.
+     */
+    public void purge(Long jobId) {
+        Long parentId = transactionTemplate.execute(status -> jobsRepository.claim(jobId, now()) == 0 ? null
+                : jobsRepository.findById(jobId).orElseThrow().getParentId());
+        if (parentId == null) {
+            return;
+        }
+        log.info("Purging account of parent {} by deletion job {}", parentId, jobId);
+        try {
+            purgeInChunks(jobId, limit -> wordsRepository.findIdsByParentId(parentId, limit), wordsRepository::deleteAllByIdInBatch);
+            purgeInChunks(jobId, limit -> milestonesRepository.findIdsByParentId(parentId, limit), milestonesRepository::deleteAllByIdInBatch);
+            purgeInChunks(jobId, limit -> childrenRepository.findIdsByParentId(parentId, limit), this::deleteChildren);
+            String username = transactionTemplate.execute(status -> {
+                String deletedUsername = parentsRepository.findById(parentId)
+                        .map(parent -> {
+                            parentsRepository.delete(parent);
+                            return parent.getUsername();
+                        })
+                        .orElse(null);
+                jobsRepository.findById(jobId).ifPresent(job -> {
+                    job.setDeletedItems(job.getTotalItems());
+                    job.setStatus(AccountDeletionStatus.COMPLETED);
+                    job.setFinishedAt(now());
+                });
+                return deletedUsername;
+            });
+            if (username != null) {
+                parentPrincipalCache.evict(username);
+            }
+            log.info("Account of parent {} purged by deletion job {}", parentId, jobId);
+        } catch (RuntimeException exception) {
+            log.error("Account deletion job {} failed", jobId, exception);
+            transactionTemplate.executeWithoutResult(status -> jobsRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(AccountDeletionStatus.FAILED);
+                job.setFinishedAt(now());
+                job.setError(truncate(String.valueOf(exception.getMessage())));
+            }));
+        }
+    }
+
+    private void purgeInChunks(Long jobId, Function<Limit, List<Long>> nextChunk, Consumer<List<Long>> deleteChunk) {
+        boolean deleted;
+        do {
+            deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk.apply(Limit.of(chunkSize));
+                if (ids.isEmpty()) {
+                    return false;
+                }
+                deleteChunk.accept(ids);
+                jobsRepository.addDeletedItems(jobId, ids.size(), now());
+                return true;
+            }));
+        } while (deleted);
+    }
+
+    private void deleteChildren(List<Long> childIds) {
+        childVersionsRepository.deleteAllByIdInBatch(childIds);
+        childChangesRepository.deleteAllByChildIdInBulk(childIds);
+        wordDailyCountsRepository.deleteAllByChildIdInBulk(childIds);
+        childrenRepository.deleteAllByIdInBatch(childIds);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumer.shutdown();
+        executor.shutdown();
+    }
+}
@@ -7,6 +7,7 @@ import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.parents.ChangePasswordRequest;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
 
 @Service
 @RequiredArgsConstructor
@@ -14,10 +15,12 @@ public class ChangePasswordService {
 
     private final ParentsRepository parentsRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ParentPrincipalCache parentPrincipalCache;
 
     /**
      * Service method for changing the password for a parent identified by the given ID.
      * This method retrieves the parent by ID, encodes the new password, and updates the parent's password in the repository.
+     * The cached principal of the parent is evicted, so the old password stops working immediately.
      *
      * @param id      the ID of the parent whose password is to be changed.
      * @param request the ChangePasswordRequest containing the new password.
@@ -27,5 +30,6 @@ public class ChangePasswordService {
         ParentEntity parentEntity = parentsRepository.findById(id).orElseThrow(() -> new ParentNotFoundException("Parent not found"));
         parentEntity.setPassword(passwordEncoder.encode(request.getPassword()));
         parentsRepository.save(parentEntity);
+        parentPrincipalCache.evict(parentEntity.getUsername());
     }
 }
@@ -6,10 +6,9 @@ import pl.kasprzak.dawid.myfirstwords.exception.EmailAlreadyExistsException;
 import pl.kasprzak.dawid.myfirstwords.exception.UsernameAlreadyExistsException;
 import pl.kasprzak.dawid.myfirstwords.model.parents.CreateParentRequest;
 import pl.kasprzak.dawid.myfirstwords.model.parents.CreateParentResponse;
-import pl.kasprzak.dawid.myfirstwords.repository.AuthoritiesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.RoleCatalog;
 import pl.kasprzak.dawid.myfirstwords.service.converters.parents.CreateParentConverter;
 
 import java.util.List;
@@ -19,14 +18,14 @@ import java.util.List;
 public class CreateParentService {
 
     private final ParentsRepository parentsRepository;
-    private final AuthoritiesRepository authoritiesRepository;
+    private final RoleCatalog roleCatalog;
     private final CreateParentConverter createParentConverter;
 
     /**
      * Service method for creating and saving a new parent.
      * This method converts a CreateParentRequest DTO to a ParentEntity, validates the uniqueness
-     * of the username and email, assigns a default role, and then saves the new parent and their
-     * associated authority to the repository. The default role assigned to every new parent is "ROLE_USER".
+     * of the username and email, assigns a default role, and then saves the new parent to the repository.
+     * The default role assigned to every new parent is the shared "ROLE_USER" authority of the RoleCatalog.
      *
      * @param parentRequest the CreateParentRequest DTO containing the details of the new parent to be created.
      * @return CreateParentResponse DTO containing the details of the newly created parent.
@@ -38,12 +37,7 @@ public class CreateParentService {
 
         ParentEntity parentEntity = createParentConverter.fromDto(parentRequest);
 
-        AuthorityEntity userAuthority = new AuthorityEntity();
-        userAuthority.setAuthority("ROLE_USER");
-
-        authoritiesRepository.save(userAuthority);
-
-        parentEntity.setAuthorities(List.of(userAuthority));
+        parentEntity.setAuthorities(List.of(roleCatalog.userRole()));
 
         ParentEntity savedEntity = parentsRepository.save(parentEntity);
         return createParentConverter.toDto(savedEntity);
@@ -1,29 +1,97 @@
 package pl.kasprzak.dawid.myfirstwords.service.parents;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.event.AccountDeletionRequestedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.AccountDeletionJobNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionJobResponse;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.AccountDeletionJobsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
+import pl.kasprzak.dawid.myfirstwords.service.converters.parents.AccountDeletionJobConverter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class DeleteParentService {
 
     private final ParentsRepository parentsRepository;
+    private final ChildrenRepository childrenRepository;
+    private final WordsRepository wordsRepository;
+    private final MilestonesRepository milestonesRepository;
+    private final AccountDeletionJobsRepository jobsRepository;
+    private final AccountDeletionJobConverter jobConverter;
+    private final ParentPrincipalCache parentPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Service method for deleting a parent account by the given parent ID.
-     * This method checks if a parent with the specified ID exists, and if so, deletes the parent.
+     * Service method for requesting the deletion of a parent account by the given parent ID.
+     * This method checks if a parent with the specified ID exists, and if so, marks the parent as deleted
+     * and creates an account deletion job sized by the number of words, milestones and children to purge.
+     * The marked account is rejected by authentication at once: the cached principal of the parent is evicted
+     * and a ParentDeletedEvent is published. Once the transaction commits, the AccountDeletionWorker purges the
+     * account in the background. Requesting the deletion of an account that is already being deleted returns
+     * its current job, unless that job failed, in which case a new one is started.
      * If the parent does not exist, a ParentNotFoundException is thrown.
      *
      * @param parentId the ID of the parent to be deleted.
+     * @return AccountDeletionJobResponse DTO describing the job that deletes the account.
      * @throws ParentNotFoundException if a parent with specified ID is not found.
      */
-    public void deleteAccount(Long parentId) {
-        if (parentsRepository.existsById(parentId)) {
-            parentsRepository.deleteById(parentId);
-        } else {
-            throw new ParentNotFoundException("Parent not found");
+    @Transactional
+    public AccountDeletionJobResponse deleteAccount(Long parentId) {
+        ParentEntity parent = parentsRepository.findById(parentId)
+                .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
+        if (parent.getDeletedAt() != null) {
+            Optional<AccountDeletionJobEntity> currentJob = jobsRepository.findFirstByParentIdOrderByIdDesc(parentId)
+                    .filter(job -> job.getStatus() != AccountDeletionStatus.FAILED);
+            if (currentJob.isPresent()) {
+                return jobConverter.toDto(currentJob.get());
+            }
         }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        parent.setDeletedAt(now);
+
+        AccountDeletionJobEntity job = new AccountDeletionJobEntity();
+        job.setParentId(parentId);
+        job.setStatus(AccountDeletionStatus.PENDING);
+        job.setTotalItems(wordsRepository.countByParentId(parentId)
+                + milestonesRepository.countByParentId(parentId)
+                + childrenRepository.countByParentId(parentId)
+                + 1);
+        job.setRequestedAt(now);
+        AccountDeletionJobEntity savedJob = jobsRepository.save(job);
+
+        parentPrincipalCache.evict(parent.getUsername());
+        eventPublisher.publishEvent(new ParentDeletedEvent(parentId));
+        eventPublisher.publishEvent(new AccountDeletionRequestedEvent(savedJob.getId()));
+        return jobConverter.toDto(savedJob);
+    }
+
+    /**
+     * Service method for retrieving the status and progress of the latest deletion job of a parent account.
+     *
+     * @param parentId the ID of the parent whose account deletion job is to be retrieved.
+     * @return AccountDeletionJobResponse DTO describing the job.
+     * @throws AccountDeletionJobNotFoundException if the deletion of the account has never been requested.
+     */
+    @Transactional(readOnly = true)
+    public AccountDeletionJobResponse getDeletionJob(Long parentId) {
+        return jobsRepository.findFirstByParentIdOrderByIdDesc(parentId)
+                .map(jobConverter::toDto)
+                .orElseThrow(() -> new AccountDeletionJobNotFoundException("Account deletion job not found"));
     }
 }
@@ -0,0 +1,75 @@
+package pl.kasprzak.dawid.myfirstwords.service.parents;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
+import pl.kasprzak.dawid.myfirstwords.model.parents.ParentInfoResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.service.converters.parents.GetParentsConverter;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
+import pl.kasprzak.dawid.myfirstwords.util.StreamingExporter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportParentsService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<StreamingExporter.Column<ParentInfoResponse>> COLUMNS = List.of(
+            new StreamingExporter.Column<>("id", ParentInfoResponse::getId),
+            new StreamingExporter.Column<>("username", ParentInfoResponse::getUsername),
+            new StreamingExporter.Column<>("mail", ParentInfoResponse::getMail),
+            new StreamingExporter.Column<>("registeredAt", ParentInfoResponse::getRegisteredAt),
+            new StreamingExporter.Column<>("roles", parent -> String.join(" ", parent.getRoles())),
+            new StreamingExporter.Column<>("children", parent -> parent.getChildren().stream()
+                    .map(child -> String.valueOf(child.getId()))
+                    .collect(Collectors.joining(" ")))
+    );
+
+    private final GetParentService getParentService;
+    private final GetParentsConverter getParentsConverter;
+    private final StreamingExporter streamingExporter;
+    private final EntityManager entityManager;
+
+    /**
+     * Service method for exporting all registered parents matching the optional username prefix and registration window,
+     * ordered by ID. The parents are read in chunks of a fixed size, each loaded with its authorities and children
+     * in a constant number of queries, and the persistence context is cleared between chunks,
+     * so the memory used by the export does not depend on the number of parents.
+     *
+     * @param usernamePrefix the prefix the username must start with, or null for any username.
+     * @param registeredFrom the first day of the registration window, or null for no lower bound.
+     * @param registeredTo   the last day of the registration window, or null for no upper bound.
+     * @param format         the format of the export.
+     * @return the body that writes the export to the response.
+     * @throws InvalidDateOrderException if the registration window starts after it ends.
+     */
+    public StreamingResponseBody exportParents(String usernamePrefix, LocalDate registeredFrom, LocalDate registeredTo,
+                                               ExportFormat format) {
+        ParentsFilter filter = ParentsFilter.of(usernamePrefix, registeredFrom, registeredTo);
+        return streamingExporter.export(format, COLUMNS, () -> streamParents(filter), getParentsConverter::toDto);
+    }
+
+    private Stream<ParentEntity> streamParents(ParentsFilter filter) {
+        return Stream.iterate(getParentService.findPage(filter, 0, CHUNK_SIZE),
+                        chunk -> !chunk.isEmpty(),
+                        chunk -> nextChunk(filter, chunk))
+                .flatMap(List::stream);
+    }
+
+    private List<ParentEntity> nextChunk(ParentsFilter filter, List<ParentEntity> chunk) {
+        if (chunk.size() < CHUNK_SIZE) {
+            return List.of();
+        }
+        long afterId = chunk.get(chunk.size() - 1).getId();
+        entityManager.clear();
+        return getParentService.findPage(filter, afterId, CHUNK_SIZE);
+    }
+}
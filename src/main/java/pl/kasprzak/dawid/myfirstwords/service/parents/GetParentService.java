@@ -1,13 +1,22 @@
 package pl.kasprzak.dawid.myfirstwords.service.parents;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.parents.GetAllParentsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.parents.GetParentsPageResponse;
 import pl.kasprzak.dawid.myfirstwords.model.parents.ParentInfoResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.service.converters.parents.GetParentsConverter;
+import pl.kasprzak.dawid.myfirstwords.util.PageSizeResolver;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,16 +25,22 @@ public class GetParentService {
 
     private final ParentsRepository parentsRepository;
     private final GetParentsConverter getParentsConverter;
+    private final PageSizeResolver pageSizeResolver;
 
     /**
      * Service method for retrieving all parents from the repository and converts them to DTOs.
      * This method fetches all parent entities, converts them to DTOs, and returns them wrapped in a GetAllParentsResponse.
+     * The parents are loaded with their authorities in one query and their children in a second one,
+     * so the number of queries does not grow with the number of parents.
      *
      * @return a GetAllParentsResponse containing a list of all parent DTOs.
      */
+    @Transactional(readOnly = true)
     public GetAllParentsResponse getAll() {
+        List<ParentEntity> parents = parentsRepository.findAllWithAuthorities();
+        parentsRepository.findAllWithChildren();
         return GetAllParentsResponse.builder()
-                .parents(parentsRepository.findAll().stream()
+                .parents(parents.stream()
                         .map(getParentsConverter::toDto)
                         .collect(Collectors.toList()))
                 .build();
@@ -40,9 +55,74 @@ public class GetParentService {
      * @return a ParentInfoResponse containing the parent DTO.
      * @throws ParentNotFoundException if a parent with the specified ID is not found.
      */
+    @Transactional(readOnly = true)
     public ParentInfoResponse getById(Long parentId) {
-        return parentsRepository.findById(parentId)
+        return parentsRepository.findWithAuthoritiesById(parentId)
                 .map(getParentsConverter::toDto)
                 .orElseThrow(() -> new ParentNotFoundException("Parent not found with id: " + parentId));
     }
+
+    /**
+     * Service method for retrieving one page of the registered parents, ordered by ID.
+     * This method fetches the parents that follow the given cursor and match the optional username prefix
+     * and registration window. The parents of the page are loaded first, and their authorities and children
+     * are then fetched in one query each, so a page costs the same number of queries whatever its size.
+     * One row more than the page size is fetched to find out whether another page exists; if it does,
+     * the response carries the cursor of the last parent on the page.
+     *
+     * @param usernamePrefix the prefix the username must start with, or null for any username.
+     * @param registeredFrom the first day of the registration window, or null for no lower bound.
+     * @param registeredTo   the last day of the registration window, or null for no upper bound.
+     * @param cursor         the continuation token returned with the previous page, or null for the first page.
+     * @param size           the requested page size, or null for the default page size.
+     * @return a GetParentsPageResponse DTO containing the parents on the page and the cursor of the next page, if any.
+     * @throws InvalidDateOrderException if the registration window starts after it ends.
+     * @throws InvalidCursorException    if the cursor is malformed.
+     */
+    @Transactional(readOnly = true)
+    public GetParentsPageResponse getPage(String usernamePrefix, LocalDate registeredFrom, LocalDate registeredTo,
+                                          String cursor, Integer size) {
+        ParentsFilter filter = ParentsFilter.of(usernamePrefix, registeredFrom, registeredTo);
+        int pageSize = pageSizeResolver.resolve(size);
+        List<ParentEntity> parents = findPage(filter, decodeCursor(cursor), pageSize + 1);
+        boolean hasNext = parents.size() > pageSize;
+        List<ParentEntity> page = hasNext ? parents.subList(0, pageSize) : parents;
+        return GetParentsPageResponse.builder()
+                .parents(page.stream()
+                        .map(getParentsConverter::toDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? String.valueOf(page.get(pageSize - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * Loads the parents matching the filter that follow the given ID, with their authorities and children.
+     * Must be called within a transaction, which the loaded associations belong to.
+     *
+     * @param filter  the criteria of the listing.
+     * @param afterId the ID of the last parent already returned, or 0 to start from the first parent.
+     * @param limit   the maximum number of parents to load.
+     * @return the parents, ordered by ID.
+     */
+    List<ParentEntity> findPage(ParentsFilter filter, long afterId, int limit) {
+        List<ParentEntity> parents = parentsRepository.findPage(filter.usernamePattern(), filter.registeredFrom(),
+                filter.registeredTo(), afterId, Limit.of(limit));
+        if (!parents.isEmpty()) {
+            List<Long> ids = parents.stream().map(ParentEntity::getId).toList();
+            parentsRepository.findWithAuthoritiesByIdIn(ids);
+            parentsRepository.findWithChildrenByIdIn(ids);
+        }
+        return parents;
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException exception) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
 }
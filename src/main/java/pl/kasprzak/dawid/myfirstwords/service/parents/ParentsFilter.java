@@ -0,0 +1,48 @@
+package pl.kasprzak.dawid.myfirstwords.service.parents;
+
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Criteria of the admin listing of parents, translated to the bounds used by the page query.
+ *
+ * @param usernamePattern the LIKE pattern matching usernames that start with the requested prefix, or null.
+ * @param registeredFrom  the inclusive lower bound of the registration time, or null.
+ * @param registeredTo    the exclusive upper bound of the registration time, or null.
+ */
+record ParentsFilter(String usernamePattern, LocalDateTime registeredFrom, LocalDateTime registeredTo) {
+
+    private static final char ESCAPE = '!';
+
+    /**
+     * Creates the filter from the request parameters.
+     *
+     * @param usernamePrefix the prefix the username must start with, or null or blank for any username.
+     * @param registeredFrom the first day of the registration window, or null for no lower bound.
+     * @param registeredTo   the last day of the registration window, or null for no upper bound.
+     * @return the filter.
+     * @throws InvalidDateOrderException if the registration window starts after it ends.
+     */
+    static ParentsFilter of(String usernamePrefix, LocalDate registeredFrom, LocalDate registeredTo) {
+        if (registeredFrom != null && registeredTo != null && registeredFrom.isAfter(registeredTo)) {
+            throw new InvalidDateOrderException("Start date must be before or equal to end date");
+        }
+        return new ParentsFilter(
+                usernamePrefix == null || usernamePrefix.isBlank() ? null : escape(usernamePrefix) + '%',
+                registeredFrom == null ? null : registeredFrom.atStartOfDay(),
+                registeredTo == null ? null : registeredTo.plusDays(1).atStartOfDay());
+    }
+
+    private static String escape(String prefix) {
+        StringBuilder escaped = new StringBuilder(prefix.length() + 4);
+        for (char character : prefix.toCharArray()) {
+            if (character == ESCAPE || character == '%' || character == '_') {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(character);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package pl.kasprzak.dawid.myfirstwords.service.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidSyncTokenException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChildChangesResponse;
+import pl.kasprzak.dawid.myfirstwords.model.sync.SyncResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildChangesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildChangeEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.SyncToken;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final AuthorizationHelper authorizationHelper;
+    private final ChildrenRepository childrenRepository;
+    private final ChildVersionsRepository childVersionsRepository;
+    private final ChildChangesRepository childChangesRepository;
+    private final WordsRepository wordsRepository;
+    private final MilestonesRepository milestonesRepository;
+
+    private record ChangedEntity(ChangedEntityType type, Long id) {
+    }
+
+    /**
+     * Service method for bringing a client up to date with the words and milestones of all children of a parent.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and reads the current
+     * version of every child first. For a child the client has already seen, only the changes recorded after the
+     * version in the token, up to the version just read, are returned: the current state of every created or updated
+     * word and milestone, and the IDs of the deleted ones. Changes to the same entity are collapsed into the last one.
+     * A child the client has not seen yet is returned in full. Children in the token that no longer exist are
+     * reported as deleted. The cost of a sync therefore grows with the number of changes, not with the history.
+     * The returned token holds the versions read at the start, so a change committed while the sync runs is sent
+     * again at the latest by the next sync; applying the same change twice leaves the client in the same state.
+     *
+     * @param token    the token returned by the previous sync, or null for the first sync.
+     * @param parentID the ID of the parent, required if the authenticated user is an administrator.
+     * @return a SyncResponse holding the changes of every child that changed and the token for the next sync.
+     * @throws AdminMissingParentIDException if the authenticated user is an administrator and the parentID is null.
+     * @throws ParentNotFoundException       if the parent is not found.
+     * @throws InvalidSyncTokenException     if the token is malformed.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse sync(String token, Long parentID) {
+        ParentEntity parent = authorizationHelper.validateParentOrAdmin(parentID);
+        SyncToken since = SyncToken.decode(token);
+        List<Long> childIds = childrenRepository.findIdsByParentId(parent.getId());
+        Map<Long, Long> versions = new HashMap<>();
+        childIds.forEach(childId -> versions.put(childId, 0L));
+        childVersionsRepository.findAllById(childIds)
+                .forEach(version -> versions.put(version.getChildId(), version.getVersion()));
+
+        List<ChildChangesResponse> children = new ArrayList<>();
+        for (Long childId : childIds.stream().sorted().toList()) {
+            Long seenVersion = since.versions().get(childId);
+            if (seenVersion == null) {
+                children.add(fullChild(childId));
+            } else if (seenVersion < versions.get(childId)) {
+                children.add(changedChild(childId, seenVersion, versions.get(childId)));
+            }
+        }
+        Set<Long> existing = new HashSet<>(childIds);
+        List<Long> deletedChildIds = since.versions().keySet().stream()
+                .filter(childId -> !existing.contains(childId))
+                .sorted()
+                .toList();
+
+        return SyncResponse.builder()
+                .children(children)
+                .deletedChildIds(deletedChildIds)
+                .token(new SyncToken(versions).encode())
+                .build();
+    }
+
+    private ChildChangesResponse fullChild(Long childId) {
+        return ChildChangesResponse.builder()
+                .childId(childId)
+                .full(true)
+                .words(wordsRepository.findResponsesByChildId(childId))
+                .milestones(milestonesRepository.findResponsesByChildId(childId))
+                .deletedWordIds(List.of())
+                .deletedMilestoneIds(List.of())
+                .build();
+    }
+
+    private ChildChangesResponse changedChild(Long childId, long afterVersion, long toVersion) {
+        Map<ChangedEntity, ChangeOperation> lastOperations = new LinkedHashMap<>();
+        for (ChildChangeEntity change : childChangesRepository.findChanges(childId, afterVersion, toVersion)) {
+            ChangedEntity entity = new ChangedEntity(change.getEntityType(), change.getEntityId());
+            lastOperations.remove(entity);
+            lastOperations.put(entity, change.getOperation());
+        }
+        List<Long> upsertedWordIds = idsOf(lastOperations, ChangedEntityType.WORD, ChangeOperation.UPSERT);
+        List<Long> upsertedMilestoneIds = idsOf(lastOperations, ChangedEntityType.MILESTONE, ChangeOperation.UPSERT);
+        return ChildChangesResponse.builder()
+                .childId(childId)
+                .full(false)
+                .words(upsertedWordIds.isEmpty() ? List.of() : wordsRepository.findResponsesByIdIn(upsertedWordIds))
+                .milestones(upsertedMilestoneIds.isEmpty() ? List.of() : milestonesRepository.findResponsesByIdIn(upsertedMilestoneIds))
+                .deletedWordIds(idsOf(lastOperations, ChangedEntityType.WORD, ChangeOperation.DELETE))
+                .deletedMilestoneIds(idsOf(lastOperations, ChangedEntityType.MILESTONE, ChangeOperation.DELETE))
+                .build();
+    }
+
+    private static List<Long> idsOf(Map<ChangedEntity, ChangeOperation> lastOperations, ChangedEntityType type,
+                                    ChangeOperation operation) {
+        return lastOperations.entrySet().stream()
+                .filter(entry -> entry.getKey().type() == type && entry.getValue() == operation)
+                .map(entry -> entry.getKey().id())
+                .toList();
+    }
+}
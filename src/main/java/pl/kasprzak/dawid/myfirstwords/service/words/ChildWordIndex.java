@@ -0,0 +1,282 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.SimilarWordResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.util.VersionedChildIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory index of the words of one child, as of a version of the child's data.
+ * Every normalized word is split into the bigrams of the word padded with a boundary character on both sides,
+ * and each bigram maps to the sorted IDs of the words containing it. Since an edit destroys at most two bigrams,
+ * a word within edit distance k of a query of length n shares at least n + 1 - 2k bigrams with it; the maximum
+ * distance is therefore capped at n / 2, which guarantees that every word within it shares a bigram with the query
+ * and is found through the postings alone. The distinct normalized words are also kept sorted, so the words
+ * starting with a prefix are found by binary search. A change produces a new index that shares the postings of
+ * every bigram it does not touch, so lookups never lock and unchanged words are never split again.
+ */
+final class ChildWordIndex implements VersionedChildIndex<ChildWordIndex, GetWordResponse> {
+
+    private static final char BOUNDARY = '\u0000';
+    private static final int MAX_DISTANCE = 2;
+    private static final long[] NO_IDS = new long[0];
+
+    private final long version;
+    private final Map<Long, Entry> entries;
+    private final Map<Integer, long[]> postings;
+    private final Map<String, Integer> wordCounts;
+    private final String[] sorted;
+
+    /**
+     * An indexed word.
+     *
+     * @param word       the word.
+     * @param normalized the normalized form of the word.
+     */
+    private record Entry(GetWordResponse word, String normalized) {
+    }
+
+    private record Match(Entry entry, int distance, int sharedBigrams) {
+    }
+
+    private ChildWordIndex(long version, Map<Long, Entry> entries, Map<Integer, long[]> postings,
+                           Map<String, Integer> wordCounts, String[] sorted) {
+        this.version = version;
+        this.entries = entries;
+        this.postings = postings;
+        this.wordCounts = wordCounts;
+        this.sorted = sorted;
+    }
+
+    /**
+     * Builds the index of the given words.
+     *
+     * @param version the version of the child's data the words were read at.
+     * @param words   the words of the child.
+     * @return the index.
+     */
+    static ChildWordIndex build(long version, Collection<GetWordResponse> words) {
+        return new ChildWordIndex(version, Map.of(), Map.of(), Map.of(), new String[0]).apply(version, List.of(), words);
+    }
+
+    /**
+     * Returns the index after a change of the child's data.
+     * Only the bigrams of the deleted, updated and created words are visited; the postings of every other bigram
+     * are shared with this index.
+     *
+     * @param version    the version of the child's data the change was recorded with.
+     * @param deletedIds the IDs of the deleted words.
+     * @param upserted   the current state of the created or updated words.
+     * @return a new index holding the change; it shares the postings of this index if no word changed.
+     */
+    @Override
+    public ChildWordIndex apply(long version, Collection<Long> deletedIds, Collection<GetWordResponse> upserted) {
+        if (deletedIds.isEmpty() && upserted.isEmpty()) {
+            return new ChildWordIndex(version, entries, postings, wordCounts, sorted);
+        }
+        Map<Long, Entry> changedEntries = new HashMap<>(entries);
+        Map<String, Integer> changedCounts = new HashMap<>(wordCounts);
+        Map<Integer, Set<Long>> removed = new HashMap<>();
+        Map<Integer, Set<Long>> added = new HashMap<>();
+        Set<String> changedWords = new HashSet<>();
+        Set<Long> removedIds = new LinkedHashSet<>(deletedIds);
+        upserted.forEach(word -> removedIds.add(word.getId()));
+        for (Long id : removedIds) {
+            Entry entry = changedEntries.remove(id);
+            if (entry != null) {
+                for (int bigram : bigrams(entry.normalized())) {
+                    removed.computeIfAbsent(bigram, key -> new HashSet<>()).add(id);
+                }
+                changedCounts.computeIfPresent(entry.normalized(), (word, count) -> count == 1 ? null : count - 1);
+                changedWords.add(entry.normalized());
+            }
+        }
+        for (GetWordResponse word : upserted) {
+            Entry entry = new Entry(word, WordEntity.normalize(word.getWord()));
+            changedEntries.put(word.getId(), entry);
+            for (int bigram : bigrams(entry.normalized())) {
+                added.computeIfAbsent(bigram, key -> new HashSet<>()).add(word.getId());
+            }
+            changedCounts.merge(entry.normalized(), 1, Integer::sum);
+            changedWords.add(entry.normalized());
+        }
+        Map<Integer, long[]> changedPostings = new HashMap<>(postings);
+        Set<Integer> bigrams = new HashSet<>(removed.keySet());
+        bigrams.addAll(added.keySet());
+        for (Integer bigram : bigrams) {
+            Set<Long> bigramRemoved = removed.getOrDefault(bigram, Set.of());
+            long[] ids = Arrays.stream(postings.getOrDefault(bigram, NO_IDS))
+                    .filter(id -> !bigramRemoved.contains(id))
+                    .toArray();
+            Set<Long> bigramAdded = added.get(bigram);
+            if (bigramAdded != null) {
+                ids = mergeSorted(ids, bigramAdded.stream().mapToLong(Long::longValue).sorted().toArray());
+            }
+            if (ids.length == 0) {
+                changedPostings.remove(bigram);
+            } else {
+                changedPostings.put(bigram, ids);
+            }
+        }
+        return new ChildWordIndex(version, changedEntries, changedPostings, changedCounts,
+                changeSorted(changedWords, changedCounts));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Finds the words closest to the given word, ranked by edit distance, then by the number of shared bigrams,
+     * then alphabetically.
+     *
+     * @param word  the word to look up, with or without typos.
+     * @param limit the maximum number of words to return.
+     * @return the words within the maximum edit distance of the normalized query, best match first.
+     */
+    List<SimilarWordResponse> findSimilar(String word, int limit) {
+        String query = WordEntity.normalize(word);
+        if (query == null || query.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = Math.min(MAX_DISTANCE, query.length() / 2);
+        Map<Long, Integer> sharedBigrams = new HashMap<>();
+        for (int bigram : bigrams(query)) {
+            for (long id : postings.getOrDefault(bigram, NO_IDS)) {
+                sharedBigrams.merge(id, 1, Integer::sum);
+            }
+        }
+        List<Match> matches = new ArrayList<>();
+        sharedBigrams.forEach((id, shared) -> {
+            Entry entry = entries.get(id);
+            if (Math.abs(entry.normalized().length() - query.length()) > maxDistance) {
+                return;
+            }
+            int distance = distance(query, entry.normalized(), maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new Match(entry, distance, shared));
+            }
+        });
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::distance)
+                        .thenComparing(Comparator.comparingInt(Match::sharedBigrams).reversed())
+                        .thenComparing(match -> match.entry().normalized())
+                        .thenComparingLong(match -> match.entry().word().getId()))
+                .limit(limit)
+                .map(match -> SimilarWordResponse.builder()
+                        .id(match.entry().word().getId())
+                        .word(match.entry().word().getWord())
+                        .dateAchieve(match.entry().word().getDateAchieve())
+                        .distance(match.distance())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Finds the normalized words starting with the given prefix.
+     *
+     * @param prefix the normalized prefix.
+     * @param limit  the maximum number of words to return.
+     * @return the distinct normalized words starting with the prefix, in alphabetical order.
+     */
+    List<String> complete(String prefix, int limit) {
+        int index = Arrays.binarySearch(sorted, prefix);
+        int position = index < 0 ? -index - 1 : index;
+        List<String> completions = new ArrayList<>();
+        while (position < sorted.length && completions.size() < limit && sorted[position].startsWith(prefix)) {
+            completions.add(sorted[position++]);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the sorted distinct normalized words after a change, keeping the words whose count did not drop
+     * to zero and inserting the ones that appeared.
+     */
+    private String[] changeSorted(Set<String> changedWords, Map<String, Integer> changedCounts) {
+        String[] appeared = changedWords.stream()
+                .filter(word -> changedCounts.containsKey(word) && !wordCounts.containsKey(word))
+                .sorted()
+                .toArray(String[]::new);
+        boolean anyDisappeared = changedWords.stream()
+                .anyMatch(word -> wordCounts.containsKey(word) && !changedCounts.containsKey(word));
+        if (appeared.length == 0 && !anyDisappeared) {
+            return sorted;
+        }
+        String[] remaining = anyDisappeared
+                ? Arrays.stream(sorted).filter(changedCounts::containsKey).toArray(String[]::new)
+                : sorted;
+        String[] merged = new String[remaining.length + appeared.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < remaining.length || j < appeared.length) {
+            merged[k++] = j == appeared.length || i < remaining.length && remaining[i].compareTo(appeared[j]) < 0
+                    ? remaining[i++] : appeared[j++];
+        }
+        return merged;
+    }
+
+    private static long[] mergeSorted(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            merged[k++] = j == b.length || i < a.length && a[i] < b[j] ? a[i++] : b[j++];
+        }
+        return merged;
+    }
+
+    private static int[] bigrams(String word) {
+        int[] bigrams = new int[word.length() + 1];
+        char previous = BOUNDARY;
+        for (int i = 0; i < word.length(); i++) {
+            bigrams[i] = previous << 16 | word.charAt(i);
+            previous = word.charAt(i);
+        }
+        bigrams[word.length()] = previous << 16 | BOUNDARY;
+        return bigrams;
+    }
+
+    /**
+     * Computes the Levenshtein distance of two words, giving up as soon as it exceeds the maximum.
+     *
+     * @return the distance, or maxDistance + 1 if it is larger than maxDistance.
+     */
+    private static int distance(String a, String b, int maxDistance) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+}
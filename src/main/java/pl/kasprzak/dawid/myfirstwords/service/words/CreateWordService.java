@@ -2,6 +2,7 @@ package pl.kasprzak.dawid.myfirstwords.service.words;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
@@ -11,9 +12,15 @@ import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
 import pl.kasprzak.dawid.myfirstwords.service.converters.words.CreateWordConverter;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.Collections;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CreateWordService {
@@ -21,12 +28,14 @@ public class CreateWordService {
     private final WordsRepository wordsRepository;
     private final CreateWordConverter createWordConverter;
     private final AuthorizationHelper authorizationHelper;
+    private final ChildVersionService childVersionService;
+    private final VocabularyGrowthService vocabularyGrowthService;
 
     /**
      * Service method for adding a new word for a specific child.
      * This method validates and authorizes the parent using AuthorizationHelper, and if authorized,
      * converts the CreateWordRequest DTO to a WordEntity, sets the child for the word, saves the word entity to the
-     * repository, and converts the saved entity to a CreateWordResponse DTO.
+     * repository, records the change for the child, adds the word to the daily word counts of the child and converts the saved entity to a CreateWordResponse DTO.
      *
      * @param childId        the ID of the child to whom the word will be added.
      * @param request        the CreateWordRequest containing the word details.
@@ -35,11 +44,14 @@ public class CreateWordService {
      * @throws ChildNotFoundException  if the child with the given ID is not found.
      * @throws AccessDeniedException   if the authenticated parent does not have access to the child.
      */
+    @Transactional
     public CreateWordResponse addWord(Long childId, CreateWordRequest request) {
         ChildEntity child = authorizationHelper.validateAndAuthorizeChild(childId);
         WordEntity wordToSave = createWordConverter.fromDto(request);
         wordToSave.setChild(child);
         WordEntity savedEntity = wordsRepository.save(wordToSave);
+        childVersionService.recordChanges(childId, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(savedEntity.getId()));
+        vocabularyGrowthService.recordWordsAdded(childId, Collections.singletonList(savedEntity.getDateAchieve()));
         return createWordConverter.toDto(savedEntity);
     }
 }
@@ -6,10 +6,17 @@ import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.WordNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.util.Collections;
+import java.util.List;
 
 
 @Service
@@ -18,6 +25,9 @@ public class DeleteWordService {
 
     private final WordsRepository wordsRepository;
     private final AuthorizationHelper authorizationHelper;
+    private final ChildVersionService childVersionService;
+    private final VocabularyGrowthService vocabularyGrowthService;
+    private final WordDictionary wordDictionary;
 
     /**
      * Service method for deleting a word identified by the given word ID for a specific child.
@@ -27,7 +37,8 @@ public class DeleteWordService {
      * If the authenticated user is an admin, the `parentID` parameter must be provided
      * to specify the parent associated with the child.
      * Once authorized, the method finds the word associated with the given child ID and word ID,
-     * and deletes it from the repository.
+     * deletes it from the repository, records the change for the child, removes the word from the daily word counts of the child
+     * and has the WordDictionary count the children knowing the word again once the deletion commits.
      *
      * @param childId  the ID of the child to whom the word belongs.
      * @param wordId   the ID of the word to be deleted.
@@ -38,10 +49,14 @@ public class DeleteWordService {
      * @throws AccessDeniedException         if the authenticated parent does not have access to the child.
      * @throws WordNotFoundException         if the word with the given ID is not found for the specified child.
      */
+    @Transactional
     public void deleteWord(Long childId, Long wordId, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
         WordEntity wordEntity = wordsRepository.findByChildIdAndId(childId, wordId)
                 .orElseThrow(() -> new WordNotFoundException("Word not found"));
         wordsRepository.delete(wordEntity);
+        childVersionService.recordChanges(childId, ChangedEntityType.WORD, ChangeOperation.DELETE, List.of(wordEntity.getId()));
+        vocabularyGrowthService.recordWordsDeleted(childId, Collections.singletonList(wordEntity.getDateAchieve()));
+        wordDictionary.recountAfterCommit(List.of(WordEntity.normalize(wordEntity.getWord())));
     }
 }
@@ -0,0 +1,52 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.ExportFormat;
+import pl.kasprzak.dawid.myfirstwords.util.StreamingExporter;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ExportWordsService {
+
+    private static final List<StreamingExporter.Column<GetWordResponse>> COLUMNS = List.of(
+            new StreamingExporter.Column<>("id", GetWordResponse::getId),
+            new StreamingExporter.Column<>("word", GetWordResponse::getWord),
+            new StreamingExporter.Column<>("dateAchieve", GetWordResponse::getDateAchieve)
+    );
+
+    private final WordsRepository wordsRepository;
+    private final AuthorizationHelper authorizationHelper;
+    private final StreamingExporter streamingExporter;
+
+    /**
+     * Service method for exporting all the words of a child, ordered by date of achievement.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper up front,
+     * and returns a body that streams the words from the database straight to the response,
+     * so the words are never collected in memory.
+     *
+     * @param childId  the ID of the child whose words are to be exported.
+     * @param format   the format of the export.
+     * @param parentID the ID of the parent, required if the authenticated user is an admin.
+     * @return the body that writes the export to the response.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    public StreamingResponseBody exportWords(Long childId, ExportFormat format, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return streamingExporter.export(format, COLUMNS,
+                () -> wordsRepository.streamAllByChildId(childId));
+    }
+}
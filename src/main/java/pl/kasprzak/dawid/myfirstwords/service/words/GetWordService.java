@@ -1,33 +1,52 @@
 package pl.kasprzak.dawid.myfirstwords.service.words;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.DateValidationException;
 import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
 import pl.kasprzak.dawid.myfirstwords.exception.WordNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizedChild;
+import pl.kasprzak.dawid.myfirstwords.util.KeysetCursor;
+import pl.kasprzak.dawid.myfirstwords.util.PageSizeResolver;
+import pl.kasprzak.dawid.myfirstwords.model.words.CompletionSource;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetAllWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetSimilarWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordCompletionsResponse;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordsPageResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.WordCompletionResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.words.GetWordsConverter;
 
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class GetWordService {
 
+    private static final int DEFAULT_SIMILAR_WORDS = 5;
+    private static final int MAX_SIMILAR_WORDS = 20;
+    private static final int DEFAULT_COMPLETIONS = 10;
+    private static final int MAX_COMPLETIONS = 20;
+
     private final WordsRepository wordsRepository;
-    private final GetWordsConverter getWordsConverter;
     private final AuthorizationHelper authorizationHelper;
+    private final PageSizeResolver pageSizeResolver;
+    private final WordIndex wordIndex;
+    private final WordDictionary wordDictionary;
 
     /**
      * Service method for retrieving words for a child that were achieved before the given date.
@@ -43,12 +62,26 @@ public class GetWordService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetWordResponse> getByDateAchieveBefore(Long childId, LocalDate date, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        List<WordEntity> words = wordsRepository.findByChildIdAndDateAchieveBefore(childId, date);
-        return words.stream()
-                .map(getWordsConverter::toDto)
-                .collect(Collectors.toList());
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByDateAchieveBefore(childId, date);
+    }
+
+    /**
+     * Same as {@link #getByDateAchieveBefore(Long, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByDateAchieveBefore(Long, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetWordResponse> getByDateAchieveBefore(AuthorizedChild child, LocalDate date) {
+        return loadByDateAchieveBefore(child.getChildId(), date);
+    }
+
+    private List<GetWordResponse> loadByDateAchieveBefore(Long childId, LocalDate date) {
+        return wordsRepository.findResponsesByChildIdAndDateAchieveBefore(childId, date);
     }
 
     /**
@@ -65,12 +98,26 @@ public class GetWordService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetWordResponse> getByDateAchieveAfter(Long childId, LocalDate date, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        List<WordEntity> words = wordsRepository.findByChildIdAndDateAchieveAfter(childId, date);
-        return words.stream()
-                .map(getWordsConverter::toDto)
-                .collect(Collectors.toList());
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByDateAchieveAfter(childId, date);
+    }
+
+    /**
+     * Same as {@link #getByDateAchieveAfter(Long, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByDateAchieveAfter(Long, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetWordResponse> getByDateAchieveAfter(AuthorizedChild child, LocalDate date) {
+        return loadByDateAchieveAfter(child.getChildId(), date);
+    }
+
+    private List<GetWordResponse> loadByDateAchieveAfter(Long childId, LocalDate date) {
+        return wordsRepository.findResponsesByChildIdAndDateAchieveAfter(childId, date);
     }
 
     /**
@@ -90,18 +137,32 @@ public class GetWordService {
      * @throws InvalidDateOrderException     if the start date is after the end date.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public List<GetWordResponse> getWordsBetweenDays(Long childId, LocalDate startDate, LocalDate endDate, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadWordsBetweenDays(childId, startDate, endDate);
+    }
+
+    /**
+     * Same as {@link #getWordsBetweenDays(Long, LocalDate, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getWordsBetweenDays(Long, LocalDate, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public List<GetWordResponse> getWordsBetweenDays(AuthorizedChild child, LocalDate startDate, LocalDate endDate) {
+        return loadWordsBetweenDays(child.getChildId(), startDate, endDate);
+    }
+
+    private List<GetWordResponse> loadWordsBetweenDays(Long childId, LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) {
             throw new DateValidationException("Start date and end date must not be null");
         }
         if (startDate.isAfter(endDate)) {
             throw new InvalidDateOrderException("Start date must be before or equal to end date");
         }
-        List<WordEntity> words = wordsRepository.findByChildIdAndDateAchieveBetween(childId, startDate, endDate);
-        return words.stream()
-                .map(getWordsConverter::toDto)
-                .collect(Collectors.toList());
+        return wordsRepository.findResponsesByChildIdAndDateAchieveBetween(childId, startDate, endDate);
     }
 
     /**
@@ -119,13 +180,93 @@ public class GetWordService {
      * @throws WordNotFoundException         if the word is not found for the specified child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public GetWordResponse getByWord(Long childId, String word, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
-        return wordsRepository.findByWordIgnoreCaseAndChildId(word.toLowerCase(), childId)
-                .map(getWordsConverter::toDto)
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadByWord(childId, word);
+    }
+
+    /**
+     * Same as {@link #getByWord(Long, String, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getByWord(Long, String, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetWordResponse getByWord(AuthorizedChild child, String word) {
+        return loadByWord(child.getChildId(), word);
+    }
+
+    private GetWordResponse loadByWord(Long childId, String word) {
+        return wordsRepository.findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childId, Limit.of(1))
                 .orElseThrow(() -> new WordNotFoundException("Word not found"));
     }
 
+    /**
+     * Service method for retrieving the words of a child that are spelled like the given word, tolerating typos.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper,
+     * and looks the word up in the in-memory word index of the child, which is built on the first lookup
+     * and kept up to date by the changes of the child's words afterwards.
+     *
+     * @param childId  the ID of the child whose words are to be searched.
+     * @param word     the word to look up (case-insensitive, may contain typos).
+     * @param limit    the maximum number of words to return, or null for the default.
+     * @param parentID the ID of the parent, required if the authenticated user is an admin.
+     * @return a GetSimilarWordsResponse DTO containing the matching words with their edit distance, best match first.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    @Transactional(readOnly = true)
+    public GetSimilarWordsResponse getSimilarWords(Long childId, String word, Integer limit, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        int resolvedLimit = limit == null ? DEFAULT_SIMILAR_WORDS : Math.max(1, Math.min(limit, MAX_SIMILAR_WORDS));
+        return GetSimilarWordsResponse.builder()
+                .words(wordIndex.findSimilar(childId, word, resolvedLimit))
+                .build();
+    }
+
+    /**
+     * Service method for suggesting completions of a word a parent is typing for a child.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and suggests
+     * the child's own words starting with the prefix first, alphabetically, then the words other children have
+     * learned, known to the most children first. Both lookups are answered from memory: the child's words from
+     * its word index and the other words from the global word dictionary.
+     *
+     * @param childId  the ID of the child the word is typed for.
+     * @param prefix   the typed prefix (case-insensitive).
+     * @param limit    the maximum number of completions to return, or null for the default.
+     * @param parentID the ID of the parent, required if the authenticated user is an admin.
+     * @return a GetWordCompletionsResponse DTO containing the normalized completions and where they come from.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    @Transactional(readOnly = true)
+    public GetWordCompletionsResponse getCompletions(Long childId, String prefix, Integer limit, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        String normalizedPrefix = WordEntity.normalize(prefix);
+        List<WordCompletionResponse> completions = new ArrayList<>();
+        if (normalizedPrefix != null && !normalizedPrefix.isEmpty()) {
+            int resolvedLimit = limit == null ? DEFAULT_COMPLETIONS : Math.max(1, Math.min(limit, MAX_COMPLETIONS));
+            List<String> childWords = wordIndex.complete(childId, normalizedPrefix, resolvedLimit);
+            childWords.forEach(word -> completions.add(new WordCompletionResponse(word, CompletionSource.CHILD)));
+            if (completions.size() < resolvedLimit) {
+                Set<String> known = new HashSet<>(childWords);
+                wordDictionary.complete(normalizedPrefix, resolvedLimit + childWords.size()).stream()
+                        .filter(word -> !known.contains(word))
+                        .limit(resolvedLimit - completions.size())
+                        .forEach(word -> completions.add(new WordCompletionResponse(word, CompletionSource.DICTIONARY)));
+            }
+        }
+        return GetWordCompletionsResponse.builder()
+                .completions(completions)
+                .build();
+    }
+
     /**
      * Service method for retrieving all words for a child.
      * This method validates and authorizes the parent or admin using the AuthorizationHelper,
@@ -139,12 +280,88 @@ public class GetWordService {
      * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
      * @throws AdminMissingParentIDException if the admin does not provide a parentID.
      */
+    @Transactional(readOnly = true)
     public GetAllWordsResponse getAllWords(Long childId, Long parentID) {
-        authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, parentID);
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadAllWords(childId);
+    }
+
+    /**
+     * Same as {@link #getAllWords(Long, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getAllWords(Long, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetAllWordsResponse getAllWords(AuthorizedChild child) {
+        return loadAllWords(child.getChildId());
+    }
+
+    private GetAllWordsResponse loadAllWords(Long childId) {
         return GetAllWordsResponse.builder()
-                .words(wordsRepository.findAllByChildId(childId).stream()
-                        .map(getWordsConverter::toDto)
-                        .collect(Collectors.toList()))
+                .words(wordsRepository.findResponsesByChildId(childId))
+                .build();
+    }
+
+    /**
+     * Service method for retrieving one page of the words of a child, ordered by date of achievement and ID.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and fetches
+     * the words achieved within the optional date range that follow the given cursor.
+     * One row more than the page size is fetched to find out whether another page exists; if it does,
+     * the response carries the cursor of the last word on the page.
+     *
+     * @param childId   the ID of the child whose words are to be retrieved.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param cursor    the continuation token returned with the previous page, or null for the first page.
+     * @param size      the requested page size, or null for the default page size.
+     * @param parentID  the ID of the parent, required if the authenticated user is an admin.
+     * @return a GetWordsPageResponse DTO containing the words on the page and the cursor of the next page, if any.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws InvalidDateOrderException     if the start date is after the end date.
+     * @throws InvalidCursorException        if the cursor is malformed.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    @Transactional(readOnly = true)
+    public GetWordsPageResponse getWordsPage(Long childId, LocalDate startDate, LocalDate endDate, String cursor,
+                                             Integer size, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadWordsPage(childId, startDate, endDate, cursor, size);
+    }
+
+    /**
+     * Same as {@link #getWordsPage(Long, LocalDate, LocalDate, String, Integer, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getWordsPage(Long, LocalDate, LocalDate, String, Integer, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public GetWordsPageResponse getWordsPage(AuthorizedChild child, LocalDate startDate, LocalDate endDate,
+                                             String cursor, Integer size) {
+        return loadWordsPage(child.getChildId(), startDate, endDate, cursor, size);
+    }
+
+    private GetWordsPageResponse loadWordsPage(Long childId, LocalDate startDate, LocalDate endDate, String cursor,
+                                               Integer size) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidDateOrderException("Start date must be before or equal to end date");
+        }
+        int pageSize = pageSizeResolver.resolve(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<GetWordResponse> words = after == null
+                ? wordsRepository.findPage(childId, startDate, endDate, Limit.of(pageSize + 1))
+                : wordsRepository.findPageAfter(childId, startDate, endDate, after.dateAchieve(), after.id(),
+                        Limit.of(pageSize + 1));
+        boolean hasNext = words.size() > pageSize;
+        List<GetWordResponse> page = hasNext ? words.subList(0, pageSize) : words;
+        GetWordResponse last = hasNext ? page.get(pageSize - 1) : null;
+        return GetWordsPageResponse.builder()
+                .words(page)
+                .nextCursor(last == null ? null : new KeysetCursor(last.getDateAchieve(), last.getId()).encode())
                 .build();
     }
 }
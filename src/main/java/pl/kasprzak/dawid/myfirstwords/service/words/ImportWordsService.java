@@ -0,0 +1,256 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.ImportLimitExceededException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
+import pl.kasprzak.dawid.myfirstwords.model.words.ImportWordLineResult;
+import pl.kasprzak.dawid.myfirstwords.model.words.ImportWordStatus;
+import pl.kasprzak.dawid.myfirstwords.model.words.ImportWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.service.converters.words.CreateWordConverter;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ImportWordsService {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String CSV_HEADER = "word,dateAchieve";
+    private static final String EXPORT_CSV_HEADER = "id,word,dateAchieve";
+
+    private final WordsRepository wordsRepository;
+    private final CreateWordConverter createWordConverter;
+    private final AuthorizationHelper authorizationHelper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ChildVersionService childVersionService;
+    private final VocabularyGrowthService vocabularyGrowthService;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${myfirstwords.import.max-lines:10000}")
+    private int maxLines;
+
+    @Value("${myfirstwords.import.max-size:5MB}")
+    private DataSize maxSize;
+
+    /**
+     * Service method for importing many words for a specific child at once.
+     * This method authorizes the parent once using AuthorizationHelper and then reads the body line by line,
+     * so the whole upload is never held in memory. Every line is validated like a single CreateWordRequest;
+     * words the child already has, or that appear earlier in the same upload, are skipped as duplicates
+     * (compared in their normalized form). Accepted words are inserted in JDBC batches, and the persistence
+     * context is cleared after each batch so that its size does not grow with the upload. The changes for the
+     * child and its daily word counts are recorded with every batch.
+     * CSV bodies hold one "word,dateAchieve" pair per line with an optional header line; a body starting with
+     * the "id,word,dateAchieve" header of a CSV export is accepted too, and its id column is ignored;
+     * NDJSON bodies hold one CreateWordRequest JSON object per line. Blank lines are ignored.
+     * The body may hold at most the configured number of non-blank lines and bytes; past either limit
+     * the import is rejected and nothing is stored.
+     *
+     * @param childId     the ID of the child to whom the words will be added.
+     * @param contentType the media type of the body, either text/csv or application/x-ndjson.
+     * @param body        the body of the request.
+     * @return an ImportWordsResponse summarizing the outcome of every non-blank line.
+     * @throws ParentNotFoundException      if the authenticated parent is not found.
+     * @throws ChildNotFoundException       if the child with the given ID is not found.
+     * @throws AccessDeniedException        if the authenticated parent does not have access to the child.
+     * @throws ImportLimitExceededException if the body holds more lines or bytes than allowed.
+     */
+    @Transactional
+    public ImportWordsResponse importWords(Long childId, MediaType contentType, InputStream body) {
+        authorizationHelper.validateAndAuthorizeChild(childId);
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        Set<String> knownWords = wordsRepository.findWordsNormalizedByChildId(childId);
+        List<ImportWordLineResult> results = new ArrayList<>();
+        List<WordEntity> batch = new ArrayList<>(batchSize);
+        int imported = 0;
+        int duplicates = 0;
+        int rejected = 0;
+
+        boolean idColumn = false;
+        InputStream limitedBody = new LimitedInputStream(body, maxSize.toBytes());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(limitedBody, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (csv && lineNumber == 1 && line.trim().equalsIgnoreCase(EXPORT_CSV_HEADER)) {
+                    idColumn = true;
+                    continue;
+                }
+                if (line.isBlank() || (csv && lineNumber == 1 && line.trim().equalsIgnoreCase(CSV_HEADER))) {
+                    continue;
+                }
+                if (results.size() == maxLines) {
+                    throw new ImportLimitExceededException("Import must not hold more than " + maxLines + " lines");
+                }
+                CreateWordRequest request;
+                try {
+                    request = csv ? parseCsv(line, idColumn) : objectMapper.readValue(line, CreateWordRequest.class);
+                } catch (JsonProcessingException | IllegalArgumentException | DateTimeParseException exception) {
+                    results.add(result(lineNumber, ImportWordStatus.INVALID, null, "Malformed line"));
+                    rejected++;
+                    continue;
+                }
+                String violations = validate(request);
+                if (violations != null) {
+                    results.add(result(lineNumber, ImportWordStatus.INVALID, request.getWord(), violations));
+                    rejected++;
+                    continue;
+                }
+                if (!knownWords.add(WordEntity.normalize(request.getWord()))) {
+                    results.add(result(lineNumber, ImportWordStatus.DUPLICATE, request.getWord(), "Word already exists"));
+                    duplicates++;
+                    continue;
+                }
+                batch.add(createWordConverter.fromDto(request));
+                results.add(result(lineNumber, ImportWordStatus.IMPORTED, request.getWord(), null));
+                imported++;
+                if (batch.size() == batchSize) {
+                    saveBatch(childId, batch);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        saveBatch(childId, batch);
+
+        return ImportWordsResponse.builder()
+                .imported(imported)
+                .duplicates(duplicates)
+                .rejected(rejected)
+                .lines(results)
+                .build();
+    }
+
+    private void saveBatch(Long childId, List<WordEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ChildEntity child = entityManager.getReference(ChildEntity.class, childId);
+        batch.forEach(word -> word.setChild(child));
+        wordsRepository.saveAll(batch);
+        childVersionService.recordChanges(childId, ChangedEntityType.WORD, ChangeOperation.UPSERT,
+                batch.stream().map(WordEntity::getId).toList());
+        vocabularyGrowthService.recordWordsAdded(childId, batch.stream().map(WordEntity::getDateAchieve).toList());
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private CreateWordRequest parseCsv(String line, boolean idColumn) {
+        int start = idColumn ? line.indexOf(',') + 1 : 0;
+        int separator = line.lastIndexOf(',');
+        if (separator < start) {
+            throw new IllegalArgumentException("Missing separator");
+        }
+        return CreateWordRequest.builder()
+                .word(unquote(line.substring(start, separator)))
+                .dateAchieve(LocalDate.parse(unquote(line.substring(separator + 1))))
+                .build();
+    }
+
+    private String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).replace("\"\"", "\"");
+        }
+        return trimmed;
+    }
+
+    private String validate(CreateWordRequest request) {
+        Set<ConstraintViolation<CreateWordRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private ImportWordLineResult result(long line, ImportWordStatus status, String word, String message) {
+        return ImportWordLineResult.builder()
+                .line(line)
+                .status(status)
+                .word(word)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Passes a body through until more than the given number of bytes have been read from it,
+     * so an oversized upload is rejected before it is read, or kept line by line, in full.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long readBytes;
+
+        private LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                count(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int bytes) {
+            readBytes += bytes;
+            if (readBytes > maxBytes) {
+                throw new ImportLimitExceededException("Import must not be larger than " + maxBytes + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.kasprzak.dawid.myfirstwords.exception.*;
+import pl.kasprzak.dawid.myfirstwords.model.words.GrowthInterval;
+import pl.kasprzak.dawid.myfirstwords.model.words.VocabularyGrowthResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.VocabularyPeriodResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordDailyCountEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.WordDailyCount;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizedChild;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class VocabularyGrowthService {
+
+    private static final int MAX_PERIODS = 1000;
+
+    private final WordDailyCountsRepository wordDailyCountsRepository;
+    private final AuthorizationHelper authorizationHelper;
+
+    /**
+     * Adds created words to the daily word counts of a child.
+     * Called by every service that creates words, inside its transaction and after the change has been recorded
+     * for the child, so the version row of the child is locked and the counts of a day are never inserted twice.
+     *
+     * @param childId the ID of the child.
+     * @param dates   the dates of achievement of the created words.
+     */
+    @Transactional
+    public void recordWordsAdded(Long childId, Collection<LocalDate> dates) {
+        countByDate(dates).forEach((date, words) -> {
+            if (wordDailyCountsRepository.addWords(childId, date, words) == 0) {
+                WordDailyCountEntity count = new WordDailyCountEntity();
+                count.setChildId(childId);
+                count.setDateAchieve(date);
+                count.setWords(words);
+                wordDailyCountsRepository.save(count);
+            }
+        });
+    }
+
+    /**
+     * Removes deleted words from the daily word counts of a child.
+     *
+     * @param childId the ID of the child.
+     * @param dates   the dates of achievement of the deleted words.
+     */
+    @Transactional
+    public void recordWordsDeleted(Long childId, Collection<LocalDate> dates) {
+        countByDate(dates).forEach((date, words) -> wordDailyCountsRepository.addWords(childId, date, -words));
+    }
+
+    /**
+     * Service method for retrieving the vocabulary growth of a child: the number of words achieved in every period
+     * and the size of the vocabulary at the end of it.
+     * This method validates and authorizes the parent or admin using the AuthorizationHelper and sums the daily
+     * word counts of the child, kept up to date by every write to its words, so it reads at most one row per day
+     * with words instead of the whole word history. The date range is widened to whole periods, and every period
+     * between the first and the last one is returned, empty ones included. Without a start date the first period
+     * is the one of the first word; without an end date the last period is the one of the last word.
+     *
+     * @param childId   the ID of the child whose vocabulary growth is to be retrieved.
+     * @param interval  the length of the periods.
+     * @param startDate the inclusive lower bound of the date of achievement, or null for no bound.
+     * @param endDate   the inclusive upper bound of the date of achievement, or null for no bound.
+     * @param parentID  the ID of the parent, required if the authenticated user is an admin.
+     * @return a VocabularyGrowthResponse DTO containing the periods, oldest first.
+     * @throws ParentNotFoundException       if the authenticated parent or the parent with the given ID is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated parent or admin does not have access to the child.
+     * @throws InvalidDateOrderException     if the start date is after the end date.
+     * @throws DateValidationException       if the date range spans more than the maximum number of periods.
+     * @throws AdminMissingParentIDException if the admin does not provide a parentID.
+     */
+    @Transactional(readOnly = true)
+    public VocabularyGrowthResponse getVocabularyGrowth(Long childId, GrowthInterval interval, LocalDate startDate,
+                                                        LocalDate endDate, Long parentID) {
+        authorizationHelper.authorizeForAdminOrParent(childId, parentID);
+        return loadVocabularyGrowth(childId, interval, startDate, endDate);
+    }
+
+    /**
+     * Same as {@link #getVocabularyGrowth(Long, GrowthInterval, LocalDate, LocalDate, Long)},
+     * for a child the caller has already authorized, so access to the child is not checked again.
+     *
+     * @param child the child returned by {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}.
+     * @return see {@link #getVocabularyGrowth(Long, GrowthInterval, LocalDate, LocalDate, Long)}.
+     */
+    @Transactional(readOnly = true)
+    public VocabularyGrowthResponse getVocabularyGrowth(AuthorizedChild child, GrowthInterval interval,
+                                                        LocalDate startDate, LocalDate endDate) {
+        return loadVocabularyGrowth(child.getChildId(), interval, startDate, endDate);
+    }
+
+    private VocabularyGrowthResponse loadVocabularyGrowth(Long childId, GrowthInterval interval, LocalDate startDate,
+                                                          LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidDateOrderException("Start date must be before or equal to end date");
+        }
+        LocalDate firstDay = startDate == null ? null : interval.periodStart(startDate);
+        LocalDate lastDay = endDate == null ? null : interval.nextPeriodStart(interval.periodStart(endDate)).minusDays(1);
+        List<WordDailyCount> dailyCounts = wordDailyCountsRepository.findDailyCounts(childId, firstDay, lastDay);
+        if (firstDay == null && !dailyCounts.isEmpty()) {
+            firstDay = interval.periodStart(dailyCounts.get(0).dateAchieve());
+        }
+        if (lastDay == null && !dailyCounts.isEmpty()) {
+            lastDay = dailyCounts.get(dailyCounts.size() - 1).dateAchieve();
+        }
+        List<VocabularyPeriodResponse> periods = new ArrayList<>();
+        if (firstDay != null && lastDay != null && !firstDay.isAfter(lastDay)) {
+            long cumulativeWords = startDate == null ? 0 : wordDailyCountsRepository.sumWordsBefore(childId, firstDay);
+            int next = 0;
+            for (LocalDate periodStart = firstDay; !periodStart.isAfter(lastDay); periodStart = interval.nextPeriodStart(periodStart)) {
+                if (periods.size() == MAX_PERIODS) {
+                    throw new DateValidationException("Date range must not span more than " + MAX_PERIODS + " periods");
+                }
+                LocalDate nextPeriodStart = interval.nextPeriodStart(periodStart);
+                long words = 0;
+                while (next < dailyCounts.size() && dailyCounts.get(next).dateAchieve().isBefore(nextPeriodStart)) {
+                    words += dailyCounts.get(next++).words();
+                }
+                cumulativeWords += words;
+                periods.add(new VocabularyPeriodResponse(periodStart, words, cumulativeWords));
+            }
+        }
+        return VocabularyGrowthResponse.builder()
+                .interval(interval)
+                .periods(periods)
+                .build();
+    }
+
+    private static Map<LocalDate, Long> countByDate(Collection<LocalDate> dates) {
+        return dates.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(date -> date, TreeMap::new, Collectors.counting()));
+    }
+}
@@ -0,0 +1,162 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.config.ReadWriteRoutingDataSource;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.WordFrequency;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Global dictionary of the words children have learned, weighted by the number of children who know each word.
+ * The dictionary is built from the words table when the application is ready, in a single aggregate query.
+ * Afterwards, the weight of a word is counted again from the words table whenever a child learns it or loses it:
+ * after a word new to its child is created, after a word or a child is deleted and after the account deletion of
+ * a parent is requested, whose children stop counting at once. Since the weights are the number of distinct
+ * children and never a running total, deleting and re-adding a word cannot raise its weight. Only words known to
+ * at least the configured number of children are suggested, so a word learned by a single child, e.g. a name,
+ * is never shown to other parents. The counts are read in the transaction of the caller, if any, so
+ * recounting never holds a second connection while the caller holds one.
+ */
+@Slf4j
+@Component
+public class WordDictionary {
+
+    private static final int RECOUNT_CHUNK_SIZE = 1000;
+
+    private final WordsRepository wordsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int minChildren;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private WordTrie trie = new WordTrie();
+
+    public WordDictionary(WordsRepository wordsRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${myfirstwords.autocomplete.min-children:2}") int minChildren) {
+        this.wordsRepository = wordsRepository;
+        this.transactionTemplate = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+        this.minChildren = Math.max(1, minChildren);
+    }
+
+    /**
+     * Rebuilds the whole dictionary from the words table.
+     * The new trie is built aside and swapped in at once, so concurrent lookups never see a partial dictionary.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<WordFrequency> frequencies = transactionTemplate.execute(status -> wordsRepository.findWordFrequencies());
+        WordTrie rebuilt = new WordTrie();
+        if (frequencies != null) {
+            frequencies.forEach(frequency -> rebuilt.add(frequency.word(), (int) frequency.children()));
+        }
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Word dictionary built with {} words", rebuilt.size());
+    }
+
+    /**
+     * Finds the words known to the most children that start with the given prefix.
+     *
+     * @param prefix the normalized prefix, must not be empty.
+     * @param limit  the maximum number of words to return.
+     * @return the normalized words, known to the most children first.
+     */
+    public List<String> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.complete(prefix, limit, minChildren).stream()
+                    .map(WordTrie.Completion::word)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts again the children knowing the given words once the current transaction commits, or at once
+     * without a transaction. Called by the services deleting words, with the words they delete, as the words
+     * can no longer be read after the commit.
+     *
+     * @param words the normalized words some child may have lost.
+     */
+    public void recountAfterCommit(Collection<String> words) {
+        if (words.isEmpty()) {
+            return;
+        }
+        List<String> recounted = List.copyOf(words);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recount(recounted);
+                }
+            });
+        } else {
+            recount(recounted);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDataChanged(ChildDataChangedEvent event) {
+        if (event.entityType() != ChangedEntityType.WORD || event.operation() != ChangeOperation.UPSERT) {
+            return;
+        }
+        List<String> newWords = transactionTemplate.execute(status -> wordsRepository.findWordsNewToChildByIdIn(event.entityIds()));
+        if (newWords != null) {
+            recount(newWords);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParentDeleted(ParentDeletedEvent event) {
+        List<String> words = transactionTemplate.execute(status ->
+                wordsRepository.findDistinctWordNormalizedByParentId(event.parentId()));
+        if (words != null) {
+            recount(words);
+        }
+    }
+
+    private void recount(List<String> words) {
+        if (words.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> weights = new HashMap<>();
+        for (int from = 0; from < words.size(); from += RECOUNT_CHUNK_SIZE) {
+            List<String> chunk = words.subList(from, Math.min(from + RECOUNT_CHUNK_SIZE, words.size()));
+            chunk.forEach(word -> weights.put(word, 0));
+            List<WordFrequency> frequencies = transactionTemplate.execute(status ->
+                    wordsRepository.findWordFrequenciesByWordNormalizedIn(chunk));
+            if (frequencies != null) {
+                frequencies.forEach(frequency -> weights.put(frequency.word(), (int) frequency.children()));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            weights.forEach(trie::set);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
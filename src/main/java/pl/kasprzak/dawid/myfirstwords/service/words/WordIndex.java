@@ -0,0 +1,76 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.SimilarWordResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.util.ChildIndexCache;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cache of the in-memory word indexes of the children whose words were recently looked up.
+ * The indexes are kept in a {@link ChildIndexCache}, built on the first lookup of a child and afterwards kept up to
+ * date by its committed changes. Lookups are answered from the index alone and never query the words table.
+ */
+@Component
+public class WordIndex {
+
+    public static final String CACHE_NAME = "wordIndexes";
+
+    private final ChildIndexCache<ChildWordIndex, GetWordResponse> indexes;
+
+    public WordIndex(WordsRepository wordsRepository,
+                     ChildVersionsRepository childVersionsRepository,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     @Value("${myfirstwords.word-index.maximum-size:1000}") long maximumSize,
+                     @Value("${myfirstwords.word-index.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.indexes = new ChildIndexCache<>(CACHE_NAME, ChangedEntityType.WORD, childVersionsRepository,
+                transactionManager, meterRegistry, maximumSize, expireAfterAccess,
+                wordsRepository::findResponsesByChildId, wordsRepository::findResponsesByIdIn, ChildWordIndex::build);
+    }
+
+    /**
+     * Finds the words of a child closest to the given word, tolerating typos.
+     *
+     * @param childId the ID of the child.
+     * @param word    the word to look up.
+     * @param limit   the maximum number of words to return.
+     * @return the words within a small edit distance of the given word, best match first.
+     */
+    public List<SimilarWordResponse> findSimilar(Long childId, String word, int limit) {
+        return indexes.get(childId).findSimilar(word, limit);
+    }
+
+    /**
+     * Finds the words of a child starting with the given prefix.
+     *
+     * @param childId the ID of the child.
+     * @param prefix  the normalized prefix.
+     * @param limit   the maximum number of words to return.
+     * @return the distinct normalized words of the child starting with the prefix, in alphabetical order.
+     */
+    public List<String> complete(Long childId, String prefix, int limit) {
+        return indexes.get(childId).complete(prefix, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDataChanged(ChildDataChangedEvent event) {
+        indexes.apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDeleted(ChildDeletedEvent event) {
+        indexes.invalidate(event.childId());
+    }
+}
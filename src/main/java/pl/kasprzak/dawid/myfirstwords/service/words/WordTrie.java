@@ -0,0 +1,236 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Radix trie of normalized words weighted by the number of children who have learned them.
+ * Chains of single-child nodes are collapsed into one edge labelled with all their characters, and the children
+ * of a node are kept in an array sorted by the first character of their label, so a node costs a few references
+ * and ints regardless of the alphabet. Every node also holds the highest weight in its subtree, which lets
+ * {@link #complete} visit the subtrees best-first and stop after the top completions instead of walking every
+ * word below the prefix. The trie is not thread-safe.
+ */
+final class WordTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * A completion of a prefix.
+     *
+     * @param word   the normalized word.
+     * @param weight the number of children who have learned the word.
+     */
+    record Completion(String word, int weight) {
+    }
+
+    private static final class Node {
+
+        private char[] label;
+        private int weight;
+        private int maxWeight;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(char[] label, int weight) {
+            this.label = label;
+            this.weight = weight;
+            this.maxWeight = weight;
+        }
+    }
+
+    private record Entry(Node node, String word, boolean complete) {
+
+        int priority() {
+            return complete ? node.weight : node.maxWeight;
+        }
+    }
+
+    private static final Comparator<Entry> BEST_FIRST = Comparator.comparingInt(Entry::priority).reversed()
+            .thenComparing(entry -> !entry.complete())
+            .thenComparing(Entry::word);
+
+    private final Node root = new Node(new char[0], 0);
+    private int size;
+
+    /**
+     * Adds to the weight of a word, inserting the word if it is not in the trie yet.
+     *
+     * @param word   the normalized word.
+     * @param weight the weight to add, must be positive.
+     */
+    void add(String word, int weight) {
+        if (word == null || word.isEmpty() || weight <= 0) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < word.length()) {
+            path.add(node);
+            int index = findChild(node, word.charAt(position));
+            if (index < 0) {
+                Node leaf = new Node(word.substring(position).toCharArray(), 0);
+                insertChild(node, -index - 1, leaf);
+                node = leaf;
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, word, position);
+            if (common < child.label.length) {
+                Node middle = new Node(Arrays.copyOf(child.label, common), 0);
+                middle.maxWeight = child.maxWeight;
+                middle.children = new Node[]{child};
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            position += common;
+        }
+        if (node.weight == 0) {
+            size++;
+        }
+        node.weight += weight;
+        node.maxWeight = Math.max(node.maxWeight, node.weight);
+        for (Node ancestor : path) {
+            ancestor.maxWeight = Math.max(ancestor.maxWeight, node.weight);
+        }
+    }
+
+    /**
+     * Sets the weight of a word, inserting the word if it is not in the trie yet.
+     * A word whose weight drops to zero stays in the trie but is no longer counted or completed, and the highest
+     * weights of the nodes above it are recomputed from their children.
+     *
+     * @param word   the normalized word.
+     * @param weight the new weight, zero to drop the word.
+     */
+    void set(String word, int weight) {
+        if (word == null || word.isEmpty() || weight < 0) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < word.length()) {
+            path.add(node);
+            int index = findChild(node, word.charAt(position));
+            Node child = index < 0 ? null : node.children[index];
+            int common = child == null ? 0 : commonPrefix(child.label, word, position);
+            if (child == null || common < child.label.length) {
+                add(word, weight);
+                return;
+            }
+            node = child;
+            position += common;
+        }
+        if (node.weight == 0 && weight > 0) {
+            size++;
+        } else if (node.weight > 0 && weight == 0) {
+            size--;
+        }
+        node.weight = weight;
+        path.add(node);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node ancestor = path.get(i);
+            int maxWeight = ancestor.weight;
+            for (Node child : ancestor.children) {
+                maxWeight = Math.max(maxWeight, child.maxWeight);
+            }
+            ancestor.maxWeight = maxWeight;
+        }
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the heaviest words starting with the given prefix.
+     *
+     * @param prefix    the normalized prefix, must not be empty.
+     * @param limit     the maximum number of completions to return.
+     * @param minWeight the minimum weight of a returned word.
+     * @return the completions, heaviest first and alphabetically among equal weights.
+     */
+    List<Completion> complete(String prefix, int limit, int minWeight) {
+        Node node = root;
+        String word = "";
+        int position = 0;
+        while (position < prefix.length()) {
+            int index = findChild(node, prefix.charAt(position));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, prefix, position);
+            if (common < child.label.length && position + common < prefix.length()) {
+                return List.of();
+            }
+            word = word + new String(child.label);
+            node = child;
+            position += common;
+        }
+        List<Completion> completions = new ArrayList<>();
+        PriorityQueue<Entry> queue = new PriorityQueue<>(BEST_FIRST);
+        if (node.maxWeight >= minWeight) {
+            queue.add(new Entry(node, word, false));
+        }
+        while (!queue.isEmpty() && completions.size() < limit) {
+            Entry entry = queue.poll();
+            if (entry.complete()) {
+                completions.add(new Completion(entry.word(), entry.node().weight));
+                continue;
+            }
+            if (entry.node().weight >= minWeight && entry.node().weight > 0) {
+                queue.add(new Entry(entry.node(), entry.word(), true));
+            }
+            for (Node child : entry.node().children) {
+                if (child.maxWeight >= minWeight) {
+                    queue.add(new Entry(child, entry.word() + new String(child.label), false));
+                }
+            }
+        }
+        return completions;
+    }
+
+    private static int findChild(Node node, char first) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = node.children[middle].label[0];
+            if (label < first) {
+                low = middle + 1;
+            } else if (label > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    private static void insertChild(Node node, int index, Node child) {
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, index);
+        children[index] = child;
+        System.arraycopy(node.children, index, children, index + 1, node.children.length - index);
+        node.children = children;
+    }
+
+    private static int commonPrefix(char[] label, String word, int position) {
+        int length = Math.min(label.length, word.length() - position);
+        int common = 0;
+        while (common < length && label[common] == word.charAt(position + common)) {
+            common++;
+        }
+        return common;
+    }
+}
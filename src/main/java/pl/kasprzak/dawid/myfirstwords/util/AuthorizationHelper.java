@@ -12,6 +12,10 @@ import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ChildOwnershipIndex;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
+
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -19,6 +23,8 @@ public class AuthorizationHelper {
 
     public final ChildrenRepository childrenRepository;
     public final ParentsRepository parentsRepository;
+    public final ParentPrincipalCache parentPrincipalCache;
+    public final ChildOwnershipIndex childOwnershipIndex;
 
     /**
      * Checks if the authenticated user has the role of an administrator.
@@ -34,35 +40,127 @@ public class AuthorizationHelper {
     }
 
 
+    /**
+     * Authorizes the authenticated parent to access the child with the given ID without loading the child.
+     * The parent is resolved through the ParentPrincipalCache and ownership is answered by the ChildOwnershipIndex.
+     * Only if the index denies ownership is the child looked up, with the single ownership query, to tell
+     * a missing child from a child of another parent.
+     *
+     * @param childId The ID of the child to be authorized.
+     * @throws ParentNotFoundException if the authenticated parent is not found.
+     * @throws ChildNotFoundException  if the child with the given ID is not found.
+     * @throws AccessDeniedException   if the authenticated parent does not have access to the child.
+     */
+    public void authorizeChild(Long childId) {
+        Long parentId = authenticatedParentId();
+        if (!childOwnershipIndex.isOwner(parentId, childId)) {
+            rejectUnlessOwned(ChildOwnership.of(childrenRepository.findOwnership(childId, parentId)));
+        }
+    }
+
+    /**
+     * Authorizes access to a child on behalf of the parent with the given ID without loading the child.
+     * This method is intended for use by administrators. Ownership is resolved with a single query
+     * comparing the parent_id column of the child; the parent is only looked up when ownership is denied,
+     * to report a missing parent before a missing or foreign child.
+     *
+     * @param childID  The ID of the child to be authorized.
+     * @param parentID The ID of the parent to be authorized.
+     * @throws ParentNotFoundException if the parent with the specified ID is not found.
+     * @throws ChildNotFoundException  if the child with the specified ID is not found.
+     * @throws AccessDeniedException   if the parent does not have access to the specified child.
+     */
+    public void authorizeChildForAdmin(Long childID, Long parentID) {
+        ChildOwnership ownership = ChildOwnership.of(childrenRepository.findOwnership(childID, parentID));
+        if (ownership != ChildOwnership.OWNED && !parentsRepository.existsById(parentID)) {
+            throw new ParentNotFoundException("Parent not found");
+        }
+        rejectUnlessOwned(ownership);
+    }
+
+    /**
+     * Authorizes access to a child based on the provided child ID and optionally the parent ID.
+     * If the user is an admin, the method requires a valid parent ID and verifies that the child belongs to that parent.
+     * If the user is a parent, the method authorizes access based on the authenticated parent's identity.
+     * No entity is loaded, so callers that only read the child's words or milestones save the child lookup.
+     *
+     * @param childID  The ID of the child to be authorized.
+     * @param parentID The ID of the parent, required if the authenticated user is an admin.
+     * @throws AdminMissingParentIDException if the authenticated user is an admin and the parentID is null.
+     * @throws ParentNotFoundException       if the specified parent (for admin) or authenticated parent (for regular user) is not found.
+     * @throws ChildNotFoundException        if the child with the specified ID is not found.
+     * @throws AccessDeniedException         if the parent (either specified or authenticated) does not have access to the specified child.
+     */
+    public void authorizeForAdminOrParent(Long childID, Long parentID) {
+        if (isAdmin()) {
+            if (parentID == null) {
+                throw new AdminMissingParentIDException("Admin must provide a parentID to perform this operation.");
+            }
+            authorizeChildForAdmin(childID, parentID);
+        } else {
+            authorizeChild(childID);
+        }
+    }
+
+    /**
+     * Returns the ID of the parent on whose behalf the authenticated user acts: the given ID for an administrator,
+     * the ID of the authenticated parent otherwise. Once access to a child has been authorized with
+     * {@link #authorizeForAdminOrParent(Long, Long)}, this is the ID of the parent owning the child.
+     *
+     * @param parentID the ID of the parent, required if the authenticated user is an admin.
+     * @return the ID of the parent.
+     * @throws AdminMissingParentIDException if the authenticated user is an admin and the parentID is null.
+     * @throws ParentNotFoundException       if the authenticated parent is not found.
+     */
+    public Long actingParentId(Long parentID) {
+        if (isAdmin()) {
+            if (parentID == null) {
+                throw new AdminMissingParentIDException("Admin must provide a parentID to perform this operation.");
+            }
+            return parentID;
+        }
+        return authenticatedParentId();
+    }
+
+    /**
+     * Authorizes access to a child like {@link #authorizeForAdminOrParent(Long, Long)} and returns the child
+     * as authorized, so the caller can pass it to the methods that read the child's data without checking again.
+     *
+     * @param childID  The ID of the child to be authorized.
+     * @param parentID The ID of the parent, required if the authenticated user is an admin.
+     * @return The authorized child.
+     * @throws AdminMissingParentIDException if the authenticated user is an admin and the parentID is null.
+     * @throws ParentNotFoundException       if the specified parent (for admin) or authenticated parent (for regular user) is not found.
+     * @throws ChildNotFoundException        if the child with the specified ID is not found.
+     * @throws AccessDeniedException         if the parent (either specified or authenticated) does not have access to the specified child.
+     */
+    public AuthorizedChild authorizeChildAccess(Long childID, Long parentID) {
+        authorizeForAdminOrParent(childID, parentID);
+        return new AuthorizedChild(childID);
+    }
+
     /**
      * Validates and authorizes a child based on the given child ID.
-     * This method retrieves the username of the authenticated parent from the SecurityContextHolder,
-     * checks if the parent exists, and verifies if the parent has access to the specified child.
-     * If the parent or child does not exist, or if the parent does not have access, appropriate exceptions are thrown.
+     * This method authorizes the authenticated parent with {@link #authorizeChild(Long)} and returns
+     * a reference to the child that is not initialized, which is enough to associate new words or
+     * milestones with the child without selecting it.
      *
      * @param childId The ID of the child to be validated and authorized.
-     * @return The ChildEntity if validation and authorization are successful.
+     * @return A reference to the ChildEntity if validation and authorization are successful.
      * @throws ParentNotFoundException if the authenticated parent is not found.
      * @throws ChildNotFoundException  if the child with the given ID is not found.
      * @throws AccessDeniedException   if the authenticated parent does not have access to the child.
      */
     public ChildEntity validateAndAuthorizeChild(Long childId) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        ParentEntity parent = parentsRepository.findByUsername(username)
-                .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
-        ChildEntity child = childrenRepository.findById(childId)
-                .orElseThrow(() -> new ChildNotFoundException("Child not found"));
-        if (!child.getParent().getId().equals(parent.getId())) {
-            throw new AccessDeniedException("The parent does not have access to this child");
-        }
-        return child;
+        authorizeChild(childId);
+        return childrenRepository.getReferenceById(childId);
     }
 
     /**
      * Validates and authorizes access to a child based on the provided child ID and parent ID.
-     * This method is intended for use by administrators to validate and authorize access to a child
-     * entity belonging to a specified parent. It ensures that the child belongs to the parent with the
-     * given ID and that the parent exists.
+     * This method is intended for use by administrators. The child is loaded with a single query and
+     * the ID of its parent is compared without initializing the parent; the parent is only looked up
+     * when the child is missing or belongs to another parent.
      *
      * @param childID  The ID of the child to be validated and authorized.
      * @param parentID The ID of the parent to be validated and authorized.
@@ -72,14 +170,13 @@ public class AuthorizationHelper {
      * @throws AccessDeniedException   if the parent does not have access to the specified child.
      */
     public ChildEntity validateAndAuthorizeChildForAdmin(Long childID, Long parentID) {
-        ParentEntity parent = parentsRepository.findById(parentID)
-                .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
-        ChildEntity child = childrenRepository.findById(childID)
-                .orElseThrow(() -> new ChildNotFoundException("Child not found"));
-        if (!child.getParent().getId().equals(parent.getId())) {
-            throw new AccessDeniedException("The parent does not have access to this child");
+        Optional<ChildEntity> child = childrenRepository.findById(childID);
+        ChildOwnership ownership = ChildOwnership.of(child, parentID);
+        if (ownership != ChildOwnership.OWNED && !parentsRepository.existsById(parentID)) {
+            throw new ParentNotFoundException("Parent not found");
         }
-        return child;
+        rejectUnlessOwned(ownership);
+        return child.get();
     }
 
     /**
@@ -87,7 +184,10 @@ public class AuthorizationHelper {
      * This method determines whether the authenticated user is an admin or a parent:
      * If the user is an admin, the method requires a valid parent ID and verifies that the child belongs to that parent.
      * If the user is a parent, the method validates and authorizes access based on the authenticated parent's identity.
+     * In both cases the child is loaded once and the ID of its parent decides the access, so no separate
+     * ownership query is run.
      * If validation and authorization are successful, the corresponding ChildEntity is returned.
+     * Callers that do not need the entity should use {@link #authorizeForAdminOrParent(Long, Long)}.
      *
      * @param childID  The ID of the child to be validated and authorized.
      * @param parentID The ID of the parent, required if the authenticated user is an admin.
@@ -104,7 +204,10 @@ public class AuthorizationHelper {
             }
             return validateAndAuthorizeChildForAdmin(childID, parentID);
         } else {
-            return validateAndAuthorizeChild(childID);
+            Long authenticatedParentId = authenticatedParentId();
+            Optional<ChildEntity> child = childrenRepository.findById(childID);
+            rejectUnlessOwned(ChildOwnership.of(child, authenticatedParentId));
+            return child.get();
         }
     }
 
@@ -134,4 +237,20 @@ public class AuthorizationHelper {
                     .orElseThrow(() -> new ParentNotFoundException("Parent not found"));
         }
     }
+
+    private Long authenticatedParentId() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return parentPrincipalCache.get(username)
+                .orElseThrow(() -> new ParentNotFoundException("Parent not found"))
+                .id();
+    }
+
+    private static void rejectUnlessOwned(ChildOwnership ownership) {
+        switch (ownership) {
+            case MISSING -> throw new ChildNotFoundException("Child not found");
+            case NOT_OWNED -> throw new AccessDeniedException("The parent does not have access to this child");
+            case OWNED -> {
+            }
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+/**
+ * A child whose access by the authenticated parent or administrator has been checked.
+ * It can only be obtained from {@link AuthorizationHelper#authorizeChildAccess(Long, Long)}, so a method taking it
+ * reads the child's data without authorizing again, and the check stays visible where the child is obtained.
+ */
+public final class AuthorizedChild {
+
+    private final Long childId;
+
+    AuthorizedChild(Long childId) {
+        this.childId = childId;
+    }
+
+    /**
+     * Returns the ID of the authorized child.
+     *
+     * @return the ID of the child.
+     */
+    public Long getChildId() {
+        return childId;
+    }
+}
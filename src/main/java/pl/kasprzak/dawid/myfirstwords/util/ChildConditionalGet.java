@@ -0,0 +1,132 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
+import pl.kasprzak.dawid.myfirstwords.exception.ChildNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class ChildConditionalGet {
+
+    private static final Pattern GZIP_REFUSED = Pattern.compile("gzip;q=0(\\.0*)?");
+
+    private final AuthorizationHelper authorizationHelper;
+    private final ChildVersionService childVersionService;
+    private final ChildResponseCache childResponseCache;
+
+    /**
+     * Answers a conditional GET for the words or milestones of a child.
+     * After authorizing the parent or administrator, the ETag is built from the child's version. If it matches
+     * the If-None-Match header of the request, 304 Not Modified is returned without loading any rows, otherwise
+     * the body is loaded and returned with the ETag. The body is loaded for the child returned by the authorization,
+     * so the service loading it does not check ownership a second time. The version and the body are read in one read-only
+     * transaction, so the ETag never describes a newer state than the body it is sent with.
+     *
+     * @param childId    the ID of the child whose data is requested.
+     * @param parentID   the ID of the parent, required if the authenticated user is an administrator.
+     * @param webRequest the current request, carrying the If-None-Match header.
+     * @param body       loads the body of the response for the authorized child.
+     * @return 304 Not Modified, or 200 OK with the body, both carrying the ETag.
+     * @throws AdminMissingParentIDException if the authenticated user is an administrator and the parentID is null.
+     * @throws ParentNotFoundException       if the parent is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated user does not have access to the child.
+     */
+    @Transactional(readOnly = true)
+    public <T> ResponseEntity<T> respond(Long childId, Long parentID, WebRequest webRequest,
+                                     Function<AuthorizedChild, T> body) {
+        AuthorizedChild child = authorizationHelper.authorizeChildAccess(childId, parentID);
+        String eTag = childVersionService.getETag(childId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body.apply(child));
+    }
+
+    /**
+     * Answers a conditional GET like {@link #respond}, but serves the body from the ChildResponseCache.
+     * A cached body is written as it is, without loading any rows or serializing it again. If the request
+     * accepts gzip and a gzipped copy is cached, the gzipped copy is sent with Content-Encoding: gzip and its own
+     * strong ETag, the ETag of the child with a "-gz" suffix, since its bytes differ from the uncompressed body.
+     * If-None-Match is matched, with the weak comparison, against both ETags when the request accepts gzip. Both the 304 and the 200
+     * responses carry Vary: Accept-Encoding, so shared caches keep the encodings apart.
+     *
+     * @param childId    the ID of the child whose data is requested.
+     * @param parentID   the ID of the parent, required if the authenticated user is an administrator.
+     * @param endpoint   the endpoint whose body is requested.
+     * @param webRequest the current request, carrying the If-None-Match and Accept-Encoding headers.
+     * @param body       loads the body of the response for the authorized child when it is not cached.
+     * @return 304 Not Modified, or 200 OK with the serialized JSON body, both carrying the ETag of the encoding.
+     * @throws AdminMissingParentIDException if the authenticated user is an administrator and the parentID is null.
+     * @throws ParentNotFoundException       if the parent is not found.
+     * @throws ChildNotFoundException        if the child with the given ID is not found.
+     * @throws AccessDeniedException         if the authenticated user does not have access to the child.
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> respondSerialized(Long childId, Long parentID, ChildResponseCache.Endpoint endpoint,
+                                                    WebRequest webRequest,
+                                                    Function<AuthorizedChild, ?> body) {
+        AuthorizedChild child = authorizationHelper.authorizeChildAccess(childId, parentID);
+        String eTag = childVersionService.getETag(childId);
+        String gzipETag = gzipETag(eTag);
+        boolean acceptsGzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        if (acceptsGzip && matches(ifNoneMatch, gzipETag)) {
+            return notModified(gzipETag);
+        }
+        ChildResponseCache.SerializedResponse response = childResponseCache.get(childId, endpoint, eTag,
+                () -> body.apply(child));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (response.gzip() != null && acceptsGzip) {
+            return builder.eTag(gzipETag).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.eTag(eTag).body(response.json());
+    }
+
+    private static ResponseEntity<byte[]> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag));
+    }
+
+    private static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gz\"";
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.trim().toLowerCase(Locale.ROOT).replace(" ", ""))
+                .anyMatch(coding -> (coding.equals("gzip") || coding.startsWith("gzip;"))
+                        && !GZIP_REFUSED.matcher(coding).matches());
+    }
+}
@@ -0,0 +1,137 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.config.ReadWriteRoutingDataSource;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cache of the in-memory indexes of the words or milestones of the children that were recently looked up.
+ * The index of a child is built on its first lookup, from the version of the child's data and its entities read
+ * in the caller's transaction, or in a read-only transaction on the primary without one, so a lookup never holds
+ * a second connection, and afterwards kept up to date by the committed changes of the child instead of being
+ * rebuilt: deleted entities are dropped without a query and created or updated ones are read by their IDs.
+ * The entities are read before the entry is locked, so no query runs while other updates of the cache wait, and
+ * the version is checked again under the lock, so a change is applied exactly once and only on top of the version
+ * it follows. A change committed while the index is being built waits for the build under the same lock and is
+ * then applied, or the index is dropped if its created entities were not read. Every change of the child
+ * advances the version of its index; if a change was missed, the index is dropped and rebuilt on the next lookup.
+ *
+ * @param <I> the type of the index.
+ * @param <E> the type of the indexed entities.
+ */
+public class ChildIndexCache<I extends VersionedChildIndex<I, E>, E> {
+
+    private final ChangedEntityType entityType;
+    private final ChildVersionsRepository childVersionsRepository;
+    private final Function<Long, List<E>> entitiesOfChild;
+    private final Function<Collection<Long>, List<E>> entitiesById;
+    private final BiFunction<Long, List<E>, I> builder;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, I> cache;
+
+    /**
+     * Creates the cache and publishes its metrics.
+     *
+     * @param name                    the name of the cache in the metrics.
+     * @param entityType              the type of the indexed entities in the changes of a child.
+     * @param childVersionsRepository reads the version of the child's data an index is built at.
+     * @param transactionManager      the transaction manager the entities are read with.
+     * @param meterRegistry           the registry the metrics of the cache are published in.
+     * @param maximumSize             the maximum number of cached indexes.
+     * @param expireAfterAccess       how long an index is kept after its last lookup.
+     * @param entitiesOfChild         reads every entity of a child.
+     * @param entitiesById            reads the entities with the given IDs.
+     * @param builder                 builds the index of the given entities at the given version.
+     */
+    public ChildIndexCache(String name,
+                           ChangedEntityType entityType,
+                           ChildVersionsRepository childVersionsRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           long maximumSize,
+                           Duration expireAfterAccess,
+                           Function<Long, List<E>> entitiesOfChild,
+                           Function<Collection<Long>, List<E>> entitiesById,
+                           BiFunction<Long, List<E>, I> builder) {
+        this.entityType = entityType;
+        this.childVersionsRepository = childVersionsRepository;
+        this.entitiesOfChild = entitiesOfChild;
+        this.entitiesById = entitiesById;
+        this.builder = builder;
+        this.transactionTemplate = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * Returns the index of a child, building it on a miss.
+     *
+     * @param childId the ID of the child.
+     * @return the index of the child.
+     */
+    public I get(Long childId) {
+        return cache.get(childId, this::load);
+    }
+
+    /**
+     * Applies a committed change to the cached index of the child, if there is one or it is being built.
+     * A change of the other type of entities only advances the version of the index.
+     *
+     * @param event the change of the child's words or milestones.
+     */
+    public void apply(ChildDataChangedEvent event) {
+        I current = cache.policy().getIfPresentQuietly(event.childId());
+        if (current != null && event.version() <= current.getVersion()) {
+            return;
+        }
+        boolean indexed = event.entityType() == entityType;
+        boolean upsert = event.operation() == ChangeOperation.UPSERT;
+        boolean loaded = current != null && event.version() == current.getVersion() + 1;
+        List<Long> deletedIds = indexed && !upsert ? event.entityIds() : List.of();
+        List<E> upserted = indexed && upsert && loaded
+                ? transactionTemplate.execute(status -> entitiesById.apply(event.entityIds()))
+                : List.of();
+        cache.asMap().compute(event.childId(), (childId, index) -> {
+            if (index == null || event.version() <= index.getVersion()) {
+                return index;
+            }
+            if (event.version() > index.getVersion() + 1 || indexed && upsert && !loaded) {
+                return null;
+            }
+            return index.apply(event.version(), deletedIds, upserted);
+        });
+    }
+
+    /**
+     * Drops the index of a child.
+     *
+     * @param childId the ID of the child.
+     */
+    public void invalidate(Long childId) {
+        cache.invalidate(childId);
+    }
+
+    private I load(Long childId) {
+        return transactionTemplate.execute(status -> builder.apply(
+                childVersionsRepository.findVersionByChildId(childId).orElse(0L),
+                entitiesOfChild.apply(childId)));
+    }
+}
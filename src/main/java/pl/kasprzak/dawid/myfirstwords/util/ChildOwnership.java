@@ -0,0 +1,36 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+
+import java.util.Optional;
+
+/**
+ * Outcome of checking whether a child belongs to a parent, used by the AuthorizationHelper to tell
+ * a missing child from a child of another parent with the same lookup that decided the access.
+ */
+enum ChildOwnership {
+    OWNED,
+    NOT_OWNED,
+    MISSING;
+
+    /**
+     * Maps the result of an ownership query to an outcome.
+     *
+     * @param owned the query result: empty if the child does not exist, otherwise whether the parent owns it.
+     * @return the corresponding ChildOwnership.
+     */
+    static ChildOwnership of(Optional<Boolean> owned) {
+        return owned.map(isOwned -> isOwned ? OWNED : NOT_OWNED).orElse(MISSING);
+    }
+
+    /**
+     * Maps a loaded child to an outcome by comparing the ID of its parent, without initializing the parent.
+     *
+     * @param child    the child, empty if it does not exist.
+     * @param parentId the ID of the parent.
+     * @return the corresponding ChildOwnership.
+     */
+    static ChildOwnership of(Optional<ChildEntity> child, Long parentId) {
+        return of(child.map(entity -> entity.getParent().getId().equals(parentId)));
+    }
+}
@@ -0,0 +1,172 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of the serialized JSON bodies of the endpoints returning all words or all milestones of a child.
+ * Entries are keyed by child and endpoint and hold the ETag of the child's data the body was serialized from,
+ * so a body is only ever served for that version and a child's bodies can be evicted by key. The bodies of
+ * a child are evicted once a change of its words or milestones commits. The cache is bounded by the bytes it
+ * holds and evicts the least recently and frequently used bodies first. Bodies of at least the configured size
+ * are also kept gzipped.
+ */
+@Component
+public class ChildResponseCache {
+
+    public static final String CACHE_NAME = "childResponses";
+
+    public enum Endpoint {
+        WORDS,
+        MILESTONES
+    }
+
+    /**
+     * A serialized body together with its gzipped copy, or null if the body is too small to be worth compressing.
+     */
+    public record SerializedResponse(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private record Key(Long childId, Endpoint endpoint) {
+    }
+
+    private record Entry(String eTag, SerializedResponse response) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Entry> cache;
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final boolean gzipEnabled;
+    private final long gzipMinSize;
+
+    public ChildResponseCache(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${myfirstwords.response-cache.maximum-size:16MB}") DataSize maximumSize,
+                              @Value("${myfirstwords.response-cache.gzip:true}") boolean gzipEnabled,
+                              @Value("${myfirstwords.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.response().weight())
+                .recordStats(() -> statsCounter)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.weighted.size", cache, ChildResponseCache::weightedSize)
+                .tag("cache", CACHE_NAME)
+                .baseUnit("bytes")
+                .description("The bytes held by the cached response bodies")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the serialized body of an endpoint for the given version of a child's data.
+     * On a miss, or if the cached body belongs to another version, the body is loaded, serialized, optionally
+     * gzipped and cached in place of the previous one.
+     *
+     * @param childId  the ID of the child.
+     * @param endpoint the endpoint whose body is requested.
+     * @param eTag     the ETag of the child's data the body must belong to.
+     * @param body     loads the body on a miss.
+     * @return the serialized body.
+     */
+    public SerializedResponse get(Long childId, Endpoint endpoint, String eTag, Supplier<?> body) {
+        Key key = new Key(childId, endpoint);
+        Entry cached = cache.policy().getIfPresentQuietly(key);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            statsCounter.recordHits(1);
+            return cached.response();
+        }
+        statsCounter.recordMisses(1);
+        SerializedResponse response = serialize(body.get());
+        cache.put(key, new Entry(eTag, response));
+        return response;
+    }
+
+    /**
+     * Evicts every cached body of the given child.
+     * If a transaction is active, the bodies are evicted again once it completes, so a concurrent
+     * request cannot re-populate the cache with the state from before the commit.
+     *
+     * @param childId the ID of the child whose words or milestones changed.
+     */
+    public void invalidate(Long childId) {
+        evict(childId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(childId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts the cached bodies of a child once a change of its words or milestones commits.
+     * A body cached meanwhile holds the ETag of the previous version and is never served for the new one.
+     *
+     * @param event the change of the child's words or milestones.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChildDataChanged(ChildDataChangedEvent event) {
+        evict(event.childId());
+    }
+
+    private void evict(Long childId) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            cache.invalidate(new Key(childId, endpoint));
+        }
+    }
+
+    private SerializedResponse serialize(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Response body could not be serialized", exception);
+        }
+        return new SerializedResponse(json, gzipEnabled && json.length >= gzipMinSize ? gzip(json) : null);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return out.toByteArray();
+    }
+
+    private static double weightedSize(Cache<Key, Entry> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,19 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats in which the history of a child can be exported.
+ * Both formats hold exactly one record per line, so the export can be written row by row as it is read.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+}
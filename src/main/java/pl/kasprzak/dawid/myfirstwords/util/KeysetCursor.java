@@ -0,0 +1,55 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in a listing ordered by (dateAchieve, id).
+ * The next page starts strictly after this position, so fetching it costs the same however deep it is.
+ * Clients receive the cursor as an opaque, URL-safe token and must not rely on its format.
+ *
+ * @param dateAchieve the achievement date of the last row of the page.
+ * @param id          the ID of the last row of the page.
+ */
+public record KeysetCursor(LocalDate dateAchieve, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Encodes the cursor as an opaque continuation token.
+     *
+     * @return the URL-safe token representing this cursor.
+     */
+    public String encode() {
+        String plain = dateAchieve.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token previously returned by {@link #encode()}.
+     *
+     * @param token the continuation token, may be null or blank for the first page.
+     * @return the decoded cursor, or null if no token was given.
+     * @throws InvalidCursorException if the token is malformed.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = plain.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDate.parse(plain.substring(0, separator)),
+                    Long.parseLong(plain.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the number of rows returned on one page of a paginated listing.
+ * The requested size is clamped between one and the configured maximum, so a single request
+ * can never materialize an unbounded number of rows.
+ */
+@Component
+public class PageSizeResolver {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageSizeResolver(@Value("${myfirstwords.pagination.default-page-size:50}") int defaultPageSize,
+                            @Value("${myfirstwords.pagination.max-page-size:200}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+        this.defaultPageSize = Math.min(defaultPageSize, maxPageSize);
+    }
+
+    /**
+     * Resolves the page size for the given request.
+     *
+     * @param requested the page size requested by the client, may be null.
+     * @return the default page size if none was requested, otherwise the requested size clamped to [1, max-page-size].
+     */
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+}
@@ -0,0 +1,136 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes the rows of a repository stream straight to the response body as NDJSON or CSV.
+ * The stream is consumed inside its own read-only transaction while the response is being written.
+ * Rows are either selected straight into their exported shape or streamed as entities that are detached
+ * from the persistence context once written, so the memory used by an export does not depend on how many
+ * rows it contains.
+ */
+@Component
+public class StreamingExporter {
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StreamingExporter(ObjectMapper objectMapper, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * A named column of a CSV export.
+     *
+     * @param name  the name of the column, written in the header line.
+     * @param value extracts the value of the column from a row.
+     * @param <T>   the type of the exported rows.
+     */
+    public record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    /**
+     * Creates the body of an export of rows that the repository selects straight into their exported shape.
+     * Nothing is read until the body is written to the response.
+     *
+     * @param format  the format of the export.
+     * @param columns the columns of a CSV export, in order; NDJSON exports serialize the whole row instead.
+     * @param rows    opens the repository stream of the exported rows; it is closed once the export is written.
+     * @param <T>     the type of the exported rows.
+     * @return the body that writes the export to the response.
+     */
+    public <T> StreamingResponseBody export(ExportFormat format, List<Column<T>> columns, Supplier<Stream<T>> rows) {
+        return export(format, columns, rows, (writer, row) -> writeRow(writer, format, columns, row));
+    }
+
+    /**
+     * Creates the body of an export of entities. Nothing is read until the body is written to the response.
+     *
+     * @param format    the format of the export.
+     * @param columns   the columns of a CSV export, in order; NDJSON exports serialize the whole row instead.
+     * @param rows      opens the repository stream of the exported entities; it is closed once the export is written.
+     * @param converter converts an entity to the exported row.
+     * @param <E>       the type of the streamed entities.
+     * @param <T>       the type of the exported rows.
+     * @return the body that writes the export to the response.
+     */
+    public <E, T> StreamingResponseBody export(ExportFormat format, List<Column<T>> columns,
+                                               Supplier<Stream<E>> rows, Function<E, T> converter) {
+        return export(format, columns, rows, (writer, entity) -> {
+            writeRow(writer, format, columns, converter.apply(entity));
+            entityManager.detach(entity);
+        });
+    }
+
+    private <E, T> StreamingResponseBody export(ExportFormat format, List<Column<T>> columns,
+                                                Supplier<Stream<E>> rows, BiConsumer<Writer, E> rowWriter) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(Column::name).toList());
+            }
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<E> elements = rows.get()) {
+                    elements.forEach(element -> rowWriter.accept(writer, element));
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private <T> void writeRow(Writer writer, ExportFormat format, List<Column<T>> columns, T row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
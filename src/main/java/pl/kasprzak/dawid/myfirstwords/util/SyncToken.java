@@ -0,0 +1,68 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidSyncTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Position of a client in the change log of the words and milestones of a parent's children.
+ * Holds the version of every child the client has seen; the next sync returns only the changes recorded
+ * with a higher version, plus the full data of children the client has not seen yet.
+ * Clients receive the token as an opaque, URL-safe string and must not rely on its format.
+ *
+ * @param versions the version of each child the client has seen, keyed by child ID.
+ */
+public record SyncToken(Map<Long, Long> versions) {
+
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final char VERSION_SEPARATOR = ':';
+
+    public SyncToken {
+        versions = Map.copyOf(versions);
+    }
+
+    /**
+     * Encodes the token as an opaque string.
+     *
+     * @return the URL-safe token.
+     */
+    public String encode() {
+        String plain = new TreeMap<>(versions).entrySet().stream()
+                .map(entry -> entry.getKey() + String.valueOf(VERSION_SEPARATOR) + entry.getValue())
+                .collect(Collectors.joining(ENTRY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously returned by {@link #encode()}.
+     *
+     * @param token the token, may be null or blank for the first sync.
+     * @return the decoded token, holding no versions if no token was given.
+     * @throws InvalidSyncTokenException if the token is malformed.
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new SyncToken(Map.of());
+        }
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            Map<Long, Long> versions = new TreeMap<>();
+            if (!plain.isEmpty()) {
+                for (String entry : plain.split(ENTRY_SEPARATOR)) {
+                    int separator = entry.indexOf(VERSION_SEPARATOR);
+                    if (separator < 0) {
+                        throw new InvalidSyncTokenException("Invalid sync token");
+                    }
+                    versions.put(Long.parseLong(entry.substring(0, separator)), Long.parseLong(entry.substring(separator + 1)));
+                }
+            }
+            return new SyncToken(versions);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidSyncTokenException("Invalid sync token");
+        }
+    }
+}
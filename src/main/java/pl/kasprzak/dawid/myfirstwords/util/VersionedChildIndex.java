@@ -0,0 +1,30 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import java.util.Collection;
+
+/**
+ * Immutable in-memory index of the words or milestones of one child, as of a version of the child's data,
+ * kept up to date by a {@link ChildIndexCache}.
+ *
+ * @param <I> the type of the index itself.
+ * @param <E> the type of the indexed entities.
+ */
+public interface VersionedChildIndex<I extends VersionedChildIndex<I, E>, E> {
+
+    /**
+     * Returns the version of the child's data the index holds.
+     *
+     * @return the version.
+     */
+    long getVersion();
+
+    /**
+     * Returns the index after a change of the child's data.
+     *
+     * @param version    the version of the child's data the change was recorded with.
+     * @param deletedIds the IDs of the deleted entities.
+     * @param upserted   the current state of the created or updated entities.
+     * @return a new index holding the change.
+     */
+    I apply(long version, Collection<Long> deletedIds, Collection<E> upserted);
+}
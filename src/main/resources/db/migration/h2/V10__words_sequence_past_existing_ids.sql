@@ -0,0 +1,4 @@
+-- V3 started words_seq at 1 even when words already existed, so inserts could collide with their IDs.
+-- Hibernate hands out the block (value - 49 .. value) for each value of the pooled sequence,
+-- so the sequence is moved past the highest existing ID, as the MySQL table emulating it is seeded.
+alter sequence words_seq restart with (select coalesce(max(id), 0) + 50 from words);
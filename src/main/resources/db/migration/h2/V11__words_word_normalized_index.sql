@@ -0,0 +1,3 @@
+-- The dictionary counts the children knowing given words (where word_normalized in (...) group by word_normalized).
+-- idx_words_child_word_normalized is led by child_id and cannot serve that lookup, so every recount scanned words.
+create index idx_words_word_normalized_child on words (word_normalized, child_id);
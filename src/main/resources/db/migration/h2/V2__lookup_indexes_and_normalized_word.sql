@@ -0,0 +1,11 @@
+-- Normalized form of the word (trimmed, lower-cased), maintained by WordEntity, for index-backed exact lookups.
+alter table words add column word_normalized varchar(255);
+update words set word_normalized = lower(trim(word));
+
+-- The child's listings filter by child and date range and are ordered by (date_achieve, id).
+create index idx_words_child_date_achieve on words (child_id, date_achieve, id);
+create index idx_words_child_word_normalized on words (child_id, word_normalized);
+create index idx_milestones_child_date_achieve on milestones (child_id, date_achieve, id);
+
+create index idx_parents_username on parents (username);
+create index idx_parents_mail on parents (mail);
@@ -0,0 +1,2 @@
+-- Words get their IDs from a pooled sequence so that Hibernate can batch their inserts.
+create sequence words_seq start with 1 increment by 50;
@@ -0,0 +1,5 @@
+-- Registration time of the parent, maintained by ParentEntity; parents registered before this column existed keep null.
+alter table parents add column registered_at timestamp(6);
+
+-- The admin listing of parents filters by registration window and is ordered by id.
+create index idx_parents_registered_at on parents (registered_at, id);
@@ -0,0 +1,27 @@
+-- Roles are a fixed catalog of shared rows (see RoleCatalog): parents link to the single row of each role
+-- instead of owning a copy. Links to duplicate rows are moved to the oldest row of the same role first.
+update parents_authorities pa
+set authorities_id = (select min(kept.id)
+                      from authorities duplicate
+                               join authorities kept on kept.authority = duplicate.authority
+                      where duplicate.id = pa.authorities_id)
+where authorities_id in (select id from authorities where authority is not null);
+
+create table parents_authorities_distinct as
+select distinct parent_entity_id, authorities_id from parents_authorities;
+delete from parents_authorities;
+insert into parents_authorities (parent_entity_id, authorities_id)
+select parent_entity_id, authorities_id from parents_authorities_distinct;
+drop table parents_authorities_distinct;
+
+delete from authorities
+where authority is not null
+  and id not in (select min(id) from authorities where authority is not null group by authority);
+
+insert into authorities (authority)
+select 'ROLE_USER' where not exists (select 1 from authorities where authority = 'ROLE_USER');
+insert into authorities (authority)
+select 'ROLE_ADMIN' where not exists (select 1 from authorities where authority = 'ROLE_ADMIN');
+
+alter table authorities add constraint uk_authorities_authority unique (authority);
+alter table parents_authorities add primary key (parent_entity_id, authorities_id);
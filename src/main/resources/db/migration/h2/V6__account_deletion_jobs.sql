@@ -0,0 +1,20 @@
+-- Time at which the deletion of the parent's account was requested; from then on the account is rejected
+-- and its data is purged in the background by an account deletion job.
+alter table parents add column deleted_at timestamp(6);
+
+create table account_deletion_jobs (
+    id            bigint generated by default as identity,
+    parent_id     bigint       not null,
+    status        varchar(255) not null check (status in ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+    total_items   bigint       not null,
+    deleted_items bigint       not null,
+    requested_at  timestamp(6) not null,
+    started_at    timestamp(6),
+    finished_at   timestamp(6),
+    error         varchar(255),
+    primary key (id)
+);
+
+-- The job of a parent is looked up by parent, unfinished jobs are resumed by status on startup.
+create index idx_account_deletion_jobs_parent on account_deletion_jobs (parent_id, id);
+create index idx_account_deletion_jobs_status on account_deletion_jobs (status);
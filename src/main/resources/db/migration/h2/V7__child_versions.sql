@@ -0,0 +1,10 @@
+-- Version of the words and milestones of every child, bumped by each write to either of them.
+-- The read endpoints derive their ETag from it and answer a matching If-None-Match without loading any rows.
+create table child_versions (
+    child_id bigint not null,
+    version  bigint not null,
+    primary key (child_id)
+);
+
+insert into child_versions (child_id, version)
+select id, 0 from children;
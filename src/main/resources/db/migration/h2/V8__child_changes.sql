@@ -0,0 +1,18 @@
+-- Change log of the words and milestones of every child, read by the delta sync endpoint.
+-- Each write records one row per created, updated or deleted entity, stamped with the version of the child
+-- it bumped; deletes are kept as tombstones. Versions of a child commit in order, so a client that has seen
+-- version N of a child only needs the rows of that child with a higher version.
+create sequence child_changes_seq start with 1 increment by 50;
+
+create table child_changes (
+    id          bigint       not null,
+    child_id    bigint       not null,
+    version     bigint       not null,
+    entity_type varchar(255) not null check (entity_type in ('WORD', 'MILESTONE')),
+    entity_id   bigint       not null,
+    operation   varchar(255) not null check (operation in ('UPSERT', 'DELETE')),
+    changed_at  timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_child_changes_child_version on child_changes (child_id, version);
@@ -0,0 +1,4 @@
+-- Time at which the worker running a job last recorded progress. A running job whose heartbeat is older than
+-- the lease is taken to be abandoned by a stopped instance and returned to the pending state.
+alter table account_deletion_jobs add column heartbeat_at datetime(6);
+update account_deletion_jobs set heartbeat_at = started_at where status = 'RUNNING';
@@ -0,0 +1,51 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update); databases created that way are baselined at this version.
+create table authorities (
+    id        bigint not null auto_increment,
+    authority varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create table parents (
+    id       bigint not null auto_increment,
+    username varchar(255),
+    password varchar(255),
+    mail     varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create table parents_authorities (
+    parent_entity_id bigint not null,
+    authorities_id   bigint not null
+) engine = InnoDB;
+
+create table children (
+    id         bigint not null auto_increment,
+    name       varchar(255),
+    birth_date date,
+    gender     enum ('BOY', 'GIRL'),
+    parent_id  bigint,
+    primary key (id)
+) engine = InnoDB;
+
+create table words (
+    id           bigint not null auto_increment,
+    word         varchar(255),
+    date_achieve date,
+    child_id     bigint,
+    primary key (id)
+) engine = InnoDB;
+
+create table milestones (
+    id           bigint not null auto_increment,
+    title        varchar(255),
+    description  varchar(255),
+    date_achieve date,
+    child_id     bigint,
+    primary key (id)
+) engine = InnoDB;
+
+alter table parents_authorities add constraint FKlgyqp7a254sewb7wgcg3hi7dt foreign key (parent_entity_id) references parents (id);
+alter table parents_authorities add constraint FKc4gb2qkpbquonl2x4w8a7ylut foreign key (authorities_id) references authorities (id);
+alter table children add constraint FK80yjq0eid40qils83jpgpo6t6 foreign key (parent_id) references parents (id);
+alter table words add constraint FK1h2x5j3523ypp7xjoebydmsx9 foreign key (child_id) references children (id);
+alter table milestones add constraint FKr1i8xdffp7kwm4epuhlybvu6x foreign key (child_id) references children (id);
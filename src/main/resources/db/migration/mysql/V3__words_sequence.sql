@@ -0,0 +1,8 @@
+-- Words get their IDs from a pooled sequence so that Hibernate can batch their inserts.
+-- MySQL has no sequences, so Hibernate emulates words_seq with a single-row table holding the next high value;
+-- it hands out the block (next_val - 49 .. next_val), so the table is seeded past the highest existing ID.
+create table words_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into words_seq (next_val) select coalesce(max(id), 0) + 50 from words;
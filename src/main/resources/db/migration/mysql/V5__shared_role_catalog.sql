@@ -0,0 +1,27 @@
+-- Roles are a fixed catalog of shared rows (see RoleCatalog): parents link to the single row of each role
+-- instead of owning a copy. Links to duplicate rows are moved to the oldest row of the same role first.
+update parents_authorities pa
+    join authorities duplicate on duplicate.id = pa.authorities_id
+    join (select authority, min(id) as id from authorities group by authority) kept
+    on kept.authority = duplicate.authority
+set pa.authorities_id = kept.id;
+
+create table parents_authorities_distinct as
+select distinct parent_entity_id, authorities_id from parents_authorities;
+delete from parents_authorities;
+insert into parents_authorities (parent_entity_id, authorities_id)
+select parent_entity_id, authorities_id from parents_authorities_distinct;
+drop table parents_authorities_distinct;
+
+delete from authorities
+where authority is not null
+  and id not in (select id
+                 from (select min(id) as id from authorities where authority is not null group by authority) kept);
+
+insert into authorities (authority)
+select 'ROLE_USER' from dual where not exists (select 1 from authorities where authority = 'ROLE_USER');
+insert into authorities (authority)
+select 'ROLE_ADMIN' from dual where not exists (select 1 from authorities where authority = 'ROLE_ADMIN');
+
+alter table authorities add constraint uk_authorities_authority unique (authority);
+alter table parents_authorities add primary key (parent_entity_id, authorities_id);
@@ -0,0 +1,20 @@
+-- Time at which the deletion of the parent's account was requested; from then on the account is rejected
+-- and its data is purged in the background by an account deletion job.
+alter table parents add column deleted_at datetime(6);
+
+create table account_deletion_jobs (
+    id            bigint                                            not null auto_increment,
+    parent_id     bigint                                            not null,
+    status        enum ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED') not null,
+    total_items   bigint                                            not null,
+    deleted_items bigint                                            not null,
+    requested_at  datetime(6)                                       not null,
+    started_at    datetime(6),
+    finished_at   datetime(6),
+    error         varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+-- The job of a parent is looked up by parent, unfinished jobs are resumed by status on startup.
+create index idx_account_deletion_jobs_parent on account_deletion_jobs (parent_id, id);
+create index idx_account_deletion_jobs_status on account_deletion_jobs (status);
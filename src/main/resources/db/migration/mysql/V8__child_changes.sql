@@ -0,0 +1,23 @@
+-- Change log of the words and milestones of every child, read by the delta sync endpoint.
+-- Each write records one row per created, updated or deleted entity, stamped with the version of the child
+-- it bumped; deletes are kept as tombstones. Versions of a child commit in order, so a client that has seen
+-- version N of a child only needs the rows of that child with a higher version.
+-- Like words_seq, child_changes_seq is emulated by a single-row table so that Hibernate can batch the inserts.
+create table child_changes_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into child_changes_seq (next_val) values (1);
+
+create table child_changes (
+    id          bigint                       not null,
+    child_id    bigint                       not null,
+    version     bigint                       not null,
+    entity_type enum ('WORD', 'MILESTONE')   not null,
+    entity_id   bigint                       not null,
+    operation   enum ('UPSERT', 'DELETE')    not null,
+    changed_at  datetime(6)                  not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_child_changes_child_version on child_changes (child_id, version);
@@ -0,0 +1,16 @@
+-- Number of words every child achieved on each day, kept up to date by every write to the words of the child.
+-- The vocabulary growth endpoint sums these rows into periods instead of reading the whole word history.
+-- Rows are written while the version of the child is locked, so the writers of a child never race on a day.
+create table word_daily_counts (
+    id           bigint not null auto_increment,
+    child_id     bigint not null,
+    date_achieve date   not null,
+    words        bigint not null,
+    primary key (id),
+    constraint uk_word_daily_counts_child_day unique (child_id, date_achieve)
+) engine = InnoDB;
+
+insert into word_daily_counts (child_id, date_achieve, words)
+select child_id, date_achieve, count(*) from words
+where child_id is not null and date_achieve is not null
+group by child_id, date_achieve;
@@ -0,0 +1,114 @@
+package pl.kasprzak.dawid.myfirstwords.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.AntPathMatcher;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.security.ChildOwnershipIndex;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+import pl.kasprzak.dawid.myfirstwords.security.authorities.AccountOwnerProvider;
+import pl.kasprzak.dawid.myfirstwords.security.authorities.AuthorityRouteTable;
+import pl.kasprzak.dawid.myfirstwords.security.authorities.ChildOwnerProvider;
+import pl.kasprzak.dawid.myfirstwords.security.authorities.PasswordOwnerProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-request cost of resolving the additional authorities of a parent.
+ * The {@code legacy} benchmark replays the former dispatch (a new AntPathMatcher per provider and
+ * regular expressions to extract the IDs), the {@code routeTable} benchmark the compiled route table
+ * backed by a warmed {@link ChildOwnershipIndex}.
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=AuthorityDispatch}, adding
+ * {@code -prof gc} to the JMH arguments to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorityDispatchBenchmark {
+
+    @Param({"GET /api/words/12/between", "GET /api/children", "DELETE /api/parents/3", "PUT /api/parents/3/password"})
+    public String request;
+
+    private String method;
+    private String uri;
+    private ParentPrincipal parent;
+    private Set<Long> childIds;
+    private AuthorityRouteTable routeTable;
+
+    @Setup
+    public void setUp() {
+        method = request.substring(0, request.indexOf(' '));
+        uri = request.substring(request.indexOf(' ') + 1);
+        parent = new ParentPrincipal(3L, "parent", "password", List.of("ROLE_USER"));
+        childIds = Set.of(11L, 12L, 13L);
+        ChildrenRepository childrenRepository = mock(ChildrenRepository.class);
+        when(childrenRepository.findIdsByParentId(3L)).thenReturn(List.copyOf(childIds));
+        ChildOwnershipIndex childOwnershipIndex = new ChildOwnershipIndex(childrenRepository, mock(PlatformTransactionManager.class));
+        childOwnershipIndex.hasChildren(3L);
+        routeTable = AuthorityRouteTable.compile(Stream.of(new ChildOwnerProvider(childOwnershipIndex), new AccountOwnerProvider(), new PasswordOwnerProvider())
+                .flatMap(provider -> provider.routes().stream())
+                .toList());
+    }
+
+    @Benchmark
+    public List<String> routeTable() {
+        return routeTable.resolve(method, uri, parent);
+    }
+
+    @Benchmark
+    public List<String> legacy() {
+        List<String> authorities = new ArrayList<>();
+        if (Stream.of("/api/children/**", "/api/words/**", "/api/milestones/**").anyMatch(path -> new AntPathMatcher().match(path, uri))) {
+            Optional<Long> childId = Optional.of(uri)
+                    .map(LegacyDispatch::extractIdFromSupportedPaths)
+                    .filter(str -> !str.isBlank())
+                    .filter(str -> str.matches("[1-9][0-9]*"))
+                    .map(Long::valueOf);
+            if (childId.isPresent() && childIds.contains(childId.get())) {
+                authorities.add("CHILD_OWNER");
+            } else if (childId.isEmpty() && uri.endsWith("/api/children") && !childIds.isEmpty()) {
+                authorities.add("CHILD_OWNER");
+            }
+        }
+        if (new AntPathMatcher().match("/api/parents/**", uri) && "DELETE".equals(method)) {
+            authorities.addAll(LegacyDispatch.ownerOf(uri.replaceAll("/api/parents/([1-9]+)", "$1"), "ACCOUNT_OWNER", parent));
+        }
+        if (new AntPathMatcher().match("/api/parents/*/password", uri) && "PUT".equals(method)) {
+            authorities.addAll(LegacyDispatch.ownerOf(uri.replaceAll("/api/parents/([1-9]+)/password", "$1"), "PASSWORD_OWNER", parent));
+        }
+        return authorities;
+    }
+
+    private static final class LegacyDispatch {
+
+        private static String extractIdFromSupportedPaths(String uri) {
+            if (uri.matches("/api/children(/([1-9]+))?")) {
+                return uri.replaceAll("/api/children(/([1-9]+))?", "$2");
+            } else if (uri.matches("/api/words/([1-9]+)(/.*)?")) {
+                return uri.replaceAll("/api/words/([1-9]+)(/.*)?", "$1");
+            } else if (uri.matches("/api/milestones/([1-9]+)(/.*)?")) {
+                return uri.replaceAll("/api/milestones/([1-9]+)(/.*)?", "$1");
+            }
+            return "";
+        }
+
+        private static List<String> ownerOf(String id, String authority, ParentPrincipal parent) {
+            if (!id.isBlank() && id.matches("[1-9]+") && parent.id().equals(Long.valueOf(id))) {
+                return Collections.singletonList(authority);
+            }
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package pl.kasprzak.dawid.myfirstwords.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.MyFirstWordsApplication;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-request cost of loading and converting all words of a child, the body of {@code GET /api/words/{childId}}.
+ * The {@code readWrite} benchmark loads the entities in a default transaction, which keeps a snapshot of every
+ * loaded entity and dirty-checks them all on the flush at commit; the {@code readOnly} benchmark loads them in
+ * a read-only transaction; the {@code projection} benchmark selects the rows straight into the responses in a
+ * read-only transaction, as the read services do, so no entity is hydrated at all.
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=ReadOnlyTransaction}, adding
+ * {@code -prof gc} to the JMH arguments to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    @Param({"50", "500"})
+    public int words;
+
+    private ConfigurableApplicationContext context;
+    private WordsRepository wordsRepository;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private Long childId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(MyFirstWordsApplication.class)
+                .properties("server.port=0", "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .run();
+        wordsRepository = context.getBean(WordsRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        ParentEntity parent = new ParentEntity();
+        parent.setUsername("benchmark");
+        parent.setPassword("password");
+        parent.setMail("benchmark@example.com");
+        context.getBean(ParentsRepository.class).save(parent);
+        ChildEntity child = new ChildEntity();
+        child.setName("child");
+        child.setBirthDate(LocalDate.of(2020, 1, 1));
+        child.setParent(parent);
+        childId = context.getBean(ChildrenRepository.class).save(child).getId();
+        wordsRepository.saveAll(IntStream.range(0, words)
+                .mapToObj(i -> {
+                    WordEntity word = new WordEntity();
+                    word.setWord("word" + i);
+                    word.setDateAchieve(LocalDate.of(2021, 1, 1).plusDays(i));
+                    word.setChild(child);
+                    return word;
+                })
+                .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<GetWordResponse> readWrite() {
+        return readWriteTransaction.execute(status -> loadWords());
+    }
+
+    @Benchmark
+    public List<GetWordResponse> readOnly() {
+        return readOnlyTransaction.execute(status -> loadWords());
+    }
+
+    @Benchmark
+    public List<GetWordResponse> projection() {
+        return readOnlyTransaction.execute(status -> wordsRepository.findResponsesByChildId(childId));
+    }
+
+    private List<GetWordResponse> loadWords() {
+        return wordsRepository.findAllByChildId(childId).stream()
+                .map(word -> GetWordResponse.builder()
+                        .id(word.getId())
+                        .word(word.getWord())
+                        .dateAchieve(word.getDateAchieve())
+                        .build())
+                .toList();
+    }
+}
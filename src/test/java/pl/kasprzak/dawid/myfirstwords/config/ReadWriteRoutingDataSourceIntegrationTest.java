@@ -0,0 +1,162 @@
+package pl.kasprzak.dawid.myfirstwords.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "myfirstwords.datasource.replica-urls=" + ReadWriteRoutingDataSourceIntegrationTest.REPLICA_URL,
+        "myfirstwords.datasource.replica-username=sa",
+        "myfirstwords.datasource.replica-password=",
+        "myfirstwords.datasource.read-your-writes-window=PT1M",
+        // Cached entities and query results are shared by both databases and would hide which one answered.
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReadWriteRoutingDataSourceIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        // The replica gets its schema from replication in production; here it is migrated before the context starts.
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private ParentsRepository parentsRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+
+        replica.update("delete from parents where username = 'replicaParent'");
+        replica.update("insert into parents (username) values ('replicaParent')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Integration test for the routing of transactions between the primary and the replica.
+     * This test verifies that a read-only transaction reads the replica, which holds a parent missing from the primary,
+     * and that a read-write transaction reads and writes the primary.
+     */
+    @Test
+    void when_transactionIsReadOnly_then_readFromReplica() {
+        readWriteTransaction.executeWithoutResult(status -> {
+            ParentEntity parent = new ParentEntity();
+            parent.setUsername("primaryParent");
+            parentsRepository.save(parent);
+        });
+
+        assertTrue(existsInTransaction(readOnlyTransaction, "replicaParent"));
+        assertFalse(existsInTransaction(readOnlyTransaction, "primaryParent"));
+        assertFalse(existsInTransaction(readWriteTransaction, "replicaParent"));
+        assertTrue(existsInTransaction(readWriteTransaction, "primaryParent"));
+        assertEquals(List.of(), replica.queryForList("select id from parents where username = 'primaryParent'"));
+    }
+
+    /**
+     * Integration test for read-your-writes.
+     * This test verifies that once a user has committed a write, their read-only transactions go to the primary,
+     * while read-only transactions of other users keep going to the replica.
+     */
+    @Test
+    void when_userCommittedWrite_then_readOwnWritesFromPrimary() {
+        authenticate("writer");
+        assertTrue(existsInTransaction(readOnlyTransaction, "replicaParent"));
+
+        readWriteTransaction.executeWithoutResult(status -> {
+            ParentEntity parent = new ParentEntity();
+            parent.setUsername("writtenParent");
+            parentsRepository.save(parent);
+        });
+
+        assertTrue(existsInTransaction(readOnlyTransaction, "writtenParent"));
+
+        authenticate("reader");
+        assertFalse(existsInTransaction(readOnlyTransaction, "writtenParent"));
+    }
+
+    /**
+     * Integration test for read-your-writes.
+     * This test verifies that a read-write transaction that only read does not send the user's later
+     * read-only transactions to the primary.
+     */
+    @Test
+    void when_userCommittedReadWriteTransactionWithoutWrites_then_keepReadingFromReplica() {
+        authenticate("reader");
+
+        assertFalse(existsInTransaction(readWriteTransaction, "replicaParent"));
+
+        assertTrue(existsInTransaction(readOnlyTransaction, "replicaParent"));
+    }
+
+    /**
+     * Integration test for primary read transactions.
+     * This test verifies that a primary read transaction reads the primary even without an authenticated user,
+     * while it stays read-only.
+     */
+    @Test
+    void when_primaryReadTransaction_then_readFromPrimary() {
+        readWriteTransaction.executeWithoutResult(status -> {
+            ParentEntity parent = new ParentEntity();
+            parent.setUsername("committedParent");
+            parentsRepository.save(parent);
+        });
+        TransactionTemplate primaryReadTransaction = ReadWriteRoutingDataSource.primaryReadTransaction(transactionManager);
+
+        assertTrue(existsInTransaction(primaryReadTransaction, "committedParent"));
+        assertFalse(existsInTransaction(primaryReadTransaction, "replicaParent"));
+        assertTrue(Boolean.TRUE.equals(primaryReadTransaction.execute(
+                status -> TransactionSynchronizationManager.isCurrentTransactionReadOnly())));
+    }
+
+    private boolean existsInTransaction(TransactionTemplate transaction, String username) {
+        return Boolean.TRUE.equals(transaction.execute(status -> parentsRepository.findByUsername(username).isPresent()));
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
@@ -0,0 +1,134 @@
+package pl.kasprzak.dawid.myfirstwords.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ParentsRepository parentsRepository;
+    @Autowired
+    private ChildrenRepository childrenRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private ParentEntity parent;
+    private ParentEntity otherParent;
+    private ChildEntity child;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        parent = saveParent("cachedParent");
+        otherParent = saveParent("otherCachedParent");
+        child = new ChildEntity();
+        child.setName("cachedChild");
+        child.setBirthDate(LocalDate.of(2022, 2, 2));
+        child.setParent(parent);
+        child = childrenRepository.save(child);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        childrenRepository.deleteById(child.getId());
+        parentsRepository.deleteAllById(List.of(parent.getId(), otherParent.getId()));
+    }
+
+    /**
+     * Integration test for the second-level cache of children.
+     * This test verifies that a child read a second time is served from the "children" region without a statement,
+     * and that the hit ratio of the region is published as a gauge.
+     */
+    @Test
+    void when_childIsReadTwice_then_secondReadIsServedFromCache() {
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics("children");
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+
+        assertEquals("cachedChild", childrenRepository.findById(child.getId()).orElseThrow().getName());
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals("cachedChild", childrenRepository.findById(child.getId()).orElseThrow().getName());
+
+        assertEquals(misses + 1, region.getMissCount());
+        assertEquals(hits + 1, region.getHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        double hitRatio = meterRegistry.get("hibernate.second.level.cache.hit.ratio").tag("region", "children").gauge().value();
+        assertTrue(hitRatio > 0 && hitRatio <= 1);
+    }
+
+    /**
+     * Integration test for the invalidation of cached children and cached ownership checks.
+     * This test verifies that once a child is renamed and moved to another parent, neither the cached child
+     * nor the cached ownership query returns the state from before the write.
+     */
+    @Test
+    void when_childIsUpdated_then_cachedChildAndOwnershipAreInvalidated() {
+        assertEquals(Optional.of(true), childrenRepository.findOwnership(child.getId(), parent.getId()));
+        assertEquals("cachedChild", childrenRepository.findById(child.getId()).orElseThrow().getName());
+
+        child.setName("renamedChild");
+        child.setParent(otherParent);
+        childrenRepository.save(child);
+
+        assertEquals("renamedChild", childrenRepository.findById(child.getId()).orElseThrow().getName());
+        assertEquals(Optional.of(false), childrenRepository.findOwnership(child.getId(), parent.getId()));
+        assertEquals(Optional.of(true), childrenRepository.findOwnership(child.getId(), otherParent.getId()));
+    }
+
+    /**
+     * Integration test for the query cache of parent lookups by username.
+     * This test verifies that a repeated lookup is answered by the query cache without a statement,
+     * and that a changed username is not found under the old one afterwards.
+     */
+    @Test
+    void when_parentIsLookedUpByUsername_then_lookupIsCachedUntilParentsChange() {
+        assertTrue(parentsRepository.findByUsername("cachedParent").isPresent());
+        long queryCacheHits = statistics.getQueryCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(parentsRepository.findByUsername("cachedParent").isPresent());
+
+        assertEquals(queryCacheHits + 1, statistics.getQueryCacheHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+
+        parent.setUsername("renamedCachedParent");
+        parent = parentsRepository.save(parent);
+
+        assertTrue(parentsRepository.findByUsername("cachedParent").isEmpty());
+        assertTrue(parentsRepository.findByUsername("renamedCachedParent").isPresent());
+    }
+
+    private ParentEntity saveParent(String username) {
+        ParentEntity parentEntity = new ParentEntity();
+        parentEntity.setUsername(username);
+        parentEntity.setMail(username + "@mail.com");
+        return parentsRepository.save(parentEntity);
+    }
+}
@@ -15,8 +15,10 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.model.children.*;
+import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
@@ -28,6 +30,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 
@@ -242,4 +245,36 @@ class ChildControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(content().string("Child not found"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Integration test for streaming the changes of a child.
+     * This test verifies that a stream of server-sent events is opened for the owner of the child and that
+     * a word added afterwards is pushed to it as a change event carrying the new word.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_wordAddedWhileStreaming_then_changeEventShouldBeSent() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/children/{childId}/stream", childEntity.getId())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/words/{childId}", childEntity.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateWordRequest.builder()
+                                .word("streamedWord")
+                                .dateAchieve(LocalDate.of(2024, 2, 1))
+                                .build())))
+                .andExpect(status().isCreated());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains("streamedWord") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String events = stream.getResponse().getContentAsString();
+        assertTrue(events.contains("event:change"));
+        assertTrue(events.contains("\"word\":\"streamedWord\""));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithUserDetails;
@@ -14,6 +15,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.*;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
@@ -364,6 +366,45 @@ class MilestonesControllerIntegrationTest {
                 .andExpect(content().string("Milestone not found"));
     }
 
+    /**
+     * Integration test for conditional requests for the milestones of a child.
+     * Verifies that a request carrying the current ETag in If-None-Match is answered with 304 Not Modified,
+     * and that updating a milestone changes the ETag, so the same request is answered with 200 OK again.
+     *
+     * @throws Exception if any error occurs during the HTTP request/response handling.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getAllMilestonesWithCurrentETag_then_notModifiedShouldBeReturnedUntilMilestoneIsUpdated() throws Exception {
+        String eTag = mockMvc.perform(get("/api/milestones/{childId}", childEntity.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/milestones/{childId}", childEntity.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/milestones/{childId}/{milestoneId}", childEntity.getId(), milestoneEntity1.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateMilestoneRequest)))
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/api/milestones/{childId}", childEntity.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
     @Test
     @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
     void when_updateMilestone_then_milestoneShouldBeUpdated() throws Exception {
@@ -391,4 +432,78 @@ class MilestonesControllerIntegrationTest {
                 .andExpect(content().string("Milestone not found"));
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Integration test for exporting all milestones of a child as CSV.
+     * This test verifies that the export is streamed asynchronously as an attachment,
+     * and that it consists of a header line followed by one line per milestone, ordered by date of achievement.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_exportMilestonesAsCsv_then_allMilestonesShouldBeStreamedInDateOrder() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/milestones/{childId}/export", childEntity.getId())
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"milestones-" + childEntity.getId() + ".csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> lines = csv.lines().toList();
+        assertEquals(5, lines.size());
+        assertEquals("id,title,description,dateAchieve", lines.get(0));
+        assertEquals(milestoneEntity2.getId() + ",milestone title2,,2024-07-05", lines.get(1));
+        assertEquals(milestoneEntity1.getId() + ",milestone title1,,2024-07-06", lines.get(2));
+        assertEquals(milestoneEntity3.getId() + ",milestone title3,,2024-07-08", lines.get(3));
+        assertEquals(milestoneEntity4.getId() + ",milestone title4,,2024-07-09", lines.get(4));
+    }
+
+    /**
+     * Integration test for searching milestones by words.
+     * This test verifies that milestones are found by the words of their title within the optional date range,
+     * most recently achieved first among equally relevant ones, and that an updated milestone is found by the words
+     * of its new description, from the index kept up to date by the change.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_searchMilestones_then_matchingMilestonesShouldBeReturned() throws Exception {
+        mockMvc.perform(get("/api/milestones/{childId}/search", childEntity.getId())
+                        .param("query", "TITLE3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.milestones.length()").value(1))
+                .andExpect(jsonPath("$.milestones[0].id").value(milestoneEntity3.getId()));
+
+        mockMvc.perform(get("/api/milestones/{childId}/search", childEntity.getId())
+                        .param("query", "milestone")
+                        .param("startDate", date.plusDays(1).toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.milestones.length()").value(2))
+                .andExpect(jsonPath("$.milestones[0].id").value(milestoneEntity4.getId()))
+                .andExpect(jsonPath("$.milestones[1].id").value(milestoneEntity3.getId()));
+
+        mockMvc.perform(put("/api/milestones/{childId}/{milestoneId}", childEntity.getId(), milestoneEntity1.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateMilestoneRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/milestones/{childId}/search", childEntity.getId())
+                        .param("query", "Description")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.milestones.length()").value(1))
+                .andExpect(jsonPath("$.milestones[0].id").value(milestoneEntity1.getId()))
+                .andExpect(jsonPath("$.milestones[0].description").value("new description"));
+    }
+}
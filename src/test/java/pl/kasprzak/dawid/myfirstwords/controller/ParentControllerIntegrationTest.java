@@ -1,6 +1,10 @@
 package pl.kasprzak.dawid.myfirstwords.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,17 +17,22 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.model.children.GetChildResponse;
 import pl.kasprzak.dawid.myfirstwords.model.parents.*;
-import pl.kasprzak.dawid.myfirstwords.repository.AuthoritiesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
-import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.security.RoleCatalog;
 
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,6 +41,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -52,7 +63,13 @@ class ParentControllerIntegrationTest {
     @Autowired
     private ChildrenRepository childrenRepository;
     @Autowired
-    private AuthoritiesRepository authoritiesRepository;
+    private WordsRepository wordsRepository;
+    @Autowired
+    private MilestonesRepository milestonesRepository;
+    @Autowired
+    private RoleCatalog roleCatalog;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     private CreateParentRequest createParentRequest;
     private ParentInfoResponse parentInfoResponse1, parentInfoResponse2;
 
@@ -61,7 +78,6 @@ class ParentControllerIntegrationTest {
     @BeforeEach
     void setUp() {
         parentsRepository.deleteAll();
-        authoritiesRepository.deleteAll();
 
         createParentRequest = CreateParentRequest.builder()
                 .username("testUser")
@@ -73,10 +89,7 @@ class ParentControllerIntegrationTest {
         parent1.setUsername("parent1");
         parent1.setMail("parent1@mail.com");
         parent1.setPassword(passwordEncoder.encode("password1"));
-        AuthorityEntity parent1Authority = new AuthorityEntity();
-        parent1Authority.setAuthority("ROLE_USER");
-        authoritiesRepository.save(parent1Authority);
-        parent1.setAuthorities(new ArrayList<>(List.of(parent1Authority)));
+        parent1.setAuthorities(new ArrayList<>(List.of(roleCatalog.userRole())));
         parent1 = parentsRepository.save(parent1);
 
         ChildEntity childEntity1 = new ChildEntity();
@@ -96,10 +109,7 @@ class ParentControllerIntegrationTest {
         parent2.setUsername("parent2");
         parent2.setMail("parent2@mail.com");
         parent2.setPassword(passwordEncoder.encode("password2"));
-        AuthorityEntity parent2Authority = new AuthorityEntity();
-        parent2Authority.setAuthority("ROLE_USER");
-        authoritiesRepository.save(parent2Authority);
-        parent2.setAuthorities(new ArrayList<>(List.of(parent2Authority)));
+        parent2.setAuthorities(new ArrayList<>(List.of(roleCatalog.userRole())));
         parent2 = parentsRepository.save(parent2);
 
         ChildEntity childEntity3 = new ChildEntity();
@@ -128,6 +138,7 @@ class ParentControllerIntegrationTest {
                 .id(parent1.getId())
                 .username(parent1.getUsername())
                 .mail(parent1.getMail())
+                .registeredAt(parent1.getRegisteredAt())
                 .children(List.of(getChildResponse1, getChildResponse2))
                 .roles(List.of("ROLE_USER"))
                 .build();
@@ -135,6 +146,7 @@ class ParentControllerIntegrationTest {
                 .id(parent2.getId())
                 .username(parent2.getUsername())
                 .mail(parent2.getMail())
+                .registeredAt(parent2.getRegisteredAt())
                 .children(List.of(getChildResponse3))
                 .roles(List.of("ROLE_USER"))
                 .build();
@@ -226,6 +238,140 @@ class ParentControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectResponse)));
     }
 
+    /**
+     * Integration test for the number of SQL statements issued when retrieving all registered parents.
+     * This test verifies that the parents, their authorities and their children are fetched with a constant
+     * number of statements, by comparing the statement count for two parents with the count after ten more
+     * parents, each with an authority and a child, have been registered.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getAllRegisterParentsForMoreParents_then_statementCountShouldStayConstant() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsForTwoParents = countStatementsOfGetAllRegisterParents(statistics, 2);
+
+        for (int i = 3; i <= 12; i++) {
+            ParentEntity parent = new ParentEntity();
+            parent.setUsername("parent" + i);
+            parent.setMail("parent" + i + "@mail.com");
+            parent.setAuthorities(new ArrayList<>(List.of(roleCatalog.userRole())));
+            parent = parentsRepository.save(parent);
+            ChildEntity child = new ChildEntity();
+            child.setName("child" + i);
+            child.setParent(parent);
+            childrenRepository.save(child);
+        }
+        long statementsForTwelveParents = countStatementsOfGetAllRegisterParents(statistics, 12);
+
+        assertEquals(statementsForTwoParents, statementsForTwelveParents);
+    }
+
+    private long countStatementsOfGetAllRegisterParents(Statistics statistics, int expectedParents) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get("/api/parents")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(expectedParents))
+                .andExpect(jsonPath("$.parents[" + (expectedParents - 1) + "].roles[0]").value("ROLE_USER"))
+                .andExpect(jsonPath("$.parents[" + (expectedParents - 1) + "].children.length()").value(1));
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Integration test for retrieving registered parents page by page.
+     * This test verifies that the pages follow each other through the cursor, that the username prefix
+     * and the registration window filter the parents, and that a malformed cursor results in HTTP 400 Bad Request.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getRegisterParentsPage_then_walkFilteredParentsInIdOrder() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/parents/page")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(1))
+                .andExpect(jsonPath("$.parents[0].username").value("parent1"))
+                .andExpect(jsonPath("$.parents[0].children.length()").value(2))
+                .andExpect(jsonPath("$.parents[0].roles[0]").value("ROLE_USER"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/parents/page")
+                        .param("size", "1")
+                        .param("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(1))
+                .andExpect(jsonPath("$.parents[0].username").value("parent2"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/parents/page")
+                        .param("usernamePrefix", "parent2")
+                        .param("registeredFrom", LocalDate.now().minusDays(1).toString())
+                        .param("registeredTo", LocalDate.now().toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(1))
+                .andExpect(jsonPath("$.parents[0].username").value("parent2"));
+
+        mockMvc.perform(get("/api/parents/page")
+                        .param("usernamePrefix", "parent_")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(0));
+
+        mockMvc.perform(get("/api/parents/page")
+                        .param("registeredTo", LocalDate.now().minusDays(1).toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parents.length()").value(0));
+
+        mockMvc.perform(get("/api/parents/page")
+                        .param("cursor", "not-a-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid cursor"));
+    }
+
+    /**
+     * Integration test for exporting registered parents as CSV.
+     * This test verifies that the export is streamed asynchronously and holds a header line followed
+     * by one line per parent matching the username prefix, with the roles and the IDs of the children.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_exportRegisterParentsAsCsv_then_matchingParentsShouldBeStreamed() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/parents/export")
+                        .param("usernamePrefix", "parent")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> lines = csv.lines().toList();
+        assertEquals(3, lines.size());
+        assertEquals("id,username,mail,registeredAt,roles,children", lines.get(0));
+        assertEquals(parentInfoResponse1.getId() + ",parent1,parent1@mail.com," + parentInfoResponse1.getRegisteredAt() +
+                ",ROLE_USER," + parentInfoResponse1.getChildren().get(0).getId() + " " +
+                parentInfoResponse1.getChildren().get(1).getId(), lines.get(1));
+        assertTrue(lines.get(2).startsWith(parentInfoResponse2.getId() + ",parent2,"));
+    }
+
     /**
      * Integration test for retrieving a parent by their ID.
      * This test verifies that the service returns the correct parent details when a valid parent ID
@@ -268,21 +414,92 @@ class ParentControllerIntegrationTest {
 
     /**
      * Integration test for deleting a parent account.
-     * This test verifies that a parent account is removed from the database when a valid delete request is made.
-     * It checks the response status and ensures the parent record is deleted.
+     * This test verifies that a valid delete request is accepted with a pending account deletion job
+     * and that the parent is marked as deleted at once. The transaction of the test is rolled back,
+     * so the background purge is never started.
      *
      * @throws Exception if an error occurs during the request or response processing.
      */
     @Test
     @Transactional
     @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
-    void when_deleteParent_then_parentShouldBeRemovedFromDatabase() throws Exception {
+    void when_deleteParent_then_parentShouldBeMarkedAsDeleted() throws Exception {
         Long parentId = parentInfoResponse1.getId();
 
         mockMvc.perform(delete("/api/parents/{parentId}", parentId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.parentId").value(parentId))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        assertNotNull(parentsRepository.findById(parentId).orElseThrow().getDeletedAt());
+    }
+
+    /**
+     * Integration test for the background purge of a deleted parent account.
+     * This test verifies that the deletion request is accepted with a pending job sized by the account's words,
+     * milestones and children, and that the job purges the whole account in chunks and reports its progress
+     * until it completes.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_deleteParentWithHistory_then_accountShouldBePurgedInBackground() throws Exception {
+        for (GetChildResponse child : parentInfoResponse1.getChildren()) {
+            addHistory(child.getId(), 10);
+        }
+        Long parentId = parentInfoResponse1.getId();
+
+        mockMvc.perform(delete("/api/parents/{parentId}", parentId))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.parentId").value(parentId))
+                .andExpect(jsonPath("$.totalItems").value(43));
+
+        JsonNode job = null;
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String content = mockMvc.perform(get("/api/parents/{parentId}/deletion", parentId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            job = objectMapper.readTree(content);
+            String jobStatus = job.get("status").asText();
+            if (AccountDeletionStatus.COMPLETED.name().equals(jobStatus) || AccountDeletionStatus.FAILED.name().equals(jobStatus)) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertNotNull(job);
+        assertEquals(AccountDeletionStatus.COMPLETED.name(), job.get("status").asText());
+        assertEquals(43L, job.get("deletedItems").asLong());
+        assertFalse(parentsRepository.existsById(parentId));
+        for (GetChildResponse child : parentInfoResponse1.getChildren()) {
+            assertFalse(childrenRepository.existsById(child.getId()));
+            assertTrue(wordsRepository.findAllByChildId(child.getId()).isEmpty());
+            assertTrue(milestonesRepository.findAllByChildId(child.getId()).isEmpty());
+        }
+    }
 
-        assertFalse(parentsRepository.findById(parentId).isPresent());
+    private void addHistory(Long childId, int entries) {
+        ChildEntity child = childrenRepository.findById(childId).orElseThrow();
+        List<WordEntity> words = new ArrayList<>();
+        List<MilestoneEntity> milestones = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            WordEntity word = new WordEntity();
+            word.setWord("word" + i);
+            word.setDateAchieve(LocalDate.of(2024, 1, 1).plusDays(i));
+            word.setChild(child);
+            words.add(word);
+            MilestoneEntity milestone = new MilestoneEntity();
+            milestone.setTitle("milestone" + i);
+            milestone.setDateAchieve(LocalDate.of(2024, 1, 1).plusDays(i));
+            milestone.setChild(child);
+            milestones.add(milestone);
+        }
+        wordsRepository.saveAll(words);
+        milestonesRepository.saveAll(milestones);
     }
 
     /**
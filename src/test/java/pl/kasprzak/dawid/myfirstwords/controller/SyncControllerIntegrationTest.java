@@ -0,0 +1,198 @@
+package pl.kasprzak.dawid.myfirstwords.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.CreateMilestoneRequest;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.UpdateMilestoneRequest;
+import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SyncControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private WordsRepository wordsRepository;
+    @Autowired
+    private ParentsRepository parentsRepository;
+    @Autowired
+    private ChildrenRepository childrenRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private ChildEntity childEntity;
+    private WordEntity wordEntity1;
+    private WordEntity wordEntity2;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        ParentEntity parentEntity = new ParentEntity();
+        parentEntity.setUsername("user");
+        parentEntity.setPassword(passwordEncoder.encode("password"));
+        parentEntity = parentsRepository.save(parentEntity);
+
+        childEntity = new ChildEntity();
+        childEntity.setName("childName");
+        childEntity.setParent(parentEntity);
+        childEntity = childrenRepository.save(childEntity);
+
+        date = LocalDate.of(2024, 1, 1);
+
+        wordEntity1 = new WordEntity();
+        wordEntity1.setWord("word1");
+        wordEntity1.setDateAchieve(date);
+        wordEntity1.setChild(childEntity);
+        wordEntity1 = wordsRepository.save(wordEntity1);
+
+        wordEntity2 = new WordEntity();
+        wordEntity2.setWord("word2");
+        wordEntity2.setDateAchieve(date.plusDays(1));
+        wordEntity2.setChild(childEntity);
+        wordEntity2 = wordsRepository.save(wordEntity2);
+    }
+
+    /**
+     * Integration test for the sync endpoint.
+     * This test verifies that the first sync returns all words of the child, that a sync with the returned token
+     * returns only the words and milestones changed since, with every entity once in its latest state and the IDs
+     * of deleted words, and that a sync with the newest token returns no changes.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_syncWithToken_then_onlyChangesSinceTokenShouldBeReturned() throws Exception {
+        JsonNode firstSync = sync(null);
+        assertEquals(1, firstSync.get("children").size());
+        assertEquals(childEntity.getId(), firstSync.get("children").get(0).get("childId").asLong());
+        assertTrue(firstSync.get("children").get(0).get("full").asBoolean());
+        assertEquals(2, firstSync.get("children").get(0).get("words").size());
+
+        mockMvc.perform(post("/api/words/{childId}", childEntity.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateWordRequest.builder()
+                                .word("word3")
+                                .dateAchieve(date.plusDays(2))
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/api/words/{childId}/{wordId}", childEntity.getId(), wordEntity1.getId()))
+                .andExpect(status().isNoContent());
+        long milestoneId = objectMapper.readTree(mockMvc.perform(post("/api/milestones/{childId}", childEntity.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(CreateMilestoneRequest.builder()
+                                        .title("title")
+                                        .description("description")
+                                        .dateAchieve(date)
+                                        .build())))
+                        .andExpect(status().isCreated())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .get("id").asLong();
+        mockMvc.perform(put("/api/milestones/{childId}/{milestoneId}", childEntity.getId(), milestoneId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UpdateMilestoneRequest.builder()
+                                .title("updated title")
+                                .description("updated description")
+                                .dateAchieve(date)
+                                .build())))
+                .andExpect(status().isOk());
+
+        JsonNode secondSync = sync(firstSync.get("token").asText());
+        JsonNode changes = secondSync.get("children").get(0);
+        assertFalse(changes.get("full").asBoolean());
+        assertEquals(1, changes.get("words").size());
+        assertEquals("word3", changes.get("words").get(0).get("word").asText());
+        assertEquals(1, changes.get("deletedWordIds").size());
+        assertEquals(wordEntity1.getId(), changes.get("deletedWordIds").get(0).asLong());
+        assertEquals(1, changes.get("milestones").size());
+        assertEquals("updated title", changes.get("milestones").get(0).get("title").asText());
+        assertEquals(0, changes.get("deletedMilestoneIds").size());
+
+        JsonNode thirdSync = sync(secondSync.get("token").asText());
+        assertEquals(0, thirdSync.get("children").size());
+        assertEquals(0, thirdSync.get("deletedChildIds").size());
+    }
+
+    /**
+     * Integration test for the sync endpoint.
+     * This test verifies that a child deleted since the token was issued is reported in the deleted child IDs.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_childDeletedSinceToken_then_childShouldBeReportedAsDeleted() throws Exception {
+        String token = sync(null).get("token").asText();
+
+        mockMvc.perform(delete("/api/children/{childId}", childEntity.getId()))
+                .andExpect(status().isNoContent());
+
+        JsonNode sync = sync(token);
+        assertEquals(0, sync.get("children").size());
+        assertEquals(1, sync.get("deletedChildIds").size());
+        assertEquals(childEntity.getId(), sync.get("deletedChildIds").get(0).asLong());
+    }
+
+    /**
+     * Integration test for the sync endpoint.
+     * This test verifies that a malformed token is rejected with HTTP 400 Bad Request.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_syncWithInvalidToken_then_badRequestShouldBeReturned() throws Exception {
+        mockMvc.perform(get("/api/sync")
+                        .param("token", "invalid!")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid sync token"));
+    }
+
+    private JsonNode sync(String token) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/sync").accept(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.param("token", token);
+        }
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+    }
+}
@@ -1,5 +1,6 @@
 package pl.kasprzak.dawid.myfirstwords.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,13 +8,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordResponse;
@@ -25,12 +30,17 @@ import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.util.KeysetCursor;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @ExtendWith(SpringExtension.class)
 @ActiveProfiles("test")
+@TestPropertySource(properties = "myfirstwords.import.max-lines=10")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class WordsControllerIntegrationTest {
 
@@ -348,6 +359,110 @@ class WordsControllerIntegrationTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
     }
 
+    /**
+     * Integration test for conditional requests for the words of a child.
+     * This test verifies that the words are returned with an ETag, that a request carrying that ETag in
+     * If-None-Match is answered with HTTP 304 Not Modified and no body, and that adding a word changes the ETag,
+     * so the same request is answered with HTTP 200 OK and the new word again.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getAllWordsWithCurrentETag_then_notModifiedShouldBeReturnedUntilWordIsAdded() throws Exception {
+        String eTag = mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(post("/api/words/{childId}", childEntity.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateWordRequest.builder()
+                                .word("word5")
+                                .dateAchieve(date)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        String newETag = mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(5))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
+    /**
+     * Integration test for the serialized response cache of the words of a child.
+     * This test verifies that a client accepting gzip receives the cached gzipped body with Content-Encoding: gzip
+     * and an ETag of its own, that it decompresses to all words of the child, that the gzip ETag is answered with
+     * HTTP 304 Not Modified, and that other clients receive the same words uncompressed under another ETag.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getAllWordsAcceptingGzip_then_gzippedWordsShouldBeReturned() throws Exception {
+        List<WordEntity> moreWords = IntStream.range(0, 40)
+                .mapToObj(i -> {
+                    WordEntity word = new WordEntity();
+                    word.setWord("longerWord" + i);
+                    word.setDateAchieve(date.plusDays(i));
+                    word.setChild(childEntity);
+                    return word;
+                })
+                .toList();
+        wordsRepository.saveAll(moreWords);
+
+        MockHttpServletResponse gzipResponse = mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn()
+                .getResponse();
+        byte[] gzipped = gzipResponse.getContentAsByteArray();
+        String gzipETag = gzipResponse.getHeader(HttpHeaders.ETAG);
+        assertTrue(gzipETag.endsWith("-gz\""));
+
+        JsonNode response;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            response = objectMapper.readTree(gzip);
+        }
+        assertEquals(44, response.get("words").size());
+
+        mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+
+        String eTag = mockMvc.perform(get("/api/words/{childId}", childEntity.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.words.length()").value(44))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(gzipETag, eTag);
+    }
+
     /**
      * Integration test for retrieving a specific word for a child by the word content.
      * This test verifies that the service correctly retrieves a word associated with the given child ID and word.
@@ -387,6 +502,428 @@ class WordsControllerIntegrationTest {
                 .andExpect(content().string("Word not found"));
 
     }
-}
 
+    /**
+     * Integration test for retrieving the words of a child that belongs to another parent.
+     * This test verifies that the service returns an HTTP 403 Forbidden status with the appropriate error message
+     * when the authenticated parent does not own the child.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getWordsOfOtherParentsChild_then_throwAccessDeniedException() throws Exception {
+        ParentEntity otherParent = new ParentEntity();
+        otherParent.setUsername("otherUser");
+        otherParent.setPassword(passwordEncoder.encode("password"));
+        otherParent = parentsRepository.save(otherParent);
+
+        ChildEntity otherChild = new ChildEntity();
+        otherChild.setName("otherChild");
+        otherChild.setParent(otherParent);
+        otherChild = childrenRepository.save(otherChild);
+
+        mockMvc.perform(get("/api/words/{childId}", otherChild.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(content().string("The parent does not have access to this child"));
+    }
+
+    /**
+     * Integration test for paging through the words of a child.
+     * This test verifies that the pages follow each other in order of the date of achievement without gaps or duplicates,
+     * that only the last page comes without a cursor, that a cursor pointing before the requested range does not
+     * return words before its start date, and that a malformed cursor results in HTTP 400 Bad Request.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getWordsPage_then_walkAllWordsInDateOrder() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/words/{childId}/page", childEntity.getId())
+                        .param("size", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(3))
+                .andExpect(jsonPath("$.words[0].word").value("word2"))
+                .andExpect(jsonPath("$.words[1].word").value("word1"))
+                .andExpect(jsonPath("$.words[2].word").value("word3"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/words/{childId}/page", childEntity.getId())
+                        .param("size", "3")
+                        .param("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(1))
+                .andExpect(jsonPath("$.words[0].word").value("word4"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/words/{childId}/page", childEntity.getId())
+                        .param("startDate", date.toString())
+                        .param("cursor", new KeysetCursor(date.minusDays(10), 0L).encode())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(2))
+                .andExpect(jsonPath("$.words[0].word").value("word3"))
+                .andExpect(jsonPath("$.words[1].word").value("word4"));
+
+        mockMvc.perform(get("/api/words/{childId}/page", childEntity.getId())
+                        .param("cursor", "not-a-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid cursor"));
+    }
+
+    /**
+     * Integration test for importing many words at once from a CSV body.
+     * This test verifies that the header and blank lines are skipped, that valid words are stored for the child,
+     * and that words the child already has, repeated words and malformed lines are reported per line without being stored.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_importWordsFromCsv_then_newWordsShouldBeStoredAndOthersReported() throws Exception {
+        String body = """
+                word,dateAchieve
+                mama,2024-02-01
+
+                " Word1 ",2024-02-02
+                "tata, baba",2024-02-03
+                mama,2024-02-04
+                broken line
+                """;
+
+        mockMvc.perform(post("/api/words/{childId}/import", childEntity.getId())
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.duplicates").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.lines.length()").value(5))
+                .andExpect(jsonPath("$.lines[0].line").value(2))
+                .andExpect(jsonPath("$.lines[0].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.lines[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.lines[2].word").value("tata, baba"))
+                .andExpect(jsonPath("$.lines[2].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.lines[3].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.lines[4].status").value("INVALID"));
+
+        List<String> words = wordsRepository.findAllByChildId(childEntity.getId()).stream()
+                .map(WordEntity::getWord)
+                .toList();
+        assertEquals(6, words.size());
+        assertTrue(words.containsAll(List.of("mama", "tata, baba")));
+    }
+
+    /**
+     * Integration test for importing many words at once from an NDJSON body.
+     * This test verifies that every line is validated like a single word request,
+     * so that a line without a word is rejected while the remaining lines are imported.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_importWordsFromNdjson_then_invalidLinesShouldBeRejected() throws Exception {
+        String body = """
+                {"word":"mama","dateAchieve":"2024-02-01"}
+                {"dateAchieve":"2024-02-02"}
+                {"word":"tata","dateAchieve":"2024-02-03"}
+                """;
+
+        mockMvc.perform(post("/api/words/{childId}/import", childEntity.getId())
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.lines[1].status").value("INVALID"));
+
+        assertEquals(6, wordsRepository.findAllByChildId(childEntity.getId()).size());
+    }
+
+    /**
+     * Integration test for importing more lines than allowed at once.
+     * This test verifies that the import is rejected with 413 Payload Too Large and that none of its words are stored.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_importWordsOverLineLimit_then_importShouldBeRejected() throws Exception {
+        String body = IntStream.rangeClosed(1, 11)
+                .mapToObj(i -> "word" + (10 + i) + ",2024-02-01")
+                .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post("/api/words/{childId}/import", childEntity.getId())
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertEquals(4, wordsRepository.findAllByChildId(childEntity.getId()).size());
+    }
+
+    /**
+     * Integration test for exporting all words of a child as CSV.
+     * This test verifies that the export is streamed asynchronously as an attachment,
+     * and that it consists of a header line followed by one line per word, ordered by date of achievement.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_exportWordsAsCsv_then_allWordsShouldBeStreamedInDateOrder() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/words/{childId}/export", childEntity.getId())
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"words-" + childEntity.getId() + ".csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> lines = csv.lines().toList();
+        assertEquals(5, lines.size());
+        assertEquals("id,word,dateAchieve", lines.get(0));
+        assertTrue(lines.get(1).endsWith(",word2,2023-12-30"));
+        assertTrue(lines.get(2).endsWith(",word1,2023-12-31"));
+        assertTrue(lines.get(3).endsWith(",word3,2024-01-02"));
+        assertTrue(lines.get(4).endsWith(",word4,2024-01-03"));
+    }
 
+    /**
+     * Integration test for importing a CSV export of words.
+     * This test verifies that the export of one child, id column included, can be imported for another child
+     * and that every exported word is stored for it.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_importCsvExport_then_allExportedWordsShouldBeImported() throws Exception {
+        ChildEntity otherChild = new ChildEntity();
+        otherChild.setName("otherChild");
+        otherChild.setParent(childEntity.getParent());
+        otherChild = childrenRepository.save(otherChild);
+
+        MvcResult result = mockMvc.perform(get("/api/words/{childId}/export", childEntity.getId())
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(post("/api/words/{childId}/import", otherChild.getId())
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(4))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        List<String> words = wordsRepository.findAllByChildId(otherChild.getId()).stream()
+                .map(WordEntity::getWord)
+                .toList();
+        assertEquals(4, words.size());
+        assertTrue(words.containsAll(List.of("word1", "word2", "word3", "word4")));
+    }
+
+    /**
+     * Integration test for exporting all words of a child as NDJSON.
+     * This test verifies that every line of the export is a standalone JSON object describing one word.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_exportWordsAsNdjson_then_everyLineShouldBeAWord() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/words/{childId}/export", childEntity.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String ndjson = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(4, lines.size());
+        assertEquals("word2", objectMapper.readTree(lines.get(0)).get("word").asText());
+        assertEquals("2023-12-30", objectMapper.readTree(lines.get(0)).get("dateAchieve").asText());
+        assertEquals("word4", objectMapper.readTree(lines.get(3)).get("word").asText());
+    }
+
+    /**
+     * Integration test for looking up words spelled like a given word.
+     * This test verifies that a word with a typo finds the closest word of the child with its edit distance,
+     * and that a word added after the first lookup is found as well, from the index kept up to date by the change.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getSimilarWordsWithTypo_then_closestWordsShouldBeReturned() throws Exception {
+        mockMvc.perform(get("/api/words/{childId}/word/similar", childEntity.getId())
+                        .param("word", "WRod1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(1))
+                .andExpect(jsonPath("$.words[0].word").value("word1"))
+                .andExpect(jsonPath("$.words[0].distance").value(2));
+
+        mockMvc.perform(post("/api/words/{childId}", childEntity.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateWordRequest.builder()
+                                .word("mama")
+                                .dateAchieve(date)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/words/{childId}/word/similar", childEntity.getId())
+                        .param("word", "mamma")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.words.length()").value(1))
+                .andExpect(jsonPath("$.words[0].word").value("mama"))
+                .andExpect(jsonPath("$.words[0].distance").value(1));
+    }
+
+    /**
+     * Integration test for autocompleting a word.
+     * This test verifies that the child's own words starting with the prefix are suggested case-insensitively,
+     * alphabetically and up to the limit, and that words known to fewer children than the dictionary threshold
+     * are not suggested from the dictionary.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_autocompleteWord_then_childWordsShouldBeSuggested() throws Exception {
+        mockMvc.perform(get("/api/words/{childId}/autocomplete", childEntity.getId())
+                        .param("prefix", "WO")
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completions.length()").value(2))
+                .andExpect(jsonPath("$.completions[0].word").value("word1"))
+                .andExpect(jsonPath("$.completions[0].source").value("CHILD"))
+                .andExpect(jsonPath("$.completions[1].word").value("word2"));
+
+        mockMvc.perform(get("/api/words/{childId}/autocomplete", childEntity.getId())
+                        .param("prefix", "x")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completions.length()").value(0));
+    }
+
+    /**
+     * Integration test for the dictionary suggestions of the autocomplete.
+     * This test verifies that a word deleted and added again by the same child still counts as known to one child
+     * and is not suggested to other children, that it is suggested once a second child learns it, and that it
+     * stops being suggested when that child is deleted.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_wordReAddedByOneChild_then_itShouldNotBeSuggestedFromDictionary() throws Exception {
+        ChildEntity firstChild = new ChildEntity();
+        firstChild.setName("firstChild");
+        firstChild.setParent(childEntity.getParent());
+        firstChild = childrenRepository.save(firstChild);
+        ChildEntity secondChild = new ChildEntity();
+        secondChild.setName("secondChild");
+        secondChild.setParent(childEntity.getParent());
+        secondChild = childrenRepository.save(secondChild);
+        String zosia = objectMapper.writeValueAsString(CreateWordRequest.builder().word("zosia").dateAchieve(date).build());
+
+        long wordId = objectMapper.readTree(mockMvc.perform(post("/api/words/{childId}", firstChild.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zosia))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(delete("/api/words/{childId}/{wordId}", firstChild.getId(), wordId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/words/{childId}", firstChild.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zosia))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/words/{childId}/autocomplete", childEntity.getId())
+                        .param("prefix", "zo")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completions.length()").value(0));
+
+        mockMvc.perform(post("/api/words/{childId}", secondChild.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(zosia))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/words/{childId}/autocomplete", childEntity.getId())
+                        .param("prefix", "zo")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completions.length()").value(1))
+                .andExpect(jsonPath("$.completions[0].source").value("DICTIONARY"));
+
+        mockMvc.perform(delete("/api/children/{childId}", secondChild.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/words/{childId}/autocomplete", childEntity.getId())
+                        .param("prefix", "zo")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completions.length()").value(0));
+    }
+
+    /**
+     * Integration test for retrieving the vocabulary growth of a child.
+     * This test verifies that words added through the API are summed into months from the daily word counts,
+     * with the cumulative vocabulary size at the end of every month, empty months included.
+     *
+     * @throws Exception if an error occurs during the request or response processing.
+     */
+    @Test
+    @WithUserDetails(userDetailsServiceBeanName = "userDetailsServiceForTest")
+    void when_getVocabularyGrowthByMonth_then_cumulativeWordCountsShouldBeReturned() throws Exception {
+        for (CreateWordRequest request : List.of(
+                CreateWordRequest.builder().word("mama").dateAchieve(LocalDate.of(2020, 1, 10)).build(),
+                CreateWordRequest.builder().word("tata").dateAchieve(LocalDate.of(2020, 1, 20)).build(),
+                CreateWordRequest.builder().word("baba").dateAchieve(LocalDate.of(2020, 3, 5)).build())) {
+            mockMvc.perform(post("/api/words/{childId}", childEntity.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/words/{childId}/growth", childEntity.getId())
+                        .param("interval", "MONTH")
+                        .param("startDate", "2020-01-15")
+                        .param("endDate", "2020-03-31")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.interval").value("MONTH"))
+                .andExpect(jsonPath("$.periods.length()").value(3))
+                .andExpect(jsonPath("$.periods[0].periodStart").value("2020-01-01"))
+                .andExpect(jsonPath("$.periods[0].words").value(2))
+                .andExpect(jsonPath("$.periods[1].words").value(0))
+                .andExpect(jsonPath("$.periods[1].cumulativeWords").value(2))
+                .andExpect(jsonPath("$.periods[2].words").value(1))
+                .andExpect(jsonPath("$.periods[2].cumulativeWords").value(3));
+    }
+}
@@ -0,0 +1,155 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.event.ChildCreatedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.ChildParentIds;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChildOwnershipIndexTest {
+
+    @Mock
+    private ChildrenRepository childrenRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ChildOwnershipIndex childOwnershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        childOwnershipIndex = new ChildOwnershipIndex(childrenRepository, transactionManager);
+    }
+
+    /**
+     * Unit test for the rebuild method in ChildOwnershipIndex.
+     * Verifies that after a rebuild ownership of indexed children is answered without querying the repository.
+     */
+    @Test
+    void when_rebuild_then_ownershipShouldBeAnsweredFromIndex() {
+        when(childrenRepository.findAllParentAndChildIds()).thenReturn(List.of(
+                new ChildParentIds(1L, 3L), new ChildParentIds(1L, 5L), new ChildParentIds(2L, 4L)));
+
+        childOwnershipIndex.rebuild();
+
+        assertTrue(childOwnershipIndex.isOwner(1L, 3L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 5L));
+        assertTrue(childOwnershipIndex.isOwner(2L, 4L));
+        assertTrue(childOwnershipIndex.hasChildren(2L));
+        verify(childrenRepository, never()).findIdsByParentId(anyLong());
+    }
+
+    /**
+     * Unit test for the isOwner method in ChildOwnershipIndex.
+     * Verifies that a parent missing from the index is loaded once and that a child missing from its
+     * children is checked again on the primary without loading the parent again.
+     */
+    @Test
+    void when_parentNotIndexed_then_loadParentOnceAndVerifyNegatives() {
+        when(childrenRepository.findIdsByParentId(1L)).thenReturn(List.of(5L, 3L));
+
+        assertTrue(childOwnershipIndex.isOwner(1L, 3L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 5L));
+        assertFalse(childOwnershipIndex.isOwner(1L, 4L));
+        verify(childrenRepository, times(1)).findIdsByParentId(1L);
+        verify(childrenRepository, times(1)).existsByIdAndParentId(4L, 1L);
+    }
+
+    /**
+     * Unit test for the isOwner method in ChildOwnershipIndex.
+     * Verifies that a child created through another instance, without an event on this one, is found on
+     * the primary and then answered from the index.
+     */
+    @Test
+    void when_childCreatedElsewhere_then_childShouldBeVerifiedAndIndexed() {
+        when(childrenRepository.findIdsByParentId(1L)).thenReturn(List.of(3L));
+        when(childrenRepository.existsByIdAndParentId(7L, 1L)).thenReturn(true);
+
+        assertTrue(childOwnershipIndex.isOwner(1L, 7L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 7L));
+        verify(childrenRepository, times(1)).existsByIdAndParentId(7L, 1L);
+    }
+
+    /**
+     * Unit test for the hasChildren method in ChildOwnershipIndex.
+     * Verifies that a parent indexed without children is loaded again before the check is denied,
+     * so a first child created through another instance is found.
+     */
+    @Test
+    void when_parentHasNoChildrenInIndex_then_parentShouldBeLoadedAgain() {
+        when(childrenRepository.findIdsByParentId(1L)).thenReturn(List.of(), List.of(4L));
+
+        assertFalse(childOwnershipIndex.hasChildren(1L));
+        assertTrue(childOwnershipIndex.hasChildren(1L));
+        assertTrue(childOwnershipIndex.hasChildren(1L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 4L));
+        verify(childrenRepository, times(2)).findIdsByParentId(1L);
+    }
+
+    /**
+     * Unit test for the rebuild method in ChildOwnershipIndex.
+     * Verifies that children created and deleted while the children table is read are applied to the
+     * rebuilt index instead of being lost with the replaced one.
+     */
+    @Test
+    void when_childrenChangeDuringRebuild_then_changesShouldBeKept() {
+        when(childrenRepository.findAllParentAndChildIds()).thenAnswer(invocation -> {
+            childOwnershipIndex.onChildCreated(new ChildCreatedEvent(1L, 7L));
+            childOwnershipIndex.onChildDeleted(new ChildDeletedEvent(1L, 3L));
+            return List.of(new ChildParentIds(1L, 3L), new ChildParentIds(1L, 5L));
+        });
+
+        childOwnershipIndex.rebuild();
+
+        assertTrue(childOwnershipIndex.isOwner(1L, 5L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 7L));
+        assertFalse(childOwnershipIndex.isOwner(1L, 3L));
+        verify(childrenRepository, never()).existsByIdAndParentId(7L, 1L);
+    }
+
+    /**
+     * Unit test for the onChildCreated method in ChildOwnershipIndex.
+     * Verifies that a child created for a parent missing from the index does not replace its children,
+     * which are loaded on the next check.
+     */
+    @Test
+    void when_childCreatedForParentNotIndexed_then_parentShouldBeLoadedOnNextCheck() {
+        when(childrenRepository.findIdsByParentId(1L)).thenReturn(List.of(3L, 7L));
+
+        childOwnershipIndex.onChildCreated(new ChildCreatedEvent(1L, 7L));
+
+        assertTrue(childOwnershipIndex.isOwner(1L, 3L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 7L));
+        verify(childrenRepository, times(1)).findIdsByParentId(1L);
+    }
+
+    /**
+     * Unit test for the event listeners in ChildOwnershipIndex.
+     * Verifies that created and deleted children and deleted parents are reflected in the index.
+     */
+    @Test
+    void when_childrenAndParentsChange_then_indexShouldFollow() {
+        when(childrenRepository.findAllParentAndChildIds()).thenReturn(List.of(new ChildParentIds(1L, 3L)));
+        childOwnershipIndex.rebuild();
+
+        childOwnershipIndex.onChildCreated(new ChildCreatedEvent(1L, 2L));
+        assertTrue(childOwnershipIndex.isOwner(1L, 2L));
+
+        childOwnershipIndex.onChildDeleted(new ChildDeletedEvent(1L, 3L));
+        assertFalse(childOwnershipIndex.isOwner(1L, 3L));
+
+        childOwnershipIndex.onParentDeleted(new ParentDeletedEvent(1L));
+        assertFalse(childOwnershipIndex.hasChildren(1L));
+        verify(childrenRepository, times(1)).findIdsByParentId(1L);
+    }
+}
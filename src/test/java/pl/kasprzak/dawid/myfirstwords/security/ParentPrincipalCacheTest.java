@@ -0,0 +1,138 @@
+package pl.kasprzak.dawid.myfirstwords.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParentPrincipalCacheTest {
+
+    @Mock
+    private ParentsRepository parentsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ParentPrincipalCache parentPrincipalCache;
+    private ParentEntity parentEntity;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        parentPrincipalCache = new ParentPrincipalCache(parentsRepository, transactionManager, meterRegistry, 100, Duration.ofMinutes(5));
+
+        AuthorityEntity authorityEntity = new AuthorityEntity();
+        authorityEntity.setAuthority("ROLE_USER");
+
+        parentEntity = new ParentEntity();
+        parentEntity.setId(1L);
+        parentEntity.setUsername("parent");
+        parentEntity.setPassword("encodedPassword");
+        parentEntity.setAuthorities(List.of(authorityEntity));
+    }
+
+    /**
+     * Unit test for the get method in ParentPrincipalCache.
+     * Verifies that the principal is loaded from the repository once and served from the cache afterwards,
+     * and that hits and misses are recorded in the meter registry.
+     */
+    @Test
+    void when_getTwice_then_parentShouldBeLoadedOnce() {
+        when(parentsRepository.findWithAuthoritiesByUsername("parent")).thenReturn(Optional.of(parentEntity));
+
+        ParentPrincipal first = parentPrincipalCache.get("parent").orElseThrow();
+        ParentPrincipal second = parentPrincipalCache.get("parent").orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1L, first.id());
+        assertEquals("encodedPassword", first.password());
+        assertEquals(List.of("ROLE_USER"), first.authorities());
+        verify(parentsRepository, times(1)).findWithAuthoritiesByUsername("parent");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ParentPrincipalCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ParentPrincipalCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    /**
+     * Unit test for the get method in ParentPrincipalCache.
+     * Verifies that a missing parent is not cached, so the repository is queried again on the next call.
+     */
+    @Test
+    void when_parentNotFound_then_returnEmptyAndDoNotCache() {
+        when(parentsRepository.findWithAuthoritiesByUsername("unknown")).thenReturn(Optional.empty());
+
+        assertTrue(parentPrincipalCache.get("unknown").isEmpty());
+        assertTrue(parentPrincipalCache.get("unknown").isEmpty());
+
+        verify(parentsRepository, times(2)).findWithAuthoritiesByUsername("unknown");
+    }
+
+    /**
+     * Unit test for the get method in ParentPrincipalCache.
+     * Verifies that a parent whose account deletion has been requested is treated as missing and is not cached.
+     */
+    @Test
+    void when_parentMarkedAsDeleted_then_returnEmpty() {
+        parentEntity.setDeletedAt(LocalDateTime.now());
+        when(parentsRepository.findWithAuthoritiesByUsername("parent")).thenReturn(Optional.of(parentEntity));
+
+        assertTrue(parentPrincipalCache.get("parent").isEmpty());
+        assertTrue(parentPrincipalCache.get("parent").isEmpty());
+
+        verify(parentsRepository, times(2)).findWithAuthoritiesByUsername("parent");
+    }
+
+    /**
+     * Unit test for the evict method in ParentPrincipalCache.
+     * Verifies that an evicted principal is reloaded from the repository on the next call.
+     */
+    @Test
+    void when_evict_then_parentShouldBeReloaded() {
+        when(parentsRepository.findWithAuthoritiesByUsername("parent")).thenReturn(Optional.of(parentEntity));
+
+        parentPrincipalCache.get("parent");
+        parentPrincipalCache.evict("parent");
+        parentPrincipalCache.get("parent");
+
+        verify(parentsRepository, times(2)).findWithAuthoritiesByUsername("parent");
+    }
+
+    /**
+     * Unit test for the get and evict methods in ParentPrincipalCache.
+     * Verifies that an eviction issued while the principal is being loaded is not undone by the load:
+     * the eviction waits for the load and removes its result, so the next call loads the principal again.
+     */
+    @Test
+    void when_evictDuringLoad_then_loadedPrincipalShouldNotStayCached() throws InterruptedException {
+        CountDownLatch evicting = new CountDownLatch(1);
+        Thread evictingThread = new Thread(() -> {
+            evicting.countDown();
+            parentPrincipalCache.evict("parent");
+        });
+        when(parentsRepository.findWithAuthoritiesByUsername("parent")).thenAnswer(invocation -> {
+            evictingThread.start();
+            evicting.await();
+            return Optional.of(parentEntity);
+        }).thenReturn(Optional.of(parentEntity));
+
+        parentPrincipalCache.get("parent");
+        evictingThread.join();
+        parentPrincipalCache.get("parent");
+
+        verify(parentsRepository, times(2)).findWithAuthoritiesByUsername("parent");
+    }
+}
@@ -0,0 +1,89 @@
+package pl.kasprzak.dawid.myfirstwords.security.authorities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.security.ChildOwnershipIndex;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthorityRouteTableTest {
+
+    private AuthorityRouteTable routeTable;
+    private ParentPrincipal parent;
+
+    @BeforeEach
+    void setUp() {
+        ChildrenRepository childrenRepository = mock(ChildrenRepository.class);
+        when(childrenRepository.findIdsByParentId(10L)).thenReturn(List.of(20L, 1L));
+        routeTable = AuthorityRouteTable.compile(Stream.of(new ChildOwnerProvider(new ChildOwnershipIndex(childrenRepository, mock(PlatformTransactionManager.class))), new AccountOwnerProvider(), new PasswordOwnerProvider())
+                .flatMap(provider -> provider.routes().stream())
+                .toList());
+        parent = new ParentPrincipal(10L, "parent", "password", List.of("ROLE_USER"));
+    }
+
+    /**
+     * Unit test for the resolve method in AuthorityRouteTable.
+     * Verifies that the CHILD_OWNER authority is granted for every child endpoint of an owned child,
+     * including IDs containing zeros, and for the children listing of a parent with children.
+     */
+    @Test
+    void when_parentOwnsChild_then_grantChildOwner() {
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("GET", "/api/children", parent));
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("GET", "/api/children/1", parent));
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("GET", "/api/children/1/stream", parent));
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("GET", "/api/words/20", parent));
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("DELETE", "/api/words/1/5", parent));
+        assertEquals(List.of("CHILD_OWNER"), routeTable.resolve("GET", "/api/milestones/20/between", parent));
+    }
+
+    /**
+     * Unit test for the resolve method in AuthorityRouteTable.
+     * Verifies that no authority is granted for children of other parents, malformed IDs and unknown paths.
+     */
+    @Test
+    void when_parentDoesNotOwnChild_then_grantNothing() {
+        assertTrue(routeTable.resolve("GET", "/api/children/2", parent).isEmpty());
+        assertTrue(routeTable.resolve("GET", "/api/words/2/word", parent).isEmpty());
+        assertTrue(routeTable.resolve("GET", "/api/words/1abc", parent).isEmpty());
+        assertTrue(routeTable.resolve("GET", "/api/children/1/unknown", parent).isEmpty());
+        assertTrue(routeTable.resolve("GET", "/api/unknown/1", parent).isEmpty());
+        assertTrue(routeTable.resolve("GET", "/api/words/99999999999999999999", parent).isEmpty());
+
+        ParentPrincipal childless = new ParentPrincipal(11L, "childless", "password", List.of("ROLE_USER"));
+        assertTrue(routeTable.resolve("GET", "/api/children", childless).isEmpty());
+    }
+
+    /**
+     * Unit test for the resolve method in AuthorityRouteTable.
+     * Verifies that the account and password owner authorities are granted only for the matching method and parent ID.
+     */
+    @Test
+    void when_parentManagesOwnAccount_then_grantAccountAndPasswordOwner() {
+        assertEquals(List.of("ACCOUNT_OWNER"), routeTable.resolve("DELETE", "/api/parents/10", parent));
+        assertEquals(List.of("PASSWORD_OWNER"), routeTable.resolve("PUT", "/api/parents/10/password", parent));
+
+        assertTrue(routeTable.resolve("GET", "/api/parents/10", parent).isEmpty());
+        assertTrue(routeTable.resolve("DELETE", "/api/parents/11", parent).isEmpty());
+        assertTrue(routeTable.resolve("PUT", "/api/parents/11/password", parent).isEmpty());
+        assertTrue(routeTable.resolve("POST", "/api/parents/10/password", parent).isEmpty());
+    }
+
+    /**
+     * Unit test for the compile method in AuthorityRouteTable.
+     * Verifies that a pattern with '**' before its last segment is rejected.
+     */
+    @Test
+    void when_anyPathIsNotLastSegment_then_throwIllegalArgumentException() {
+        List<AuthorityRoute> routes = List.of(AuthorityRoute.any("/api/**/words", (principal, pathId) -> List.of()));
+
+        assertThrows(IllegalArgumentException.class, () -> AuthorityRouteTable.compile(routes));
+    }
+}
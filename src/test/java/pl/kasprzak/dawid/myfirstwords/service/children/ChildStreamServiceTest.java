@@ -0,0 +1,121 @@
+package pl.kasprzak.dawid.myfirstwords.service.children;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.StreamLimitExceededException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChildStreamServiceTest {
+    @Mock
+    private AuthorizationHelper authorizationHelper;
+    @Mock
+    private WordsRepository wordsRepository;
+    @Mock
+    private MilestonesRepository milestonesRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ChildStreamService childStreamService;
+
+    @BeforeEach
+    void setUp() {
+        childStreamService = new ChildStreamService(authorizationHelper, wordsRepository, milestonesRepository,
+                new ObjectMapper(), transactionManager, Duration.ofMinutes(5), Duration.ofMinutes(5), 3, 2, 4, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        childStreamService.shutdown();
+    }
+
+    /**
+     * Unit test for the subscribe method in ChildStreamService.
+     * Verifies that the ownership of the child is checked once, when the client subscribes.
+     */
+    @Test
+    void when_subscribe_then_childShouldBeAuthorizedOnce() {
+        assertNotNull(childStreamService.subscribe(1L, null));
+
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(1L, null);
+        assertEquals(1, childStreamService.getSubscriberCount());
+    }
+
+    /**
+     * Unit test for the subscribe method in ChildStreamService.
+     * Verifies that the subscribers are bounded per child and in total, and that a rejected subscription
+     * does not count against the limits.
+     */
+    @Test
+    void when_subscribeBeyondLimits_then_throwStreamLimitExceededException() {
+        childStreamService.subscribe(1L, null);
+        childStreamService.subscribe(1L, null);
+
+        assertThrows(StreamLimitExceededException.class, () -> childStreamService.subscribe(1L, null));
+        childStreamService.subscribe(2L, null);
+        assertThrows(StreamLimitExceededException.class, () -> childStreamService.subscribe(3L, null));
+        assertEquals(3, childStreamService.getSubscriberCount());
+    }
+
+    /**
+     * Unit test for the onChildDataChanged method in ChildStreamService.
+     * Verifies that a change of a child nobody watches is neither loaded nor published.
+     */
+    @Test
+    void when_childWithoutSubscribersChanges_then_changeShouldNotBeLoaded() {
+        childStreamService.subscribe(2L, null);
+
+        childStreamService.onChildDataChanged(new ChildDataChangedEvent(1L, 1L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(10L)));
+
+        verifyNoInteractions(wordsRepository, milestonesRepository, transactionManager);
+    }
+
+    /**
+     * Unit test for the onChildDeleted method in ChildStreamService.
+     * Verifies that the streams of a deleted child are closed and stop counting against the limits.
+     */
+    @Test
+    void when_childDeleted_then_streamsShouldBeClosed() {
+        childStreamService.subscribe(1L, null);
+        childStreamService.subscribe(2L, null);
+
+        childStreamService.onChildDeleted(new ChildDeletedEvent(10L, 1L));
+
+        assertEquals(1, childStreamService.getSubscriberCount());
+    }
+
+    /**
+     * Unit test for the onParentDeleted method in ChildStreamService.
+     * Verifies that the streams of every child of a deleted parent are closed, while the streams of the children
+     * of other parents stay open.
+     */
+    @Test
+    void when_parentDeleted_then_streamsOfItsChildrenShouldBeClosed() {
+        when(authorizationHelper.actingParentId(null)).thenReturn(10L, 10L, 20L);
+        childStreamService.subscribe(1L, null);
+        childStreamService.subscribe(2L, null);
+        childStreamService.subscribe(3L, null);
+
+        childStreamService.onParentDeleted(new ParentDeletedEvent(10L));
+
+        assertEquals(1, childStreamService.getSubscriberCount());
+    }
+}
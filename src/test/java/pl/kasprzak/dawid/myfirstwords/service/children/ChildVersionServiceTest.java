@@ -0,0 +1,164 @@
+package pl.kasprzak.dawid.myfirstwords.service.children;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildChangesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildChangeEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildVersionEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.util.ChildResponseCache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChildVersionServiceTest {
+    @Mock
+    private ChildVersionsRepository childVersionsRepository;
+    @Mock
+    private ChildChangesRepository childChangesRepository;
+    @Mock
+    private ParentsRepository parentsRepository;
+    @Mock
+    private ChildrenRepository childrenRepository;
+    @Mock
+    private ChildResponseCache childResponseCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private ChildVersionService childVersionService;
+
+    /**
+     * Unit test for the recordChanges method in ChildVersionService.
+     * Verifies that the version of a child that already has one is incremented in place, that one change
+     * stamped with the new version is recorded per entity, that the cached response bodies of the child are invalidated
+     * and that the change is published for the live streams.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    void when_recordChangesForChildWithVersion_then_changesShouldBeRecordedWithNewVersion() {
+        ArgumentCaptor<List<ChildChangeEntity>> captor = ArgumentCaptor.forClass(List.class);
+        when(parentsRepository.findByChildIdForShare(1L)).thenReturn(Optional.of(new ParentEntity()));
+        when(childVersionsRepository.increment(1L)).thenReturn(1);
+        when(childVersionsRepository.findVersionByChildId(1L)).thenReturn(Optional.of(4L));
+
+        childVersionService.recordChanges(1L, ChangedEntityType.WORD, ChangeOperation.DELETE, List.of(10L, 11L));
+
+        verify(childVersionsRepository, never()).save(any());
+        verify(childChangesRepository, times(1)).saveAll(captor.capture());
+        assertEquals(List.of(10L, 11L), captor.getValue().stream().map(ChildChangeEntity::getEntityId).toList());
+        captor.getValue().forEach(change -> {
+            assertEquals(1L, change.getChildId());
+            assertEquals(4L, change.getVersion());
+            assertEquals(ChangedEntityType.WORD, change.getEntityType());
+            assertEquals(ChangeOperation.DELETE, change.getOperation());
+            assertNotNull(change.getChangedAt());
+        });
+        verify(eventPublisher, times(1)).publishEvent(
+                new ChildDataChangedEvent(1L, 4L, ChangedEntityType.WORD, ChangeOperation.DELETE, List.of(10L, 11L)));
+    }
+
+    /**
+     * Unit test for the recordChanges method in ChildVersionService.
+     * Verifies that a child without a version gets its first version, inserted only after the row of the child
+     * has been locked and the version is still missing, and that the change is recorded with it.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    void when_recordChangesForChildWithoutVersion_then_firstVersionShouldBeSaved() {
+        ArgumentCaptor<ChildVersionEntity> versionCaptor = ArgumentCaptor.forClass(ChildVersionEntity.class);
+        ArgumentCaptor<List<ChildChangeEntity>> changesCaptor = ArgumentCaptor.forClass(List.class);
+        when(parentsRepository.findByChildIdForShare(1L)).thenReturn(Optional.of(new ParentEntity()));
+        when(childVersionsRepository.increment(1L)).thenReturn(0);
+
+        childVersionService.recordChanges(1L, ChangedEntityType.MILESTONE, ChangeOperation.UPSERT, List.of(10L));
+
+        verify(childrenRepository, times(1)).findForUpdateById(1L);
+        verify(childVersionsRepository, times(2)).increment(1L);
+        verify(childVersionsRepository, times(1)).save(versionCaptor.capture());
+        assertEquals(1L, versionCaptor.getValue().getChildId());
+        assertEquals(1L, versionCaptor.getValue().getVersion());
+        verify(childChangesRepository, times(1)).saveAll(changesCaptor.capture());
+        assertEquals(1L, changesCaptor.getValue().get(0).getVersion());
+    }
+
+    /**
+     * Unit test for the recordChanges method in ChildVersionService.
+     * Verifies that when a concurrent transaction inserted the first version while the row of the child was being
+     * locked, the version is incremented instead of being inserted a second time.
+     */
+    @Test
+    void when_recordChangesForChildWhoseFirstVersionWasInsertedConcurrently_then_versionShouldBeIncremented() {
+        when(parentsRepository.findByChildIdForShare(1L)).thenReturn(Optional.of(new ParentEntity()));
+        when(childVersionsRepository.increment(1L)).thenReturn(0).thenReturn(1);
+        when(childVersionsRepository.findVersionByChildId(1L)).thenReturn(Optional.of(2L));
+
+        childVersionService.recordChanges(1L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(10L));
+
+        verify(childrenRepository, times(1)).findForUpdateById(1L);
+        verify(childVersionsRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishEvent(
+                new ChildDataChangedEvent(1L, 2L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(10L)));
+    }
+
+    /**
+     * Unit test for the recordChanges method in ChildVersionService.
+     * Verifies that a change of a child whose parent's account is being deleted is rejected
+     * before the version is bumped or any change is recorded.
+     */
+    @Test
+    void when_recordChangesForChildOfDeletedParent_then_throwParentNotFoundException() {
+        ParentEntity parentEntity = new ParentEntity();
+        parentEntity.setDeletedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        when(parentsRepository.findByChildIdForShare(1L)).thenReturn(Optional.of(parentEntity));
+
+        assertThrows(ParentNotFoundException.class,
+                () -> childVersionService.recordChanges(1L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(10L)));
+
+        verify(childVersionsRepository, never()).increment(anyLong());
+        verifyNoInteractions(childChangesRepository, eventPublisher);
+    }
+
+    /**
+     * Unit test for the remove method in ChildVersionService.
+     * Verifies that the version, the recorded changes and the cached response bodies of the child are dropped.
+     */
+    @Test
+    void when_remove_then_versionAndChangesShouldBeDeleted() {
+        childVersionService.remove(1L);
+
+        verify(childVersionsRepository, times(1)).deleteByChildIdInBulk(1L);
+        verify(childChangesRepository, times(1)).deleteAllByChildIdInBulk(List.of(1L));
+        verify(childResponseCache, times(1)).invalidate(1L);
+    }
+
+    /**
+     * Unit test for the getETag method in ChildVersionService.
+     * Verifies that the ETag is a quoted strong validator built from the child's ID and version,
+     * and that a child without a version is reported at version 0.
+     */
+    @Test
+    void when_getETag_then_eTagShouldBeBuiltFromVersion() {
+        when(childVersionsRepository.findVersionByChildId(1L)).thenReturn(Optional.of(7L));
+        when(childVersionsRepository.findVersionByChildId(2L)).thenReturn(Optional.empty());
+
+        assertEquals("\"1.7\"", childVersionService.getETag(1L));
+        assertEquals("\"2.0\"", childVersionService.getETag(2L));
+    }
+}
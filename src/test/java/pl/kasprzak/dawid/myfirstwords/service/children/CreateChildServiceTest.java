@@ -6,9 +6,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import pl.kasprzak.dawid.myfirstwords.event.ChildCreatedEvent;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildRequest;
 import pl.kasprzak.dawid.myfirstwords.model.children.CreateChildResponse;
@@ -32,9 +34,13 @@ class CreateChildServiceTest {
     @Mock
     private CreateChildConverter createChildConverter;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private SecurityContext securityContext;
     @Mock
     private Authentication authentication;
+    @Mock
+    private ChildVersionService childVersionService;
     @InjectMocks
     private CreateChildService createChildService;
     private CreateChildRequest createChildRequest;
@@ -54,9 +60,11 @@ class CreateChildServiceTest {
                 .build();
 
         childEntity = new ChildEntity();
+        childEntity.setId(7L);
         childEntity.setName("childName");
 
         parentEntity = new ParentEntity();
+        parentEntity.setId(1L);
         parentEntity.setUsername("parentUsername");
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -75,7 +83,7 @@ class CreateChildServiceTest {
     @Test
     void when_addChild_then_childShouldBeSavedToParentAccount() {
 
-        when(parentsRepository.findByUsername("parentUsername")).thenReturn(Optional.of(parentEntity));
+        when(parentsRepository.findByUsernameForShare("parentUsername")).thenReturn(Optional.of(parentEntity));
         when(createChildConverter.fromDto(createChildRequest)).thenReturn(childEntity);
         when(childrenRepository.save(childEntity)).thenReturn(childEntity);
         when(createChildConverter.toDto(childEntity)).thenReturn(createChildResponse);
@@ -83,8 +91,10 @@ class CreateChildServiceTest {
         CreateChildResponse result = createChildService.addChild(createChildRequest);
 
         assertEquals("childName", result.getName());
-        verify(parentsRepository, times(1)).findByUsername("parentUsername");
+        verify(parentsRepository, times(1)).findByUsernameForShare("parentUsername");
         verify(childrenRepository, times(1)).save(childEntity);
+        verify(childVersionService, times(1)).register(7L);
+        verify(eventPublisher, times(1)).publishEvent(new ChildCreatedEvent(1L, 7L));
 
     }
 
@@ -97,14 +107,15 @@ class CreateChildServiceTest {
     @Test
     void when_parentNotFound_then_throwParentNotFoundException() {
 
-        when(parentsRepository.findByUsername("parentUsername")).thenReturn(Optional.empty());
+        when(parentsRepository.findByUsernameForShare("parentUsername")).thenReturn(Optional.empty());
 
         ParentNotFoundException parentNotFoundException = assertThrows(ParentNotFoundException.class,
                 () -> createChildService.addChild(createChildRequest));
 
         assertEquals("Parent not found", parentNotFoundException.getMessage());
-        verify(parentsRepository, times(1)).findByUsername("parentUsername");
+        verify(parentsRepository, times(1)).findByUsernameForShare("parentUsername");
         verify(createChildConverter, never()).fromDto(any());
         verify(childrenRepository, never()).save(any());
+        verify(childVersionService, never()).register(any());
     }
 }
\ No newline at end of file
@@ -6,11 +6,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDeletedEvent;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.service.words.WordDictionary;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -21,15 +30,31 @@ class DeleteChildServiceTest {
     @Mock
     private ChildrenRepository childrenRepository;
     @Mock
+    private WordsRepository wordsRepository;
+    @Mock
+    private MilestonesRepository milestonesRepository;
+    @Mock
+    private WordDailyCountsRepository wordDailyCountsRepository;
+    @Mock
     private AuthorizationHelper authorizationHelper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ChildVersionService childVersionService;
+    @Mock
+    private WordDictionary wordDictionary;
     @InjectMocks
     private DeleteChildService deleteChildService;
 
     @BeforeEach
     void setUp() {
 
+        ParentEntity parentEntity = new ParentEntity();
+        parentEntity.setId(1L);
+
         childEntity = new ChildEntity();
         childEntity.setId(1L);
+        childEntity.setParent(parentEntity);
         childEntity.setName("child");
         childrenRepository.save(childEntity);
     }
@@ -37,7 +62,8 @@ class DeleteChildServiceTest {
     /**
      * Unit test for the deleteChild method in DeleteChildService.
      * This test verifies that the child belongs to the authenticated parent by using the AuthorizationHelper.
-     * It ensures that the child is successfully deleted from the parent's account
+     * It ensures that the child is successfully deleted from the parent's account, together with its words
+     * and milestones, by set-based deletes, and that the words of the child are recounted in the WordDictionary.
      */
     @Test
     void when_deleteChild_then_childShouldBeDeleted() {
@@ -45,11 +71,18 @@ class DeleteChildServiceTest {
         Long childId = childEntity.getId();
 
         when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, null)).thenReturn(childEntity);
+        when(wordsRepository.findDistinctWordNormalizedByChildId(childId)).thenReturn(List.of("mama"));
 
         deleteChildService.deleteChild(childId, null);
 
         verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childId, null);
-        verify(childrenRepository, times(1)).deleteById(childId);
+        verify(wordDictionary, times(1)).recountAfterCommit(List.of("mama"));
+        verify(wordsRepository, times(1)).deleteAllByChildIdInBulk(childId);
+        verify(milestonesRepository, times(1)).deleteAllByChildIdInBulk(childId);
+        verify(wordDailyCountsRepository, times(1)).deleteAllByChildIdInBulk(List.of(childId));
+        verify(childrenRepository, times(1)).deleteByIdInBulk(childId);
+        verify(childVersionService, times(1)).remove(childId);
+        verify(eventPublisher, times(1)).publishEvent(new ChildDeletedEvent(1L, 1L));
     }
 
     /**
@@ -67,7 +100,7 @@ class DeleteChildServiceTest {
         deleteChildService.deleteChild(childEntity.getId(), parentID);
 
         verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentID);
-        verify(childrenRepository, times(1)).deleteById(childEntity.getId());
+        verify(childrenRepository, times(1)).deleteByIdInBulk(childEntity.getId());
 
     }
 
@@ -89,7 +122,10 @@ class DeleteChildServiceTest {
 
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
         verify(authorizationHelper, never()).validateAndAuthorizeChildForAdmin(anyLong(), anyLong());
-        verify(childrenRepository, never()).deleteById(anyLong());
+        verify(wordsRepository, never()).deleteAllByChildIdInBulk(anyLong());
+        verify(milestonesRepository, never()).deleteAllByChildIdInBulk(anyLong());
+        verify(childrenRepository, never()).deleteByIdInBulk(anyLong());
+        verify(childVersionService, never()).remove(anyLong());
 
     }
 }
\ No newline at end of file
@@ -15,7 +15,6 @@ import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.children.GetChildConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
 import java.time.LocalDate;
@@ -31,8 +30,6 @@ class GetChildServiceTest {
     @Mock
     private ParentsRepository parentsRepository;
     @Mock
-    private GetChildConverter getChildConverter;
-    @Mock
     private AuthorizationHelper authorizationHelper;
     @InjectMocks
     private GetChildService getChildService;
@@ -88,49 +85,39 @@ class GetChildServiceTest {
     /**
      * Unit test for getAllChildrenOfParent method in GetChildService.
      * Verifies that the parent is authenticated and authorized using AuthorizationHelper.
-     * Then verifies that all children of the authenticated parent are retrieved and correctly converted to DTOs.
+     * Then verifies that all children of the authenticated parent are selected straight into DTOs.
      */
     @Test
     void when_getAllChildrenOfParent_then_returnAllChildren() {
-        List<ChildEntity> children = Arrays.asList(child1, child2);
         List<GetChildResponse> expectResponse = Arrays.asList(getChildResponse1, getChildResponse2);
 
         when(authorizationHelper.validateParentOrAdmin(null)).thenReturn(parentEntity);
-        when(childrenRepository.findByParentId(1L)).thenReturn(children);
-        when(getChildConverter.toDto(child1)).thenReturn(getChildResponse1);
-        when(getChildConverter.toDto(child2)).thenReturn(getChildResponse2);
+        when(childrenRepository.findResponsesByParentId(1L)).thenReturn(Arrays.asList(getChildResponse1, getChildResponse2));
 
         GetAllChildResponse response = getChildService.getAllChildrenOfParent(null);
 
         assertEquals(expectResponse, response.getChildren());
-        verify(childrenRepository, times(1)).findByParentId(1L);
-        verify(getChildConverter, times(1)).toDto(child1);
-        verify(getChildConverter, times(1)).toDto(child2);
+        verify(childrenRepository, times(1)).findResponsesByParentId(1L);
     }
 
     /**
      * Unit test for the getAllChildrenOfParent method in GetChildService.
      * Verifies that when an administrator provides a valid parent ID, the method correctly retrieves
-     * all children associated with that parent and converts them to DTOs.
+     * all children associated with that parent as DTOs.
      * Simulates the admin scenario using lenient stubbing.
      */
     @Test
     void when_adminGetsAllChildrenByParentID_then_returnAllChildrenForSpecifiedParent() {
-        List<ChildEntity> children = Arrays.asList(child1, child2);
         List<GetChildResponse> expectedResponse = Arrays.asList(getChildResponse1, getChildResponse2);
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
         when(authorizationHelper.validateParentOrAdmin(parentEntity.getId())).thenReturn(parentEntity);
-        when(childrenRepository.findByParentId(1L)).thenReturn(children);
-        when(getChildConverter.toDto(child1)).thenReturn(getChildResponse1);
-        when(getChildConverter.toDto(child2)).thenReturn(getChildResponse2);
+        when(childrenRepository.findResponsesByParentId(1L)).thenReturn(Arrays.asList(getChildResponse1, getChildResponse2));
 
         GetAllChildResponse response = getChildService.getAllChildrenOfParent(1L);
 
         assertEquals(expectedResponse, response.getChildren());
-        verify(childrenRepository, times(1)).findByParentId(1L);
-        verify(getChildConverter, times(1)).toDto(child1);
-        verify(getChildConverter, times(1)).toDto(child2);
+        verify(childrenRepository, times(1)).findResponsesByParentId(1L);
     }
 
     /**
@@ -149,8 +136,7 @@ class GetChildServiceTest {
 
         assertEquals("Parent not found", parentNotFoundException.getMessage());
         verify(authorizationHelper, times(1)).validateParentOrAdmin(null);
-        verify(childrenRepository, never()).findByParentId(anyLong());
-        verify(getChildConverter, never()).toDto(any());
+        verify(childrenRepository, never()).findResponsesByParentId(anyLong());
 
     }
 
@@ -173,33 +159,31 @@ class GetChildServiceTest {
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
         verify(authorizationHelper, times(1)).validateParentOrAdmin(null);
         verify(parentsRepository, never()).findById(anyLong());
-        verify(childrenRepository, never()).findByParentId(anyLong());
+        verify(childrenRepository, never()).findResponsesByParentId(anyLong());
     }
 
     /**
      * Unit test for getChildById method in GetChildService.
      * Verifies that the child belongs to the authenticated parent.
-     * Then verifies that a child with a specific ID is retrieved and correctly converted to a DTO.
+     * Then verifies that a child with a specific ID is selected straight into a DTO.
      */
     @Test
     void when_getChildById_then_returnChildWithSpecificId() {
         Long childId = child1.getId();
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childId, null)).thenReturn(child1);
-        when(getChildConverter.toDto(child1)).thenReturn(getChildResponse1);
+        when(childrenRepository.findResponseById(childId)).thenReturn(Optional.of(getChildResponse1));
 
         GetChildResponse response = getChildService.getChildById(childId, null);
 
         assertEquals(getChildResponse1, response);
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childId, null);
-        verify(getChildConverter, times(1)).toDto(child1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childId, null);
     }
 
 
     /**
      * Unit test for getChildById method in GetChildService when accessed by an administrator.
      * This test verifies that when an administrator requests a child's details by its ID and the parent's ID,
-     * the child entity is retrieved and correctly converted to a DTO.
+     * the child is selected straight into a DTO.
      * Lenient stubbing is used to simulate an admin user.
      */
     @Test
@@ -208,14 +192,12 @@ class GetChildServiceTest {
         Long childID = child1.getId();
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childID, parentID)).thenReturn(child1);
-        when(getChildConverter.toDto(child1)).thenReturn(getChildResponse1);
+        when(childrenRepository.findResponseById(childID)).thenReturn(Optional.of(getChildResponse1));
 
         GetChildResponse response = getChildService.getChildById(childID, parentID);
 
         assertEquals(childID, response.getId());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childID, parentID);
-        verify(getChildConverter, times(1)).toDto(child1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childID, parentID);
     }
 
     /**
@@ -227,14 +209,14 @@ class GetChildServiceTest {
     @Test
     void when_adminDoesNotProvideParentIDForSingleChild_then_throwIllegalArgumentException() {
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(child1.getId(), null))
-                .thenThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."));
+        doThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."))
+                .when(authorizationHelper).authorizeForAdminOrParent(child1.getId(), null);
 
         AdminMissingParentIDException adminMissingParentIDException = assertThrows(AdminMissingParentIDException.class,
                 () -> getChildService.getChildById(1L, null));
 
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(child1.getId(), null);
-        verify(getChildConverter, never()).toDto(any());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(child1.getId(), null);
+        verify(childrenRepository, never()).findResponseById(anyLong());
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package pl.kasprzak.dawid.myfirstwords.service.converters.parents;
+
+import org.junit.jupiter.api.Test;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionJobResponse;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountDeletionJobConverterTest {
+
+    private final AccountDeletionJobConverter accountDeletionJobConverter = new AccountDeletionJobConverter();
+
+    /**
+     * Unit test for the toDto method in AccountDeletionJobConverter.
+     * Verifies that the status and progress of the job are copied to the response.
+     */
+    @Test
+    void when_convertJobEntityToDto_then_statusAndProgressShouldBeCopied() {
+        AccountDeletionJobEntity jobEntity = new AccountDeletionJobEntity();
+        jobEntity.setId(7L);
+        jobEntity.setParentId(1L);
+        jobEntity.setStatus(AccountDeletionStatus.RUNNING);
+        jobEntity.setTotalItems(100L);
+        jobEntity.setDeletedItems(40L);
+        jobEntity.setRequestedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        jobEntity.setStartedAt(LocalDateTime.of(2024, 5, 1, 10, 1));
+
+        AccountDeletionJobResponse result = accountDeletionJobConverter.toDto(jobEntity);
+
+        assertEquals(7L, result.getId());
+        assertEquals(1L, result.getParentId());
+        assertEquals(AccountDeletionStatus.RUNNING, result.getStatus());
+        assertEquals(100L, result.getTotalItems());
+        assertEquals(40L, result.getDeletedItems());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 10, 0), result.getRequestedAt());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 10, 1), result.getStartedAt());
+        assertNull(result.getFinishedAt());
+    }
+}
@@ -0,0 +1,76 @@
+package pl.kasprzak.dawid.myfirstwords.service.milestones;
+
+import org.junit.jupiter.api.Test;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.ScoredMilestoneResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChildMilestoneIndexTest {
+
+    private final LocalDate date = LocalDate.of(2024, 1, 1);
+
+    private GetMilestoneResponse milestone(long id, String title, String description, LocalDate dateAchieve) {
+        return new GetMilestoneResponse(id, title, description, dateAchieve);
+    }
+
+    private List<Long> ids(List<ScoredMilestoneResponse> milestones) {
+        return milestones.stream().map(ScoredMilestoneResponse::getId).toList();
+    }
+
+    /**
+     * Unit test for the tokens method in ChildMilestoneIndex.
+     * Verifies that text is split on punctuation and whitespace into lower-cased tokens stripped of diacritics.
+     */
+    @Test
+    void when_tokens_then_textShouldBeFoldedAndSplit() {
+        assertEquals(List.of("pierwszy", "krok", "zolw", "lodz", "2"), ChildMilestoneIndex.tokens("Pierwszy krok: żółw, ŁÓDŹ-2!"));
+        assertTrue(ChildMilestoneIndex.tokens(" ,. ").isEmpty());
+        assertTrue(ChildMilestoneIndex.tokens(null).isEmpty());
+    }
+
+    /**
+     * Unit test for the search method in ChildMilestoneIndex.
+     * Verifies that milestones matching any word of the query are returned, that a match in the title ranks above
+     * a match in the description, that a milestone matching more words ranks first, and that the date range is applied.
+     */
+    @Test
+    void when_search_then_matchesShouldBeRankedByRelevance() {
+        ChildMilestoneIndex index = ChildMilestoneIndex.build(1L, List.of(
+                milestone(1L, "First steps", "walked to the sofa", date),
+                milestone(2L, "Sofa climbing", "climbed up alone", date.plusDays(1)),
+                milestone(3L, "First tooth", null, date.plusDays(2)),
+                milestone(4L, "Bath", "loved the water", date.plusDays(3))));
+
+        assertEquals(List.of(2L, 1L), ids(index.search("sofa", null, null, 10)));
+        assertEquals(List.of(1L, 3L, 2L), ids(index.search("first SOFA steps", null, null, 10)));
+        assertEquals(List.of(3L), ids(index.search("first", date.plusDays(1), date.plusDays(2), 10)));
+        assertEquals(1, index.search("first", null, null, 1).size());
+        assertTrue(index.search("swimming", null, null, 10).isEmpty());
+        assertTrue(index.search("  ", null, null, 10).isEmpty());
+    }
+
+    /**
+     * Unit test for the apply method in ChildMilestoneIndex.
+     * Verifies that a change produces an index at the new version that finds updated milestones by their new words
+     * only and no longer finds deleted ones, while the original index is left unchanged.
+     */
+    @Test
+    void when_apply_then_newIndexShouldHoldChange() {
+        ChildMilestoneIndex index = ChildMilestoneIndex.build(1L, List.of(
+                milestone(1L, "First steps", null, date),
+                milestone(2L, "First word", "mama", date)));
+
+        ChildMilestoneIndex changed = index.apply(2L, List.of(2L), List.of(milestone(1L, "Running", "first run", date)));
+
+        assertEquals(2L, changed.getVersion());
+        assertEquals(1, changed.size());
+        assertTrue(changed.search("steps mama", null, null, 10).isEmpty());
+        assertEquals(List.of(1L), ids(changed.search("running first", null, null, 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("first", null, null, 10)));
+        assertEquals(3L, changed.apply(3L, List.of(), List.of()).getVersion());
+    }
+}
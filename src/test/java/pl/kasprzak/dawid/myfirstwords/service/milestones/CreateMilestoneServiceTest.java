@@ -8,9 +8,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.CreateMilestoneRequest;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.CreateMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
 import pl.kasprzak.dawid.myfirstwords.service.converters.milestones.CreateMilestoneConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
@@ -26,6 +29,8 @@ class CreateMilestoneServiceTest {
     private MilestonesRepository milestonesRepository;
     @Mock
     private CreateMilestoneConverter createMilestoneConverter;
+    @Mock
+    private ChildVersionService childVersionService;
     @InjectMocks
     private CreateMilestoneService createMilestoneService;
 
@@ -78,6 +83,7 @@ class CreateMilestoneServiceTest {
         verify(authorizationHelper, times(1)).validateAndAuthorizeChild(childEntity.getId());
         verify(createMilestoneConverter, times(1)).fromDto(createMilestoneRequest);
         verify(milestonesRepository, times(1)).save(milestoneEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.MILESTONE), eq(ChangeOperation.UPSERT), any());
         verify(createMilestoneConverter, times(1)).toDto(milestoneEntity);
     }
 }
\ No newline at end of file
@@ -8,10 +8,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.exception.MilestoneNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
 import java.util.Optional;
@@ -25,6 +28,8 @@ class DeleteMilestoneServiceTest {
     private AuthorizationHelper authorizationHelper;
     @Mock
     private MilestonesRepository milestonesRepository;
+    @Mock
+    private ChildVersionService childVersionService;
     @InjectMocks
     private DeleteMilestoneService deleteMilestoneService;
 
@@ -53,13 +58,13 @@ class DeleteMilestoneServiceTest {
      */
     @Test
     void when_deleteMilestone_then_milestoneShouldBeDeletedFromChildAccount() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
         when(milestonesRepository.findByChildIdAndId(childEntity.getId(), milestoneEntity.getId())).thenReturn(Optional.of(milestoneEntity));
 
         deleteMilestoneService.deleteMilestone(childEntity.getId(), milestoneEntity.getId(), null);
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(milestonesRepository, times(1)).delete(milestoneEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.MILESTONE), eq(ChangeOperation.DELETE), any());
     }
 
     /**
@@ -73,15 +78,15 @@ class DeleteMilestoneServiceTest {
      */
     @Test
     void when_deleteMilestoneAndMilestoneNotFound_then_throwMilestoneNotFoundException() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
         when(milestonesRepository.findByChildIdAndId(childEntity.getId(), milestoneEntity.getId())).thenReturn(Optional.empty());
 
         MilestoneNotFoundException milestoneNotFoundException = assertThrows(MilestoneNotFoundException.class,
                 () -> deleteMilestoneService.deleteMilestone(childEntity.getId(), milestoneEntity.getId(), null));
 
         assertEquals("Milestone not found", milestoneNotFoundException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(milestonesRepository, never()).delete(any());
+        verify(childVersionService, never()).recordChanges(any(), any(), any(), any());
     }
 
     /**
@@ -101,12 +106,12 @@ class DeleteMilestoneServiceTest {
         parent.setId(1L);
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parent.getId())).thenReturn(childEntity);
         when(milestonesRepository.findByChildIdAndId(childEntity.getId(), milestoneEntity.getId())).thenReturn(Optional.of(milestoneEntity));
 
         deleteMilestoneService.deleteMilestone(childEntity.getId(), milestoneEntity.getId(), parent.getId());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parent.getId());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parent.getId());
         verify(milestonesRepository, times(1)).delete(milestoneEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.MILESTONE), eq(ChangeOperation.DELETE), any());
     }
 
     /**
@@ -122,15 +127,15 @@ class DeleteMilestoneServiceTest {
     @Test
     void when_adminDeletesMilestoneWithoutParentID_then_adminMissingParentIDExceptionShouldBeThrown(){
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null))
-                .thenThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."));
+        doThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."))
+                .when(authorizationHelper).authorizeForAdminOrParent(childEntity.getId(), null);
 
         AdminMissingParentIDException adminMissingParentIDException = assertThrows(AdminMissingParentIDException.class,
                 () -> deleteMilestoneService.deleteMilestone(childEntity.getId(), milestoneEntity.getId(), null));
 
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(milestonesRepository, never()).delete(any(MilestoneEntity.class));
     }
 }
\ No newline at end of file
@@ -6,18 +6,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.exception.DateValidationException;
 import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
 import pl.kasprzak.dawid.myfirstwords.exception.MilestoneNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.GetAllMilestoneResponse;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.GetMilestonesPageResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.ScoredMilestoneResponse;
+import pl.kasprzak.dawid.myfirstwords.model.milestones.SearchMilestonesResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.milestones.GetMilestoneConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.KeysetCursor;
+import pl.kasprzak.dawid.myfirstwords.util.PageSizeResolver;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -35,13 +41,16 @@ class GetMilestoneServiceTest {
     @Mock
     private MilestonesRepository milestonesRepository;
     @Mock
-    private GetMilestoneConverter getMilestoneConverter;
+    private PageSizeResolver pageSizeResolver;
+    @Mock
+    private MilestoneIndex milestoneIndex;
     @InjectMocks
     private GetMilestoneService getMilestoneService;
     private ChildEntity childEntity;
     private ParentEntity parentEntity;
     private MilestoneEntity milestoneEntity1;
     private List<MilestoneEntity> milestoneEntities;
+    private List<GetMilestoneResponse> milestoneResponses;
     private LocalDate date;
     private GetMilestoneResponse milestoneResponse;
 
@@ -83,6 +92,9 @@ class GetMilestoneServiceTest {
         milestoneEntity4.setChild(childEntity);
 
         milestoneEntities = Arrays.asList(milestoneEntity1, milestoneEntity2, milestoneEntity3, milestoneEntity4);
+        milestoneResponses = milestoneEntities.stream()
+                .map(this::createGetMilestoneResponse)
+                .toList();
 
         milestoneResponse = GetMilestoneResponse.builder()
                 .id(milestoneEntity1.getId())
@@ -104,24 +116,15 @@ class GetMilestoneServiceTest {
     /**
      * Unit test for the getByDateAchieveBefore method in GetMilestoneService.
      * This test verifies that the service correctly retrieves milestone achieved before a specified date
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved before the specified date.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_getByDateAchieveBefore_then_milestonesShouldBeReturnedBeforeTheGivenDate() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(milestoneEntities.subList(0, 2));
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(milestoneResponses.subList(0, 2));
 
         List<GetMilestoneResponse> response = getMilestoneService.getByDateAchieveBefore(childEntity.getId(), date, null);
 
@@ -130,9 +133,8 @@ class GetMilestoneServiceTest {
             assertTrue(milestoneResponse.getDateAchieve().isBefore(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveBefore(childEntity.getId(), date);
-        verify(getMilestoneConverter, times(2)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date);
     }
 
     /**
@@ -144,18 +146,13 @@ class GetMilestoneServiceTest {
      * with a provided parent ID.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved
      * before the specified date.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsMilestonesByDateAchieveBefore_then_milestonesShouldBeReturnedBeforeTheGivenDate() {
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(milestoneEntities.subList(0, 2));
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(milestoneResponses.subList(0, 2));
 
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            return createGetMilestoneResponse(entity);
-        });
 
         List<GetMilestoneResponse> responses = getMilestoneService.getByDateAchieveBefore(childEntity.getId(), date, parentEntity.getId());
 
@@ -164,32 +161,22 @@ class GetMilestoneServiceTest {
             assertTrue(milestoneResponse.getDateAchieve().isBefore(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveBefore(childEntity.getId(), date);
-        verify(getMilestoneConverter, times(2)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date);
     }
 
     /**
      * Unit test for the getByDateAchieveAfter method in GetMilestoneService.
      * This test verifies that the service correctly retrieves milestones achieved after a specified date
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved after the specified date.
-     * 3. Each retrieved MilestoneEntity is converted to a GeMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_getByDateAchieveAfter_then_milestonesShouldBeReturnedAfterTheGivenDate() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(milestoneEntities.subList(2, 4));
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(milestoneResponses.subList(2, 4));
 
         List<GetMilestoneResponse> response = getMilestoneService.getByDateAchieveAfter(childEntity.getId(), date, null);
 
@@ -198,9 +185,8 @@ class GetMilestoneServiceTest {
             assertTrue(milestoneResponse.getDateAchieve().isAfter(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveAfter(childEntity.getId(), date);
-        verify(getMilestoneConverter, times(2)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date);
 
     }
 
@@ -213,18 +199,13 @@ class GetMilestoneServiceTest {
      * with a provided parent ID.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved
      * after the specified date.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsMilestonesByDateAchieveAfter_then_milestonesShouldBeReturnedAfterTheGivenDate() {
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(milestoneEntities.subList(2, 4));
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(milestoneResponses.subList(2, 4));
 
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            return createGetMilestoneResponse(entity);
-        });
 
         List<GetMilestoneResponse> response = getMilestoneService.getByDateAchieveAfter(childEntity.getId(), date, parentEntity.getId());
 
@@ -233,36 +214,26 @@ class GetMilestoneServiceTest {
             assertTrue(milestoneResponse.getDateAchieve().isAfter(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveAfter(childEntity.getId(), date);
-        verify(getMilestoneConverter, times(2)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date);
 
     }
 
     /**
      * Unit test for the getMilestonesBetweenDays method in GetMilestoneService.
      * This test verifies that the service correctly retrieves milestones achieved between a specified dates
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved between the specified date.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_getMilestonesBetweenDays_then_milestonesShouldBeReturnedBetweenTheGivenDates() {
         LocalDate startDate = date.minusDays(2);
         LocalDate endDate = date.plusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(milestoneEntities);
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(milestoneResponses);
 
         List<GetMilestoneResponse> response = getMilestoneService.getMilestonesBetweenDays(childEntity.getId(), startDate, endDate, null);
 
@@ -271,9 +242,8 @@ class GetMilestoneServiceTest {
             assertTrue(milestoneResponse.getDateAchieve().isAfter(startDate.minusDays(1))
                     && milestoneResponse.getDateAchieve().isBefore(endDate.plusDays(1)));
         }
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
-        verify(getMilestoneConverter, times(4)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
     }
 
     /**
@@ -283,7 +253,7 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The MilestonesRepository is queried to find milestones associated with the child that were achieved between the specified dates.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsMilestonesBetweenDays_then_milestonesShouldBeReturnedBetweenTheGivenDates() {
@@ -291,12 +261,7 @@ class GetMilestoneServiceTest {
         LocalDate endDate = date.plusDays(2);
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(milestoneEntities);
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(milestoneResponses);
 
         List<GetMilestoneResponse> response = getMilestoneService.getMilestonesBetweenDays(childEntity.getId(), startDate, endDate, parentEntity.getId());
 
@@ -306,9 +271,8 @@ class GetMilestoneServiceTest {
                     && milestoneResponse.getDateAchieve().isBefore(endDate.plusDays(1)));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
-        verify(getMilestoneConverter, times(4)).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
     }
 
     /**
@@ -324,14 +288,13 @@ class GetMilestoneServiceTest {
     void when_getMilestonesBetweenDays_and_startDateIsNull_then_throwDateValidationException() {
         LocalDate endDate = date.plusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         DateValidationException dateValidationException = assertThrows(DateValidationException.class,
                 () -> getMilestoneService.getMilestonesBetweenDays(childEntity.getId(), null, endDate, null));
 
         assertEquals("Start date and end date must not be null", dateValidationException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
     /**
@@ -347,14 +310,13 @@ class GetMilestoneServiceTest {
     void when_getMilestonesBetweenDays_and_endDateIsNull_then_throwDateValidationException() {
         LocalDate startDate = date.minusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         DateValidationException dateValidationException = assertThrows(DateValidationException.class,
                 () -> getMilestoneService.getMilestonesBetweenDays(childEntity.getId(), startDate, null, null));
 
         assertEquals("Start date and end date must not be null", dateValidationException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
 
     }
 
@@ -372,38 +334,28 @@ class GetMilestoneServiceTest {
         LocalDate startDate = date.plusDays(2);
         LocalDate endDate = date.minusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         InvalidDateOrderException invalidDateOrderException = assertThrows(InvalidDateOrderException.class,
                 () -> getMilestoneService.getMilestonesBetweenDays(childEntity.getId(), startDate, endDate, null));
 
         assertEquals("Start date must be before or equal to end date", invalidDateOrderException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
     /**
      * Unit test for the getAllMilestones method in GetMilestoneService.
      * This test verifies that the service correctly retrieves all milestones for a given child
-     * and converts them to DTOs.
+     * as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find all milestones associated with the child.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_getAllMilestones_then_allMilestonesTheChildShouldBeReturned() {
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findAllByChildId(childEntity.getId())).thenReturn(milestoneEntities);
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildId(childEntity.getId())).thenReturn(milestoneResponses);
 
         GetAllMilestoneResponse response = getMilestoneService.getAllMilestone(childEntity.getId(), null);
 
@@ -416,9 +368,8 @@ class GetMilestoneServiceTest {
                             entity.getDateAchieve().equals(milestoneResponse.getDateAchieve())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findAllByChildId(childEntity.getId());
-        verify(getMilestoneConverter, times(milestoneEntities.size())).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByChildId(childEntity.getId());
     }
 
     /**
@@ -428,18 +379,13 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The MilestonesRepository is queried to find all milestones associated with the child.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestonesConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsAllMilestones_then_allMilestonesForTheChildShouldBeReturned() {
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findAllByChildId(childEntity.getId())).thenReturn(milestoneEntities);
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByChildId(childEntity.getId())).thenReturn(milestoneResponses);
 
         GetAllMilestoneResponse response = getMilestoneService.getAllMilestone(childEntity.getId(), parentEntity.getId());
 
@@ -452,9 +398,8 @@ class GetMilestoneServiceTest {
                             entity.getDateAchieve().equals(milestoneResponse.getDateAchieve())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findAllByChildId(childEntity.getId());
-        verify(getMilestoneConverter, times(milestoneEntities.size())).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByChildId(childEntity.getId());
     }
 
     /**
@@ -464,15 +409,13 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find milestones associated with the child, ignoring case sensitivity.
-     * 3. The retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestoneConverter.
+     * 3. The milestone is selected straight into a GetMilestoneResponse DTO, without loading the entity.
      */
     @Test
     void when_getByTitle_then_milestoneByTitleShouldBeReturned() {
         String title = "tiTLe1";
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneEntities.subList(0, 1));
-        when(getMilestoneConverter.toDto(milestoneEntity1)).thenReturn(milestoneResponse);
+        when(milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(List.of(milestoneResponse));
 
         List<GetMilestoneResponse> expectedMilestones = Collections.singletonList(milestoneResponse);
         GetAllMilestoneResponse expectedResponse = GetAllMilestoneResponse.builder().milestones(expectedMilestones).build();
@@ -480,9 +423,8 @@ class GetMilestoneServiceTest {
         GetAllMilestoneResponse response = getMilestoneService.getByTitle(childEntity.getId(), title.toLowerCase(), null);
 
         assertEquals(expectedResponse, response);
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
-        verify(getMilestoneConverter, times(1)).toDto(milestoneEntity1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
     }
 
     /**
@@ -492,16 +434,14 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The MilestonesRepository is queried to find milestones associated with the child, ignoring case sensitivity.
-     * 3. The retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestoneConverter.
+     * 3. The milestone is selected straight into a GetMilestoneResponse DTO, without loading the entity.
      */
     @Test
     void when_adminGetsMilestoneByTitle_then_childMilestoneByTitleShouldBeReturned() {
         String title = "tiTLe1";
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneEntities.subList(0, 1));
-        when(getMilestoneConverter.toDto(milestoneEntity1)).thenReturn(milestoneResponse);
+        when(milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(List.of(milestoneResponse));
 
         List<GetMilestoneResponse> expectedMilestones = Collections.singletonList(milestoneResponse);
         GetAllMilestoneResponse expectedResponse = GetAllMilestoneResponse.builder().milestones(expectedMilestones).build();
@@ -509,9 +449,8 @@ class GetMilestoneServiceTest {
         GetAllMilestoneResponse response = getMilestoneService.getByTitle(childEntity.getId(), title.toLowerCase(), parentEntity.getId());
 
         assertEquals(expectedResponse, response);
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
-        verify(getMilestoneConverter, times(1)).toDto(milestoneEntity1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
     }
 
     /**
@@ -521,22 +460,13 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The MilestonesRepository is queried to find milestones associated with the child, ignoring case sensitivity.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestoneConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_getByTitle_then_allMilestonesByTitleShouldBeReturned() {
         String title = "miLeStoNe";
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneEntities);
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneResponses);
 
         GetAllMilestoneResponse response = getMilestoneService.getByTitle(childEntity.getId(), title.toLowerCase(), null);
 
@@ -547,9 +477,8 @@ class GetMilestoneServiceTest {
                             milestoneEntity.getTitle().contains(milestoneResponse.getTitle())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
-        verify(getMilestoneConverter, times(response.getMilestones().size())).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
     }
 
     /**
@@ -559,23 +488,14 @@ class GetMilestoneServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The MilestonesRepository is queried to find milestones associated with the child, ignoring case sensitivity.
-     * 3. Each retrieved MilestoneEntity is converted to a GetMilestoneResponse DTO using the GetMilestoneConverter.
+     * 3. The milestones are selected straight into GetMilestoneResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsMilestoneByTitle_then_allMilestonesByTitleShouldBeReturned() {
         String title = "miLeStoNe";
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneEntities);
-        // Mock the behavior of getMilestoneConverter.toDto method to ensure that any MilestoneEntity passed to it
-        // is converted to a GetMilestoneResponse using a predefined conversion method, createGetMilestoneResponse
-        when(getMilestoneConverter.toDto(any(MilestoneEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a MilestoneEntity object
-            MilestoneEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetMilestoneResponse to convert the MilestoneEntity object to a GetMilestoneResponse
-            return createGetMilestoneResponse(entity);
-        });
+        when(milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(milestoneResponses);
 
         GetAllMilestoneResponse response = getMilestoneService.getByTitle(childEntity.getId(), title.toLowerCase(), parentEntity.getId());
 
@@ -586,9 +506,8 @@ class GetMilestoneServiceTest {
                             milestoneEntity.getTitle().contains(milestoneResponse.getTitle())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(milestonesRepository, times(1)).findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
-        verify(getMilestoneConverter, times(response.getMilestones().size())).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(milestonesRepository, times(1)).findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
     }
 
     /**
@@ -606,8 +525,8 @@ class GetMilestoneServiceTest {
         String title = "miLeStoNe";
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null))
-                .thenThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."));
+        doThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."))
+                .when(authorizationHelper).authorizeForAdminOrParent(childEntity.getId(), null);
 
         AdminMissingParentIDException adminMissingParentIDException = assertThrows(AdminMissingParentIDException.class,
                 () -> getMilestoneService.getByTitle(childEntity.getId(), title, null));
@@ -615,9 +534,8 @@ class GetMilestoneServiceTest {
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
 
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, never()).findByTitleContainingIgnoreCaseAndChildId(anyString(), anyLong());
-        verify(getMilestoneConverter, never()).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, never()).findResponsesByTitleContainingIgnoreCaseAndChildId(anyString(), anyLong());
     }
 
     /**
@@ -632,15 +550,97 @@ class GetMilestoneServiceTest {
     void when_getByTitle_and_titleNonExistent_then_throwMilestoneNotFoundException() {
         String title = "titleNonExistent";
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(milestonesRepository.findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(Collections.emptyList());
+        when(milestonesRepository.findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId())).thenReturn(Collections.emptyList());
 
         MilestoneNotFoundException milestoneNotFoundException = assertThrows(MilestoneNotFoundException.class,
                 () -> getMilestoneService.getByTitle(childEntity.getId(), title.toLowerCase(), null));
 
         assertEquals("Milestone not found", milestoneNotFoundException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(milestonesRepository, times(1)).findByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
-        verify(getMilestoneConverter, never()).toDto(any(MilestoneEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(milestonesRepository, times(1)).findResponsesByTitleContainingIgnoreCaseAndChildId(title.toLowerCase(), childEntity.getId());
+    }
+
+    /**
+     * Unit test for the getMilestonesPage method in GetMilestoneService.
+     * This test verifies that one row more than the page size is fetched and that, when it exists,
+     * only the page is returned together with the cursor of its last milestone.
+     */
+    @Test
+    void when_getMilestonesPageWithMoreRows_then_returnPageAndNextCursor() {
+        when(pageSizeResolver.resolve(2)).thenReturn(2);
+        when(milestonesRepository.findPage(childEntity.getId(), null, null, Limit.of(3))).thenReturn(milestoneResponses.subList(0, 3));
+
+        GetMilestonesPageResponse response = getMilestoneService.getMilestonesPage(childEntity.getId(), null, null, null, 2, null);
+
+        assertEquals(2, response.getMilestones().size());
+        assertEquals(2L, response.getMilestones().get(1).getId());
+        assertEquals(new KeysetCursor(milestoneEntities.get(1).getDateAchieve(), 2L).encode(), response.getNextCursor());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+    }
+
+    /**
+     * Unit test for the getMilestonesPage method in GetMilestoneService.
+     * This test verifies that a cursor makes the repository seek past the last milestone of the previous page
+     * and that no cursor is returned with the last page.
+     */
+    @Test
+    void when_getMilestonesPageWithCursor_then_seekAfterCursorAndReturnLastPage() {
+        String cursor = new KeysetCursor(date, 2L).encode();
+        when(pageSizeResolver.resolve(2)).thenReturn(2);
+        when(milestonesRepository.findPageAfter(childEntity.getId(), null, null, date, 2L, Limit.of(3))).thenReturn(milestoneResponses.subList(2, 4));
+
+        GetMilestonesPageResponse response = getMilestoneService.getMilestonesPage(childEntity.getId(), null, null, cursor, 2, null);
+
+        assertEquals(2, response.getMilestones().size());
+        assertNull(response.getNextCursor());
+        verify(milestonesRepository, never()).findPage(any(), any(), any(), any());
+    }
+
+    /**
+     * Unit test for the getMilestonesPage method in GetMilestoneService.
+     * This test verifies that a malformed cursor is rejected with an InvalidCursorException before the repository is queried.
+     */
+    @Test
+    void when_getMilestonesPageWithInvalidCursor_then_throwInvalidCursorException() {
+        InvalidCursorException invalidCursorException = assertThrows(InvalidCursorException.class,
+                () -> getMilestoneService.getMilestonesPage(childEntity.getId(), null, null, "not-a-cursor", null, null));
+
+        assertEquals("Invalid cursor", invalidCursorException.getMessage());
+        verify(milestonesRepository, never()).findPageAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    /**
+     * Unit test for the searchMilestones method in GetMilestoneService.
+     * This test verifies that the query is answered from the MilestoneIndex without querying the MilestonesRepository.
+     * The test ensures that:
+     * 1. The child is validated and authorized using the AuthorizationHelper.
+     * 2. The default limit is used if none is requested, and a requested limit is clamped to the maximum.
+     */
+    @Test
+    void when_searchMilestones_then_milestonesShouldBeLookedUpInIndex() {
+        List<ScoredMilestoneResponse> found = List.of(new ScoredMilestoneResponse(1L, "first steps", null, date, 1.5));
+        when(milestoneIndex.search(childEntity.getId(), "steps", date, null, 20)).thenReturn(found);
+        when(milestoneIndex.search(childEntity.getId(), "steps", date, null, 100)).thenReturn(found);
+
+        SearchMilestonesResponse response = getMilestoneService.searchMilestones(childEntity.getId(), "steps", date, null, null, null);
+        getMilestoneService.searchMilestones(childEntity.getId(), "steps", date, null, 1000, null);
+
+        assertEquals(found, response.getMilestones());
+        verify(authorizationHelper, times(2)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verifyNoInteractions(milestonesRepository);
+    }
+
+    /**
+     * Unit test for the searchMilestones method in GetMilestoneService.
+     * This test verifies that a start date after the end date is rejected with an InvalidDateOrderException
+     * before the index is searched.
+     */
+    @Test
+    void when_searchMilestonesWithInvalidDateOrder_then_throwInvalidDateOrderException() {
+        InvalidDateOrderException invalidDateOrderException = assertThrows(InvalidDateOrderException.class,
+                () -> getMilestoneService.searchMilestones(childEntity.getId(), "steps", date, date.minusDays(1), null, null));
+
+        assertEquals("Start date must be before or equal to end date", invalidDateOrderException.getMessage());
+        verifyNoInteractions(milestoneIndex);
     }
-}
\ No newline at end of file
+}
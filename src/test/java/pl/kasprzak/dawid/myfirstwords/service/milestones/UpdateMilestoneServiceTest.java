@@ -8,10 +8,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.kasprzak.dawid.myfirstwords.exception.MilestoneNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.milestones.UpdateMilestoneRequest;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.MilestoneEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
 import java.time.LocalDate;
@@ -26,6 +29,8 @@ class UpdateMilestoneServiceTest {
     private AuthorizationHelper authorizationHelper;
     @Mock
     private MilestonesRepository milestonesRepository;
+    @Mock
+    private ChildVersionService childVersionService;
     @InjectMocks
     private UpdateMilestoneService updateMilestoneService;
     private ChildEntity childEntity;
@@ -69,7 +74,6 @@ class UpdateMilestoneServiceTest {
     @Test
     void when_updateMilestone_then_milestoneShouldBeUpdated() {
 
-        when(authorizationHelper.validateAndAuthorizeChild(childEntity.getId())).thenReturn(childEntity);
         when(milestonesRepository.findByChildIdAndId(childEntity.getId(), existingMilestone.getId())).thenReturn(Optional.of(existingMilestone));
         when(milestonesRepository.save(existingMilestone)).thenReturn(existingMilestone);
 
@@ -79,9 +83,10 @@ class UpdateMilestoneServiceTest {
         assertEquals(request.getTitle(), updateMilestone.getTitle());
         assertEquals(request.getDescription(), updateMilestone.getDescription());
         assertEquals(request.getDateAchieve(), updateMilestone.getDateAchieve());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeChild(childEntity.getId());
+        verify(authorizationHelper, times(1)).authorizeChild(childEntity.getId());
         verify(milestonesRepository, times(1)).findByChildIdAndId(childEntity.getId(), existingMilestone.getId());
         verify(milestonesRepository, times(1)).save(any(MilestoneEntity.class));
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.MILESTONE), eq(ChangeOperation.UPSERT), any());
     }
 
     /**
@@ -95,15 +100,15 @@ class UpdateMilestoneServiceTest {
     @Test
     void when_updateMilestone_andMilestoneNotFound_then_throwMilestoneNotFoundException() {
 
-        when(authorizationHelper.validateAndAuthorizeChild(childEntity.getId())).thenReturn(childEntity);
         when(milestonesRepository.findByChildIdAndId(childEntity.getId(), existingMilestone.getId())).thenReturn(Optional.empty());
 
         MilestoneNotFoundException milestoneNotFoundException = assertThrows(MilestoneNotFoundException.class,
                 () -> updateMilestoneService.updateMilestone(childEntity.getId(), existingMilestone.getId(), request));
 
         assertEquals("Milestone not found", milestoneNotFoundException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeChild(childEntity.getId());
+        verify(authorizationHelper, times(1)).authorizeChild(childEntity.getId());
         verify(milestonesRepository, times(1)).findByChildIdAndId(childEntity.getId(), existingMilestone.getId());
         verify(milestonesRepository, never()).save(any(MilestoneEntity.class));
+        verify(childVersionService, never()).recordChanges(any(), any(), any(), any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package pl.kasprzak.dawid.myfirstwords.service.parents;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.AccountDeletionJobsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildChangesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDeletionWorkerTest {
+
+    @Mock
+    private AccountDeletionJobsRepository jobsRepository;
+    @Mock
+    private ParentsRepository parentsRepository;
+    @Mock
+    private ChildrenRepository childrenRepository;
+    @Mock
+    private ChildVersionsRepository childVersionsRepository;
+    @Mock
+    private ChildChangesRepository childChangesRepository;
+    @Mock
+    private WordsRepository wordsRepository;
+    @Mock
+    private MilestonesRepository milestonesRepository;
+    @Mock
+    private WordDailyCountsRepository wordDailyCountsRepository;
+    @Mock
+    private ParentPrincipalCache parentPrincipalCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private AccountDeletionWorker accountDeletionWorker;
+    private AccountDeletionJobEntity job;
+
+    @BeforeEach
+    void setUp() {
+        accountDeletionWorker = new AccountDeletionWorker(jobsRepository, parentsRepository, childrenRepository,
+                childVersionsRepository, childChangesRepository, wordsRepository, milestonesRepository, wordDailyCountsRepository, parentPrincipalCache,
+                transactionManager, 2, Duration.ofMinutes(10));
+
+        job = new AccountDeletionJobEntity();
+        job.setId(7L);
+        job.setParentId(1L);
+        job.setStatus(AccountDeletionStatus.RUNNING);
+        job.setTotalItems(6L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountDeletionWorker.shutdown();
+    }
+
+    /**
+     * Unit test for the purge method in AccountDeletionWorker.
+     * Verifies that the words, milestones and children are deleted in chunks of the configured size, that the
+     * progress of the job is recorded for every chunk, and that the parent is deleted and the job completed last.
+     */
+    @Test
+    void when_purge_then_accountShouldBeDeletedInChunks() {
+        ParentEntity parentEntity = new ParentEntity();
+        parentEntity.setId(1L);
+        parentEntity.setUsername("parent");
+
+        when(jobsRepository.claim(eq(7L), any())).thenReturn(1);
+        when(jobsRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(wordsRepository.findIdsByParentId(eq(1L), any(Limit.class))).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L)).thenReturn(List.of());
+        when(milestonesRepository.findIdsByParentId(eq(1L), any(Limit.class))).thenReturn(List.of(4L)).thenReturn(List.of());
+        when(childrenRepository.findIdsByParentId(eq(1L), any(Limit.class))).thenReturn(List.of(5L)).thenReturn(List.of());
+        when(parentsRepository.findById(1L)).thenReturn(Optional.of(parentEntity));
+
+        accountDeletionWorker.purge(7L);
+
+        verify(wordsRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(wordsRepository, times(1)).deleteAllByIdInBatch(List.of(3L));
+        verify(milestonesRepository, times(1)).deleteAllByIdInBatch(List.of(4L));
+        verify(childVersionsRepository, times(1)).deleteAllByIdInBatch(List.of(5L));
+        verify(childChangesRepository, times(1)).deleteAllByChildIdInBulk(List.of(5L));
+        verify(wordDailyCountsRepository, times(1)).deleteAllByChildIdInBulk(List.of(5L));
+        verify(childrenRepository, times(1)).deleteAllByIdInBatch(List.of(5L));
+        verify(jobsRepository, times(1)).addDeletedItems(eq(7L), eq(2L), any());
+        verify(jobsRepository, times(3)).addDeletedItems(eq(7L), eq(1L), any());
+        verify(parentsRepository, times(1)).delete(parentEntity);
+        verify(parentPrincipalCache, times(1)).evict("parent");
+        assertEquals(AccountDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(6L, job.getDeletedItems());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    /**
+     * Unit test for the purge method in AccountDeletionWorker.
+     * Verifies that a job that cannot be claimed, because another worker already processes it, is left alone.
+     */
+    @Test
+    void when_jobAlreadyClaimed_then_nothingShouldBeDeleted() {
+        when(jobsRepository.claim(eq(7L), any())).thenReturn(0);
+
+        accountDeletionWorker.purge(7L);
+
+        verifyNoInteractions(wordsRepository, milestonesRepository, childrenRepository, parentsRepository);
+    }
+
+    /**
+     * Unit test for the purge method in AccountDeletionWorker.
+     * Verifies that a failure while purging marks the job as failed with the error message
+     * and keeps the parent.
+     */
+    @Test
+    void when_purgeFails_then_jobShouldBeMarkedAsFailed() {
+        when(jobsRepository.claim(eq(7L), any())).thenReturn(1);
+        when(jobsRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(wordsRepository.findIdsByParentId(eq(1L), any(Limit.class))).thenThrow(new IllegalStateException("database unavailable"));
+
+        accountDeletionWorker.purge(7L);
+
+        assertEquals(AccountDeletionStatus.FAILED, job.getStatus());
+        assertEquals("database unavailable", job.getError());
+        verify(parentsRepository, never()).delete(any());
+        verify(parentPrincipalCache, never()).evict(any());
+    }
+
+    /**
+     * Unit test for the resumeUnfinishedJobs method in AccountDeletionWorker.
+     * Verifies that only running jobs whose heartbeat is older than the lease are returned to the pending state,
+     * so jobs still running on another instance are not taken over.
+     */
+    @Test
+    void when_resumeUnfinishedJobs_then_onlyAbandonedJobsShouldBeReset() {
+        when(jobsRepository.findIdsByStatus(AccountDeletionStatus.PENDING)).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+
+        accountDeletionWorker.resumeUnfinishedJobs();
+
+        verify(jobsRepository, times(1)).resetAbandoned(argThat(heartbeatBefore ->
+                !heartbeatBefore.isBefore(before.minusSeconds(1)) && heartbeatBefore.isBefore(LocalDateTime.now().minusMinutes(9))));
+    }
+}
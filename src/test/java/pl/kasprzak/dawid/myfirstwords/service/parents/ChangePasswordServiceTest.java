@@ -10,6 +10,7 @@ import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.model.parents.ChangePasswordRequest;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
 
 import java.util.Optional;
 
@@ -23,6 +24,8 @@ class ChangePasswordServiceTest {
     private ParentsRepository parentsRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ParentPrincipalCache parentPrincipalCache;
     @InjectMocks
     private ChangePasswordService changePasswordService;
     private ChangePasswordRequest request;
@@ -39,6 +42,7 @@ class ChangePasswordServiceTest {
 
         ParentEntity parent = new ParentEntity();
         parent.setId(parentId);
+        parent.setUsername("parent");
         parent.setPassword("oldPassword");
 
         request = new ChangePasswordRequest();
@@ -53,6 +57,7 @@ class ChangePasswordServiceTest {
         verify(parentsRepository, times(1)).findById(parentId);
         verify(passwordEncoder, times(1)).encode(newPassword);
         verify(parentsRepository, times(1)).save(parent);
+        verify(parentPrincipalCache, times(1)).evict("parent");
     }
 
     /**
@@ -74,5 +79,6 @@ class ChangePasswordServiceTest {
         assertEquals("Parent not found", parentNotFoundException.getMessage());
         verify(parentsRepository, times(1)).findById(parentId);
         verify(parentsRepository, never()).save(any());
+        verify(parentPrincipalCache, never()).evict(any());
     }
 }
\ No newline at end of file
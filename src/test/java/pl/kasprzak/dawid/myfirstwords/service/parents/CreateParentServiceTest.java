@@ -10,12 +10,13 @@ import pl.kasprzak.dawid.myfirstwords.exception.EmailAlreadyExistsException;
 import pl.kasprzak.dawid.myfirstwords.exception.UsernameAlreadyExistsException;
 import pl.kasprzak.dawid.myfirstwords.model.parents.CreateParentRequest;
 import pl.kasprzak.dawid.myfirstwords.model.parents.CreateParentResponse;
-import pl.kasprzak.dawid.myfirstwords.repository.AuthoritiesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.AuthorityEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.RoleCatalog;
 import pl.kasprzak.dawid.myfirstwords.service.converters.parents.CreateParentConverter;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +28,7 @@ class CreateParentServiceTest {
     @Mock
     private ParentsRepository parentsRepository;
     @Mock
-    private AuthoritiesRepository authoritiesRepository;
+    private RoleCatalog roleCatalog;
     @Mock
     private CreateParentConverter createParentConverter;
     @InjectMocks
@@ -63,7 +64,7 @@ class CreateParentServiceTest {
     /**
      * Unit test for saveParent method in CreateParentService.
      * Verifies that a new parent is saved successfully when the username and email do not already exist,
-     * and that the associated authority (role) is also saved.
+     * and that the shared authority (role) of the catalog is assigned to the parent.
      */
     @Test
     void when_createNewParent_then_parentShouldBeSaved() {
@@ -71,7 +72,7 @@ class CreateParentServiceTest {
         when(parentsRepository.findByUsername("usernameTest")).thenReturn(Optional.empty());
         when(parentsRepository.findByMail("test@mail.com")).thenReturn(Optional.empty());
         when(createParentConverter.fromDto(createParentRequest)).thenReturn(parentEntity);
-        when(authoritiesRepository.save(userAuthority)).thenReturn(userAuthority);
+        when(roleCatalog.userRole()).thenReturn(userAuthority);
         when(parentsRepository.save(parentEntity)).thenReturn(parentEntity);
         when(createParentConverter.toDto(parentEntity)).thenReturn(createParentResponse);
 
@@ -81,8 +82,9 @@ class CreateParentServiceTest {
         verify(parentsRepository, times(1)).findByUsername("usernameTest");
         verify(parentsRepository, times(1)).findByMail("test@mail.com");
         verify(createParentConverter, times(1)).fromDto(createParentRequest);
-        verify(authoritiesRepository, times(1)).save(userAuthority);
+        verify(roleCatalog, times(1)).userRole();
         verify(parentsRepository, times(1)).save(parentEntity);
+        assertEquals(List.of(userAuthority), parentEntity.getAuthorities());
         verify(createParentConverter, times(1)).toDto(parentEntity);
     }
 
@@ -102,7 +104,7 @@ class CreateParentServiceTest {
         verify(parentsRepository, times(1)).findByUsername("usernameTest");
         verify(parentsRepository, never()).findByMail(anyString());
         verify(createParentConverter, never()).fromDto(any());
-        verify(authoritiesRepository,never()).save(any());
+        verify(roleCatalog, never()).userRole();
         verify(parentsRepository, never()).save(any());
         verify(createParentConverter, never()).toDto(any());
     }
@@ -124,7 +126,7 @@ class CreateParentServiceTest {
         verify(parentsRepository, times(1)).findByUsername("usernameTest");
         verify(parentsRepository, times(1)).findByMail("test@mail.com");
         verify(createParentConverter, never()).fromDto(any());
-        verify(authoritiesRepository, never()).save(any());
+        verify(roleCatalog, never()).userRole();
         verify(parentsRepository, never()).save(any());
         verify(createParentConverter, never()).toDto(any());
     }
@@ -1,12 +1,32 @@
 package pl.kasprzak.dawid.myfirstwords.service.parents;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import pl.kasprzak.dawid.myfirstwords.event.AccountDeletionRequestedEvent;
+import pl.kasprzak.dawid.myfirstwords.event.ParentDeletedEvent;
+import pl.kasprzak.dawid.myfirstwords.exception.AccountDeletionJobNotFoundException;
 import pl.kasprzak.dawid.myfirstwords.exception.ParentNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionJobResponse;
+import pl.kasprzak.dawid.myfirstwords.model.parents.AccountDeletionStatus;
+import pl.kasprzak.dawid.myfirstwords.repository.AccountDeletionJobsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.MilestonesRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.AccountDeletionJobEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
+import pl.kasprzak.dawid.myfirstwords.service.converters.parents.AccountDeletionJobConverter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -17,24 +37,118 @@ class DeleteParentServiceTest {
 
     @Mock
     private ParentsRepository parentsRepository;
+    @Mock
+    private ChildrenRepository childrenRepository;
+    @Mock
+    private WordsRepository wordsRepository;
+    @Mock
+    private MilestonesRepository milestonesRepository;
+    @Mock
+    private AccountDeletionJobsRepository jobsRepository;
+    @Spy
+    private AccountDeletionJobConverter jobConverter;
+    @Mock
+    private ParentPrincipalCache parentPrincipalCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private DeleteParentService deleteParentService;
 
+    private ParentEntity parentEntity;
+
+    @BeforeEach
+    void setUp() {
+        parentEntity = new ParentEntity();
+        parentEntity.setId(1L);
+        parentEntity.setUsername("parent");
+    }
+
+    /**
+     * Unit test for deleteAccount method in DeleteParentService.
+     * Verifies that the parent is marked as deleted and a pending job sized by the words, milestones and children
+     * of the account (plus the parent itself) is created, that the cached principal is evicted and that the events
+     * starting the background purge are published.
+     */
+    @Test
+    void when_deleteParent_then_parentShouldBeMarkedAndJobCreated() {
+        Long parentId = 1L;
+
+        when(parentsRepository.findById(parentId)).thenReturn(Optional.of(parentEntity));
+        when(wordsRepository.countByParentId(parentId)).thenReturn(10L);
+        when(milestonesRepository.countByParentId(parentId)).thenReturn(5L);
+        when(childrenRepository.countByParentId(parentId)).thenReturn(2L);
+        when(jobsRepository.save(any(AccountDeletionJobEntity.class))).thenAnswer(invocation -> {
+            AccountDeletionJobEntity job = invocation.getArgument(0);
+            job.setId(7L);
+            return job;
+        });
+
+        AccountDeletionJobResponse result = deleteParentService.deleteAccount(parentId);
+
+        assertNotNull(parentEntity.getDeletedAt());
+        assertEquals(7L, result.getId());
+        assertEquals(parentId, result.getParentId());
+        assertEquals(AccountDeletionStatus.PENDING, result.getStatus());
+        assertEquals(18L, result.getTotalItems());
+        assertEquals(0L, result.getDeletedItems());
+        verify(parentsRepository, never()).deleteById(anyLong());
+        verify(parentPrincipalCache, times(1)).evict("parent");
+        verify(eventPublisher, times(1)).publishEvent(new ParentDeletedEvent(parentId));
+        verify(eventPublisher, times(1)).publishEvent(new AccountDeletionRequestedEvent(7L));
+    }
+
     /**
      * Unit test for deleteAccount method in DeleteParentService.
-     * Verifies that a parent is removed when the parent ID exists.
+     * Verifies that requesting the deletion of an account that is already being deleted returns the current job
+     * without creating another one.
      */
     @Test
-    void when_deleteParent_then_parentShouldBeRemoved() {
+    void when_deleteParentAlreadyBeingDeleted_then_returnCurrentJob() {
         Long parentId = 1L;
+        parentEntity.setDeletedAt(LocalDateTime.now());
+        AccountDeletionJobEntity job = new AccountDeletionJobEntity();
+        job.setId(7L);
+        job.setParentId(parentId);
+        job.setStatus(AccountDeletionStatus.RUNNING);
+
+        when(parentsRepository.findById(parentId)).thenReturn(Optional.of(parentEntity));
+        when(jobsRepository.findFirstByParentIdOrderByIdDesc(parentId)).thenReturn(Optional.of(job));
 
-        when(parentsRepository.existsById(parentId)).thenReturn(true);
+        AccountDeletionJobResponse result = deleteParentService.deleteAccount(parentId);
+
+        assertEquals(7L, result.getId());
+        assertEquals(AccountDeletionStatus.RUNNING, result.getStatus());
+        verify(jobsRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 
-        deleteParentService.deleteAccount(parentId);
+    /**
+     * Unit test for deleteAccount method in DeleteParentService.
+     * Verifies that a new job is created when the previous deletion job of the account failed.
+     */
+    @Test
+    void when_deleteParentWhoseJobFailed_then_newJobShouldBeCreated() {
+        Long parentId = 1L;
+        parentEntity.setDeletedAt(LocalDateTime.now());
+        AccountDeletionJobEntity failedJob = new AccountDeletionJobEntity();
+        failedJob.setId(7L);
+        failedJob.setStatus(AccountDeletionStatus.FAILED);
 
-        verify(parentsRepository, times(1)).existsById(parentId);
-        verify(parentsRepository, times(1)).deleteById(parentId);
+        when(parentsRepository.findById(parentId)).thenReturn(Optional.of(parentEntity));
+        when(jobsRepository.findFirstByParentIdOrderByIdDesc(parentId)).thenReturn(Optional.of(failedJob));
+        when(jobsRepository.save(any(AccountDeletionJobEntity.class))).thenAnswer(invocation -> {
+            AccountDeletionJobEntity job = invocation.getArgument(0);
+            job.setId(8L);
+            return job;
+        });
 
+        AccountDeletionJobResponse result = deleteParentService.deleteAccount(parentId);
+
+        ArgumentCaptor<AccountDeletionJobEntity> jobCaptor = ArgumentCaptor.forClass(AccountDeletionJobEntity.class);
+        verify(jobsRepository, times(1)).save(jobCaptor.capture());
+        assertEquals(AccountDeletionStatus.PENDING, jobCaptor.getValue().getStatus());
+        assertEquals(8L, result.getId());
+        verify(eventPublisher, times(1)).publishEvent(new AccountDeletionRequestedEvent(8L));
     }
 
     /**
@@ -46,12 +160,29 @@ class DeleteParentServiceTest {
     void when_deleteNonexistentParent_then_throwParentNotFoundException() {
         Long parentId = 1L;
 
-        when(parentsRepository.existsById(parentId)).thenReturn(false);
+        when(parentsRepository.findById(parentId)).thenReturn(Optional.empty());
 
         ParentNotFoundException parentNotFoundException = assertThrows(ParentNotFoundException.class, () -> deleteParentService.deleteAccount(parentId));
 
         assertEquals("Parent not found", parentNotFoundException.getMessage());
-        verify(parentsRepository, times(1)).existsById(parentId);
-        verify(parentsRepository, never()).deleteById(anyLong());
+        verify(parentsRepository, times(1)).findById(parentId);
+        verify(jobsRepository, never()).save(any());
+        verify(parentPrincipalCache, never()).evict(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Unit test for getDeletionJob method in DeleteParentService.
+     * Verifies that an AccountDeletionJobNotFoundException is thrown when the deletion of the account
+     * has never been requested.
+     */
+    @Test
+    void when_getDeletionJobOfAccountNotBeingDeleted_then_throwAccountDeletionJobNotFoundException() {
+        when(jobsRepository.findFirstByParentIdOrderByIdDesc(1L)).thenReturn(Optional.empty());
+
+        AccountDeletionJobNotFoundException exception = assertThrows(AccountDeletionJobNotFoundException.class,
+                () -> deleteParentService.getDeletionJob(1L));
+
+        assertEquals("Account deletion job not found", exception.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -73,14 +73,15 @@ class GetParentServiceTest {
         List<ParentEntity> parents = Arrays.asList(parent1, parent2);
         List<ParentInfoResponse> result = Arrays.asList(parentInfoResponse1, parentInfoResponse2);
 
-        when(parentsRepository.findAll()).thenReturn(parents);
+        when(parentsRepository.findAllWithAuthorities()).thenReturn(parents);
         when(getParentsConverter.toDto(parent1)).thenReturn(parentInfoResponse1);
         when(getParentsConverter.toDto(parent2)).thenReturn(parentInfoResponse2);
 
         GetAllParentsResponse response = getParentService.getAll();
 
         assertEquals(result, response.getParents());
-        verify(parentsRepository, times(1)).findAll();
+        verify(parentsRepository, times(1)).findAllWithAuthorities();
+        verify(parentsRepository, times(1)).findAllWithChildren();
         verify(getParentsConverter, times(1)).toDto(parent1);
         verify(getParentsConverter, times(1)).toDto(parent2);
 
@@ -94,13 +95,13 @@ class GetParentServiceTest {
     void when_getById_then_returnParent() {
         Long parentId = 1L;
 
-        when(parentsRepository.findById(parentId)).thenReturn(Optional.of(parent1));
+        when(parentsRepository.findWithAuthoritiesById(parentId)).thenReturn(Optional.of(parent1));
         when(getParentsConverter.toDto(parent1)).thenReturn(parentInfoResponse1);
 
         ParentInfoResponse response = getParentService.getById(parentId);
 
         assertEquals(parentInfoResponse1, response);
-        verify(parentsRepository, times(1)).findById(parentId);
+        verify(parentsRepository, times(1)).findWithAuthoritiesById(parentId);
         verify(getParentsConverter, times(1)).toDto(parent1);
     }
 
@@ -113,12 +114,12 @@ class GetParentServiceTest {
     void when_getById_then_throwParentNotFoundException() {
         Long parentId = 1L;
 
-        when(parentsRepository.findById(parentId)).thenReturn(Optional.empty());
+        when(parentsRepository.findWithAuthoritiesById(parentId)).thenReturn(Optional.empty());
 
         ParentNotFoundException parentNotFoundException = assertThrows(ParentNotFoundException.class, () -> getParentService.getById(parentId));
 
         assertEquals("Parent not found with id: " + parentId, parentNotFoundException.getMessage());
-        verify(parentsRepository, times(1)).findById(parentId);
+        verify(parentsRepository, times(1)).findWithAuthoritiesById(parentId);
         verify(getParentsConverter, never()).toDto(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import org.junit.jupiter.api.Test;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.SimilarWordResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChildWordIndexTest {
+
+    private final LocalDate date = LocalDate.of(2024, 1, 1);
+
+    private GetWordResponse word(long id, String word) {
+        return new GetWordResponse(id, word, date);
+    }
+
+    /**
+     * Unit test for the findSimilar method in ChildWordIndex.
+     * Verifies that words with typos are found case-insensitively, ranked by edit distance,
+     * and that words further away than the maximum distance are not returned.
+     */
+    @Test
+    void when_findSimilarWithTypo_then_closestWordsShouldBeRankedFirst() {
+        ChildWordIndex index = ChildWordIndex.build(1L, List.of(word(1L, "Mama"), word(2L, "tata"),
+                word(3L, "mamka"), word(4L, "ball")));
+
+        List<SimilarWordResponse> similar = index.findSimilar("mamma", 10);
+
+        assertEquals(List.of(1L, 3L), similar.stream().map(SimilarWordResponse::getId).toList());
+        assertEquals(List.of(1, 1), similar.stream().map(SimilarWordResponse::getDistance).toList());
+        assertEquals("Mama", similar.get(0).getWord());
+        assertEquals(1, index.findSimilar("mamma", 1).size());
+    }
+
+    /**
+     * Unit test for the findSimilar method in ChildWordIndex.
+     * Verifies that the allowed edit distance shrinks with the length of the query, so short queries
+     * only match words differing in a single letter, and one-letter queries only match exactly.
+     */
+    @Test
+    void when_findSimilarWithShortQuery_then_distanceShouldBeCapped() {
+        ChildWordIndex index = ChildWordIndex.build(1L, List.of(word(1L, "da"), word(2L, "a"), word(3L, "bu")));
+
+        assertEquals(List.of(2L, 1L), index.findSimilar("ta", 10).stream().map(SimilarWordResponse::getId).toList());
+        assertEquals(List.of(2L), index.findSimilar("A", 10).stream().map(SimilarWordResponse::getId).toList());
+        assertTrue(index.findSimilar(" ", 10).isEmpty());
+    }
+
+    /**
+     * Unit test for the apply method in ChildWordIndex.
+     * Verifies that a change produces an index at the new version holding the created words and without
+     * the deleted ones, while the original index is left unchanged.
+     */
+    @Test
+    void when_apply_then_newIndexShouldHoldChange() {
+        ChildWordIndex index = ChildWordIndex.build(1L, List.of(word(1L, "mama"), word(2L, "tata")));
+
+        ChildWordIndex changed = index.apply(2L, List.of(1L), List.of(word(3L, "baba")));
+
+        assertEquals(2L, changed.getVersion());
+        assertTrue(changed.findSimilar("mama", 10).stream().noneMatch(word -> word.getId() == 1L));
+        assertEquals(List.of(3L), changed.findSimilar("baba", 1).stream().map(SimilarWordResponse::getId).toList());
+        assertEquals(List.of(1L), index.findSimilar("mama", 1).stream().map(SimilarWordResponse::getId).toList());
+        assertEquals(3L, index.apply(3L, List.of(), List.of()).getVersion());
+    }
+
+    /**
+     * Unit test for the apply method in ChildWordIndex.
+     * Verifies that an updated word is found under its new form only, and that the completions stay distinct
+     * and sorted as words sharing a normalized form are created and deleted, matching an index built from scratch.
+     */
+    @Test
+    void when_applyUpdatesAndDuplicates_then_indexShouldMatchRebuiltIndex() {
+        ChildWordIndex index = ChildWordIndex.build(1L, List.of(word(1L, "mama"), word(2L, "Mama"), word(3L, "tata")));
+
+        ChildWordIndex changed = index.apply(2L, List.of(1L), List.of(word(3L, "mamka"), word(4L, "baba")));
+        ChildWordIndex rebuilt = ChildWordIndex.build(2L, List.of(word(2L, "Mama"), word(3L, "mamka"), word(4L, "baba")));
+
+        assertEquals(List.of("baba", "mama", "mamka"), changed.complete("", 10));
+        assertEquals(rebuilt.complete("", 10), changed.complete("", 10));
+        assertEquals(rebuilt.findSimilar("mamma", 10).stream().map(SimilarWordResponse::getId).toList(),
+                changed.findSimilar("mamma", 10).stream().map(SimilarWordResponse::getId).toList());
+        assertTrue(changed.findSimilar("tata", 10).stream().noneMatch(word -> word.getId() == 3L));
+        assertEquals(List.of("mamka"), changed.apply(3L, List.of(2L), List.of()).complete("mam", 10));
+    }
+
+    /**
+     * Unit test for the complete method in ChildWordIndex.
+     * Verifies that the distinct normalized words starting with the prefix are returned alphabetically
+     * up to the limit, and that a prefix matching no word returns an empty list.
+     */
+    @Test
+    void when_complete_then_wordsStartingWithPrefixShouldBeReturned() {
+        ChildWordIndex index = ChildWordIndex.build(1L, List.of(word(1L, "Mama"), word(2L, "mamka"),
+                word(3L, "ma"), word(4L, "mama"), word(5L, "tata")));
+
+        assertEquals(List.of("ma", "mama", "mamka"), index.complete("ma", 10));
+        assertEquals(List.of("mama"), index.complete("mama", 10));
+        assertEquals(List.of("ma"), index.complete("ma", 1));
+        assertTrue(index.complete("x", 10).isEmpty());
+    }
+}
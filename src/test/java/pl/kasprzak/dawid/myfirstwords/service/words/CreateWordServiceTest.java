@@ -6,11 +6,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordRequest;
 import pl.kasprzak.dawid.myfirstwords.model.words.CreateWordResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
 import pl.kasprzak.dawid.myfirstwords.service.converters.words.CreateWordConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
@@ -25,6 +28,10 @@ class CreateWordServiceTest {
     private WordsRepository wordsRepository;
     @Mock
     private CreateWordConverter createWordConverter;
+    @Mock
+    private ChildVersionService childVersionService;
+    @Mock
+    private VocabularyGrowthService vocabularyGrowthService;
     @InjectMocks
     private CreateWordService createWordService;
 
@@ -74,6 +81,8 @@ class CreateWordServiceTest {
         verify(authorizationHelper, times(1)).validateAndAuthorizeChild(childEntity.getId());
         verify(createWordConverter, times(1)).fromDto(createWordRequest);
         verify(wordsRepository, times(1)).save(wordEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.WORD), eq(ChangeOperation.UPSERT), any());
+        verify(vocabularyGrowthService, times(1)).recordWordsAdded(eq(childEntity.getId()), any());
         verify(createWordConverter, times(1)).toDto(wordEntity);
     }
 }
\ No newline at end of file
@@ -8,12 +8,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.exception.WordNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
 import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
+import pl.kasprzak.dawid.myfirstwords.service.children.ChildVersionService;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +29,12 @@ class DeleteWordServiceTest {
     private AuthorizationHelper authorizationHelper;
     @Mock
     private WordsRepository wordsRepository;
+    @Mock
+    private ChildVersionService childVersionService;
+    @Mock
+    private VocabularyGrowthService vocabularyGrowthService;
+    @Mock
+    private WordDictionary wordDictionary;
     @InjectMocks
     private DeleteWordService deleteWordService;
     private WordEntity wordEntity;
@@ -35,6 +45,7 @@ class DeleteWordServiceTest {
 
         wordEntity = new WordEntity();
         wordEntity.setId(1L);
+        wordEntity.setWord("Mama");
 
         childEntity = new ChildEntity();
         childEntity.setId(1L);
@@ -49,17 +60,20 @@ class DeleteWordServiceTest {
      * 1. The child is validated and authorized for the parent using the AuthorizationHelper.
      * 2. The WordsRepository is queried to find the word associated with the child.
      * 3. If the word exists, it is successfully deleted from the child's account.
+     * 4. The WordDictionary counts the children knowing the normalized word again after the commit.
      */
     @Test
     void when_deleteWord_then_wordShouldBeDeletedFromChildAccount() {
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
         when(wordsRepository.findByChildIdAndId(childEntity.getId(), wordEntity.getId())).thenReturn(Optional.of(wordEntity));
 
         deleteWordService.deleteWord(childEntity.getId(), wordEntity.getId(), null);
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(wordsRepository, times(1)).delete(wordEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.WORD), eq(ChangeOperation.DELETE), any());
+        verify(vocabularyGrowthService, times(1)).recordWordsDeleted(eq(childEntity.getId()), any());
+        verify(wordDictionary, times(1)).recountAfterCommit(List.of("mama"));
     }
 
     /**
@@ -74,15 +88,16 @@ class DeleteWordServiceTest {
     @Test
     void when_deleteWordAndWordNotFound_then_throwWordNotFoundException() {
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
         when(wordsRepository.findByChildIdAndId(childEntity.getId(), wordEntity.getId())).thenReturn(Optional.empty());
 
         WordNotFoundException wordNotFoundException = assertThrows(WordNotFoundException.class,
                 () -> deleteWordService.deleteWord(childEntity.getId(), wordEntity.getId(), null));
 
         assertEquals("Word not found", wordNotFoundException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(wordsRepository, never()).delete(any());
+        verify(childVersionService, never()).recordChanges(any(), any(), any(), any());
+        verify(vocabularyGrowthService, never()).recordWordsDeleted(any(), any());
     }
 
     /**
@@ -102,12 +117,13 @@ class DeleteWordServiceTest {
         parent.setId(1L);
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parent.getId())).thenReturn(childEntity);
         when(wordsRepository.findByChildIdAndId(childEntity.getId(), wordEntity.getId())).thenReturn(Optional.of(wordEntity));
 
         deleteWordService.deleteWord(childEntity.getId(), wordEntity.getId(), parent.getId());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parent.getId());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parent.getId());
         verify(wordsRepository, times(1)).delete(wordEntity);
+        verify(childVersionService, times(1)).recordChanges(eq(childEntity.getId()), eq(ChangedEntityType.WORD), eq(ChangeOperation.DELETE), any());
+        verify(vocabularyGrowthService, times(1)).recordWordsDeleted(eq(childEntity.getId()), any());
     }
 
     /**
@@ -123,15 +139,15 @@ class DeleteWordServiceTest {
     @Test
     void when_adminDeletesWordWithoutParentID_then_adminMissingParentIDExceptionShouldBeThrown(){
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null))
-                .thenThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."));
+        doThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."))
+                .when(authorizationHelper).authorizeForAdminOrParent(childEntity.getId(), null);
 
         AdminMissingParentIDException adminMissingParentIDException = assertThrows(AdminMissingParentIDException.class,
                 () -> deleteWordService.deleteWord(childEntity.getId(), wordEntity.getId(), null));
 
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
         verify(wordsRepository, never()).delete(any(WordEntity.class));
     }
 }
\ No newline at end of file
@@ -6,18 +6,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import pl.kasprzak.dawid.myfirstwords.exception.AdminMissingParentIDException;
 import pl.kasprzak.dawid.myfirstwords.exception.DateValidationException;
 import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
 import pl.kasprzak.dawid.myfirstwords.exception.WordNotFoundException;
+import pl.kasprzak.dawid.myfirstwords.model.words.CompletionSource;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetAllWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetSimilarWordsResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordCompletionsResponse;
 import pl.kasprzak.dawid.myfirstwords.model.words.GetWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.GetWordsPageResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.SimilarWordResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.WordCompletionResponse;
 import pl.kasprzak.dawid.myfirstwords.repository.WordsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.WordEntity;
-import pl.kasprzak.dawid.myfirstwords.service.converters.words.GetWordsConverter;
 import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+import pl.kasprzak.dawid.myfirstwords.util.KeysetCursor;
+import pl.kasprzak.dawid.myfirstwords.util.PageSizeResolver;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -36,13 +45,18 @@ class GetWordServiceTest {
     @Mock
     private WordsRepository wordsRepository;
     @Mock
-    private GetWordsConverter getWordsConverter;
+    private PageSizeResolver pageSizeResolver;
+    @Mock
+    private WordIndex wordIndex;
+    @Mock
+    private WordDictionary wordDictionary;
     @InjectMocks
     private GetWordService getWordService;
 
     private ParentEntity parentEntity;
     private ChildEntity childEntity;
     private List<WordEntity> wordEntities;
+    private List<GetWordResponse> wordResponses;
     private WordEntity wordEntity1;
     private LocalDate date;
 
@@ -85,6 +99,9 @@ class GetWordServiceTest {
         wordEntity4.setChild(childEntity);
 
         wordEntities = Arrays.asList(wordEntity1, wordEntity2, wordEntity3, wordEntity4);
+        wordResponses = wordEntities.stream()
+                .map(this::createGetWordResponse)
+                .toList();
     }
 
     private GetWordResponse createGetWordResponse(WordEntity entity) {
@@ -98,24 +115,15 @@ class GetWordServiceTest {
     /**
      * Unit test for the getByDateAchieveBefore method in GetWordService.
      * This test verifies that the service correctly retrieves words achieved before a specified date
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved before the specified date.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_getByDateAchieveBefore_then_wordsShouldBeReturnedBeforeTheGivenDate() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(wordEntities.subList(0, 2));
-        // Mock the behavior of getWordsConverter.toDto method to ensure that any WordEntity passed to it
-        // is converted to a GetWordResponse using a predefined conversion method, createGetWordResponse.
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a WordEntity object
-            WordEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetWordResponse to convert the WordEntity object to a GetWordResponse
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(wordResponses.subList(0, 2));
 
         List<GetWordResponse> response = getWordService.getByDateAchieveBefore(childEntity.getId(), date, null);
 
@@ -124,9 +132,8 @@ class GetWordServiceTest {
             assertTrue(wordResponse.getDateAchieve().isBefore(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveBefore(childEntity.getId(), date);
-        verify(getWordsConverter, times(2)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date);
     }
 
     /**
@@ -138,18 +145,13 @@ class GetWordServiceTest {
      * with a provided parent ID.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved
      * before the specified date.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsWordsByDateAchieveBefore_then_wordsShouldBeReturnedBeforeTheGivenDate() {
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(wordEntities.subList(0, 2));
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date)).thenReturn(wordResponses.subList(0, 2));
 
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            WordEntity entity = invocationOnMock.getArgument(0);
-            return createGetWordResponse(entity);
-        });
 
         List<GetWordResponse> responses = getWordService.getByDateAchieveBefore(childEntity.getId(), date, parentEntity.getId());
 
@@ -158,32 +160,22 @@ class GetWordServiceTest {
             assertTrue(wordResponse.getDateAchieve().isBefore(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveBefore(childEntity.getId(), date);
-        verify(getWordsConverter, times(2)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveBefore(childEntity.getId(), date);
     }
 
     /**
      * Unit test for the getByDateAchieveAfter method in GetWordService.
      * This test verifies that the service correctly retrieves words achieved after a specified date
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved after the specified date.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_getByDateAchieveAfter_then_wordsShouldBeReturnedAfterTheGivenDate() {
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(wordEntities.subList(2, 4));
-        // Mock the behavior of getWordsConverter.toDto method to ensure that any WordEntity passed to it
-        // is converted to a GetWordResponse using a predefined conversion method, createGetWordResponse.
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a WordEntity object
-            WordEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetWordResponse to convert the WordEntity object to a GetWordResponse
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(wordResponses.subList(2, 4));
 
         List<GetWordResponse> response = getWordService.getByDateAchieveAfter(childEntity.getId(), date, null);
 
@@ -192,9 +184,8 @@ class GetWordServiceTest {
             assertTrue(wordResponse.getDateAchieve().isAfter(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveAfter(childEntity.getId(), date);
-        verify(getWordsConverter, times(2)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date);
     }
 
     /**
@@ -206,18 +197,13 @@ class GetWordServiceTest {
      * with a provided parent ID.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved
      * after the specified date.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsWordsByDateAchieveAfter_then_wordsShouldBeReturnedAfterTheGivenDate() {
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(wordEntities.subList(2, 4));
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date)).thenReturn(wordResponses.subList(2, 4));
 
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            WordEntity entity = invocationOnMock.getArgument(0);
-            return createGetWordResponse(entity);
-        });
 
         List<GetWordResponse> responses = getWordService.getByDateAchieveAfter(childEntity.getId(), date, parentEntity.getId());
 
@@ -226,35 +212,25 @@ class GetWordServiceTest {
             assertTrue(wordResponse.getDateAchieve().isAfter(date));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveAfter(childEntity.getId(), date);
-        verify(getWordsConverter, times(2)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveAfter(childEntity.getId(), date);
     }
 
     /**
      * Unit test for the getWordsBetweenDays method in GetWordService.
      * This test verifies that the service correctly retrieves words achieved between a specified dates
-     * for a given child and converts them to DTOs.
+     * for a given child as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved between the specified date.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_getWordsBetweenDays_then_wordsShouldBeReturnedBetweenTheGivenDates() {
         LocalDate startDate = date.minusDays(2);
         LocalDate endDate = date.plusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(wordEntities);
-        // Mock the behavior of getWordsConverter.toDto method to ensure that any WordEntity passed to it
-        // is converted to a GetWordResponse using a predefined conversion method, createGetWordResponse.
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a WordEntity object
-            WordEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetWordResponse to convert the WordEntity object to a GetWordResponse
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(wordResponses);
 
         List<GetWordResponse> response = getWordService.getWordsBetweenDays(childEntity.getId(), startDate, endDate, null);
 
@@ -264,9 +240,8 @@ class GetWordServiceTest {
                     && wordResponse.getDateAchieve().isBefore(endDate.plusDays(1)));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
-        verify(getWordsConverter, times(4)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
     }
 
     /**
@@ -276,7 +251,7 @@ class GetWordServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The WordsRepository is queried to find words associated with the child that were achieved between the specified dates.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsWordsBetweenDays_then_wordsShouldBeReturnedBetweenTheGivenDates() {
@@ -284,12 +259,7 @@ class GetWordServiceTest {
         LocalDate endDate = date.plusDays(2);
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(wordsRepository.findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(wordEntities);
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            WordEntity entity = invocationOnMock.getArgument(0);
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate)).thenReturn(wordResponses);
 
         List<GetWordResponse> response = getWordService.getWordsBetweenDays(childEntity.getId(), startDate, endDate, parentEntity.getId());
 
@@ -299,9 +269,8 @@ class GetWordServiceTest {
                     && wordResponse.getDateAchieve().isBefore(endDate.plusDays(1)));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(wordsRepository, times(1)).findByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
-        verify(getWordsConverter, times(4)).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(wordsRepository, times(1)).findResponsesByChildIdAndDateAchieveBetween(childEntity.getId(), startDate, endDate);
     }
 
     /**
@@ -317,14 +286,13 @@ class GetWordServiceTest {
     void when_getWordsBetweenDays_and_startDateIsNull_then_throwDateValidationException() {
         LocalDate endDate = date.plusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         DateValidationException dateValidationException = assertThrows(DateValidationException.class,
                 () -> getWordService.getWordsBetweenDays(childEntity.getId(), null, endDate, null));
 
         assertEquals("Start date and end date must not be null", dateValidationException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
     /**
@@ -340,14 +308,13 @@ class GetWordServiceTest {
     void when_getWordsBetweenDays_and_endDateIsNull_then_throwDateValidationException() {
         LocalDate startDate = date.minusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         DateValidationException dateValidationException = assertThrows(DateValidationException.class,
                 () -> getWordService.getWordsBetweenDays(childEntity.getId(), startDate, null, null));
 
         assertEquals("Start date and end date must not be null", dateValidationException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
     /**
@@ -364,38 +331,28 @@ class GetWordServiceTest {
         LocalDate startDate = date.plusDays(2);
         LocalDate endDate = date.minusDays(2);
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
 
         InvalidDateOrderException invalidDateOrderException = assertThrows(InvalidDateOrderException.class,
                 () -> getWordService.getWordsBetweenDays(childEntity.getId(), startDate, endDate, null));
 
         assertEquals("Start date must be before or equal to end date", invalidDateOrderException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, never()).findByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, never()).findResponsesByChildIdAndDateAchieveBetween(anyLong(), any(LocalDate.class), any(LocalDate.class));
     }
 
     /**
      * Unit test for the getAllWords method in GetWordService.
      * This test verifies that the service correctly retrieves all words for a given child
-     * and converts them to DTOs.
+     * as DTOs.
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The WordsRepository is queried to find all words associated with the child.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_getAllWords_then_allWordsTheChildShouldBeReturned() {
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findAllByChildId(childEntity.getId())).thenReturn(wordEntities);
-        // Mock the behavior of getWordsConverter.toDto method to ensure that any WordEntity passed to it
-        // is converted to a GetWordResponse using a predefined conversion method, createGetWordResponse.
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            // Extract the argument passed to the toDto method, which is a WordEntity object
-            WordEntity entity = invocationOnMock.getArgument(0);
-            // Use the helper method createGetWordResponse to convert the WordEntity object to a GetWordResponse
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildId(childEntity.getId())).thenReturn(wordResponses);
 
         GetAllWordsResponse response = getWordService.getAllWords(childEntity.getId(), null);
 
@@ -408,9 +365,8 @@ class GetWordServiceTest {
                             entity.getDateAchieve().equals(wordResponse.getDateAchieve())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findAllByChildId(childEntity.getId());
-        verify(getWordsConverter, times(wordEntities.size())).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponsesByChildId(childEntity.getId());
     }
 
     /**
@@ -420,18 +376,13 @@ class GetWordServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The WordsRepository is queried to find all words associated with the child.
-     * 3. Each retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The words are selected straight into GetWordResponse DTOs, without loading the entities.
      */
     @Test
     void when_adminGetsAllWords_then_allWordsForTheChildShouldBeReturned() {
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(wordsRepository.findAllByChildId(childEntity.getId())).thenReturn(wordEntities);
-        when(getWordsConverter.toDto(any(WordEntity.class))).thenAnswer(invocationOnMock -> {
-            WordEntity entity = invocationOnMock.getArgument(0);
-            return createGetWordResponse(entity);
-        });
+        when(wordsRepository.findResponsesByChildId(childEntity.getId())).thenReturn(wordResponses);
 
         GetAllWordsResponse response = getWordService.getAllWords(childEntity.getId(), parentEntity.getId());
 
@@ -444,9 +395,8 @@ class GetWordServiceTest {
                             entity.getDateAchieve().equals(wordResponse.getDateAchieve())));
         }
 
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(wordsRepository, times(1)).findAllByChildId(childEntity.getId());
-        verify(getWordsConverter, times(wordEntities.size())).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(wordsRepository, times(1)).findResponsesByChildId(childEntity.getId());
     }
 
     /**
@@ -455,28 +405,20 @@ class GetWordServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized using the AuthorizationHelper for either the authenticated parent or administrator.
      * 2. The WordsRepository is queried to find the word associated with the child, ignoring case sensitivity.
-     * 3. The retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The word is selected straight into a GetWordResponse DTO, without loading the entity.
      */
     @Test
     void when_getByWord_then_theChildWordShouldBeReturned() {
         String word = "word1";
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId())).thenReturn(Optional.of(wordEntity1));
-        when(getWordsConverter.toDto(wordEntity1)).thenReturn(
-                GetWordResponse.builder()
-                        .id(wordEntity1.getId())
-                        .word(wordEntity1.getWord())
-                        .dateAchieve(wordEntity1.getDateAchieve())
-                        .build());
+        when(wordsRepository.findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1))).thenReturn(Optional.of(createGetWordResponse(wordEntity1)));
 
         GetWordResponse response = getWordService.getByWord(childEntity.getId(), word, null);
 
         assertNotNull(response);
         assertEquals(word, response.getWord());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId());
-        verify(getWordsConverter, times(1)).toDto(wordEntity1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1));
 
     }
 
@@ -487,28 +429,20 @@ class GetWordServiceTest {
      * The test ensures that:
      * 1. The child is validated and authorized for the administrator using the AuthorizationHelper with a provided parent ID.
      * 2. The WordsRepository is queried to find the word associated with the child, ignoring case sensitivity.
-     * 3. The retrieved WordEntity is converted to a GetWordResponse DTO using the GetWordsConverter.
+     * 3. The word is selected straight into a GetWordResponse DTO, without loading the entity.
      */
     @Test
     void when_adminGetsWordByExactMatch_then_theChildWordShouldBeReturned() {
         String word = "word1";
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId())).thenReturn(childEntity);
-        when(wordsRepository.findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId())).thenReturn(Optional.of(wordEntity1));
-        when(getWordsConverter.toDto(wordEntity1)).thenReturn(
-                GetWordResponse.builder()
-                        .id(wordEntity1.getId())
-                        .word(wordEntity1.getWord())
-                        .dateAchieve(wordEntity1.getDateAchieve())
-                        .build());
+        when(wordsRepository.findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1))).thenReturn(Optional.of(createGetWordResponse(wordEntity1)));
 
         GetWordResponse response = getWordService.getByWord(childEntity.getId(), word, parentEntity.getId());
 
         assertEquals(word, response.getWord());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
-        verify(wordsRepository, times(1)).findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId());
-        verify(getWordsConverter, times(1)).toDto(wordEntity1);
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), parentEntity.getId());
+        verify(wordsRepository, times(1)).findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1));
 
     }
 
@@ -527,16 +461,15 @@ class GetWordServiceTest {
         String word = "word1";
 
         lenient().when(authorizationHelper.isAdmin()).thenReturn(true);
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null))
-                .thenThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."));
+        doThrow(new AdminMissingParentIDException("Admin must provide a parentID to perform this operation."))
+                .when(authorizationHelper).authorizeForAdminOrParent(childEntity.getId(), null);
 
         AdminMissingParentIDException adminMissingParentIDException = assertThrows(AdminMissingParentIDException.class,
                 () -> getWordService.getByWord(childEntity.getId(), word, null));
 
         assertEquals("Admin must provide a parentID to perform this operation.", adminMissingParentIDException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, never()).findByWordIgnoreCaseAndChildId(anyString(), anyLong());
-        verify(getWordsConverter, never()).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, never()).findResponseByWordNormalizedAndChildId(anyString(), anyLong(), any());
 
     }
 
@@ -552,15 +485,118 @@ class GetWordServiceTest {
     void when_getByWord_and_wordNotExist_then_throwWordNotFoundException() {
         String word = "nonExistentWord";
 
-        when(authorizationHelper.validateAndAuthorizeForAdminOrParent(childEntity.getId(), null)).thenReturn(childEntity);
-        when(wordsRepository.findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId())).thenReturn(Optional.empty());
+        when(wordsRepository.findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1))).thenReturn(Optional.empty());
 
         WordNotFoundException wordNotFoundException = assertThrows(WordNotFoundException.class,
                 () -> getWordService.getByWord(childEntity.getId(), word, null));
 
         assertEquals("Word not found", wordNotFoundException.getMessage());
-        verify(authorizationHelper, times(1)).validateAndAuthorizeForAdminOrParent(childEntity.getId(), null);
-        verify(wordsRepository, times(1)).findByWordIgnoreCaseAndChildId(word.toLowerCase(), childEntity.getId());
-        verify(getWordsConverter, never()).toDto(any(WordEntity.class));
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verify(wordsRepository, times(1)).findResponseByWordNormalizedAndChildId(WordEntity.normalize(word), childEntity.getId(), Limit.of(1));
+    }
+
+    /**
+     * Unit test for the getSimilarWords method in GetWordService.
+     * This test verifies that the words spelled like the given word are looked up in the WordIndex without
+     * querying the WordsRepository. The test ensures that:
+     * 1. The child is validated and authorized using the AuthorizationHelper.
+     * 2. The default limit is used if none is requested, and a requested limit is clamped to the maximum.
+     */
+    @Test
+    void when_getSimilarWords_then_wordsShouldBeLookedUpInIndex() {
+        List<SimilarWordResponse> similar = List.of(new SimilarWordResponse(1L, "mama", LocalDate.of(2024, 1, 1), 1));
+        when(wordIndex.findSimilar(childEntity.getId(), "mamma", 5)).thenReturn(similar);
+        when(wordIndex.findSimilar(childEntity.getId(), "mamma", 20)).thenReturn(similar);
+
+        GetSimilarWordsResponse response = getWordService.getSimilarWords(childEntity.getId(), "mamma", null, null);
+        getWordService.getSimilarWords(childEntity.getId(), "mamma", 1000, null);
+
+        assertEquals(similar, response.getWords());
+        verify(authorizationHelper, times(2)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verifyNoInteractions(wordsRepository);
+    }
+
+    /**
+     * Unit test for the getCompletions method in GetWordService.
+     * This test verifies that the child's own words are suggested first and the rest of the limit is filled
+     * from the WordDictionary, skipping the words the child already has. The test ensures that:
+     * 1. The child is validated and authorized using the AuthorizationHelper.
+     * 2. The prefix is normalized before the lookups and the WordsRepository is not queried.
+     */
+    @Test
+    void when_getCompletions_then_childWordsShouldPrecedeDictionaryWords() {
+        when(wordIndex.complete(childEntity.getId(), "ma", 3)).thenReturn(List.of("mama"));
+        when(wordDictionary.complete("ma", 4)).thenReturn(List.of("mama", "mapa", "malina", "mata"));
+
+        GetWordCompletionsResponse response = getWordService.getCompletions(childEntity.getId(), " Ma", 3, null);
+
+        assertEquals(List.of("mama", "mapa", "malina"),
+                response.getCompletions().stream().map(WordCompletionResponse::getWord).toList());
+        assertEquals(List.of(CompletionSource.CHILD, CompletionSource.DICTIONARY, CompletionSource.DICTIONARY),
+                response.getCompletions().stream().map(WordCompletionResponse::getSource).toList());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verifyNoInteractions(wordsRepository);
+    }
+
+    /**
+     * Unit test for the getCompletions method in GetWordService.
+     * This test verifies that a blank prefix returns no completions without looking up the indexes.
+     */
+    @Test
+    void when_getCompletionsWithBlankPrefix_then_noCompletionsShouldBeReturned() {
+        GetWordCompletionsResponse response = getWordService.getCompletions(childEntity.getId(), "  ", null, null);
+
+        assertTrue(response.getCompletions().isEmpty());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+        verifyNoInteractions(wordIndex, wordDictionary);
+    }
+
+    /**
+     * Unit test for the getWordsPage method in GetWordService.
+     * This test verifies that one row more than the page size is fetched and that, when it exists,
+     * only the page is returned together with the cursor of its last word.
+     */
+    @Test
+    void when_getWordsPageWithMoreRows_then_returnPageAndNextCursor() {
+        when(pageSizeResolver.resolve(2)).thenReturn(2);
+        when(wordsRepository.findPage(childEntity.getId(), null, null, Limit.of(3))).thenReturn(wordResponses.subList(0, 3));
+
+        GetWordsPageResponse response = getWordService.getWordsPage(childEntity.getId(), null, null, null, 2, null);
+
+        assertEquals(2, response.getWords().size());
+        assertEquals(2L, response.getWords().get(1).getId());
+        assertEquals(new KeysetCursor(wordEntities.get(1).getDateAchieve(), 2L).encode(), response.getNextCursor());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(childEntity.getId(), null);
+    }
+
+    /**
+     * Unit test for the getWordsPage method in GetWordService.
+     * This test verifies that a cursor makes the repository seek past the last word of the previous page
+     * and that no cursor is returned with the last page.
+     */
+    @Test
+    void when_getWordsPageWithCursor_then_seekAfterCursorAndReturnLastPage() {
+        String cursor = new KeysetCursor(date, 2L).encode();
+        when(pageSizeResolver.resolve(2)).thenReturn(2);
+        when(wordsRepository.findPageAfter(childEntity.getId(), null, null, date, 2L, Limit.of(3))).thenReturn(wordResponses.subList(2, 4));
+
+        GetWordsPageResponse response = getWordService.getWordsPage(childEntity.getId(), null, null, cursor, 2, null);
+
+        assertEquals(2, response.getWords().size());
+        assertNull(response.getNextCursor());
+        verify(wordsRepository, never()).findPage(any(), any(), any(), any());
+    }
+
+    /**
+     * Unit test for the getWordsPage method in GetWordService.
+     * This test verifies that a malformed cursor is rejected with an InvalidCursorException before the repository is queried.
+     */
+    @Test
+    void when_getWordsPageWithInvalidCursor_then_throwInvalidCursorException() {
+        InvalidCursorException invalidCursorException = assertThrows(InvalidCursorException.class,
+                () -> getWordService.getWordsPage(childEntity.getId(), null, null, "not-a-cursor", null, null));
+
+        assertEquals("Invalid cursor", invalidCursorException.getMessage());
+        verify(wordsRepository, never()).findPageAfter(any(), any(), any(), any(), any(), any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.kasprzak.dawid.myfirstwords.exception.DateValidationException;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidDateOrderException;
+import pl.kasprzak.dawid.myfirstwords.model.words.GrowthInterval;
+import pl.kasprzak.dawid.myfirstwords.model.words.VocabularyGrowthResponse;
+import pl.kasprzak.dawid.myfirstwords.model.words.VocabularyPeriodResponse;
+import pl.kasprzak.dawid.myfirstwords.repository.WordDailyCountsRepository;
+import pl.kasprzak.dawid.myfirstwords.repository.dao.WordDailyCountEntity;
+import pl.kasprzak.dawid.myfirstwords.repository.projections.WordDailyCount;
+import pl.kasprzak.dawid.myfirstwords.util.AuthorizationHelper;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyGrowthServiceTest {
+
+    @Mock
+    private WordDailyCountsRepository wordDailyCountsRepository;
+    @Mock
+    private AuthorizationHelper authorizationHelper;
+    @InjectMocks
+    private VocabularyGrowthService vocabularyGrowthService;
+
+    private final LocalDate date = LocalDate.of(2024, 5, 1);
+
+    /**
+     * Unit test for the recordWordsAdded method in VocabularyGrowthService.
+     * Verifies that the words are counted per day, that the count of a day that already has one is incremented
+     * in place and that a count is inserted for a day that has none, while words without a date are ignored.
+     */
+    @Test
+    void when_recordWordsAdded_then_dailyCountsShouldBeIncrementedOrInserted() {
+        when(wordDailyCountsRepository.addWords(1L, date, 2L)).thenReturn(1);
+        when(wordDailyCountsRepository.addWords(1L, date.plusDays(1), 1L)).thenReturn(0);
+
+        vocabularyGrowthService.recordWordsAdded(1L, Arrays.asList(date, date.plusDays(1), date, null));
+
+        verify(wordDailyCountsRepository, times(1)).save(argThat((WordDailyCountEntity count) ->
+                count.getChildId() == 1L && count.getDateAchieve().equals(date.plusDays(1)) && count.getWords() == 1L));
+        verify(wordDailyCountsRepository, times(2)).addWords(eq(1L), any(), anyLong());
+    }
+
+    /**
+     * Unit test for the recordWordsDeleted method in VocabularyGrowthService.
+     * Verifies that the count of the day of every deleted word is decremented in place.
+     */
+    @Test
+    void when_recordWordsDeleted_then_dailyCountsShouldBeDecremented() {
+        vocabularyGrowthService.recordWordsDeleted(1L, List.of(date, date));
+
+        verify(wordDailyCountsRepository, times(1)).addWords(1L, date, -2L);
+        verify(wordDailyCountsRepository, never()).save(any());
+    }
+
+    /**
+     * Unit test for the getVocabularyGrowth method in VocabularyGrowthService.
+     * This test verifies that the daily counts are summed into months from the month of the first word
+     * to the month of the last one, empty months included, with the cumulative vocabulary size of each.
+     * The test ensures that:
+     * 1. The child is validated and authorized using the AuthorizationHelper.
+     * 2. Without a start date, the words before the first period are not queried.
+     */
+    @Test
+    void when_getVocabularyGrowthByMonth_then_periodsShouldBeCumulative() {
+        when(wordDailyCountsRepository.findDailyCounts(1L, null, null)).thenReturn(List.of(
+                new WordDailyCount(LocalDate.of(2024, 1, 15), 2),
+                new WordDailyCount(LocalDate.of(2024, 1, 31), 1),
+                new WordDailyCount(LocalDate.of(2024, 3, 1), 4)));
+
+        VocabularyGrowthResponse response = vocabularyGrowthService.getVocabularyGrowth(1L, GrowthInterval.MONTH, null, null, null);
+
+        assertEquals(GrowthInterval.MONTH, response.getInterval());
+        assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)),
+                response.getPeriods().stream().map(VocabularyPeriodResponse::getPeriodStart).toList());
+        assertEquals(List.of(3L, 0L, 4L), response.getPeriods().stream().map(VocabularyPeriodResponse::getWords).toList());
+        assertEquals(List.of(3L, 3L, 7L), response.getPeriods().stream().map(VocabularyPeriodResponse::getCumulativeWords).toList());
+        verify(authorizationHelper, times(1)).authorizeForAdminOrParent(1L, null);
+        verify(wordDailyCountsRepository, never()).sumWordsBefore(any(), any());
+    }
+
+    /**
+     * Unit test for the getVocabularyGrowth method in VocabularyGrowthService.
+     * Verifies that the date range is widened to whole weeks starting on Monday and that the cumulative
+     * vocabulary size starts from the words achieved before the first week.
+     */
+    @Test
+    void when_getVocabularyGrowthByWeekWithinDates_then_rangeShouldBeWidenedToWholeWeeks() {
+        LocalDate wednesday = LocalDate.of(2024, 5, 8);
+        LocalDate monday = LocalDate.of(2024, 5, 6);
+        when(wordDailyCountsRepository.findDailyCounts(1L, monday, LocalDate.of(2024, 5, 19))).thenReturn(List.of(
+                new WordDailyCount(monday, 1),
+                new WordDailyCount(LocalDate.of(2024, 5, 19), 2)));
+        when(wordDailyCountsRepository.sumWordsBefore(1L, monday)).thenReturn(10L);
+
+        VocabularyGrowthResponse response = vocabularyGrowthService.getVocabularyGrowth(1L, GrowthInterval.WEEK,
+                wednesday, wednesday.plusDays(7), null);
+
+        assertEquals(List.of(monday, monday.plusWeeks(1)),
+                response.getPeriods().stream().map(VocabularyPeriodResponse::getPeriodStart).toList());
+        assertEquals(List.of(11L, 13L), response.getPeriods().stream().map(VocabularyPeriodResponse::getCumulativeWords).toList());
+    }
+
+    /**
+     * Unit test for the getVocabularyGrowth method in VocabularyGrowthService.
+     * Verifies that a start date after the end date and a range spanning too many periods are rejected.
+     */
+    @Test
+    void when_getVocabularyGrowthWithInvalidRange_then_throwException() {
+        assertThrows(InvalidDateOrderException.class,
+                () -> vocabularyGrowthService.getVocabularyGrowth(1L, GrowthInterval.DAY, date, date.minusDays(1), null));
+        assertThrows(DateValidationException.class,
+                () -> vocabularyGrowthService.getVocabularyGrowth(1L, GrowthInterval.DAY, date, date.plusYears(10), null));
+    }
+}
@@ -0,0 +1,88 @@
+package pl.kasprzak.dawid.myfirstwords.service.words;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordTrieTest {
+
+    private List<String> words(List<WordTrie.Completion> completions) {
+        return completions.stream().map(WordTrie.Completion::word).toList();
+    }
+
+    /**
+     * Unit test for the complete method in WordTrie.
+     * Verifies that completions are ranked by weight, then alphabetically, and cut at the limit.
+     */
+    @Test
+    void when_complete_then_heaviestWordsShouldBeReturnedFirst() {
+        WordTrie trie = new WordTrie();
+        trie.add("mama", 5);
+        trie.add("mamka", 2);
+        trie.add("mapa", 2);
+        trie.add("miś", 7);
+        trie.add("tata", 9);
+
+        assertEquals(List.of("miś", "mama", "mamka", "mapa"), words(trie.complete("m", 10, 1)));
+        assertEquals(List.of("miś", "mama"), words(trie.complete("m", 2, 1)));
+        assertEquals(5, trie.size());
+    }
+
+    /**
+     * Unit test for the add method in WordTrie.
+     * Verifies that inserting a word that is a prefix of an existing edge splits the edge, that adding
+     * to an existing word sums its weights without growing the trie, and that both words stay reachable.
+     */
+    @Test
+    void when_addPrefixOfExistingWord_then_edgeShouldBeSplit() {
+        WordTrie trie = new WordTrie();
+        trie.add("banana", 1);
+        trie.add("ban", 2);
+        trie.add("banana", 3);
+
+        assertEquals(List.of(new WordTrie.Completion("banana", 4), new WordTrie.Completion("ban", 2)),
+                trie.complete("ba", 10, 1));
+        assertEquals(2, trie.size());
+    }
+
+    /**
+     * Unit test for the complete method in WordTrie.
+     * Verifies that a prefix ending in the middle of an edge is completed, that a prefix diverging
+     * from an edge returns nothing, and that words lighter than the minimum weight are skipped.
+     */
+    @Test
+    void when_completeWithinEdgeOrBelowMinWeight_then_onlyMatchingWordsShouldBeReturned() {
+        WordTrie trie = new WordTrie();
+        trie.add("samolot", 3);
+        trie.add("sanki", 1);
+
+        assertEquals(List.of("samolot"), words(trie.complete("samo", 10, 1)));
+        assertTrue(trie.complete("samx", 10, 1).isEmpty());
+        assertTrue(trie.complete("samolotem", 10, 1).isEmpty());
+        assertEquals(List.of("samolot"), words(trie.complete("sa", 10, 2)));
+    }
+
+    /**
+     * Unit test for the set method in WordTrie.
+     * Verifies that setting a lower weight re-ranks the word and lowers the highest weight of its subtree,
+     * that a weight of zero drops the word from the completions and the size, and that an unknown word is inserted.
+     */
+    @Test
+    void when_setWeight_then_completionsShouldFollowNewWeight() {
+        WordTrie trie = new WordTrie();
+        trie.add("mama", 5);
+        trie.add("mapa", 2);
+
+        trie.set("mama", 1);
+        assertEquals(List.of("mapa", "mama"), words(trie.complete("ma", 10, 1)));
+        assertTrue(trie.complete("mam", 10, 2).isEmpty());
+
+        trie.set("mapa", 0);
+        trie.set("miś", 3);
+        assertEquals(List.of("mama"), words(trie.complete("ma", 10, 1)));
+        assertEquals(List.of("miś", "mama"), words(trie.complete("m", 10, 1)));
+        assertEquals(2, trie.size());
+    }
+}
@@ -16,7 +16,11 @@ import pl.kasprzak.dawid.myfirstwords.repository.ChildrenRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.ParentsRepository;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ChildEntity;
 import pl.kasprzak.dawid.myfirstwords.repository.dao.ParentEntity;
+import pl.kasprzak.dawid.myfirstwords.security.ChildOwnershipIndex;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipal;
+import pl.kasprzak.dawid.myfirstwords.security.ParentPrincipalCache;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +34,10 @@ class AuthorizationHelperTest {
     @Mock
     private ChildrenRepository childrenRepository;
     @Mock
+    private ParentPrincipalCache parentPrincipalCache;
+    @Mock
+    private ChildOwnershipIndex childOwnershipIndex;
+    @Mock
     private SecurityContext securityContext;
     @Mock
     private Authentication authentication;
@@ -38,6 +46,7 @@ class AuthorizationHelperTest {
 
     private ParentEntity parentEntity;
     private ChildEntity childEntity;
+    private ParentPrincipal parentPrincipal;
 
     @BeforeEach
     void setUp() {
@@ -50,27 +59,33 @@ class AuthorizationHelperTest {
         childEntity.setName("child");
         childEntity.setParent(parentEntity);
 
-        when(securityContext.getAuthentication()).thenReturn(authentication);
+        parentPrincipal = new ParentPrincipal(1L, "parent", "encodedPassword", List.of("ROLE_USER"));
+
+        lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
-        when(authentication.getName()).thenReturn("parent");
+        lenient().when(authentication.getName()).thenReturn("parent");
     }
 
     /**
      * Unit test for validateAndAuthorizeChild method.
-     * Verifies that the child is returned when the parent is authenticated and authorized using SecurityContextHolder.
+     * Verifies that a reference to the child is returned without querying when the parent is authenticated
+     * and owns the child according to the ownership index.
      */
     @Test
     void when_validateAndAuthorizeChild_then_returnChild() {
         Long childId = childEntity.getId();
 
-        when(parentsRepository.findByUsername("parent")).thenReturn(Optional.of(parentEntity));
-        when(childrenRepository.findById(childId)).thenReturn(Optional.of(childEntity));
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childOwnershipIndex.isOwner(1L, childId)).thenReturn(true);
+        when(childrenRepository.getReferenceById(childId)).thenReturn(childEntity);
 
         ChildEntity result = authorizationHelper.validateAndAuthorizeChild(childId);
 
         assertEquals(childEntity, result);
-        verify(parentsRepository, times(1)).findByUsername("parent");
-        verify(childrenRepository, times(1)).findById(childId);
+        verify(parentPrincipalCache, times(1)).get("parent");
+        verify(childrenRepository, never()).findById(anyLong());
+        verify(childrenRepository, never()).findOwnership(anyLong(), anyLong());
+        verify(parentsRepository, never()).findByUsername(anyString());
     }
 
     /**
@@ -81,13 +96,14 @@ class AuthorizationHelperTest {
     void when_parentNotFound_then_throwParentNotFoundException() {
         Long childId = childEntity.getId();
 
-        when(parentsRepository.findByUsername("parent")).thenReturn(Optional.empty());
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.empty());
 
         ParentNotFoundException parentNotFoundException = assertThrows(ParentNotFoundException.class,
                 () -> authorizationHelper.validateAndAuthorizeChild(childId));
 
         assertEquals("Parent not found", parentNotFoundException.getMessage());
-        verify(parentsRepository, times(1)).findByUsername("parent");
+        verify(parentPrincipalCache, times(1)).get("parent");
+        verify(childOwnershipIndex, never()).isOwner(anyLong(), anyLong());
         verify(childrenRepository, never()).findById(anyLong());
     }
 
@@ -99,15 +115,16 @@ class AuthorizationHelperTest {
     void when_childNotFound_then_throwChildNotFoundException() {
         Long childId = childEntity.getId();
 
-        when(parentsRepository.findByUsername("parent")).thenReturn(Optional.of(parentEntity));
-        when(childrenRepository.findById(childId)).thenReturn(Optional.empty());
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childOwnershipIndex.isOwner(1L, childId)).thenReturn(false);
+        when(childrenRepository.findOwnership(childId, 1L)).thenReturn(Optional.empty());
 
         ChildNotFoundException childNotFoundException = assertThrows(ChildNotFoundException.class,
                 () -> authorizationHelper.validateAndAuthorizeChild(childId));
 
         assertEquals("Child not found", childNotFoundException.getMessage());
-        verify(parentsRepository, times(1)).findByUsername("parent");
-        verify(childrenRepository, times(1)).findById(childId);
+        verify(childrenRepository, times(1)).findOwnership(childId, 1L);
+        verify(childrenRepository, never()).getReferenceById(anyLong());
     }
 
     /**
@@ -118,18 +135,143 @@ class AuthorizationHelperTest {
     void when_childDoesNotBelongToParent_then_throwAccessDeniedException() {
         Long childId = childEntity.getId();
 
-        ParentEntity otherParent = new ParentEntity();
-        otherParent.setId(2L);
-        childEntity.setParent(otherParent);
-
-        when(parentsRepository.findByUsername("parent")).thenReturn(Optional.of(parentEntity));
-        when(childrenRepository.findById(childId)).thenReturn(Optional.of(childEntity));
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childOwnershipIndex.isOwner(1L, childId)).thenReturn(false);
+        when(childrenRepository.findOwnership(childId, 1L)).thenReturn(Optional.of(false));
 
         AccessDeniedException accessDeniedException = assertThrows(AccessDeniedException.class,
                 () -> authorizationHelper.validateAndAuthorizeChild(childId));
 
         assertEquals("The parent does not have access to this child", accessDeniedException.getMessage());
-        verify(parentsRepository, times(1)).findByUsername("parent");
-        verify(childrenRepository, times(1)).findById(childId);
+        verify(childrenRepository, times(1)).findOwnership(childId, 1L);
+        verify(childrenRepository, never()).getReferenceById(anyLong());
+    }
+
+    /**
+     * Unit test for authorizeChildForAdmin method.
+     * Verifies that ownership is resolved with a single query and the parent is not looked up when the child belongs to it.
+     */
+    @Test
+    void when_authorizeChildForAdminOfOwnedChild_then_runOwnershipQueryOnly() {
+        when(childrenRepository.findOwnership(1L, 1L)).thenReturn(Optional.of(true));
+
+        authorizationHelper.authorizeChildForAdmin(1L, 1L);
+
+        verify(childrenRepository, times(1)).findOwnership(1L, 1L);
+        verify(parentsRepository, never()).existsById(anyLong());
+        verify(childrenRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Unit test for authorizeChildForAdmin method.
+     * Verifies that ParentNotFoundException takes precedence over a missing child when the parent does not exist either.
+     */
+    @Test
+    void when_authorizeChildForAdminOfMissingParent_then_throwParentNotFoundException() {
+        when(childrenRepository.findOwnership(1L, 2L)).thenReturn(Optional.empty());
+        when(parentsRepository.existsById(2L)).thenReturn(false);
+
+        ParentNotFoundException parentNotFoundException = assertThrows(ParentNotFoundException.class,
+                () -> authorizationHelper.authorizeChildForAdmin(1L, 2L));
+
+        assertEquals("Parent not found", parentNotFoundException.getMessage());
+    }
+
+    /**
+     * Unit test for authorizeChildForAdmin method.
+     * Verifies that AccessDeniedException is thrown when the child belongs to another existing parent.
+     */
+    @Test
+    void when_authorizeChildForAdminOfForeignChild_then_throwAccessDeniedException() {
+        when(childrenRepository.findOwnership(1L, 2L)).thenReturn(Optional.of(false));
+        when(parentsRepository.existsById(2L)).thenReturn(true);
+
+        AccessDeniedException accessDeniedException = assertThrows(AccessDeniedException.class,
+                () -> authorizationHelper.authorizeChildForAdmin(1L, 2L));
+
+        assertEquals("The parent does not have access to this child", accessDeniedException.getMessage());
+    }
+
+    /**
+     * Unit test for validateAndAuthorizeChildForAdmin method.
+     * Verifies that the child is loaded once and the ID of its parent is compared without looking up the parent.
+     */
+    @Test
+    void when_validateAndAuthorizeChildForAdmin_then_returnChildLoadedOnce() {
+        when(childrenRepository.findById(1L)).thenReturn(Optional.of(childEntity));
+
+        ChildEntity result = authorizationHelper.validateAndAuthorizeChildForAdmin(1L, 1L);
+
+        assertEquals(childEntity, result);
+        verify(childrenRepository, times(1)).findById(1L);
+        verify(parentsRepository, never()).existsById(anyLong());
+        verify(parentsRepository, never()).findById(anyLong());
+    }
+
+    /**
+     * Unit test for validateAndAuthorizeForAdminOrParent method.
+     * Verifies that for a parent the child is loaded once and authorized by the ID of its parent,
+     * without consulting the ownership index or running the ownership query.
+     */
+    @Test
+    void when_validateAndAuthorizeForParent_then_returnChildLoadedOnce() {
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childrenRepository.findById(1L)).thenReturn(Optional.of(childEntity));
+
+        ChildEntity result = authorizationHelper.validateAndAuthorizeForAdminOrParent(1L, null);
+
+        assertEquals(childEntity, result);
+        verify(childrenRepository, times(1)).findById(1L);
+        verify(childOwnershipIndex, never()).isOwner(anyLong(), anyLong());
+        verify(childrenRepository, never()).findOwnership(anyLong(), anyLong());
+    }
+
+    /**
+     * Unit test for validateAndAuthorizeForAdminOrParent method.
+     * Verifies that AccessDeniedException is thrown for a parent when the loaded child belongs to another parent
+     * and ChildNotFoundException when the child does not exist.
+     */
+    @Test
+    void when_validateAndAuthorizeForParentOfForeignOrMissingChild_then_rejectFromLoadedChild() {
+        ParentEntity otherParent = new ParentEntity();
+        otherParent.setId(2L);
+        ChildEntity foreignChild = new ChildEntity();
+        foreignChild.setId(2L);
+        foreignChild.setParent(otherParent);
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childrenRepository.findById(2L)).thenReturn(Optional.of(foreignChild));
+        when(childrenRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertThrows(AccessDeniedException.class, () -> authorizationHelper.validateAndAuthorizeForAdminOrParent(2L, null));
+        assertThrows(ChildNotFoundException.class, () -> authorizationHelper.validateAndAuthorizeForAdminOrParent(3L, null));
+        verify(childrenRepository, never()).findOwnership(anyLong(), anyLong());
+    }
+
+    /**
+     * Unit test for authorizeChildAccess method.
+     * Verifies that the child is returned as authorized once the parent owns it, and that access to a child of
+     * another parent is denied.
+     */
+    @Test
+    void when_authorizeChildAccess_then_returnAuthorizedChildOnlyWhenOwned() {
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+        when(childOwnershipIndex.isOwner(1L, 1L)).thenReturn(true);
+        when(childOwnershipIndex.isOwner(1L, 2L)).thenReturn(false);
+        when(childrenRepository.findOwnership(2L, 1L)).thenReturn(Optional.of(false));
+
+        assertEquals(1L, authorizationHelper.authorizeChildAccess(1L, null).getChildId());
+        assertThrows(AccessDeniedException.class, () -> authorizationHelper.authorizeChildAccess(2L, null));
+    }
+
+    /**
+     * Unit test for actingParentId method.
+     * Verifies that the ID of the authenticated parent is returned for a parent, ignoring the given parentID.
+     */
+    @Test
+    void when_actingParentIdForParent_then_returnAuthenticatedParentId() {
+        when(parentPrincipalCache.get("parent")).thenReturn(Optional.of(parentPrincipal));
+
+        assertEquals(1L, authorizationHelper.actingParentId(null));
+        assertEquals(1L, authorizationHelper.actingParentId(2L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+import pl.kasprzak.dawid.myfirstwords.repository.ChildVersionsRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChildIndexCacheTest {
+    @Mock
+    private ChildVersionsRepository childVersionsRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ChildIndexCache<IdIndex, Long> childIndexCache;
+    private List<Long> childLoads;
+    private List<Collection<Long>> idLoads;
+    private Runnable duringLoad;
+
+    /**
+     * An index holding the IDs of the entities of a child.
+     */
+    private record IdIndex(long version, TreeSet<Long> ids) implements VersionedChildIndex<IdIndex, Long> {
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public IdIndex apply(long version, Collection<Long> deletedIds, Collection<Long> upserted) {
+            TreeSet<Long> changed = new TreeSet<>(ids);
+            changed.removeAll(deletedIds);
+            changed.addAll(upserted);
+            return new IdIndex(version, changed);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        childLoads = new ArrayList<>();
+        idLoads = new ArrayList<>();
+        duringLoad = () -> {
+        };
+        childIndexCache = new ChildIndexCache<>("ids", ChangedEntityType.WORD, childVersionsRepository,
+                transactionManager, new SimpleMeterRegistry(), 10, Duration.ofMinutes(5),
+                childId -> {
+                    childLoads.add(childId);
+                    duringLoad.run();
+                    return List.of(1L, 2L);
+                },
+                ids -> {
+                    idLoads.add(ids);
+                    return List.copyOf(ids);
+                },
+                (version, ids) -> new IdIndex(version, new TreeSet<>(ids)));
+        when(childVersionsRepository.findVersionByChildId(1L)).thenReturn(Optional.of(3L));
+    }
+
+    /**
+     * Unit test for the apply method in ChildIndexCache.
+     * Verifies that the index is built once, that consecutive changes are applied to it with only the created
+     * entities read, and that a change of the other type of entities only advances the version.
+     */
+    @Test
+    void when_applyConsecutiveChanges_then_indexShouldBeUpdatedInPlace() {
+        childIndexCache.get(1L);
+
+        childIndexCache.apply(new ChildDataChangedEvent(1L, 4L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(5L)));
+        childIndexCache.apply(new ChildDataChangedEvent(1L, 5L, ChangedEntityType.WORD, ChangeOperation.DELETE, List.of(1L)));
+        childIndexCache.apply(new ChildDataChangedEvent(1L, 6L, ChangedEntityType.MILESTONE, ChangeOperation.UPSERT, List.of(7L)));
+        childIndexCache.apply(new ChildDataChangedEvent(1L, 6L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(8L)));
+
+        IdIndex index = childIndexCache.get(1L);
+        assertEquals(6L, index.getVersion());
+        assertEquals(List.of(2L, 5L), List.copyOf(index.ids()));
+        assertEquals(List.of(1L), childLoads);
+        assertEquals(List.of(List.of(5L)), idLoads);
+    }
+
+    /**
+     * Unit test for the apply method in ChildIndexCache.
+     * Verifies that a change following a missed one drops the index without reading the changed entities,
+     * so it is rebuilt on the next lookup, and that changes of children without an index are ignored.
+     */
+    @Test
+    void when_applyAfterMissedChange_then_indexShouldBeRebuilt() {
+        childIndexCache.get(1L);
+
+        childIndexCache.apply(new ChildDataChangedEvent(1L, 5L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(5L)));
+        childIndexCache.apply(new ChildDataChangedEvent(2L, 1L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(6L)));
+        childIndexCache.get(1L);
+
+        assertEquals(List.of(1L, 1L), childLoads);
+        assertTrue(idLoads.isEmpty());
+    }
+
+    /**
+     * Unit test for the invalidate method in ChildIndexCache.
+     * Verifies that the index of the child is rebuilt on the next lookup.
+     */
+    @Test
+    void when_invalidate_then_indexShouldBeRebuilt() {
+        childIndexCache.get(1L);
+
+        childIndexCache.invalidate(1L);
+        childIndexCache.get(1L);
+
+        assertEquals(List.of(1L, 1L), childLoads);
+    }
+
+    /**
+     * Unit test for the apply method in ChildIndexCache.
+     * Verifies that a change committed while the index is being built waits for the build and is applied
+     * to the built index instead of being dropped.
+     */
+    @Test
+    void when_applyDuringLoad_then_changeShouldBeAppliedToLoadedIndex() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        Thread applier = new Thread(() -> {
+            try {
+                loading.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            childIndexCache.apply(new ChildDataChangedEvent(1L, 4L, ChangedEntityType.WORD, ChangeOperation.DELETE, List.of(1L)));
+        });
+        applier.start();
+        duringLoad = () -> {
+            loading.countDown();
+            while (applier.isAlive() && applier.getState() != Thread.State.BLOCKED) {
+                Thread.onSpinWait();
+            }
+        };
+
+        childIndexCache.get(1L);
+        applier.join();
+
+        IdIndex index = childIndexCache.get(1L);
+        assertEquals(4L, index.getVersion());
+        assertEquals(List.of(2L), List.copyOf(index.ids()));
+        assertEquals(List.of(1L), childLoads);
+    }
+}
@@ -0,0 +1,115 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import pl.kasprzak.dawid.myfirstwords.event.ChildDataChangedEvent;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangeOperation;
+import pl.kasprzak.dawid.myfirstwords.model.sync.ChangedEntityType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChildResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChildResponseCache childResponseCache;
+    private AtomicInteger loads;
+    private Supplier<Object> body;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        childResponseCache = new ChildResponseCache(new ObjectMapper(), meterRegistry,
+                DataSize.ofKilobytes(64), true, DataSize.ofBytes(100));
+        loads = new AtomicInteger();
+        body = () -> {
+            loads.incrementAndGet();
+            return Map.of("words", List.of("mama", "tata"));
+        };
+    }
+
+    /**
+     * Unit test for the get method in ChildResponseCache.
+     * Verifies that the body is loaded and serialized once per version of the child's data, served from the cache
+     * afterwards, and that hits, misses and the bytes held are published in the meter registry.
+     */
+    @Test
+    void when_getTwiceForSameETag_then_bodyShouldBeLoadedOnce() {
+        ChildResponseCache.SerializedResponse first = childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        ChildResponseCache.SerializedResponse second = childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.1\"", body);
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals("{\"words\":[\"mama\",\"tata\"]}", new String(first.json()));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ChildResponseCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", ChildResponseCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+        assertTrue(meterRegistry.get("cache.weighted.size").tag("cache", ChildResponseCache.CACHE_NAME).gauge().value() > 0);
+    }
+
+    /**
+     * Unit test for the get method in ChildResponseCache.
+     * Verifies that only bodies of at least the configured size are kept gzipped, and that the gzipped copy
+     * decompresses to the JSON body.
+     */
+    @Test
+    void when_bodyIsLarge_then_gzippedCopyShouldBeCached() throws IOException {
+        Supplier<Object> largeBody = () -> Map.of("words", List.of("word".repeat(100)));
+
+        ChildResponseCache.SerializedResponse small = childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        ChildResponseCache.SerializedResponse large = childResponseCache.get(2L, ChildResponseCache.Endpoint.WORDS, "\"2.0\"", largeBody);
+
+        assertNull(small.gzip());
+        assertNotNull(large.gzip());
+        assertTrue(large.gzip().length < large.json().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.json(), gzip.readAllBytes());
+        }
+    }
+
+    /**
+     * Unit test for the invalidate method in ChildResponseCache.
+     * Verifies that every cached body of the child is evicted, while the bodies of other children stay cached.
+     */
+    @Test
+    void when_invalidate_then_bodiesOfChildShouldBeReloaded() {
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.MILESTONES, "\"1.0\"", body);
+        childResponseCache.get(2L, ChildResponseCache.Endpoint.WORDS, "\"2.0\"", body);
+
+        childResponseCache.invalidate(1L);
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.MILESTONES, "\"1.0\"", body);
+        childResponseCache.get(2L, ChildResponseCache.Endpoint.WORDS, "\"2.0\"", body);
+
+        assertEquals(5, loads.get());
+    }
+
+    /**
+     * Unit test for the onChildDataChanged method in ChildResponseCache.
+     * Verifies that a committed change of a child evicts its cached bodies, while the bodies of other children
+     * stay cached.
+     */
+    @Test
+    void when_childDataChanged_then_bodiesOfChildShouldBeEvicted() {
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        childResponseCache.get(2L, ChildResponseCache.Endpoint.WORDS, "\"2.0\"", body);
+
+        childResponseCache.onChildDataChanged(
+                new ChildDataChangedEvent(1L, 1L, ChangedEntityType.WORD, ChangeOperation.UPSERT, List.of(10L)));
+        childResponseCache.get(1L, ChildResponseCache.Endpoint.WORDS, "\"1.0\"", body);
+        childResponseCache.get(2L, ChildResponseCache.Endpoint.WORDS, "\"2.0\"", body);
+
+        assertEquals(3, loads.get());
+    }
+}
@@ -0,0 +1,40 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import org.junit.jupiter.api.Test;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidCursorException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    /**
+     * Unit test for the encode and decode methods in KeysetCursor.
+     * Verifies that a cursor survives the round trip through its URL-safe token.
+     */
+    @Test
+    void when_encodeAndDecode_then_returnSameCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2024, 1, 31), 123456789L);
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, KeysetCursor.decode(token));
+    }
+
+    /**
+     * Unit test for the decode method in KeysetCursor.
+     * Verifies that a missing token means the first page and that malformed tokens are rejected.
+     */
+    @Test
+    void when_decodeMissingOrMalformedToken_then_returnNullOrThrowInvalidCursorException() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("MjAyNC0wMS0zMQ"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("MjAyNC0xMy0wMToxMg"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("MjAyNC0wMS0zMTp4"));
+    }
+}
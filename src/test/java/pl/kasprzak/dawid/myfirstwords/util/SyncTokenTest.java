@@ -0,0 +1,47 @@
+package pl.kasprzak.dawid.myfirstwords.util;
+
+import org.junit.jupiter.api.Test;
+import pl.kasprzak.dawid.myfirstwords.exception.InvalidSyncTokenException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncTokenTest {
+
+    /**
+     * Unit test for the encode and decode methods in SyncToken.
+     * Verifies that a decoded token holds the versions it was encoded from and that the encoded form is URL-safe.
+     */
+    @Test
+    void when_encodeAndDecode_then_versionsShouldBePreserved() {
+        SyncToken token = new SyncToken(Map.of(3L, 7L, 12L, 0L));
+
+        String encoded = token.encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        assertEquals(token, SyncToken.decode(encoded));
+    }
+
+    /**
+     * Unit test for the decode method in SyncToken.
+     * Verifies that a missing or blank token decodes to a token without versions, as used by the first sync.
+     */
+    @Test
+    void when_decodeMissingToken_then_noVersionsShouldBeReturned() {
+        assertTrue(SyncToken.decode(null).versions().isEmpty());
+        assertTrue(SyncToken.decode(" ").versions().isEmpty());
+    }
+
+    /**
+     * Unit test for the decode method in SyncToken.
+     * Verifies that tokens which are not valid base64 or do not hold child ID and version pairs are rejected.
+     */
+    @Test
+    void when_decodeMalformedToken_then_throwInvalidSyncTokenException() {
+        String missingSeparator = new SyncToken(Map.of()).encode() + "MTI";
+
+        assertThrows(InvalidSyncTokenException.class, () -> SyncToken.decode("not a token!"));
+        assertThrows(InvalidSyncTokenException.class, () -> SyncToken.decode(missingSeparator));
+    }
+}